@@ -59,8 +59,39 @@ public abstract class AbstractEntity<I extends Serializable> implements Entity<I
 		setUpdateDate(new Date());
 	}
 
+	/**
+	 * Recupera o identificador da entidade. Caso ele ainda não tenha sido atribuído, é gerado
+	 * por {@link #generateId()}.
+	 * 
+	 * @return Identificador da entidade
+	 */
 	@Override
 	public I getId() {
+		if (id == null) {
+			id = generateId();
+		}
+		
+		return id;
+	}
+	
+	/**
+	 * Gera o identificador da entidade quando ele é lido sem ter sido atribuído.<br>
+	 * Por padrão não gera identificador, deixando essa responsabilidade para a base de dados.
+	 * 
+	 * @return Identificador gerado, null se não for gerado pela aplicação
+	 */
+	protected I generateId() {
+		return null;
+	}
+	
+	/**
+	 * Recupera o identificador atribuído à entidade, sem gerá-lo caso ainda não tenha sido
+	 * atribuído. É usado na verificação de igualdade e na representação textual, que não devem
+	 * alterar a entidade.
+	 * 
+	 * @return Identificador atribuído à entidade, null se ainda não foi atribuído
+	 */
+	protected I getAssignedId() {
 		return id;
 	}
 
@@ -106,20 +137,40 @@ public abstract class AbstractEntity<I extends Serializable> implements Entity<I
 
 	@Override
 	public String toString() {
-		return getId() != null ? getId().toString() : null;
+		return getAssignedId() != null ? getAssignedId().toString() : null;
 	}
 	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Entidades sem identificador atribuído usam o hash da identidade do objeto.
+	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.getId(), this.getVersion());
+		if (this.getAssignedId() == null) {
+			return System.identityHashCode(this);
+		}
+		
+		return Objects.hash(this.getAssignedId(), this.getVersion());
 	}
 	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Entidades sem identificador atribuído só são iguais a si mesmas, pois ainda não é possível
+	 * saber se representam o mesmo registro.
+	 */
 	@Override
 	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		
 		if (obj instanceof AbstractEntity) {
 			AbstractEntity<?> that = (AbstractEntity<?>) obj;
 			return that.canEqual(this) &&
-					Objects.equals(this.getId(), that.getId()) &&
+					this.getAssignedId() != null &&
+					Objects.equals(this.getAssignedId(), that.getAssignedId()) &&
 					Objects.equals(this.getVersion(), that.getVersion());
 		}
 
@@ -7,6 +7,7 @@
 package br.com.sgpf.common.domain.entity;
 
 import javax.persistence.MappedSuperclass;
+import javax.persistence.PrePersist;
 
 /**
  * Super classe abstrata para todas as entidades do sistema com identificador próprio baseado em
@@ -15,6 +16,10 @@ import javax.persistence.MappedSuperclass;
  * Se a applicação roda de forma reduntante, duas instâncias tem uma baixíssima porém existente
  * possibilidade de gerar UUIDs iguais <br>
  * <br>
+ * O identificador é gerado somente quando é lido pela primeira vez ou quando a entidade é
+ * persistida, evitando a geração para entidades carregadas da base de dados ou que recebem o
+ * identificador logo após serem criadas.<br>
+ * <br>
  * Obs.: O ideal seria que o id fosse do tipo UUID, mas o JPA 2.1 não suporta converter em IDs.
  * 
  * @author Sergio Puntar
@@ -24,11 +29,26 @@ public abstract class AbstractUUIDEntity extends AbstractEntity<String> {
 	private static final long serialVersionUID = 8082865570195906837L;
 	
 	/**
-	 * Construtor padrão que gera o identificador da entidade.
+	 * Construtor padrão.
 	 */
 	public AbstractUUIDEntity() {
 		super();
-		setId(EntityUtil.generateUUID());
+	}
+	
+	/**
+	 * Garante que a entidade tenha um identificador antes de ser persistida, já que o JPA acessa
+	 * o campo diretamente.
+	 */
+	@Override
+	@PrePersist
+	public void prePersist() {
+		getId();
+		super.prePersist();
+	}
+	
+	@Override
+	protected String generateId() {
+		return EntityUtil.generateUUID();
 	}
 
 	@Override
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Índice de entidades pelo seu identificador, construído uma única vez a partir de uma coleção e
+ * que permite recuperar as entidades em tempo constante.<br>
+ * <br>
+ * Entidades sem identificador não são indexadas. Se mais de uma entidade tiver o mesmo
+ * identificador, a primeira da coleção é mantida, assim como em
+ * {@link EntityUtil#recoverEntity(Collection, Serializable)}.
+ * 
+ * @param <T> Tipo das entidades
+ * @param <I> Tipo do identificador das entidades
+ * 
+ * @see EntityUtil#indexEntities(Collection)
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class EntityIndex<T extends Entity<I>, I extends Serializable> {
+	
+	protected static final String ARG_NAME_ID = "id";
+	protected static final String ARG_NAME_IDS = "ids";
+	protected static final String ARG_NAME_ENTITIES = "entities";
+	
+	/**
+	 * Recupera uma entidade do índice a partir do seu identificador.
+	 * 
+	 * @param id Identificador da entidade
+	 * @return Entidade recuperada, null se ela não estiver presente no índice
+	 */
+	public abstract T get(I id);
+	
+	/**
+	 * Recupera a quantidade de entidades indexadas.
+	 * 
+	 * @return Quantidade de entidades indexadas
+	 */
+	public abstract int size();
+	
+	/**
+	 * Verifica se uma entidade está presente no índice.
+	 * 
+	 * @param id Identificador da entidade
+	 * @return Flag indicando se a entidade está presente no índice
+	 */
+	public boolean contains(I id) {
+		return get(id) != null;
+	}
+	
+	/**
+	 * Recupera as entidades do índice a partir dos seus identificadores.
+	 * 
+	 * @param ids Identificadores das entidades
+	 * @return Entidades recuperadas, na ordem dos identificadores, sem as que não estão presentes
+	 * no índice
+	 */
+	public List<T> getAll(Collection<? extends I> ids) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		List<T> entities = new ArrayList<>(ids.size());
+		
+		for (I id : ids) {
+			T entity = get(id);
+			
+			if (entity != null) {
+				entities.add(entity);
+			}
+		}
+		
+		return entities;
+	}
+}
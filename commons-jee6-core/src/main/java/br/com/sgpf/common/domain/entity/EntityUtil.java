@@ -11,7 +11,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Serializable;
 import java.util.Collection;
-import java.util.UUID;
 
 /**
  * Classe de utilitários para entidades.
@@ -22,22 +21,42 @@ public class EntityUtil {
 
 	private static final String ARG_NAME_ID = "id";
 	private static final String ARG_NAME_ENTITIES = "entities";
+	private static final String ARG_NAME_UUID_GENERATOR = "uuidGenerator";
+	
+	private static volatile UUIDGenerator uuidGenerator = StandardUUIDGenerator.SECURE_RANDOM;
 	
 	private EntityUtil() {
 		super();
 	}
 
 	/**
-	 * Gera um UUID para ser usado como identificador de uma entidade.
+	 * Gera um UUID para ser usado como identificador de uma entidade, através do gerador
+	 * configurado em {@link #setUUIDGenerator(UUIDGenerator)}.
 	 * 
 	 * @return UUID gerado
 	 */
 	public static String generateUUID() {
-		return UUID.randomUUID().toString().toUpperCase();
+		return uuidGenerator.generate();
+	}
+	
+	public static UUIDGenerator getUUIDGenerator() {
+		return uuidGenerator;
 	}
 	
 	/**
-	 * Recupera uma entidade de uma lista a partir do seu identificador.
+	 * Configura o gerador dos UUIDs usados como identificadores de entidades. O padrão é
+	 * {@link StandardUUIDGenerator#SECURE_RANDOM}.
+	 * 
+	 * @param uuidGenerator Gerador de UUID
+	 */
+	public static void setUUIDGenerator(UUIDGenerator uuidGenerator) {
+		EntityUtil.uuidGenerator = checkNotNull(uuidGenerator, ERROR_NULL_ARGUMENT, ARG_NAME_UUID_GENERATOR);
+	}
+	
+	/**
+	 * Recupera uma entidade de uma lista a partir do seu identificador.<br>
+	 * A lista é percorrida a cada chamada. Para recuperar várias entidades de uma mesma lista,
+	 * use {@link #indexEntities(Collection)}.
 	 * 
 	 * @param entities Lista de entidades
 	 * @param id Identificador da entidade
@@ -55,4 +74,44 @@ public class EntityUtil {
 		
 		return null;
 	}
+	
+	/**
+	 * Cria um índice das entidades de uma coleção pelo seu identificador.<br>
+	 * O índice criado só é um {@link LongEntityIndex} se a coleção possuir ao menos um
+	 * identificador e todos forem do tipo {@link Long}. Coleções vazias ou sem identificadores
+	 * geram um {@link HashEntityIndex}, já que o tipo do identificador não pode ser verificado.
+	 * Para identificadores do tipo {@link Long}, prefira {@link #indexLongEntities(Collection)}.
+	 * 
+	 * @param entities Coleção de entidades
+	 * @return Índice das entidades
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static <T extends Entity<I>, I extends Serializable> EntityIndex<T, I> indexEntities(Collection<T> entities) {
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		
+		boolean longIds = false;
+		
+		for (T entity : entities) {
+			I id = entity.getId();
+			
+			if (id instanceof Long) {
+				longIds = true;
+			} else if (id != null) {
+				return new HashEntityIndex<>(entities);
+			}
+		}
+		
+		return longIds ? new LongEntityIndex(entities) : new HashEntityIndex<>(entities);
+	}
+	
+	/**
+	 * Cria um índice das entidades de uma coleção pelo seu identificador do tipo {@link Long},
+	 * que permite consultas sem boxing.
+	 * 
+	 * @param entities Coleção de entidades
+	 * @return Índice das entidades
+	 */
+	public static <T extends Entity<Long>> LongEntityIndex<T> indexLongEntities(Collection<T> entities) {
+		return new LongEntityIndex<>(entities);
+	}
 }
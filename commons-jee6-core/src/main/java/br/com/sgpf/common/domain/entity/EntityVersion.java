@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import java.io.Serializable;
+import java.util.Date;
+import java.util.Objects;
+
+/**
+ * Classe que representa o estado de versionamento de uma entidade persistida: o identificador, a
+ * versão e a data da última atualização, sem os demais dados da entidade.
+ * 
+ * @param <I> Tipo do identificador da entidade
+ * 
+ * @author Sergio Puntar
+ */
+public final class EntityVersion<I extends Serializable> implements Serializable {
+	private static final long serialVersionUID = 3261895508843187012L;
+	
+	private static final String TO_STRING_PATTERN = "%s [id=%s, version=%s]";
+	
+	private final I id;
+	private final Long version;
+	private final Date updateDate;
+	
+	public EntityVersion(I id, Long version, Date updateDate) {
+		super();
+		this.id = id;
+		this.version = version;
+		this.updateDate = updateDate != null ? new Date(updateDate.getTime()) : null;
+	}
+
+	public I getId() {
+		return id;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public Date getUpdateDate() {
+		return updateDate != null ? new Date(updateDate.getTime()) : null;
+	}
+	
+	/**
+	 * Verifica se uma entidade está na mesma versão que a persistida.
+	 * 
+	 * @param entity Entidade
+	 * @return Flag indicando se a entidade está na versão persistida
+	 */
+	public boolean isCurrent(Entity<I> entity) {
+		return entity != null && Objects.equals(id, entity.getId()) && Objects.equals(version, entity.getVersion());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, version, updateDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof EntityVersion) {
+			EntityVersion<?> that = (EntityVersion<?>) obj;
+			return Objects.equals(this.id, that.id) &&
+					Objects.equals(this.version, that.version) &&
+					Objects.equals(this.updateDate, that.updateDate);
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format(TO_STRING_PATTERN, getClass().getSimpleName(), id, version);
+	}
+}
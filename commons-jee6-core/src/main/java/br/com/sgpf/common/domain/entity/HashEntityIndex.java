@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Índice de entidades com qualquer tipo de identificador, baseado em um {@link HashMap}.
+ * 
+ * @param <T> Tipo das entidades
+ * @param <I> Tipo do identificador das entidades
+ * 
+ * @author Sergio Puntar
+ */
+class HashEntityIndex<T extends Entity<I>, I extends Serializable> extends EntityIndex<T, I> {
+	
+	private final Map<I, T> entities;
+	
+	/**
+	 * Cria o índice a partir de uma coleção de entidades.
+	 * 
+	 * @param entities Entidades indexadas
+	 */
+	HashEntityIndex(Collection<T> entities) {
+		super();
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		this.entities = new HashMap<>(Math.max(16, (int) (entities.size() / 0.75f) + 1));
+		
+		for (T entity : entities) {
+			if (entity.getId() != null && !this.entities.containsKey(entity.getId())) {
+				this.entities.put(entity.getId(), entity);
+			}
+		}
+	}
+
+	@Override
+	public T get(I id) {
+		checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID);
+		return entities.get(id);
+	}
+
+	@Override
+	public int size() {
+		return entities.size();
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Índice de entidades com identificador do tipo {@link Long}, como as {@link AbstractIdentityEntity}.<br>
+ * <br>
+ * Os identificadores são mantidos como primitivos em uma tabela hash de endereçamento aberto, sem
+ * a criação de objetos por entrada, e podem ser consultados sem boxing por {@link #get(long)}.
+ * 
+ * @param <T> Tipo das entidades
+ * 
+ * @author Sergio Puntar
+ */
+public class LongEntityIndex<T extends Entity<Long>> extends EntityIndex<T, Long> {
+	
+	private static final float LOAD_FACTOR = 0.5f;
+	private static final int MIN_CAPACITY = 16;
+	
+	private final long[] keys;
+	private final Object[] values;
+	private final int mask;
+	private int size;
+	
+	/**
+	 * Cria o índice a partir de uma coleção de entidades.
+	 * 
+	 * @param entities Entidades indexadas
+	 */
+	public LongEntityIndex(Collection<T> entities) {
+		super();
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, (int) (entities.size() / LOAD_FACTOR)) - 1) << 1;
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		
+		for (T entity : entities) {
+			if (entity.getId() != null) {
+				put(entity.getId(), entity);
+			}
+		}
+	}
+	
+	/**
+	 * Calcula a posição inicial de um identificador na tabela.
+	 * 
+	 * @param id Identificador
+	 * @return Posição inicial do identificador
+	 */
+	private int slot(long id) {
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+	
+	/**
+	 * Indexa uma entidade, caso o seu identificador ainda não esteja presente no índice.
+	 * 
+	 * @param id Identificador da entidade
+	 * @param entity Entidade
+	 */
+	private void put(long id, T entity) {
+		int i = slot(id);
+		
+		// Posições vazias são as que não têm entidade, já que qualquer valor de chave é válido
+		while (values[i] != null) {
+			if (keys[i] == id) {
+				return;
+			}
+			
+			i = (i + 1) & mask;
+		}
+		
+		keys[i] = id;
+		values[i] = entity;
+		size++;
+	}
+	
+	/**
+	 * Recupera uma entidade do índice a partir do seu identificador, sem boxing.
+	 * 
+	 * @param id Identificador da entidade
+	 * @return Entidade recuperada, null se ela não estiver presente no índice
+	 */
+	@SuppressWarnings("unchecked")
+	public T get(long id) {
+		int i = slot(id);
+		
+		while (values[i] != null) {
+			if (keys[i] == id) {
+				return (T) values[i];
+			}
+			
+			i = (i + 1) & mask;
+		}
+		
+		return null;
+	}
+
+	@Override
+	public T get(Long id) {
+		checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID);
+		return get(id.longValue());
+	}
+	
+	/**
+	 * Verifica se uma entidade está presente no índice, sem boxing.
+	 * 
+	 * @param id Identificador da entidade
+	 * @return Flag indicando se a entidade está presente no índice
+	 */
+	public boolean contains(long id) {
+		return get(id) != null;
+	}
+	
+	/**
+	 * Recupera as entidades do índice a partir dos seus identificadores, sem boxing.
+	 * 
+	 * @param ids Identificadores das entidades
+	 * @return Entidades recuperadas, na ordem dos identificadores, sem as que não estão presentes
+	 * no índice
+	 */
+	public List<T> getAll(long... ids) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		List<T> entities = new ArrayList<>(ids.length);
+		
+		for (long id : ids) {
+			T entity = get(id);
+			
+			if (entity != null) {
+				entities.add(entity);
+			}
+		}
+		
+		return entities;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+}
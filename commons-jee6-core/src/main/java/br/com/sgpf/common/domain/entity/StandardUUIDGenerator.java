@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Geradores de UUID disponíveis por padrão.<br>
+ * Todos escrevem a representação textual em caixa alta diretamente em um array de caracteres.
+ * 
+ * @author Sergio Puntar
+ */
+public enum StandardUUIDGenerator implements UUIDGenerator {
+	
+	/**
+	 * UUID versão 4 gerado por {@link UUID#randomUUID()}, a partir do {@link java.security.SecureRandom}
+	 * compartilhado pela JVM. É o gerador padrão.
+	 */
+	SECURE_RANDOM {
+		@Override
+		public String generate() {
+			UUID uuid = UUID.randomUUID();
+			return format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		}
+	},
+	
+	/**
+	 * UUID versão 4 gerado a partir do {@link ThreadLocalRandom}, sem contenção entre threads.<br>
+	 * Os valores não são criptograficamente seguros e não devem ser usados onde precisam ser
+	 * imprevisíveis.
+	 */
+	THREAD_LOCAL_RANDOM {
+		@Override
+		public String generate() {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long msb = (random.nextLong() & ~VERSION_MASK) | VERSION_4;
+			long lsb = (random.nextLong() & ~VARIANT_MASK) | VARIANT_IETF;
+			return format(msb, lsb);
+		}
+	},
+	
+	/**
+	 * UUID ordenado pelo momento da geração, no formato da versão 7: os primeiros 48 bits são o
+	 * timestamp em milissegundos e os demais são aleatórios, gerados a partir do
+	 * {@link ThreadLocalRandom}.<br>
+	 * Identificadores gerados em sequência ficam próximos nos índices da base de dados, melhorando
+	 * a localidade das inserções.
+	 */
+	TIME_ORDERED {
+		@Override
+		public String generate() {
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long msb = (System.currentTimeMillis() << 16) | VERSION_7 | (random.nextInt() & 0x0FFF);
+			long lsb = (random.nextLong() & ~VARIANT_MASK) | VARIANT_IETF;
+			return format(msb, lsb);
+		}
+	};
+	
+	private static final long VERSION_MASK = 0xF000L;
+	private static final long VERSION_4 = 0x4000L;
+	private static final long VERSION_7 = 0x7000L;
+	private static final long VARIANT_MASK = 0xC000000000000000L;
+	private static final long VARIANT_IETF = 0x8000000000000000L;
+	
+	private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+	
+	/**
+	 * Escreve a representação textual de um UUID em caixa alta.
+	 * 
+	 * @param msb 64 bits mais significativos do UUID
+	 * @param lsb 64 bits menos significativos do UUID
+	 * @return Representação textual do UUID
+	 */
+	static String format(long msb, long lsb) {
+		char[] chars = new char[36];
+		writeHex(chars, 0, msb >>> 32, 8);
+		chars[8] = '-';
+		writeHex(chars, 9, msb >>> 16, 4);
+		chars[13] = '-';
+		writeHex(chars, 14, msb, 4);
+		chars[18] = '-';
+		writeHex(chars, 19, lsb >>> 48, 4);
+		chars[23] = '-';
+		writeHex(chars, 24, lsb, 12);
+		return new String(chars);
+	}
+	
+	/**
+	 * Escreve os dígitos hexadecimais menos significativos de um valor.
+	 * 
+	 * @param chars Array de destino
+	 * @param offset Posição do primeiro dígito no array
+	 * @param value Valor
+	 * @param digits Quantidade de dígitos escritos
+	 */
+	private static void writeHex(char[] chars, int offset, long value, int digits) {
+		for (int i = offset + digits - 1; i >= offset; i--) {
+			chars[i] = HEX_DIGITS[(int) value & 0xF];
+			value >>>= 4;
+		}
+	}
+}
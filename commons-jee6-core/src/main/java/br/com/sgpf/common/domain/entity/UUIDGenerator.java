@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+/**
+ * Interface dos geradores de UUID usados como identificadores de entidades.
+ * 
+ * @see StandardUUIDGenerator
+ * @see EntityUtil#setUUIDGenerator(UUIDGenerator)
+ * 
+ * @author Sergio Puntar
+ */
+public interface UUIDGenerator {
+	
+	/**
+	 * Gera um UUID na sua representação textual padrão, em caixa alta.
+	 * 
+	 * @return UUID gerado
+	 */
+	String generate();
+}
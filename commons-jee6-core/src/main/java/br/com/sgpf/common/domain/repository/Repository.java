@@ -7,9 +7,13 @@
 package br.com.sgpf.common.domain.repository;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import br.com.sgpf.common.domain.entity.Entity;
+import br.com.sgpf.common.domain.entity.EntityVersion;
 
 /**
  * Interface genérica de repositórios de entidades.
@@ -36,6 +40,39 @@ public interface Repository<E extends Entity<I>, I extends Serializable> extends
 	 */
 	List<E> findAll();
 
+	/**
+	 * Recupera todas as entidades de forma paginada, em ordem crescente de identificador.<br>
+	 * As páginas são consultadas sob demanda durante a iteração, a partir do último identificador
+	 * da página anterior, e as entidades de cada página são desanexadas do contexto de
+	 * persistência logo após a consulta.
+	 *
+	 * @param pageSize Quantidade de entidades por página
+	 * @return Iterador sobre as entidades recuperadas
+	 */
+	Iterator<E> findAll(int pageSize);
+
+	/**
+	 * Recupera as entidades de um conjunto de identificadores.<br>
+	 * As entidades são consultadas em lotes de identificadores, limitados à quantidade máxima de
+	 * parâmetros suportada pelo banco de dados.
+	 *
+	 * @param ids Identificadores das entidades
+	 * @return Entidades recuperadas indexadas pelo identificador, sem os identificadores não
+	 * encontrados
+	 */
+	Map<I, E> findAll(Collection<I> ids);
+
+	/**
+	 * Recupera o identificador, a versão e a data de atualização das entidades de um conjunto de
+	 * identificadores, sem carregar as entidades. Permite verificar a existência e a versão das
+	 * entidades persistidas sem o custo de gerenciá-las no contexto de persistência.
+	 *
+	 * @param ids Identificadores das entidades
+	 * @return Versões das entidades indexadas pelo identificador, sem os identificadores não
+	 * encontrados
+	 */
+	Map<I, EntityVersion<I>> findVersions(Collection<I> ids);
+
 	/**
 	 * Persiste uma nova entidade no repositório.
 	 *
@@ -43,6 +80,15 @@ public interface Repository<E extends Entity<I>, I extends Serializable> extends
 	 */
 	void persist(E entidade);
 
+	/**
+	 * Persiste um conjunto de novas entidades no repositório em lotes.<br>
+	 * Ao término de cada lote as alterações são enviadas ao repositório e as entidades do lote
+	 * deixam de ser gerenciadas. As demais entidades gerenciadas não são afetadas.
+	 *
+	 * @param entidades Entidades a serem persistidas
+	 */
+	void persistAll(Collection<E> entidades);
+
 	/**
 	 * Atualiza os dados de uma entidade no repositório.
 	 *
@@ -50,6 +96,30 @@ public interface Repository<E extends Entity<I>, I extends Serializable> extends
 	 * @return Entidade atualizada no repositório
 	 */
 	E merge(E entidade);
+
+	/**
+	 * Atualiza os dados de um conjunto de entidades no repositório em lotes.<br>
+	 * Ao término de cada lote as alterações são enviadas ao repositório e as entidades do lote
+	 * deixam de ser gerenciadas. As entidades retornadas são, portanto, desanexadas. As demais
+	 * entidades gerenciadas não são afetadas.
+	 *
+	 * @param entidades Entidades a serem atualizadas no repositório
+	 * @return Entidades atualizadas no repositório, na mesma ordem das entidades informadas
+	 */
+	List<E> mergeAll(Collection<E> entidades);
+
+	/**
+	 * Atualiza os atributos de um conjunto de entidades no repositório a partir dos seus
+	 * identificadores, em uma única operação.<br>
+	 * A versão e a data de atualização das entidades são atualizadas automaticamente, portanto não
+	 * podem ser informadas nos valores, assim como o identificador. Entidades já carregadas não
+	 * refletem a atualização.
+	 *
+	 * @param ids Identificadores das entidades
+	 * @param valores Novos valores indexados pelo nome do atributo da entidade
+	 * @return Quantidade de entidades atualizadas
+	 */
+	int updateByIds(Collection<I> ids, Map<String, ?> valores);
 	
 	/**
 	 * Atualiza os dados de uma entidade a partir do repositório.
@@ -64,4 +134,23 @@ public interface Repository<E extends Entity<I>, I extends Serializable> extends
 	 * @param entidade Entidade a ser removida
 	 */
 	void remove(E entidade);
+
+	/**
+	 * Remove um conjunto de entidades do repositório em lotes.<br>
+	 * Ao término de cada lote as alterações são enviadas ao repositório e as entidades do lote
+	 * deixam de ser gerenciadas. As demais entidades gerenciadas não são afetadas.
+	 *
+	 * @param entidades Entidades a serem removidas
+	 */
+	void removeAll(Collection<E> entidades);
+
+	/**
+	 * Remove um conjunto de entidades do repositório a partir dos seus identificadores, em uma
+	 * única operação.<br>
+	 * Entidades já carregadas não refletem a remoção.
+	 *
+	 * @param ids Identificadores das entidades a serem removidas
+	 * @return Quantidade de entidades removidas
+	 */
+	int removeByIds(Collection<I> ids);
 }
@@ -7,23 +7,42 @@
 package br.com.sgpf.common.infra.dao;
 
 import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.Serializable;
 import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Attribute;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 
 import br.com.sgpf.common.domain.entity.Entity;
+import br.com.sgpf.common.domain.entity.EntityVersion;
 import br.com.sgpf.common.domain.repository.Repository;
 import br.com.sgpf.common.infra.exception.DAOException;
 
 /**
  * Classe abstrata para acesso a dados de entidades.
- *
+ * 
  * @param <E> Tipo da entidade
  * @param <I> Tipo do identificador da entidade
  * 
@@ -32,10 +51,46 @@ import br.com.sgpf.common.infra.exception.DAOException;
 public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> implements Repository<E, I> {
 	private static final long serialVersionUID = -6837735901842866300L;
 	
+	/**
+	 * Quantidade padrão de entidades por lote nas operações em lote.
+	 */
+	protected static final int DEFAULT_BATCH_SIZE = 50;
+	
+	/**
+	 * Quantidade máxima padrão de parâmetros em uma cláusula IN.
+	 */
+	protected static final int DEFAULT_MAX_IN_PARAMETERS = 1000;
+	
 	private static final String ERROR_RESULT_TYPE = "O objeto [%s] não é do tipo esperado [%s].";
+	private static final String ERROR_INVALID_BATCH_SIZE = "O tamanho do lote deve ser maior que zero: [%s].";
+	private static final String ERROR_INVALID_PAGE_SIZE = "O tamanho da página deve ser maior que zero: [%s].";
+	private static final String ERROR_INVALID_MAX_IN_PARAMETERS = "A quantidade máxima de parâmetros da cláusula IN deve ser maior que zero: [%s].";
+	private static final String ERROR_EMPTY_VALUES = "Nenhum valor informado para a atualização.";
+	private static final String ERROR_NON_EXISTING_ATTRIBUTE = "A entidade [%s] não possui o atributo [%s].";
+	private static final String ERROR_NON_UPDATABLE_ATTRIBUTE = "O atributo [%s] não pode ser atualizado em massa.";
+	
+	private static final Set<String> NON_UPDATABLE_ATTRIBUTES = ImmutableSet.of("id", "version", "updateDate");
+	
+	private static final String JPQL_FIND_FIRST_PAGE = "select e from %s e order by e.id";
+	private static final String JPQL_FIND_NEXT_PAGE = "select e from %s e where e.id > :lastId order by e.id";
+	private static final String JPQL_FIND_BY_IDS = "select e from %s e where e.id in :ids";
+	private static final String JPQL_FIND_VERSIONS_BY_IDS = "select e.id, e.version, e.updateDate from %s e where e.id in :ids";
+	private static final String JPQL_UPDATE_BY_IDS = "update %s e set e.version = e.version + 1, e.updateDate = :updateDate%s where e.id in :ids";
+	private static final String JPQL_UPDATE_VALUE = ", e.%s = :value%d";
+	private static final String JPQL_DELETE_BY_IDS = "delete from %s e where e.id in :ids";
+	private static final String PARAM_LAST_ID = "lastId";
+	private static final String PARAM_UPDATE_DATE = "updateDate";
+	private static final String PARAM_VALUE = "value";
+	private static final String PARAM_IDS = "ids";
 	
 	private static final String ARG_NAME_ID = "id";
+	private static final String ARG_NAME_IDS = "ids";
+	private static final String ARG_NAME_VALUES = "values";
+	private static final String ARG_NAME_ATTRIBUTE = "attribute";
+	private static final String ARG_NAME_JPQL = "jpql";
+	private static final String ARG_NAME_PARAMETERS = "parameters";
 	private static final String ARG_NAME_ENTITY = "entity";
+	private static final String ARG_NAME_ENTITIES = "entities";
 	private static final String ARG_NAME_RESULT_TYPE = "resultType";
 
 	@PersistenceContext
@@ -50,13 +105,34 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Se o DAO tiver um cache de entidades, ver {@link #getEntityCache()}, a entidade é
+	 * recuperada dele e somente consultada no banco de dados se não estiver presente. As entidades
+	 * recuperadas do cache são cópias desanexadas do contexto de persistência, portanto suas
+	 * alterações só são gravadas através de {@link #merge(Entity)}.
 	 */
 	@Override
 	public E find(I id) {
 		checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID);
 		
-		return em.find(clazz, id);
+		EntityCache entityCache = getEntityCache();
+		
+		if (entityCache == null) {
+			return em.find(clazz, id);
+		}
+		
+		E entity = entityCache.get(clazz, id);
+		
+		if (entity == null) {
+			entity = em.find(clazz, id);
+			
+			if (entity != null) {
+				entityCache.put(clazz, entity);
+			}
+		}
+		
+		return entity;
 	}
 
 	/**
@@ -68,6 +144,99 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 		return em.createQuery("from " + clazz.getName()).getResultList();
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * A paginação é feita por chave (keyset), portanto o custo de cada página independe da sua
+	 * posição na tabela. O iterador depende do EntityManager do DAO e deve ser consumido dentro
+	 * do mesmo contexto de persistência.
+	 */
+	@Override
+	public Iterator<E> findAll(int pageSize) {
+		checkArgument(pageSize > 0, ERROR_INVALID_PAGE_SIZE, pageSize);
+		
+		return new PageIterator(pageSize);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Cada consulta usa no máximo {@link #getMaxInParameters()} identificadores. Se o DAO tiver
+	 * um cache de entidades, somente os identificadores ausentes do cache são consultados.
+	 */
+	@Override
+	public Map<I, E> findAll(Collection<I> ids) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		
+		int maxInParameters = checkMaxInParameters();
+		EntityCache entityCache = getEntityCache();
+		Map<I, E> entities = new LinkedHashMap<>();
+		Collection<I> missingIds = new LinkedHashSet<>();
+		
+		for (I id : ids) {
+			checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID);
+			E entity = entityCache != null ? entityCache.get(clazz, id) : null;
+			
+			if (entity != null) {
+				entities.put(id, entity);
+			} else {
+				missingIds.add(id);
+			}
+		}
+		
+		String jpql = String.format(JPQL_FIND_BY_IDS, clazz.getName());
+		
+		for (List<I> chunk : Iterables.partition(missingIds, maxInParameters)) {
+			TypedQuery<E> query = em.createQuery(jpql, clazz);
+			query.setParameter(PARAM_IDS, chunk);
+			
+			for (E entity : query.getResultList()) {
+				entities.put(entity.getId(), entity);
+				
+				if (entityCache != null) {
+					entityCache.put(clazz, entity);
+				}
+			}
+		}
+		
+		return entities;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * A consulta projeta somente os campos de versionamento, portanto nenhuma entidade é
+	 * instanciada ou gerenciada. Cada consulta usa no máximo {@link #getMaxInParameters()}
+	 * identificadores.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Map<I, EntityVersion<I>> findVersions(Collection<I> ids) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		
+		int maxInParameters = checkMaxInParameters();
+		Collection<I> distinctIds = new LinkedHashSet<>();
+		
+		for (I id : ids) {
+			distinctIds.add(checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID));
+		}
+		
+		Map<I, EntityVersion<I>> versions = new LinkedHashMap<>();
+		String jpql = String.format(JPQL_FIND_VERSIONS_BY_IDS, clazz.getName());
+		
+		for (List<I> chunk : Iterables.partition(distinctIds, maxInParameters)) {
+			Query query = em.createQuery(jpql);
+			query.setParameter(PARAM_IDS, chunk);
+			
+			for (Object[] row : (List<Object[]>) query.getResultList()) {
+				I id = (I) row[0];
+				versions.put(id, new EntityVersion<>(id, (Long) row[1], (Date) row[2]));
+			}
+		}
+		
+		return versions;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -79,6 +248,29 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 		em.flush();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void persistAll(Collection<E> entities) {
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		
+		int batchSize = checkBatchSize();
+		List<E> batch = new ArrayList<>(Math.min(batchSize, entities.size()));
+		
+		for (E entity : entities) {
+			checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
+			em.persist(entity);
+			batch.add(entity);
+			
+			if (batch.size() == batchSize) {
+				flushAndDetach(batch);
+			}
+		}
+		
+		flushAndDetach(batch);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -88,10 +280,117 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 		
 		E persistedEntity = em.merge(entity);
 		em.flush();
+		invalidateCachedEntity(persistedEntity);
 
 		return persistedEntity;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<E> mergeAll(Collection<E> entities) {
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		
+		int batchSize = checkBatchSize();
+		List<E> persistedEntities = new ArrayList<>(entities.size());
+		List<E> batch = new ArrayList<>(Math.min(batchSize, entities.size()));
+		
+		for (E entity : entities) {
+			checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
+			E persistedEntity = em.merge(entity);
+			persistedEntities.add(persistedEntity);
+			batch.add(persistedEntity);
+			
+			if (batch.size() == batchSize) {
+				flushMergedBatch(batch);
+			}
+		}
+		
+		flushMergedBatch(batch);
+		
+		return persistedEntities;
+	}
+	
+	/**
+	 * Sincroniza com o banco um lote de entidades atualizadas, desanexa as entidades do lote e as
+	 * invalida no cache de entidades. A invalidação ocorre somente após a sincronização, quando as
+	 * entidades já possuem as versões incrementadas pelo provedor JPA.
+	 * 
+	 * @param batch Lote de entidades atualizadas, esvaziado ao final
+	 */
+	private void flushMergedBatch(List<E> batch) {
+		em.flush();
+		
+		for (E entity : batch) {
+			em.detach(entity);
+			invalidateCachedEntity(entity);
+		}
+		
+		batch.clear();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Os nomes dos atributos são validados no metamodelo da entidade antes de compor a instrução
+	 * JPQL. Cada instrução usa no máximo {@link #getMaxInParameters()} identificadores.
+	 * 
+	 * @throws IllegalArgumentException Se a entidade não possuir algum dos atributos ou se ele for
+	 * o identificador, a versão, a data de atualização ou uma coleção
+	 */
+	@Override
+	public int updateByIds(Collection<I> ids, Map<String, ?> values) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		checkNotNull(values, ERROR_NULL_ARGUMENT, ARG_NAME_VALUES);
+		checkArgument(!values.isEmpty(), ERROR_EMPTY_VALUES);
+		
+		for (String attributeName : values.keySet()) {
+			checkUpdatableAttribute(attributeName);
+		}
+		
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		
+		int maxInParameters = checkMaxInParameters();
+		StringBuilder setClause = new StringBuilder();
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put(PARAM_UPDATE_DATE, new Date());
+		
+		int index = 0;
+		
+		for (Entry<String, ?> value : values.entrySet()) {
+			setClause.append(String.format(JPQL_UPDATE_VALUE, value.getKey(), index));
+			parameters.put(PARAM_VALUE + index++, value.getValue());
+		}
+		
+		return executeBulkUpdateByIds(String.format(JPQL_UPDATE_BY_IDS, clazz.getName(), setClause), parameters, ids, maxInParameters);
+	}
+	
+	/**
+	 * Valida o nome de um atributo atualizado em massa, que é inserido na instrução JPQL. O
+	 * atributo deve existir no metamodelo da entidade e não pode ser uma coleção nem um dos
+	 * atributos atualizados automaticamente.
+	 * 
+	 * @param attributeName Nome do atributo
+	 */
+	private void checkUpdatableAttribute(String attributeName) {
+		checkNotNull(attributeName, ERROR_NULL_ARGUMENT, ARG_NAME_ATTRIBUTE);
+		checkArgument(!NON_UPDATABLE_ATTRIBUTES.contains(attributeName), ERROR_NON_UPDATABLE_ATTRIBUTE, attributeName);
+		
+		Attribute<? super E, ?> attribute;
+		
+		try {
+			attribute = em.getMetamodel().entity(clazz).getAttribute(attributeName);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format(ERROR_NON_EXISTING_ATTRIBUTE, clazz.getName(), attributeName), e);
+		}
+		
+		checkArgument(attribute != null, ERROR_NON_EXISTING_ATTRIBUTE, clazz.getName(), attributeName);
+		checkArgument(!attribute.isCollection(), ERROR_NON_UPDATABLE_ATTRIBUTE, attributeName);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -100,6 +399,7 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 		checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
 		
 		em.refresh(entity);
+		invalidateCachedEntity(entity);
 	}
 
 	/**
@@ -109,13 +409,205 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 	public void remove(E entity) {
 		checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
 		
-		if (!em.contains(entity)) {
-			em.remove(em.merge(entity));
-		} else {
-			em.remove(entity);
+		removeEntity(entity);
+		em.flush();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeAll(Collection<E> entities) {
+		checkNotNull(entities, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITIES);
+		
+		int batchSize = checkBatchSize();
+		List<E> batch = new ArrayList<>(Math.min(batchSize, entities.size()));
+		
+		for (E entity : entities) {
+			checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
+			batch.add(removeEntity(entity));
+			
+			if (batch.size() == batchSize) {
+				flushAndDetach(batch);
+			}
+		}
+		
+		flushAndDetach(batch);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Cada instrução usa no máximo {@link #getMaxInParameters()} identificadores.
+	 */
+	@Override
+	public int removeByIds(Collection<I> ids) {
+		checkNotNull(ids, ERROR_NULL_ARGUMENT, ARG_NAME_IDS);
+		
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		
+		return executeBulkUpdateByIds(String.format(JPQL_DELETE_BY_IDS, clazz.getName()), new HashMap<String, Object>(), ids, checkMaxInParameters());
+	}
+	
+	/**
+	 * Executa uma operação JPQL de atualização ou remoção em massa por identificadores, dividindo
+	 * os identificadores em blocos que respeitam a quantidade máxima de parâmetros da cláusula IN.
+	 * 
+	 * @param jpql Instrução JPQL com o parâmetro {@value #PARAM_IDS}
+	 * @param parameters Demais parâmetros da instrução indexados pelo nome
+	 * @param ids Identificadores das entidades
+	 * @param maxInParameters Quantidade máxima de identificadores por instrução
+	 * @return Quantidade total de entidades afetadas
+	 */
+	private int executeBulkUpdateByIds(String jpql, Map<String, Object> parameters, Collection<I> ids, int maxInParameters) {
+		int count = 0;
+		
+		for (List<I> chunk : Iterables.partition(ids, maxInParameters)) {
+			parameters.put(PARAM_IDS, chunk);
+			count += executeBulkUpdate(jpql, parameters);
 		}
 		
+		return count;
+	}
+
+	/**
+	 * Executa uma operação JPQL de atualização ou remoção em massa sobre as entidades do DAO.<br>
+	 * As alterações pendentes do contexto de persistência são enviadas ao banco antes da operação
+	 * e, após a sua execução, as entidades do DAO são removidas do cache de segundo nível, pois as
+	 * operações em massa não passam pelo contexto de persistência.
+	 * 
+	 * @param jpql Instrução JPQL de atualização ou remoção
+	 * @param parameters Parâmetros da instrução indexados pelo nome
+	 * @return Quantidade de entidades afetadas
+	 */
+	protected int executeBulkUpdate(String jpql, Map<String, ?> parameters) {
+		checkNotNull(jpql, ERROR_NULL_ARGUMENT, ARG_NAME_JPQL);
+		checkNotNull(parameters, ERROR_NULL_ARGUMENT, ARG_NAME_PARAMETERS);
+		
 		em.flush();
+		Query query = em.createQuery(jpql);
+		
+		for (Entry<String, ?> parameter : parameters.entrySet()) {
+			query.setParameter(parameter.getKey(), parameter.getValue());
+		}
+		
+		int count = query.executeUpdate();
+		em.getEntityManagerFactory().getCache().evict(clazz);
+		
+		if (getEntityCache() != null) {
+			getEntityCache().evict(clazz);
+		}
+		
+		return count;
+	}
+
+	/**
+	 * Recupera a quantidade de entidades por lote utilizada nas operações em lote. Ao término de
+	 * cada lote o contexto de persistência é sincronizado com o banco e as entidades persistidas,
+	 * atualizadas ou removidas no lote são desanexadas, permitindo que o provedor JPA agrupe as instruções em
+	 * lotes JDBC sem que o contexto cresça indefinidamente. As demais entidades gerenciadas não são
+	 * afetadas.<br>
+	 * Obs.: Para que o agrupamento JDBC ocorra de fato, o provedor deve estar configurado com um
+	 * tamanho de lote compatível (ex.: hibernate.jdbc.batch_size ou eclipselink.jdbc.batch-writing.size).
+	 * 
+	 * @return Quantidade de entidades por lote, {@value #DEFAULT_BATCH_SIZE} por padrão
+	 */
+	protected int getBatchSize() {
+		return DEFAULT_BATCH_SIZE;
+	}
+
+	/**
+	 * Recupera a quantidade máxima de parâmetros de uma cláusula IN, usada para dividir as
+	 * consultas por vários identificadores. Deve respeitar o limite do banco de dados (ex.: 1000
+	 * no Oracle, 2100 no SQL Server).
+	 * 
+	 * @return Quantidade máxima de parâmetros, {@value #DEFAULT_MAX_IN_PARAMETERS} por padrão
+	 */
+	protected int getMaxInParameters() {
+		return DEFAULT_MAX_IN_PARAMETERS;
+	}
+
+	/**
+	 * Recupera e valida a quantidade máxima de parâmetros de uma cláusula IN.
+	 * 
+	 * @return Quantidade máxima de parâmetros
+	 */
+	private int checkMaxInParameters() {
+		int maxInParameters = getMaxInParameters();
+		checkArgument(maxInParameters > 0, ERROR_INVALID_MAX_IN_PARAMETERS, maxInParameters);
+		
+		return maxInParameters;
+	}
+
+	/**
+	 * Recupera e valida a quantidade de entidades por lote.
+	 * 
+	 * @return Quantidade de entidades por lote
+	 */
+	private int checkBatchSize() {
+		int batchSize = getBatchSize();
+		checkArgument(batchSize > 0, ERROR_INVALID_BATCH_SIZE, batchSize);
+		
+		return batchSize;
+	}
+
+	/**
+	 * Recupera o cache das entidades recuperadas pelo identificador em {@link #find(Serializable)}.
+	 * O cache é invalidado pelas alterações feitas através do DAO, mas não pelas feitas por outros
+	 * meios.<br>
+	 * Por padrão o DAO não usa cache. Como os DAOs normalmente não são compartilhados, as
+	 * subclasses que o usam devem retornar uma instância compartilhada, como um atributo estático.
+	 * 
+	 * @return Cache de entidades, null se o DAO não usa cache
+	 */
+	protected EntityCache getEntityCache() {
+		return null;
+	}
+	
+	/**
+	 * Invalida uma entidade alterada no cache de entidades, caso o DAO tenha um.
+	 * 
+	 * @param entity Entidade alterada
+	 */
+	private void invalidateCachedEntity(E entity) {
+		if (getEntityCache() != null) {
+			getEntityCache().invalidate(clazz, entity);
+		}
+	}
+
+	/**
+	 * Remove uma entidade do contexto de persistência, anexando-a antes se necessário.
+	 * 
+	 * @param entity Entidade a ser removida
+	 * @return Instância gerenciada removida
+	 */
+	private E removeEntity(E entity) {
+		E managedEntity = em.contains(entity) ? entity : em.merge(entity);
+		em.remove(managedEntity);
+		
+		if (getEntityCache() != null) {
+			getEntityCache().invalidateRemoved(clazz, entity.getId());
+		}
+		
+		return managedEntity;
+	}
+
+	/**
+	 * Sincroniza o contexto de persistência com o banco de dados e desanexa somente as entidades
+	 * do lote, preservando as demais entidades gerenciadas pelo chamador.
+	 * 
+	 * @param batch Lote de entidades, esvaziado ao final
+	 */
+	private void flushAndDetach(List<E> batch) {
+		em.flush();
+		
+		for (E entity : batch) {
+			em.detach(entity);
+		}
+		
+		batch.clear();
 	}
 
 	/**
@@ -140,4 +632,60 @@ public abstract class AbstractDAO<E extends Entity<I>, I extends Serializable> i
 
 		return firstResult;
 	}
+
+	/**
+	 * Iterador que consulta as entidades página a página, a partir do identificador da última
+	 * entidade da página anterior.
+	 */
+	private class PageIterator extends AbstractIterator<E> {
+		private final int pageSize;
+		private Iterator<E> page;
+		private boolean lastPage;
+		private I lastId;
+
+		public PageIterator(int pageSize) {
+			this.pageSize = pageSize;
+		}
+
+		@Override
+		protected E computeNext() {
+			if ((page == null || !page.hasNext()) && !lastPage) {
+				page = nextPage().iterator();
+			}
+			
+			if (page.hasNext()) {
+				E entity = page.next();
+				lastId = entity.getId();
+				
+				return entity;
+			}
+			
+			return endOfData();
+		}
+
+		/**
+		 * Consulta a próxima página de entidades e as desanexa do contexto de persistência.
+		 * 
+		 * @return Entidades da próxima página
+		 */
+		private List<E> nextPage() {
+			TypedQuery<E> query;
+			
+			if (lastId == null) {
+				query = em.createQuery(String.format(JPQL_FIND_FIRST_PAGE, clazz.getName()), clazz);
+			} else {
+				query = em.createQuery(String.format(JPQL_FIND_NEXT_PAGE, clazz.getName()), clazz);
+				query.setParameter(PARAM_LAST_ID, lastId);
+			}
+			
+			List<E> entities = query.setMaxResults(pageSize).getResultList();
+			lastPage = entities.size() < pageSize;
+			
+			for (E entity : entities) {
+				em.detach(entity);
+			}
+			
+			return entities;
+		}
+	}
 }
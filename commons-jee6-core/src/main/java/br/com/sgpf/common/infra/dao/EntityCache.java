@@ -0,0 +1,295 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.infra.dao;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import br.com.sgpf.common.domain.entity.Entity;
+import br.com.sgpf.common.infra.exception.DAOException;
+
+/**
+ * Cache limitado de entidades indexadas pela classe e pelo identificador, usado opcionalmente
+ * pelos DAOs na recuperação de entidades pelo identificador.<br>
+ * <br>
+ * O cache mantém uma cópia serializada de cada entidade, desanexada de qualquer contexto de
+ * persistência, e cada recuperação devolve uma nova cópia. Dessa forma, alterações feitas nas
+ * entidades recuperadas ou armazenadas não afetam o cache. As associações não carregadas antes do
+ * armazenamento não podem ser acessadas nas cópias, o que torna o cache adequado principalmente
+ * para entidades de referência, raramente alteradas.<br>
+ * <br>
+ * As invalidações registram a versão da entidade alterada, de forma que uma versão anterior
+ * carregada concorrentemente não volte a ser armazenada no cache.
+ * 
+ * @author Sergio Puntar
+ */
+public class EntityCache {
+	
+	/**
+	 * Quantidade máxima padrão de entidades no cache.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+	
+	private static final String ERROR_INVALID_MAXIMUM_SIZE = "A quantidade máxima de entidades deve ser maior que zero: [%s].";
+	private static final String ERROR_COPYING_ENTITY = "Não foi possível copiar a entidade [%s] do cache.";
+	
+	private static final String ARG_NAME_CLAZZ = "clazz";
+	private static final String ARG_NAME_ID = "id";
+	private static final String ARG_NAME_ENTITY = "entity";
+	
+	private final Cache<Key, Entry> cache;
+	
+	/**
+	 * Cria um cache com a quantidade máxima padrão de entidades: {@value #DEFAULT_MAXIMUM_SIZE}.
+	 */
+	public EntityCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+	
+	/**
+	 * Cria um cache com uma quantidade máxima de entidades. Quando ela é atingida, as entidades
+	 * acessadas há mais tempo são removidas.
+	 * 
+	 * @param maximumSize Quantidade máxima de entidades
+	 */
+	public EntityCache(int maximumSize) {
+		super();
+		checkArgument(maximumSize > 0, ERROR_INVALID_MAXIMUM_SIZE, maximumSize);
+		cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+	}
+	
+	/**
+	 * Recupera uma cópia de uma entidade do cache.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param id Identificador da entidade
+	 * @return Cópia desanexada da entidade, null se ela não estiver no cache
+	 * @throws DAOException Se não for possível copiar a entidade
+	 */
+	public <E extends Entity<?>> E get(Class<E> clazz, Serializable id) {
+		checkNotNull(clazz, ERROR_NULL_ARGUMENT, ARG_NAME_CLAZZ);
+		checkNotNull(id, ERROR_NULL_ARGUMENT, ARG_NAME_ID);
+		Entry entry = cache.getIfPresent(new Key(clazz, id));
+		
+		return entry != null && entry.state != null ? clazz.cast(deserialize(clazz, entry.state)) : null;
+	}
+	
+	/**
+	 * Armazena uma cópia de uma entidade no cache, caso a sua versão não seja anterior à versão já
+	 * conhecida.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param entity Entidade
+	 * @throws DAOException Se não for possível copiar a entidade
+	 */
+	public void put(Class<?> clazz, Entity<?> entity) {
+		checkNotNull(clazz, ERROR_NULL_ARGUMENT, ARG_NAME_CLAZZ);
+		checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
+		checkNotNull(entity.getId(), ERROR_NULL_ARGUMENT, ARG_NAME_ID);
+		
+		Key key = new Key(clazz, entity.getId());
+		Entry entry = new Entry(serialize(entity), version(entity));
+		ConcurrentMap<Key, Entry> map = cache.asMap();
+		
+		while (true) {
+			Entry current = map.putIfAbsent(key, entry);
+			
+			if (current == null || current.version > entry.version || (current.state != null && current.version == entry.version)) {
+				return;
+			}
+			
+			if (map.replace(key, current, entry)) {
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Invalida uma entidade alterada. Somente versões iguais ou posteriores à da entidade
+	 * informada podem voltar a ser armazenadas no cache.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param entity Entidade alterada
+	 */
+	public void invalidate(Class<?> clazz, Entity<?> entity) {
+		checkNotNull(entity, ERROR_NULL_ARGUMENT, ARG_NAME_ENTITY);
+		invalidate(clazz, entity.getId(), version(entity));
+	}
+	
+	/**
+	 * Invalida uma entidade removida, que não pode mais ser armazenada no cache.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param id Identificador da entidade
+	 */
+	public void invalidateRemoved(Class<?> clazz, Serializable id) {
+		invalidate(clazz, id, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Substitui a entrada de uma entidade por um registro da versão mínima aceita.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param id Identificador da entidade
+	 * @param version Versão mínima aceita
+	 */
+	private void invalidate(Class<?> clazz, Serializable id, long version) {
+		checkNotNull(clazz, ERROR_NULL_ARGUMENT, ARG_NAME_CLAZZ);
+		
+		if (id != null) {
+			cache.put(new Key(clazz, id), new Entry(null, version));
+		}
+	}
+	
+	/**
+	 * Remove do cache todas as entidades de uma classe.
+	 * 
+	 * @param clazz Classe das entidades
+	 */
+	public void evict(Class<?> clazz) {
+		checkNotNull(clazz, ERROR_NULL_ARGUMENT, ARG_NAME_CLAZZ);
+		Iterator<Key> keys = cache.asMap().keySet().iterator();
+		
+		while (keys.hasNext()) {
+			if (keys.next().clazz.equals(clazz)) {
+				keys.remove();
+			}
+		}
+	}
+	
+	/**
+	 * Remove todas as entidades do cache.
+	 */
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+	
+	/**
+	 * Serializa uma entidade, obtendo o estado armazenado no cache.
+	 * 
+	 * @param entity Entidade
+	 * @return Estado serializado da entidade
+	 */
+	private static byte[] serialize(Entity<?> entity) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(entity);
+		} catch (IOException e) {
+			throw new DAOException(String.format(ERROR_COPYING_ENTITY, entity), e);
+		}
+		
+		return bytes.toByteArray();
+	}
+	
+	/**
+	 * Cria uma nova cópia de uma entidade a partir do seu estado armazenado no cache. As classes
+	 * são resolvidas pelo class loader da entidade, que pode ser diferente do class loader desta
+	 * classe em servidores de aplicação.
+	 * 
+	 * @param clazz Classe da entidade
+	 * @param state Estado serializado da entidade
+	 * @return Cópia da entidade
+	 */
+	private static Object deserialize(Class<?> clazz, byte[] state) {
+		try (ObjectInputStream in = new EntityObjectInputStream(new ByteArrayInputStream(state), clazz.getClassLoader())) {
+			return in.readObject();
+		} catch (IOException | ClassNotFoundException e) {
+			throw new DAOException(String.format(ERROR_COPYING_ENTITY, clazz.getName()), e);
+		}
+	}
+	
+	/**
+	 * Recupera a versão de uma entidade, considerando entidades sem versão como as mais antigas.
+	 * 
+	 * @param entity Entidade
+	 * @return Versão da entidade
+	 */
+	private static long version(Entity<?> entity) {
+		return entity.getVersion() != null ? entity.getVersion() : Long.MIN_VALUE;
+	}
+	
+	/**
+	 * Chave de uma entidade no cache.
+	 */
+	private static final class Key {
+		private final Class<?> clazz;
+		private final Serializable id;
+		
+		public Key(Class<?> clazz, Serializable id) {
+			this.clazz = clazz;
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * clazz.hashCode() + id.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Key) {
+				Key that = (Key) obj;
+				return clazz.equals(that.clazz) && Objects.equals(id, that.id);
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * Entrada do cache, com o estado serializado da entidade e a sua versão, ou somente a versão
+	 * mínima aceita quando a entidade foi invalidada.
+	 */
+	private static final class Entry {
+		private final byte[] state;
+		private final long version;
+		
+		public Entry(byte[] state, long version) {
+			this.state = state;
+			this.version = version;
+		}
+	}
+	
+	/**
+	 * Stream de leitura das cópias das entidades, que resolve as classes pelo class loader da
+	 * entidade.
+	 */
+	private static final class EntityObjectInputStream extends ObjectInputStream {
+		private final ClassLoader classLoader;
+		
+		public EntityObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+			super(in);
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, classLoader);
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(desc);
+			}
+		}
+	}
+}
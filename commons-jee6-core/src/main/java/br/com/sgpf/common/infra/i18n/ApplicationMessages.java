@@ -14,6 +14,9 @@ import java.util.Locale;
 
 import javax.inject.Inject;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import br.com.sgpf.common.infra.resources.ResourceProvider;
 
 /**
@@ -25,6 +28,16 @@ public class ApplicationMessages {
 	
 	private static final String ARG_NAME_KEY = "key";
 	
+	private static final int MAX_CACHED_FORMATS = 1000;
+	
+	/**
+	 * Cache dos formatos já interpretados, compartilhado por todas as instâncias. A chave é o
+	 * próprio padrão da mensagem, de forma que mensagens iguais em locales diferentes
+	 * compartilhem o formato e alterações nos arquivos de propriedades não deixem formatos
+	 * desatualizados.
+	 */
+	private static final Cache<String, MessageFormat> FORMAT_CACHE = CacheBuilder.newBuilder().maximumSize(MAX_CACHED_FORMATS).build();
+	
 	@Inject
 	private ResourceProvider resourceProvider;
 	
@@ -55,7 +68,27 @@ public class ApplicationMessages {
 	 */
 	public String getMessage(String key, Object... params) {
 		checkNotNull(key, ERROR_NULL_ARGUMENT, ARG_NAME_KEY);
-		return MessageFormat.format(getPlainMessage(key), params);
+		return getMessageFormat(getPlainMessage(key)).format(params);
+	}
+	
+	/**
+	 * Recupera o formato de um padrão de mensagem, interpretando-o somente se ele não estiver no
+	 * cache.<br>
+	 * O {@link MessageFormat} não é thread-safe, por isso é retornada uma cópia do formato
+	 * mantido no cache.
+	 * 
+	 * @param pattern Padrão da mensagem
+	 * @return Formato do padrão
+	 */
+	private MessageFormat getMessageFormat(String pattern) {
+		MessageFormat format = FORMAT_CACHE.getIfPresent(pattern);
+		
+		if (format == null) {
+			format = new MessageFormat(pattern);
+			FORMAT_CACHE.put(pattern, format);
+		}
+		
+		return (MessageFormat) format.clone();
 	}
 
 	/**
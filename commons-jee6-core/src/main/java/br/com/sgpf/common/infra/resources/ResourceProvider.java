@@ -10,7 +10,10 @@ import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
@@ -20,10 +23,16 @@ import javax.naming.NamingException;
 import br.com.sgpf.common.infra.exception.InfraestructureFatalException;
 
 /**
- * Classe que provê recursos do sistema estaticamente.
+ * Classe que provê recursos do sistema estaticamente.<br>
+ * <br>
+ * O BeanManager e os beans resolvidos para cada classe são mantidos em cache, assim como as
+ * referências contextuais de beans com escopo normal, que são proxies válidos para qualquer
+ * contexto. Referências de beans com pseudo-escopo, como {@link javax.enterprise.context.Dependent},
+ * continuam sendo criadas a cada chamada.
  * 
  * @author Sergio Puntar
  */
+@ApplicationScoped
 public class ResourceProvider {
 	
 	private static final String ERROR_LOOKUP_BEAN_MANAGER = "Não foi possível encontrar o registro do Bean Manager no JNDI.";
@@ -33,6 +42,12 @@ public class ResourceProvider {
 	public static final String DEFAULT_BEAN_MANAGER_NAME = "java:comp/BeanManager";
 	
 	private String beanManagerName;
+	
+	private volatile BeanManager beanManager;
+	
+	private final ConcurrentMap<Class<?>, Bean<?>> beans = new ConcurrentHashMap<>();
+	
+	private final ConcurrentMap<Class<?>, Object> normalScopedReferences = new ConcurrentHashMap<>();
 
 	/**
 	 * Constrói um Resource Provider que usa o nome de lookup padrão para o CDI BeanManager:
@@ -55,16 +70,24 @@ public class ResourceProvider {
 	}
 
 	/**
-	 * Recupera o CDI Bean Manager.
+	 * Recupera o CDI Bean Manager. O lookup no JNDI é feito somente na primeira chamada.
 	 * 
 	 * @return CDI Bean Manager
 	 */
 	public BeanManager getBeanManager() {
-		try {
-			return InitialContext.doLookup(beanManagerName);
-		} catch (NamingException e) {
-			throw new InfraestructureFatalException(ERROR_LOOKUP_BEAN_MANAGER, e);
+		BeanManager result = beanManager;
+		
+		if (result == null) {
+			try {
+				result = InitialContext.doLookup(beanManagerName);
+			} catch (NamingException e) {
+				throw new InfraestructureFatalException(ERROR_LOOKUP_BEAN_MANAGER, e);
+			}
+			
+			beanManager = result;
 		}
+		
+		return result;
 	}
 	
 	/**
@@ -75,11 +98,44 @@ public class ResourceProvider {
 	 */
 	@SuppressWarnings("unchecked")
 	public <T> T getContextualReference(Class<T> clazz) {
+		T reference = (T) normalScopedReferences.get(clazz);
+		
+		if (reference != null) {
+			return reference;
+		}
+		
 		BeanManager beanManager = getBeanManager();
-		Set<Bean<? extends Object>> beans = beanManager.getBeans(clazz);
-		Bean<T> bean = (Bean<T>) beanManager.resolve(beans);
+		Bean<T> bean = resolveBean(beanManager, clazz);
 		CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
+		reference = (T) beanManager.getReference(bean, clazz, ctx);
+		
+		if (beanManager.isNormalScope(bean.getScope())) {
+			normalScopedReferences.putIfAbsent(clazz, reference);
+		}
+		
+		return reference;
+	}
+	
+	/**
+	 * Resolve o CDI bean de uma classe, consultando o BeanManager somente na primeira chamada.
+	 * 
+	 * @param beanManager CDI Bean Manager
+	 * @param clazz Classe do CDI bean
+	 * @return CDI bean da classe
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Bean<T> resolveBean(BeanManager beanManager, Class<T> clazz) {
+		Bean<T> bean = (Bean<T>) beans.get(clazz);
+		
+		if (bean == null) {
+			Set<Bean<? extends Object>> candidates = beanManager.getBeans(clazz);
+			bean = (Bean<T>) beanManager.resolve(candidates);
+			
+			if (bean != null) {
+				beans.putIfAbsent(clazz, bean);
+			}
+		}
 		
-		return (T) beanManager.getReference(bean, clazz, ctx);
+		return bean;
 	}
 }
@@ -8,6 +8,7 @@ package br.com.sgpf.common.domain.entity;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
@@ -29,7 +30,7 @@ public class AbstractEntityTest {
 	
 	@Test
 	public void equalsTest() {
-		EqualsTester<AbstractEntityImpl> equalsTester = new EqualsTester<>(AbstractEntityImpl.class, false, "id", "version");
+		EqualsTester<AbstractEntityImpl> equalsTester = new EqualsTester<>(AbstractEntityImpl.class, false, "id", "version").forVersionedEntity("id");
 		equalsTester.validate();
 	}
 	
@@ -84,4 +85,20 @@ public class AbstractEntityTest {
 		abstractEntity.setId(1L);
 		assertEquals("1", abstractEntity.toString());
 	}
+	
+	@Test
+	public void unassignedIdEqualsTest() {
+		AbstractEntityImpl abstractEntity = new AbstractEntityImpl();
+		AbstractEntityImpl other = new AbstractEntityImpl();
+		
+		assertEquals(abstractEntity, abstractEntity);
+		assertEquals(abstractEntity.hashCode(), abstractEntity.hashCode());
+		assertNotEquals(abstractEntity, other);
+		assertNotEquals(other, abstractEntity);
+		
+		abstractEntity.setId(1L);
+		other.setId(1L);
+		assertEquals(abstractEntity, other);
+		assertEquals(abstractEntity.hashCode(), other.hashCode());
+	}
 }
@@ -21,7 +21,7 @@ public class AbstractIdentityEntityTest {
 	
 	@Test
 	public void equalsTest() {
-		EqualsTester<AbstractIdentityEntityImpl> equalsTester = new EqualsTester<>(AbstractIdentityEntityImpl.class, false, "id", "version");
+		EqualsTester<AbstractIdentityEntityImpl> equalsTester = new EqualsTester<>(AbstractIdentityEntityImpl.class, false, "id", "version").forVersionedEntity("id");
 		equalsTester.validate();
 	}
 }
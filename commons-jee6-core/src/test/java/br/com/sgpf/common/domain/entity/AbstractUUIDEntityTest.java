@@ -6,6 +6,11 @@
  */
 package br.com.sgpf.common.domain.entity;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
 import java.util.UUID;
 
 import org.junit.Test;
@@ -22,6 +27,53 @@ public class AbstractUUIDEntityTest {
 		UUID.fromString(abstractUUIDEntity.getId());
 	}
 
+	@Test
+	public void lazyIdTest() {
+		AbstractUUIDEntityImpl abstractUUIDEntity = new AbstractUUIDEntityImpl();
+		assertNull(abstractUUIDEntity.getAssignedId());
+		
+		String id = abstractUUIDEntity.getId();
+		assertNotNull(id);
+		assertEquals(id, abstractUUIDEntity.getAssignedId());
+		assertEquals(id, abstractUUIDEntity.getId());
+	}
+	
+	@Test
+	public void assignedIdTest() {
+		AbstractUUIDEntityImpl abstractUUIDEntity = new AbstractUUIDEntityImpl();
+		abstractUUIDEntity.setId("ID");
+		assertEquals("ID", abstractUUIDEntity.getId());
+	}
+	
+	@Test
+	public void prePersistTest() {
+		AbstractUUIDEntityImpl abstractUUIDEntity = new AbstractUUIDEntityImpl();
+		abstractUUIDEntity.prePersist();
+		assertNotNull(abstractUUIDEntity.getAssignedId());
+		assertNotNull(abstractUUIDEntity.getCreationDate());
+	}
+
+	@Test
+	public void toStringTest() {
+		AbstractUUIDEntityImpl abstractUUIDEntity = new AbstractUUIDEntityImpl();
+		assertNull(abstractUUIDEntity.toString());
+		assertNull(abstractUUIDEntity.getAssignedId());
+		
+		String id = abstractUUIDEntity.getId();
+		assertEquals(id, abstractUUIDEntity.toString());
+	}
+	
+	@Test
+	public void unassignedIdEqualsTest() {
+		AbstractUUIDEntityImpl abstractUUIDEntity = new AbstractUUIDEntityImpl();
+		AbstractUUIDEntityImpl other = new AbstractUUIDEntityImpl();
+		
+		assertEquals(abstractUUIDEntity, abstractUUIDEntity);
+		assertNotEquals(abstractUUIDEntity, other);
+		assertNull(abstractUUIDEntity.getAssignedId());
+		assertNull(other.getAssignedId());
+	}
+	
 	@Test
 	public void pojoTest() {
 		PojoTester pojoTester = new PojoTester(AbstractUUIDEntityImpl.class);
@@ -30,7 +82,7 @@ public class AbstractUUIDEntityTest {
 	
 	@Test
 	public void equalsTest() {
-		EqualsTester<AbstractUUIDEntityImpl> equalsTester = new EqualsTester<>(AbstractUUIDEntityImpl.class, false, "id", "version");
+		EqualsTester<AbstractUUIDEntityImpl> equalsTester = new EqualsTester<>(AbstractUUIDEntityImpl.class, false, "id", "version").forVersionedEntity("id");
 		equalsTester.validate();
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+public class EntityIndexTest {
+	
+	private static AbstractIdentityEntityImpl identityEntity(Long id) {
+		AbstractIdentityEntityImpl entity = new AbstractIdentityEntityImpl();
+		entity.setId(id);
+		return entity;
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void indexNullEntitiesTest() {
+		EntityUtil.indexEntities(null);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void getNullIdTest() {
+		EntityUtil.indexEntities(Lists.newArrayList(identityEntity(1L))).get(null);
+	}
+	
+	@Test
+	public void longIndexTest() {
+		List<AbstractIdentityEntityImpl> entities = new ArrayList<>();
+		
+		for (long id = -500L; id < 500L; id++) {
+			entities.add(identityEntity(id * 1024L));
+		}
+		
+		AbstractIdentityEntityImpl duplicate = identityEntity(0L);
+		entities.add(duplicate);
+		entities.add(identityEntity(null));
+		
+		EntityIndex<AbstractIdentityEntityImpl, Long> index = EntityUtil.indexEntities(entities);
+		assertTrue(index instanceof LongEntityIndex);
+		assertEquals(1000, index.size());
+		
+		for (int i = 0; i < 1000; i++) {
+			assertSame(entities.get(i), index.get(entities.get(i).getId()));
+		}
+		
+		assertSame(entities.get(500), index.get(0L));
+		assertNull(index.get(1L));
+		assertFalse(index.contains(Long.MAX_VALUE));
+		assertEquals(Lists.newArrayList(entities.get(501), entities.get(499)), index.getAll(Lists.newArrayList(1024L, 1L, -1024L)));
+	}
+	
+	@Test
+	public void longIndexPrimitiveTest() {
+		AbstractIdentityEntityImpl entity1 = identityEntity(1L);
+		AbstractIdentityEntityImpl entity2 = identityEntity(Long.MIN_VALUE);
+		LongEntityIndex<AbstractIdentityEntityImpl> index = EntityUtil.indexLongEntities(Lists.newArrayList(entity1, entity2));
+		
+		assertSame(entity1, index.get(1L));
+		assertSame(entity2, index.get(Long.MIN_VALUE));
+		assertTrue(index.contains(1L));
+		assertFalse(index.contains(0L));
+		assertEquals(Lists.newArrayList(entity2, entity1), index.getAll(Long.MIN_VALUE, 2L, 1L));
+	}
+	
+	@Test
+	public void emptyIndexTest() {
+		LongEntityIndex<AbstractIdentityEntityImpl> index = EntityUtil.indexLongEntities(new ArrayList<AbstractIdentityEntityImpl>());
+		assertEquals(0, index.size());
+		assertNull(index.get(0L));
+	}
+	
+	@Test
+	public void emptyStringIdIndexTest() {
+		EntityIndex<AbstractUUIDEntityImpl, String> index = EntityUtil.indexEntities(new ArrayList<AbstractUUIDEntityImpl>());
+		assertTrue(index instanceof HashEntityIndex);
+		assertEquals(0, index.size());
+		assertNull(index.get("X"));
+		assertFalse(index.contains("X"));
+	}
+	
+	@Test
+	public void nullIdsIndexTest() {
+		EntityIndex<AbstractIdentityEntityImpl, Long> index = EntityUtil.indexEntities(Lists.newArrayList(identityEntity(null)));
+		assertTrue(index instanceof HashEntityIndex);
+		assertEquals(0, index.size());
+		assertNull(index.get(1L));
+	}
+	
+	@Test
+	public void hashIndexTest() {
+		AbstractUUIDEntityImpl entity1 = new AbstractUUIDEntityImpl();
+		AbstractUUIDEntityImpl entity2 = new AbstractUUIDEntityImpl();
+		AbstractUUIDEntityImpl duplicate = new AbstractUUIDEntityImpl();
+		duplicate.setId(entity1.getId());
+		
+		EntityIndex<AbstractUUIDEntityImpl, String> index = EntityUtil.indexEntities(Lists.newArrayList(entity1, entity2, duplicate));
+		assertTrue(index instanceof HashEntityIndex);
+		assertEquals(2, index.size());
+		assertSame(entity1, index.get(entity1.getId()));
+		assertSame(entity2, index.get(entity2.getId()));
+		assertFalse(index.contains("X"));
+		assertEquals(Lists.newArrayList(entity2), index.getAll(Lists.newArrayList("X", entity2.getId())));
+	}
+}
@@ -24,6 +24,24 @@ public class EntityUtilTest {
 		assertNotNull(UUID.fromString(EntityUtil.generateUUID()));
 	}
 	
+	@Test(expected = NullPointerException.class)
+	public void setNullUUIDGeneratorTest() {
+		EntityUtil.setUUIDGenerator(null);
+	}
+	
+	@Test
+	public void setUUIDGeneratorTest() {
+		assertEquals(StandardUUIDGenerator.SECURE_RANDOM, EntityUtil.getUUIDGenerator());
+		
+		try {
+			EntityUtil.setUUIDGenerator(StandardUUIDGenerator.TIME_ORDERED);
+			assertEquals(StandardUUIDGenerator.TIME_ORDERED, EntityUtil.getUUIDGenerator());
+			assertEquals(7, UUID.fromString(EntityUtil.generateUUID()).version());
+		} finally {
+			EntityUtil.setUUIDGenerator(StandardUUIDGenerator.SECURE_RANDOM);
+		}
+	}
+	
 	@Test(expected = NullPointerException.class)
 	public void recoverEntityNullEntitiesTest() {
 		EntityUtil.recoverEntity(null, Long.valueOf(1L));
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Date;
+
+import org.junit.Test;
+
+import br.com.sgpf.common.test.equals.EqualsTester;
+
+public class EntityVersionTest {
+	
+	@Test
+	public void constructorTest() {
+		Date updateDate = new Date();
+		EntityVersion<Long> entityVersion = new EntityVersion<>(1L, 2L, updateDate);
+		
+		assertEquals(Long.valueOf(1L), entityVersion.getId());
+		assertEquals(Long.valueOf(2L), entityVersion.getVersion());
+		assertEquals(updateDate, entityVersion.getUpdateDate());
+		assertNotSame(updateDate, entityVersion.getUpdateDate());
+		assertNull(new EntityVersion<>(1L, 2L, null).getUpdateDate());
+	}
+	
+	@Test
+	public void isCurrentTest() {
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		entity.setVersion(2L);
+		
+		assertTrue(new EntityVersion<>(1L, 2L, null).isCurrent(entity));
+		assertFalse(new EntityVersion<>(1L, 3L, null).isCurrent(entity));
+		assertFalse(new EntityVersion<>(2L, 2L, null).isCurrent(entity));
+		assertFalse(new EntityVersion<>(1L, 2L, null).isCurrent(null));
+	}
+	
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void equalsTest() {
+		EqualsTester<EntityVersion> equalsTester = new EqualsTester<>(EntityVersion.class, false);
+		equalsTester.validate();
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class StandardUUIDGeneratorTest {
+	
+	@Test
+	public void formatTest() {
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid.toString().toUpperCase(), StandardUUIDGenerator.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+		assertEquals("00000000-0000-0000-0000-000000000000", StandardUUIDGenerator.format(0L, 0L));
+		assertEquals("FFFFFFFF-FFFF-FFFF-FFFF-FFFFFFFFFFFF", StandardUUIDGenerator.format(-1L, -1L));
+	}
+	
+	@Test
+	public void randomGeneratorsTest() {
+		for (StandardUUIDGenerator generator : new StandardUUIDGenerator[] {StandardUUIDGenerator.SECURE_RANDOM, StandardUUIDGenerator.THREAD_LOCAL_RANDOM}) {
+			String id = generator.generate();
+			UUID uuid = UUID.fromString(id);
+			assertEquals(id, id.toUpperCase());
+			assertEquals(4, uuid.version());
+			assertEquals(2, uuid.variant());
+			assertNotEquals(id, generator.generate());
+		}
+	}
+	
+	@Test
+	public void timeOrderedGeneratorTest() throws InterruptedException {
+		long before = System.currentTimeMillis();
+		String id1 = StandardUUIDGenerator.TIME_ORDERED.generate();
+		Thread.sleep(2L);
+		String id2 = StandardUUIDGenerator.TIME_ORDERED.generate();
+		UUID uuid = UUID.fromString(id1);
+		
+		assertEquals(id1, id1.toUpperCase());
+		assertEquals(7, uuid.version());
+		assertEquals(2, uuid.variant());
+		assertTrue(uuid.getMostSignificantBits() >>> 16 >= before);
+		assertTrue(id1.compareTo(id2) < 0);
+	}
+}
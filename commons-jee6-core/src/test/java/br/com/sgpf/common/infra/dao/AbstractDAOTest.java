@@ -7,28 +7,50 @@
 package br.com.sgpf.common.infra.dao;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
+import javax.persistence.Cache;
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Metamodel;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 import br.com.sgpf.common.domain.entity.AbstractEntityImpl;
 import br.com.sgpf.common.domain.entity.Entity;
+import br.com.sgpf.common.domain.entity.EntityVersion;
 import br.com.sgpf.common.infra.exception.DAOException;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -60,6 +82,107 @@ public class AbstractDAOTest {
 		assertEquals(entity, dao.find(1L));
 	}
 	
+	@Test
+	public void findCachedTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		entity.setVersion(0L);
+		when(em.find(AbstractEntityImpl.class, 1L)).thenReturn(entity);
+		
+		assertEquals(entity, cachedDao.find(1L));
+		assertEquals(entity, cachedDao.find(1L));
+		assertNull(cachedDao.find(2L));
+		verify(em, times(1)).find(AbstractEntityImpl.class, 1L);
+		verify(em, times(1)).find(AbstractEntityImpl.class, 2L);
+	}
+	
+	@Test
+	public void findCachedInvalidationTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		entity.setVersion(0L);
+		AbstractEntityImpl mergedEntity = new AbstractEntityImpl();
+		mergedEntity.setId(1L);
+		mergedEntity.setVersion(1L);
+		when(em.find(AbstractEntityImpl.class, 1L)).thenReturn(entity, mergedEntity);
+		when(em.merge(entity)).thenReturn(mergedEntity);
+		when(em.contains(mergedEntity)).thenReturn(true);
+		
+		assertEquals(entity, cachedDao.find(1L));
+		cachedDao.merge(entity);
+		assertEquals(mergedEntity, cachedDao.find(1L));
+		cachedDao.refresh(mergedEntity);
+		assertEquals(mergedEntity, cachedDao.find(1L));
+		cachedDao.remove(mergedEntity);
+		cachedDao.find(1L);
+		verify(em, times(4)).find(AbstractEntityImpl.class, 1L);
+	}
+	
+	@Test
+	public void findCachedCopyTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		entity.setVersion(0L);
+		when(em.find(AbstractEntityImpl.class, 1L)).thenReturn(entity);
+		
+		cachedDao.find(1L);
+		entity.setVersion(1L);
+		AbstractEntityImpl cachedEntity = cachedDao.find(1L);
+		cachedEntity.setVersion(2L);
+		
+		assertNotSame(entity, cachedEntity);
+		assertNotSame(cachedEntity, cachedDao.find(1L));
+		assertEquals(Long.valueOf(0L), cachedDao.find(1L).getVersion());
+		verify(em, times(1)).find(AbstractEntityImpl.class, 1L);
+	}
+	
+	/**
+	 * As entidades atualizadas em lote são invalidadas com a versão incrementada na sincronização,
+	 * de forma que a versão anterior não volta a ser armazenada no cache.
+	 */
+	@Test
+	public void findCachedMergeAllTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		entity.setVersion(0L);
+		final AbstractEntityImpl mergedEntity = new AbstractEntityImpl();
+		mergedEntity.setId(1L);
+		mergedEntity.setVersion(0L);
+		when(em.find(AbstractEntityImpl.class, 1L)).thenReturn(entity);
+		when(em.merge(entity)).thenReturn(mergedEntity);
+		doAnswer(new Answer<Void>() {
+				@Override
+				public Void answer(InvocationOnMock invocation) throws Throwable {
+					mergedEntity.setVersion(1L);
+					return null;
+				}
+			}).when(em).flush();
+		
+		cachedDao.find(1L);
+		cachedDao.mergeAll(Lists.newArrayList(entity));
+		cachedDao.find(1L);
+		cachedDao.find(1L);
+		verify(em, times(3)).find(AbstractEntityImpl.class, 1L);
+	}
+	
+	@Test
+	public void findCachedBulkUpdateTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(1L);
+		when(em.find(AbstractEntityImpl.class, 1L)).thenReturn(entity);
+		mockBulkQuery("delete from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids", 1);
+		
+		cachedDao.find(1L);
+		cachedDao.removeByIds(Lists.newArrayList(2L));
+		cachedDao.find(1L);
+		verify(em, times(2)).find(AbstractEntityImpl.class, 1L);
+	}
+	
 	@Test
 	public void findAllTest() {
 		AbstractEntityImpl entity1 = new AbstractEntityImpl();
@@ -76,6 +199,118 @@ public class AbstractDAOTest {
 		assertEquals(entities, dao.findAll());
 	}
 	
+	@Test(expected = IllegalArgumentException.class)
+	public void findAllInvalidPageSizeTest() {
+		dao.findAll(0);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllPagedTest() {
+		List<AbstractEntityImpl> entities = createEntities(3);
+		
+		TypedQuery<AbstractEntityImpl> firstPageQuery = mock(TypedQuery.class);
+		when(firstPageQuery.setMaxResults(2)).thenReturn(firstPageQuery);
+		when(firstPageQuery.getResultList()).thenReturn(entities.subList(0, 2));
+		when(em.createQuery("select e from " + AbstractEntityImpl.class.getName() + " e order by e.id", AbstractEntityImpl.class)).thenReturn(firstPageQuery);
+		
+		TypedQuery<AbstractEntityImpl> nextPageQuery = mock(TypedQuery.class);
+		when(nextPageQuery.setMaxResults(2)).thenReturn(nextPageQuery);
+		when(nextPageQuery.getResultList()).thenReturn(entities.subList(2, 3));
+		when(em.createQuery("select e from " + AbstractEntityImpl.class.getName() + " e where e.id > :lastId order by e.id", AbstractEntityImpl.class)).thenReturn(nextPageQuery);
+		
+		assertEquals(entities, Lists.newArrayList(dao.findAll(2)));
+		
+		verify(nextPageQuery).setParameter("lastId", 1L);
+		
+		for (AbstractEntityImpl entity : entities) {
+			verify(em).detach(entity);
+		}
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void findAllNullIdsTest() {
+		Collection<Long> ids = null;
+		dao.findAll(ids);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void findAllNullIdTest() {
+		dao.findAll(Lists.newArrayList(1L, null));
+	}
+	
+	@Test
+	public void findAllEmptyIdsTest() {
+		assertTrue(dao.findAll(new ArrayList<Long>()).isEmpty());
+		verifyZeroInteractions(em);
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdsTest() {
+		List<AbstractEntityImpl> entities = createEntities(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS + 1);
+		List<Long> ids = new ArrayList<>();
+		
+		for (AbstractEntityImpl entity : entities) {
+			ids.add(entity.getId());
+		}
+		
+		ids.add(-1L);
+		ids.add(0L);
+		
+		TypedQuery<AbstractEntityImpl> query = mock(TypedQuery.class);
+		when(query.getResultList()).thenReturn(entities.subList(0, AbstractDAO.DEFAULT_MAX_IN_PARAMETERS), entities.subList(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS, entities.size()));
+		when(em.createQuery("select e from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids", AbstractEntityImpl.class)).thenReturn(query);
+		
+		Map<Long, AbstractEntityImpl> result = dao.findAll(ids);
+		assertEquals(entities.size(), result.size());
+		assertEquals(entities, Lists.newArrayList(result.values()));
+		verify(query).setParameter("ids", ids.subList(0, AbstractDAO.DEFAULT_MAX_IN_PARAMETERS));
+		verify(query).setParameter("ids", Lists.newArrayList((long) AbstractDAO.DEFAULT_MAX_IN_PARAMETERS, -1L));
+	}
+	
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdsCachedTest() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = createCachedDAO();
+		List<AbstractEntityImpl> entities = createEntities(2);
+		when(em.find(AbstractEntityImpl.class, 0L)).thenReturn(entities.get(0));
+		
+		TypedQuery<AbstractEntityImpl> query = mock(TypedQuery.class);
+		when(query.getResultList()).thenReturn(entities.subList(1, 2));
+		when(em.createQuery("select e from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids", AbstractEntityImpl.class)).thenReturn(query);
+		
+		cachedDao.find(0L);
+		assertEquals(ImmutableMap.of(0L, entities.get(0), 1L, entities.get(1)), cachedDao.findAll(Lists.newArrayList(0L, 1L)));
+		assertEquals(entities.get(1), cachedDao.find(1L));
+		verify(query).setParameter("ids", Lists.newArrayList(1L));
+		verify(em, never()).find(AbstractEntityImpl.class, 1L);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void findVersionsNullIdsTest() {
+		dao.findVersions(null);
+	}
+	
+	@Test
+	public void findVersionsEmptyIdsTest() {
+		assertTrue(dao.findVersions(new ArrayList<Long>()).isEmpty());
+		verifyZeroInteractions(em);
+	}
+	
+	@Test
+	public void findVersionsTest() {
+		Date updateDate = new Date();
+		Query query = mock(Query.class);
+		when(query.getResultList()).thenReturn(Lists.newArrayList(new Object[] {1L, 3L, updateDate}, new Object[] {2L, 0L, null}));
+		when(em.createQuery("select e.id, e.version, e.updateDate from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids")).thenReturn(query);
+		
+		Map<Long, EntityVersion<Long>> versions = dao.findVersions(Lists.newArrayList(1L, 2L, 3L, 1L));
+		assertEquals(ImmutableMap.of(1L, new EntityVersion<>(1L, 3L, updateDate), 2L, new EntityVersion<>(2L, 0L, null)), versions);
+		verify(query).setParameter("ids", Lists.newArrayList(1L, 2L, 3L));
+		verify(em, never()).find(eq(AbstractEntityImpl.class), any());
+	}
+	
 	@Test(expected = NullPointerException.class)
 	public void persistNullEntityTest() {
 		dao.persist(null);
@@ -92,6 +327,31 @@ public class AbstractDAOTest {
 		verify(em).flush();
 	}
 	
+	@Test(expected = NullPointerException.class)
+	public void persistAllNullEntitiesTest() {
+		dao.persistAll(null);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void persistAllNullEntityTest() {
+		dao.persistAll(Lists.newArrayList(new AbstractEntityImpl(), null));
+	}
+	
+	@Test
+	public void persistAllTest() {
+		List<AbstractEntityImpl> entities = createEntities(AbstractDAO.DEFAULT_BATCH_SIZE + 1);
+		
+		dao.persistAll(entities);
+		
+		for (AbstractEntityImpl entity : entities) {
+			verify(em).persist(entity);
+			verify(em).detach(entity);
+		}
+		
+		verify(em, times(2)).flush();
+		verify(em, never()).clear();
+	}
+	
 	@Test(expected = NullPointerException.class)
 	public void mergeNullEntityTest() {
 		dao.merge(null);
@@ -114,6 +374,86 @@ public class AbstractDAOTest {
 		verify(em).flush();
 	}
 	
+	@Test(expected = NullPointerException.class)
+	public void mergeAllNullEntitiesTest() {
+		dao.mergeAll(null);
+	}
+	
+	@Test
+	public void mergeAllTest() {
+		List<AbstractEntityImpl> entities = createEntities(AbstractDAO.DEFAULT_BATCH_SIZE + 1);
+		List<AbstractEntityImpl> mergedEntities = createEntities(AbstractDAO.DEFAULT_BATCH_SIZE + 1);
+		
+		for (int i = 0; i < entities.size(); i++) {
+			when(em.merge(entities.get(i))).thenReturn(mergedEntities.get(i));
+		}
+		
+		assertEquals(mergedEntities, dao.mergeAll(entities));
+		
+		verify(em, times(2)).flush();
+		verify(em, never()).clear();
+		
+		for (AbstractEntityImpl mergedEntity : mergedEntities) {
+			verify(em).detach(mergedEntity);
+		}
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void updateByIdsNullIdsTest() {
+		dao.updateByIds(null, ImmutableMap.of("version", 1L));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void updateByIdsEmptyValuesTest() {
+		dao.updateByIds(Lists.newArrayList(1L), ImmutableMap.<String, Object>of());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void updateByIdsVersionAttributeTest() {
+		dao.updateByIds(Lists.newArrayList(1L), ImmutableMap.of("version", 1L));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void updateByIdsNonExistingAttributeTest() {
+		when(mockMetamodel().getAttribute("creationDate = null, e.version")).thenThrow(new IllegalArgumentException());
+		
+		dao.updateByIds(Lists.newArrayList(1L), ImmutableMap.of("creationDate = null, e.version", 1L));
+	}
+	
+	@Test
+	public void updateByIdsEmptyIdsTest() {
+		mockMetamodel();
+		
+		assertEquals(0, dao.updateByIds(new ArrayList<Long>(), ImmutableMap.of("creationDate", new Date())));
+	}
+	
+	@Test
+	public void updateByIdsTest() {
+		mockMetamodel();
+		List<Long> ids = Lists.newArrayList(1L, 2L);
+		Date creationDate = new Date();
+		Query query = mockBulkQuery("update " + AbstractEntityImpl.class.getName() + " e set e.version = e.version + 1, e.updateDate = :updateDate, e.creationDate = :value0 where e.id in :ids", 2);
+		
+		assertEquals(2, dao.updateByIds(ids, ImmutableMap.of("creationDate", creationDate)));
+		
+		verify(query).setParameter("ids", ids);
+		verify(query).setParameter("value0", creationDate);
+		verify(query).setParameter(eq("updateDate"), any(Date.class));
+	}
+	
+	@Test
+	public void updateByIdsPartitionTest() {
+		mockMetamodel();
+		List<Long> ids = createIds(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS + 1);
+		Query query = mockBulkQuery("update " + AbstractEntityImpl.class.getName() + " e set e.version = e.version + 1, e.updateDate = :updateDate, e.creationDate = :value0 where e.id in :ids", 1);
+		
+		assertEquals(2, dao.updateByIds(ids, ImmutableMap.of("creationDate", new Date())));
+		
+		verify(query).setParameter("ids", ids.subList(0, AbstractDAO.DEFAULT_MAX_IN_PARAMETERS));
+		verify(query).setParameter("ids", ids.subList(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS, ids.size()));
+		verify(query, times(2)).executeUpdate();
+	}
+	
 	@Test(expected = NullPointerException.class)
 	public void refreshNullEntityTest() {
 		dao.refresh(null);
@@ -166,6 +506,69 @@ public class AbstractDAOTest {
 		verify(em).flush();
 	}
 	
+	@Test(expected = NullPointerException.class)
+	public void removeAllNullEntitiesTest() {
+		dao.removeAll(null);
+	}
+	
+	@Test
+	public void removeAllTest() {
+		List<AbstractEntityImpl> entities = createEntities(AbstractDAO.DEFAULT_BATCH_SIZE + 1);
+		AbstractEntityImpl mergedEntity = new AbstractEntityImpl();
+		mergedEntity.setId(0L);
+		
+		for (AbstractEntityImpl entity : entities) {
+			when(em.contains(entity)).thenReturn(entity != entities.get(0));
+		}
+		
+		when(em.merge(entities.get(0))).thenReturn(mergedEntity);
+		
+		dao.removeAll(entities);
+		
+		verify(em).remove(mergedEntity);
+		verify(em).detach(mergedEntity);
+		
+		for (AbstractEntityImpl entity : entities.subList(1, entities.size())) {
+			verify(em).remove(entity);
+			verify(em).detach(entity);
+		}
+		
+		verify(em, times(2)).flush();
+		verify(em, never()).clear();
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void removeByIdsNullIdsTest() {
+		dao.removeByIds(null);
+	}
+	
+	@Test
+	public void removeByIdsEmptyIdsTest() {
+		assertEquals(0, dao.removeByIds(new ArrayList<Long>()));
+	}
+	
+	@Test
+	public void removeByIdsTest() {
+		List<Long> ids = Lists.newArrayList(1L, 2L);
+		Query query = mockBulkQuery("delete from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids", 2);
+		
+		assertEquals(2, dao.removeByIds(ids));
+		
+		verify(query).setParameter("ids", ids);
+	}
+	
+	@Test
+	public void removeByIdsPartitionTest() {
+		List<Long> ids = createIds(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS + 1);
+		Query query = mockBulkQuery("delete from " + AbstractEntityImpl.class.getName() + " e where e.id in :ids", 1);
+		
+		assertEquals(2, dao.removeByIds(ids));
+		
+		verify(query).setParameter("ids", ids.subList(0, AbstractDAO.DEFAULT_MAX_IN_PARAMETERS));
+		verify(query).setParameter("ids", ids.subList(AbstractDAO.DEFAULT_MAX_IN_PARAMETERS, ids.size()));
+		verify(query, times(2)).executeUpdate();
+	}
+	
 	@Test(expected = NullPointerException.class)
 	@SuppressWarnings("rawtypes")
 	public void firstResultNullResultTypeTest() {
@@ -196,4 +599,62 @@ public class AbstractDAOTest {
 		
 		assertEquals(entity1, dao.firstResult(Lists.newArrayList(entity1, entity2), AbstractEntityImpl.class));
 	}
+	
+	private Query mockBulkQuery(String jpql, int count) {
+		Query query = mock(Query.class);
+		when(query.executeUpdate()).thenReturn(count);
+		when(em.createQuery(jpql)).thenReturn(query);
+		
+		Cache cache = mock(Cache.class);
+		EntityManagerFactory emf = mock(EntityManagerFactory.class);
+		when(emf.getCache()).thenReturn(cache);
+		when(em.getEntityManagerFactory()).thenReturn(emf);
+		
+		return query;
+	}
+	
+	/**
+	 * Simula o metamodelo da entidade com o atributo creationDate. Os demais atributos não
+	 * existem, assim como no metamodelo do provedor JPA.
+	 */
+	@SuppressWarnings("unchecked")
+	private EntityType<AbstractEntityImpl> mockMetamodel() {
+		EntityType<AbstractEntityImpl> entityType = mock(EntityType.class);
+		Metamodel metamodel = mock(Metamodel.class);
+		when(em.getMetamodel()).thenReturn(metamodel);
+		when(metamodel.entity(AbstractEntityImpl.class)).thenReturn(entityType);
+		doReturn(mock(Attribute.class)).when(entityType).getAttribute("creationDate");
+		
+		return entityType;
+	}
+	
+	private AbstractDAO<AbstractEntityImpl, Long> createCachedDAO() {
+		AbstractDAO<AbstractEntityImpl, Long> cachedDao = new CachedAbstractEntityImplDAO();
+		cachedDao.em = em;
+		cachedDao.postConstruct();
+		
+		return cachedDao;
+	}
+	
+	private List<AbstractEntityImpl> createEntities(int size) {
+		List<AbstractEntityImpl> entities = new ArrayList<>(size);
+		
+		for (long id = 0; id < size; id++) {
+			AbstractEntityImpl entity = new AbstractEntityImpl();
+			entity.setId(id);
+			entities.add(entity);
+		}
+		
+		return entities;
+	}
+	
+	private List<Long> createIds(int size) {
+		List<Long> ids = new ArrayList<>(size);
+		
+		for (long id = 0; id < size; id++) {
+			ids.add(id);
+		}
+		
+		return ids;
+	}
 }
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.infra.dao;
+
+import br.com.sgpf.common.domain.entity.AbstractEntityImpl;
+
+public class CachedAbstractEntityImplDAO extends AbstractDAO<AbstractEntityImpl, Long> {
+	private static final long serialVersionUID = -4329150743613284715L;
+	
+	private final EntityCache entityCache = new EntityCache();
+
+	@Override
+	protected EntityCache getEntityCache() {
+		return entityCache;
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.infra.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import br.com.sgpf.common.domain.entity.AbstractEntityImpl;
+import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
+
+public class EntityCacheTest {
+	
+	private static AbstractEntityImpl entity(Long id, Long version) {
+		AbstractEntityImpl entity = new AbstractEntityImpl();
+		entity.setId(id);
+		entity.setVersion(version);
+		return entity;
+	}
+	
+	private static void assertCopy(AbstractEntityImpl expected, AbstractEntityImpl actual) {
+		assertNotSame(expected, actual);
+		assertEquals(expected.getId(), actual.getId());
+		assertEquals(expected.getVersion(), actual.getVersion());
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidMaximumSizeTest() {
+		new EntityCache(0);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void putNullIdTest() {
+		new EntityCache().put(AbstractEntityImpl.class, entity(null, 0L));
+	}
+	
+	@Test
+	public void putTest() {
+		EntityCache cache = new EntityCache();
+		AbstractEntityImpl entity = entity(1L, 0L);
+		cache.put(AbstractEntityImpl.class, entity);
+		
+		assertCopy(entity, cache.get(AbstractEntityImpl.class, 1L));
+		assertNull(cache.get(AbstractEntityImpl.class, 2L));
+		assertNull(cache.get(AbstractIdentityEntityImpl.class, 1L));
+	}
+	
+	@Test
+	public void putCopyTest() {
+		EntityCache cache = new EntityCache();
+		AbstractEntityImpl entity = entity(1L, 0L);
+		cache.put(AbstractEntityImpl.class, entity);
+		entity.setVersion(1L);
+		cache.get(AbstractEntityImpl.class, 1L).setVersion(2L);
+		
+		assertEquals(Long.valueOf(0L), cache.get(AbstractEntityImpl.class, 1L).getVersion());
+	}
+	
+	@Test
+	public void putVersionTest() {
+		EntityCache cache = new EntityCache();
+		AbstractEntityImpl entity = entity(1L, 1L);
+		cache.put(AbstractEntityImpl.class, entity);
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		assertCopy(entity, cache.get(AbstractEntityImpl.class, 1L));
+		
+		AbstractEntityImpl newEntity = entity(1L, 2L);
+		cache.put(AbstractEntityImpl.class, newEntity);
+		assertCopy(newEntity, cache.get(AbstractEntityImpl.class, 1L));
+	}
+	
+	@Test
+	public void invalidateTest() {
+		EntityCache cache = new EntityCache();
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		cache.invalidate(AbstractEntityImpl.class, entity(1L, 1L));
+		assertNull(cache.get(AbstractEntityImpl.class, 1L));
+		
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		assertNull(cache.get(AbstractEntityImpl.class, 1L));
+		
+		AbstractEntityImpl entity = entity(1L, 1L);
+		cache.put(AbstractEntityImpl.class, entity);
+		assertCopy(entity, cache.get(AbstractEntityImpl.class, 1L));
+	}
+	
+	@Test
+	public void invalidateRemovedTest() {
+		EntityCache cache = new EntityCache();
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		cache.invalidateRemoved(AbstractEntityImpl.class, 1L);
+		cache.put(AbstractEntityImpl.class, entity(1L, 5L));
+		
+		assertNull(cache.get(AbstractEntityImpl.class, 1L));
+	}
+	
+	@Test
+	public void evictTest() {
+		EntityCache cache = new EntityCache();
+		AbstractIdentityEntityImpl otherEntity = new AbstractIdentityEntityImpl();
+		otherEntity.setId(1L);
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		cache.put(AbstractIdentityEntityImpl.class, otherEntity);
+		
+		cache.evict(AbstractEntityImpl.class);
+		assertNull(cache.get(AbstractEntityImpl.class, 1L));
+		assertEquals(otherEntity.getId(), cache.get(AbstractIdentityEntityImpl.class, 1L).getId());
+		
+		cache.evictAll();
+		assertNull(cache.get(AbstractIdentityEntityImpl.class, 1L));
+	}
+	
+	@Test
+	public void maximumSizeTest() {
+		EntityCache cache = new EntityCache(1);
+		cache.put(AbstractEntityImpl.class, entity(1L, 0L));
+		cache.put(AbstractEntityImpl.class, entity(2L, 0L));
+		
+		assertNull(cache.get(AbstractEntityImpl.class, 1L));
+	}
+}
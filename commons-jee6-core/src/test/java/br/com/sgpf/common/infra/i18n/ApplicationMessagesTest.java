@@ -56,6 +56,17 @@ public class ApplicationMessagesTest {
 		assertEquals("param: paramValue", applicationMessages.getMessage("test.param", "paramValue"));
 	}
 	
+	@Test
+	public void getCachedMessageTest() {
+		when(resourceProvider.getContextualReference(Locale.class)).thenReturn(Locale.US);
+		
+		for (int i = 0; i < 3; i++) {
+			assertEquals("param: " + i, applicationMessages.getMessage(MessageKeyImpl.TEST_PARAM, i));
+		}
+		
+		assertEquals("param: {0}", applicationMessages.getMessage(MessageKeyImpl.TEST_PARAM));
+	}
+	
 	enum MessageKeyImpl implements MessageKey {
 		TEST,
 		TEST_PARAM;
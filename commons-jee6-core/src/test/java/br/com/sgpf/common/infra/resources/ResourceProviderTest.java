@@ -7,14 +7,21 @@
 package br.com.sgpf.common.infra.resources;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.verifyStatic;
 
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
@@ -85,4 +92,66 @@ public class ResourceProviderTest {
 		ResourceProvider resourceProvider = new ResourceProvider();
 		assertEquals(object, resourceProvider.getContextualReference(Object.class));
 	}
+	
+	@Test
+	public void getBeanManagerCacheTest() throws NamingException {
+		BeanManager beanManager = mock(BeanManager.class);
+		mockStatic(InitialContext.class);
+		when(InitialContext.doLookup(ResourceProvider.DEFAULT_BEAN_MANAGER_NAME)).thenReturn(beanManager);
+		
+		ResourceProvider resourceProvider = new ResourceProvider();
+		assertEquals(beanManager, resourceProvider.getBeanManager());
+		assertEquals(beanManager, resourceProvider.getBeanManager());
+		
+		verifyStatic(times(1));
+		InitialContext.doLookup(ResourceProvider.DEFAULT_BEAN_MANAGER_NAME);
+	}
+	
+	@Test
+	public void getDependentContextualReferenceCacheTest() throws NamingException {
+		Set<Bean<? extends Object>> beans = new HashSet<>();
+		Bean<?> bean = mock(Bean.class);
+		beans.add(bean);
+		doReturn(Dependent.class).when(bean).getScope();
+		CreationalContext<?> ctx = mock(CreationalContext.class);
+		
+		BeanManager beanManager = mock(BeanManager.class);
+		when(beanManager.getBeans(Object.class)).thenReturn(beans);
+		doReturn(bean).when(beanManager).resolve(beans);
+		doReturn(ctx).when(beanManager).createCreationalContext(bean);
+		doReturn(new Object(), new Object()).when(beanManager).getReference(bean, Object.class, ctx);
+		
+		mockStatic(InitialContext.class);
+		when(InitialContext.doLookup(ResourceProvider.DEFAULT_BEAN_MANAGER_NAME)).thenReturn(beanManager);
+		
+		ResourceProvider resourceProvider = new ResourceProvider();
+		assertNotSame(resourceProvider.getContextualReference(Object.class), resourceProvider.getContextualReference(Object.class));
+		verify(beanManager, times(1)).getBeans(Object.class);
+		verify(beanManager, times(2)).getReference(bean, Object.class, ctx);
+	}
+	
+	@Test
+	public void getNormalScopedContextualReferenceCacheTest() throws NamingException {
+		Object object = new Object();
+		Set<Bean<? extends Object>> beans = new HashSet<>();
+		Bean<?> bean = mock(Bean.class);
+		beans.add(bean);
+		doReturn(RequestScoped.class).when(bean).getScope();
+		CreationalContext<?> ctx = mock(CreationalContext.class);
+		
+		BeanManager beanManager = mock(BeanManager.class);
+		when(beanManager.getBeans(Object.class)).thenReturn(beans);
+		when(beanManager.isNormalScope(RequestScoped.class)).thenReturn(true);
+		doReturn(bean).when(beanManager).resolve(beans);
+		doReturn(ctx).when(beanManager).createCreationalContext(bean);
+		doReturn(object).when(beanManager).getReference(bean, Object.class, ctx);
+		
+		mockStatic(InitialContext.class);
+		when(InitialContext.doLookup(ResourceProvider.DEFAULT_BEAN_MANAGER_NAME)).thenReturn(beanManager);
+		
+		ResourceProvider resourceProvider = new ResourceProvider();
+		assertSame(object, resourceProvider.getContextualReference(Object.class));
+		assertSame(object, resourceProvider.getContextualReference(Object.class));
+		verify(beanManager, times(1)).getReference(bean, Object.class, ctx);
+	}
 }
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+
+/**
+ * Leitor de documentos CSV baseado em NIO.<br>
+ * <br>
+ * O conteúdo do documento é lido em blocos para um {@link ByteBuffer} direto e cada registro é
+ * delimitado diretamente sobre os bytes do bloco, guardando somente as posições de início e fim
+ * dos seus campos. O conteúdo de um campo só é decodificado quando é lido, de forma que os campos
+ * nunca lidos não geram nenhum objeto. A leitura de campos numéricos inteiros é feita sobre os
+ * bytes, sem a criação de objetos.<br>
+ * <br>
+ * Segue o formato da RFC 4180: campos podem ser delimitados por aspas duplas, aspas duplas dentro
+ * de um campo delimitado são representadas por duas aspas duplas e os registros podem ser
+ * separados por CRLF ou LF. O delimitador, as aspas e as quebras de linha devem ser representados
+ * por um único byte no charset do documento, como ocorre em UTF-8 e ISO-8859-1.<br>
+ * Obs.: Não é thread-safe.
+ * 
+ * @author Sergio Puntar
+ */
+public class CsvReader {
+
+	/**
+	 * Tamanho padrão do bloco de leitura em bytes.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	private static final int MIN_BUFFER_SIZE = 16;
+	private static final int INITIAL_FIELD_CAPACITY = 16;
+
+	private static final byte QUOTE = '"';
+	private static final byte CR = '\r';
+	private static final byte LF = '\n';
+	private static final String ESCAPED_QUOTE = "\"\"";
+	private static final String QUOTE_STRING = "\"";
+
+	private static final String ERROR_BUFFER_SIZE = "O bloco de leitura deve possuir no mínimo [%s] bytes.";
+	private static final String ERROR_INVALID_DELIMITER = "O delimitador [%s] não é válido.";
+	private static final String ERROR_NO_CURRENT_RECORD = "Não existe um registro corrente.";
+	private static final String ERROR_READER_CLOSED = "O leitor está fechado.";
+	private static final String ERROR_NON_SEEKABLE_CHANNEL = "O canal de leitura do documento não é posicionável.";
+	private static final String ERROR_INVALID_OFFSET = "A posição [%s] não é válida.";
+	private static final String ERROR_READING_DOCUMENT = "Ocorreu um erro na leitura do documento.";
+	private static final String ERROR_UNTERMINATED_QUOTE = "O registro [%d] possui um campo com aspas não terminadas.";
+	private static final String ERROR_UNEXPECTED_CHARACTER = "O registro [%d] possui um caractere inesperado após o fechamento das aspas do campo [%d].";
+	private static final String ERROR_NUMBER_FORMAT = "O campo [%d] do registro [%d] não possui um número inteiro válido.";
+
+	private static final String ARG_NAME_CHANNEL = "channel";
+	private static final String ARG_NAME_CHARSET = "charset";
+
+	private ReadableByteChannel channel;
+	private final Charset charset;
+	private final byte delimiter;
+
+	private ByteBuffer buffer;
+	private long bufferOffset;
+	private boolean endOfInput;
+
+	private int recordStart;
+	private int nextRecordStart;
+	private int recordNumber = -1;
+	private int fieldCount;
+	private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+	private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+	private boolean[] fieldQuoted = new boolean[INITIAL_FIELD_CAPACITY];
+
+	/**
+	 * Cria um leitor de CSV a partir de um canal de leitura.
+	 * 
+	 * @param channel Canal de leitura do documento
+	 * @param charset Charset do documento
+	 * @param delimiter Delimitador dos campos
+	 * @param bufferSize Tamanho inicial do bloco de leitura em bytes. O bloco cresce se um registro
+	 * não couber nele.
+	 */
+	public CsvReader(ReadableByteChannel channel, Charset charset, char delimiter, int bufferSize) {
+		super();
+		this.channel = checkNotNull(channel, ERROR_NULL_ARGUMENT, ARG_NAME_CHANNEL);
+		this.charset = checkNotNull(charset, ERROR_NULL_ARGUMENT, ARG_NAME_CHARSET);
+		checkArgument(delimiter < 0x80 && delimiter != QUOTE && delimiter != CR && delimiter != LF, ERROR_INVALID_DELIMITER, delimiter);
+		checkArgument(bufferSize >= MIN_BUFFER_SIZE, ERROR_BUFFER_SIZE, MIN_BUFFER_SIZE);
+		this.delimiter = (byte) delimiter;
+
+		buffer = ByteBuffer.allocateDirect(bufferSize);
+		buffer.limit(0);
+	}
+
+	/**
+	 * Verifica se existe um próximo registro no documento, sem avançar a leitura.
+	 * 
+	 * @return True se existe um próximo registro, False caso contrário
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 */
+	public boolean hasNextRecord() throws DocumentIOException {
+		checkState(channel != null, ERROR_READER_CLOSED);
+
+		while (nextRecordStart >= buffer.limit()) {
+			if (endOfInput) {
+				return false;
+			}
+
+			fill();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Avança a leitura para o próximo registro do documento.
+	 * 
+	 * @return True se o próximo registro foi lido, False se o documento não possui mais registros
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+	 */
+	public boolean nextRecord() throws DocumentIOException, DocumentFormatException {
+		if (!hasNextRecord()) {
+			fieldCount = 0;
+			return false;
+		}
+
+		recordStart = nextRecordStart;
+		recordNumber++;
+
+		while (!parseRecord()) {
+			fill();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Delimita os campos do registro que se inicia em {@link #recordStart}.
+	 * 
+	 * @return True se o registro foi delimitado, False se o bloco não possui o registro completo
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+	 */
+	private boolean parseRecord() throws DocumentIOException, DocumentFormatException {
+		int limit = buffer.limit();
+		int i = recordStart;
+		fieldCount = 0;
+
+		while (true) {
+			int start;
+			int end;
+			boolean quoted = i < limit && buffer.get(i) == QUOTE;
+
+			if (quoted) {
+				int j = i + 1;
+
+				while (true) {
+					if (j >= limit) {
+						if (!endOfInput) {
+							return false;
+						}
+
+						nextRecordStart = limit;
+						fieldCount = 0;
+						throw new DocumentFormatException(String.format(ERROR_UNTERMINATED_QUOTE, recordNumber));
+					}
+
+					if (buffer.get(j) == QUOTE) {
+						if (j + 1 >= limit && !endOfInput) {
+							return false;
+						}
+
+						if (j + 1 < limit && buffer.get(j + 1) == QUOTE) {
+							j += 2;
+							continue;
+						}
+
+						break;
+					}
+
+					j++;
+				}
+
+				start = i + 1;
+				end = j;
+				i = j + 1;
+			} else {
+				int j = i;
+
+				while (j < limit && !isFieldEnd(buffer.get(j))) {
+					j++;
+				}
+
+				start = i;
+				end = j;
+				i = j;
+			}
+
+			if (i >= limit) {
+				if (!endOfInput) {
+					return false;
+				}
+
+				addField(start, end, quoted);
+				nextRecordStart = i;
+				return true;
+			}
+
+			addField(start, end, quoted);
+			byte b = buffer.get(i);
+
+			if (b == delimiter) {
+				i++;
+			} else if (b == LF) {
+				nextRecordStart = i + 1;
+				return true;
+			} else if (b == CR) {
+				if (i + 1 >= limit && !endOfInput) {
+					return false;
+				}
+
+				nextRecordStart = i + 1 < limit && buffer.get(i + 1) == LF ? i + 2 : i + 1;
+				return true;
+			} else {
+				int field = fieldCount - 1;
+				skipRecord(i);
+				throw new DocumentFormatException(String.format(ERROR_UNEXPECTED_CHARACTER, recordNumber, field));
+			}
+		}
+	}
+
+	/**
+	 * Descarta o restante de um registro inválido até a próxima quebra de linha, para que a
+	 * leitura possa prosseguir a partir do registro seguinte.
+	 * 
+	 * @param from Posição do bloco a partir da qual o registro é descartado
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 */
+	private void skipRecord(int from) throws DocumentIOException {
+		int i = from;
+		fieldCount = 0;
+
+		while (true) {
+			int limit = buffer.limit();
+
+			for (; i < limit; i++) {
+				if (buffer.get(i) == LF) {
+					nextRecordStart = i + 1;
+					return;
+				}
+			}
+
+			if (endOfInput) {
+				nextRecordStart = limit;
+				return;
+			}
+
+			i -= recordStart;
+			fill();
+		}
+	}
+
+	/**
+	 * Verifica se um byte encerra um campo sem aspas.
+	 * 
+	 * @param b Byte lido
+	 * @return True se o byte for o delimitador ou uma quebra de linha
+	 */
+	private boolean isFieldEnd(byte b) {
+		return b == delimiter || b == LF || b == CR;
+	}
+
+	/**
+	 * Adiciona as posições de um campo ao registro corrente.
+	 * 
+	 * @param start Posição inicial do campo no bloco
+	 * @param end Posição final (exclusiva) do campo no bloco
+	 * @param quoted Flag indicando se o campo é delimitado por aspas
+	 */
+	private void addField(int start, int end, boolean quoted) {
+		if (fieldCount == fieldStarts.length) {
+			int capacity = fieldStarts.length * 2;
+			fieldStarts = Arrays.copyOf(fieldStarts, capacity);
+			fieldEnds = Arrays.copyOf(fieldEnds, capacity);
+			fieldQuoted = Arrays.copyOf(fieldQuoted, capacity);
+		}
+
+		fieldStarts[fieldCount] = start;
+		fieldEnds[fieldCount] = end;
+		fieldQuoted[fieldCount] = quoted;
+		fieldCount++;
+	}
+
+	/**
+	 * Lê o próximo bloco do documento, preservando no início do bloco o registro corrente. Se o
+	 * registro corrente ocupar todo o bloco, o bloco tem seu tamanho dobrado.<br>
+	 * As posições dos campos já delimitados do registro corrente são deslocadas junto com ele,
+	 * pois a leitura pode ocorrer enquanto o registro ainda está em uso (ex.: em
+	 * {@link #hasNextRecord()}).
+	 * 
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 */
+	private void fill() throws DocumentIOException {
+		int shift = recordStart;
+
+		buffer.position(shift);
+		buffer.compact();
+		bufferOffset += shift;
+		recordStart -= shift;
+		nextRecordStart -= shift;
+
+		for (int field = 0; field < fieldCount; field++) {
+			fieldStarts[field] -= shift;
+			fieldEnds[field] -= shift;
+		}
+
+		if (!buffer.hasRemaining()) {
+			ByteBuffer newBuffer = ByteBuffer.allocateDirect(buffer.capacity() * 2);
+			buffer.flip();
+			newBuffer.put(buffer);
+			buffer = newBuffer;
+		}
+
+		try {
+			int read = 0;
+
+			while (read == 0) {
+				read = channel.read(buffer);
+			}
+
+			endOfInput = read < 0;
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		} finally {
+			buffer.flip();
+		}
+	}
+
+	/**
+	 * Posiciona a leitura no registro que se inicia na posição em bytes informada, descartando o
+	 * conteúdo já lido. O canal de leitura deve ser um {@link SeekableByteChannel}.<br>
+	 * Após o posicionamento não existe um registro corrente com campos, e o próximo registro lido
+	 * recebe o número seguinte ao número informado.
+	 * 
+	 * @param offset Posição em bytes do início do registro
+	 * @param recordNumber Número do registro anterior à posição
+	 * @throws DocumentIOException Se ocorrer um erro no posicionamento do canal
+	 */
+	public void seek(long offset, int recordNumber) throws DocumentIOException {
+		checkState(channel != null, ERROR_READER_CLOSED);
+		checkState(channel instanceof SeekableByteChannel, ERROR_NON_SEEKABLE_CHANNEL);
+		checkArgument(offset >= 0, ERROR_INVALID_OFFSET, offset);
+
+		try {
+			((SeekableByteChannel) channel).position(offset);
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		}
+
+		buffer.clear();
+		buffer.limit(0);
+		bufferOffset = offset;
+		endOfInput = false;
+		recordStart = 0;
+		nextRecordStart = 0;
+		fieldCount = 0;
+		this.recordNumber = recordNumber;
+	}
+
+	/**
+	 * Recupera o número do registro corrente, iniciando em zero.
+	 * 
+	 * @return Número do registro corrente, -1 se nenhum registro foi lido
+	 */
+	public int getRecordNumber() {
+		return recordNumber;
+	}
+
+	/**
+	 * Recupera a posição em bytes do início do registro corrente no documento.
+	 * 
+	 * @return Posição do registro corrente
+	 */
+	public long getRecordOffset() {
+		checkState(recordNumber >= 0, ERROR_NO_CURRENT_RECORD);
+		return bufferOffset + recordStart;
+	}
+
+	/**
+	 * Recupera a posição em bytes do fim do registro corrente no documento, incluindo a sua quebra
+	 * de linha. Corresponde à posição de início do próximo registro.
+	 * 
+	 * @return Posição final (exclusiva) do registro corrente
+	 */
+	public long getNextRecordOffset() {
+		checkState(recordNumber >= 0, ERROR_NO_CURRENT_RECORD);
+		return bufferOffset + nextRecordStart;
+	}
+
+	/**
+	 * Recupera a quantidade de campos do registro corrente.
+	 * 
+	 * @return Quantidade de campos
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Verifica se um campo do registro corrente está vazio. Campos inexistentes no registro são
+	 * considerados vazios.
+	 * 
+	 * @param field Índice do campo
+	 * @return True se o campo estiver vazio, False caso contrário
+	 */
+	public boolean isEmpty(int field) {
+		return field >= fieldCount || fieldStarts[field] == fieldEnds[field];
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do registro corrente, decodificando-o nesse momento.
+	 * 
+	 * @param field Índice do campo
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 */
+	public String getString(int field) {
+		if (isEmpty(field)) {
+			return null;
+		}
+
+		ByteBuffer fieldBuffer = buffer.duplicate();
+		fieldBuffer.limit(fieldEnds[field]);
+		fieldBuffer.position(fieldStarts[field]);
+		String value = charset.decode(fieldBuffer).toString();
+
+		if (fieldQuoted[field]) {
+			value = value.replace(ESCAPED_QUOTE, QUOTE_STRING);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do registro corrente como um número inteiro, diretamente sobre os
+	 * bytes do campo e sem a criação de objetos.
+	 * 
+	 * @param field Índice do campo
+	 * @return Conteúdo do campo, zero se o campo estiver vazio
+	 * @throws DocumentFormatException Se o campo não possuir um número inteiro válido
+	 */
+	public long getLong(int field) throws DocumentFormatException {
+		if (isEmpty(field)) {
+			return 0L;
+		}
+
+		int i = fieldStarts[field];
+		int end = fieldEnds[field];
+		boolean negative = buffer.get(i) == '-';
+
+		if (negative || buffer.get(i) == '+') {
+			i++;
+		}
+
+		if (i == end) {
+			throw new DocumentFormatException(String.format(ERROR_NUMBER_FORMAT, field, recordNumber));
+		}
+
+		// Acumula negativamente, como em Long.parseLong, para suportar Long.MIN_VALUE
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+
+		for (; i < end; i++) {
+			int digit = buffer.get(i) - '0';
+
+			if (digit < 0 || digit > 9 || result < multiplyLimit) {
+				throw new DocumentFormatException(String.format(ERROR_NUMBER_FORMAT, field, recordNumber));
+			}
+
+			result *= 10;
+
+			if (result < limit + digit) {
+				throw new DocumentFormatException(String.format(ERROR_NUMBER_FORMAT, field, recordNumber));
+			}
+
+			result -= digit;
+		}
+
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Fecha o leitor e o canal de leitura do documento.
+	 * 
+	 * @throws DocumentIOException Se ocorrer um erro no fechamento do canal
+	 */
+	public void close() throws DocumentIOException {
+		if (channel == null) {
+			return;
+		}
+
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		} finally {
+			channel = null;
+			fieldCount = 0;
+		}
+	}
+}
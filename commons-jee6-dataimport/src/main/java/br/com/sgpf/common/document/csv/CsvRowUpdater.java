@@ -0,0 +1,452 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+
+/**
+ * Atualizador de registros de um arquivo CSV através de acesso posicional.<br>
+ * <br>
+ * Os registros são localizados pelas suas posições em bytes no arquivo, registradas durante a
+ * leitura por {@link CsvReader#getRecordOffset()} e {@link CsvReader#getNextRecordOffset()}. As
+ * alterações ficam pendentes em memória até serem gravadas em lotes por {@link #flush(long)},
+ * de forma que somente os registros ainda não gravados ocupam memória:
+ * <ul>
+ * <li>Os registros alterados que mantêm o seu tamanho em bytes são sobrescritos no próprio
+ * arquivo através de escritas posicionais, sem tocar no restante do conteúdo.</li>
+ * <li>Os demais são gravados no diário do {@link CsvSidecarFile arquivo lateral}, indexados pela
+ * posição do registro original, sem regravar o arquivo. O diário é incorporado ao arquivo lateral
+ * por {@link #commit()} ou, se a sincronização for interrompida, na próxima abertura do
+ * arquivo.</li>
+ * </ul>
+ * Registros já gravados não podem mais ser lidos ou alterados pelo atualizador, portanto os lotes
+ * devem ser gravados em ordem crescente de posição.<br>
+ * <br>
+ * Obs.: Não é thread-safe.
+ * 
+ * @author Sergio Puntar
+ */
+public class CsvRowUpdater {
+
+	private static final int MIN_BUFFER_SIZE = 16;
+
+	private static final char QUOTE = '"';
+	private static final char CR = '\r';
+	private static final char LF = '\n';
+	private static final String QUOTE_STRING = "\"";
+	private static final String ESCAPED_QUOTE = "\"\"";
+	private static final String CRLF = "\r\n";
+	private static final String EMPTY = "";
+
+	private static final String ERROR_INVALID_RANGE = "O intervalo [%s, %s] não é válido.";
+	private static final String ERROR_READING_DOCUMENT = "Ocorreu um erro na leitura do documento.";
+	private static final String ERROR_WRITING_CHANGES = "Não foi possível gravar as alterações no documento.";
+	private static final String ERROR_CLOSING_DOCUMENT = "Ocorreu um erro ao fechar o documento.";
+	private static final String ERROR_UPDATER_CLOSED = "O atualizador está fechado.";
+	private static final String ERROR_FLUSHED_RECORD = "O registro na posição [%s] já foi gravado e não pode mais ser alterado.";
+
+	private static final String ARG_NAME_FILE = "file";
+	private static final String ARG_NAME_CHARSET = "charset";
+	private static final String ARG_NAME_FIELDS = "fields";
+
+	private final File file;
+	private final Charset charset;
+	private final char delimiter;
+	private FileChannel channel;
+	private final NavigableMap<Long, PendingRecord> pendingRecords = new TreeMap<>();
+	private CsvSidecarFile.Writer journal;
+	private long flushedOffset = -1;
+
+	/**
+	 * Registro com alteração pendente de gravação.
+	 */
+	private static class PendingRecord {
+		private final long end;
+		private final String[] fields;
+		private final boolean sidecar;
+
+		PendingRecord(long end, String[] fields, boolean sidecar) {
+			this.end = end;
+			this.fields = fields;
+			this.sidecar = sidecar;
+		}
+	}
+
+	/**
+	 * Cria um atualizador de registros para um arquivo CSV, abrindo-o para leitura e escrita. O
+	 * diário deixado por uma sincronização interrompida é incorporado ao arquivo lateral.
+	 * 
+	 * @param file Arquivo CSV
+	 * @param charset Charset do arquivo
+	 * @param delimiter Delimitador dos campos
+	 * @throws DocumentIOException Se o arquivo não puder ser aberto para escrita ou o diário não
+	 * puder ser incorporado
+	 */
+	public CsvRowUpdater(File file, Charset charset, char delimiter) throws DocumentIOException {
+		super();
+		this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+		this.charset = checkNotNull(charset, ERROR_NULL_ARGUMENT, ARG_NAME_CHARSET);
+		this.delimiter = delimiter;
+		CsvSidecarFile.mergeJournal(file);
+
+		try {
+			channel = new RandomAccessFile(file, "rw").getChannel();
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		}
+	}
+
+	/**
+	 * Recupera o canal do arquivo. Pode ser utilizado para a leitura sequencial através de um
+	 * {@link CsvReader}, já que as operações do atualizador são posicionais e não alteram a
+	 * posição do canal.
+	 * 
+	 * @return Canal do arquivo
+	 */
+	public FileChannel getChannel() {
+		checkState(channel != null, ERROR_UPDATER_CLOSED);
+		return channel;
+	}
+
+	/**
+	 * Lê os campos de um registro, considerando as alterações pendentes.
+	 * 
+	 * @param start Posição inicial do registro no arquivo
+	 * @param end Posição final (exclusiva) do registro no arquivo, incluindo a quebra de linha
+	 * @return Campos do registro, com null nos campos vazios
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do arquivo
+	 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+	 */
+	public String[] readRecord(long start, long end) throws DocumentIOException, DocumentFormatException {
+		return readRecord(start, end, null);
+	}
+
+	/**
+	 * Lê os campos de um registro, considerando as alterações pendentes.
+	 * 
+	 * @param start Posição inicial do registro no arquivo
+	 * @param end Posição final (exclusiva) do registro no arquivo, incluindo a quebra de linha
+	 * @param sidecarFields Campos do registro no arquivo lateral, que prevalecem sobre o conteúdo
+	 * do arquivo, ou null se o registro não possuir entrada no arquivo lateral
+	 * @return Campos do registro, com null nos campos vazios
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do arquivo
+	 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+	 */
+	public String[] readRecord(long start, long end, String[] sidecarFields) throws DocumentIOException, DocumentFormatException {
+		checkState(channel != null, ERROR_UPDATER_CLOSED);
+		checkArgument(start >= 0 && end >= start, ERROR_INVALID_RANGE, start, end);
+		checkArgument(start > flushedOffset, ERROR_FLUSHED_RECORD, start);
+
+		PendingRecord pending = pendingRecords.get(start);
+
+		if (pending != null) {
+			return pending.fields.clone();
+		} else if (sidecarFields != null) {
+			return sidecarFields.clone();
+		}
+
+		return decode(readBytes(start, end), charset, delimiter);
+	}
+
+	/**
+	 * Decodifica os campos de um registro CSV.
+	 * 
+	 * @param record Bytes do registro
+	 * @param charset Charset do registro
+	 * @param delimiter Delimitador dos campos
+	 * @return Campos do registro, com null nos campos vazios
+	 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+	 */
+	static String[] decode(byte[] record, Charset charset, char delimiter) throws DocumentFormatException {
+		CsvReader reader = new CsvReader(Channels.newChannel(new ByteArrayInputStream(record)), charset, delimiter,
+				Math.max(MIN_BUFFER_SIZE, record.length));
+
+		try {
+			if (!reader.nextRecord()) {
+				return new String[0];
+			}
+		} catch (DocumentIOException e) {
+			// A leitura de um array em memória não gera erros de I/O
+			throw new IllegalStateException(e);
+		}
+
+		String[] fields = new String[reader.getFieldCount()];
+
+		for (int i = 0; i < fields.length; i++) {
+			fields[i] = reader.getString(i);
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Registra a alteração dos campos de um registro. A alteração só é gravada no arquivo pela
+	 * chamada de {@link #flush(long)} ou de {@link #commit()}.
+	 * 
+	 * @param start Posição inicial do registro no arquivo
+	 * @param end Posição final (exclusiva) do registro no arquivo, incluindo a quebra de linha
+	 * @param fields Novos campos do registro, com null nos campos vazios
+	 */
+	public void updateRecord(long start, long end, String[] fields) {
+		updateRecord(start, end, fields, false);
+	}
+
+	/**
+	 * Registra a alteração dos campos de um registro. A alteração só é gravada no arquivo pela
+	 * chamada de {@link #flush(long)} ou de {@link #commit()}.
+	 * 
+	 * @param start Posição inicial do registro no arquivo
+	 * @param end Posição final (exclusiva) do registro no arquivo, incluindo a quebra de linha
+	 * @param fields Novos campos do registro, com null nos campos vazios
+	 * @param sidecar Flag que indica se o registro possui entrada no arquivo lateral, caso em que a
+	 * alteração é sempre gravada no arquivo lateral para substituir a entrada existente
+	 */
+	public void updateRecord(long start, long end, String[] fields, boolean sidecar) {
+		checkState(channel != null, ERROR_UPDATER_CLOSED);
+		checkArgument(start >= 0 && end >= start, ERROR_INVALID_RANGE, start, end);
+		checkArgument(start > flushedOffset, ERROR_FLUSHED_RECORD, start);
+		checkNotNull(fields, ERROR_NULL_ARGUMENT, ARG_NAME_FIELDS);
+
+		pendingRecords.put(start, new PendingRecord(end, fields.clone(), sidecar));
+	}
+
+	/**
+	 * Verifica se existem alterações pendentes de gravação ou gravadas no diário e ainda não
+	 * incorporadas ao arquivo lateral.
+	 * 
+	 * @return True se existem alterações a serem confirmadas, False caso contrário
+	 */
+	public boolean hasChanges() {
+		return !pendingRecords.isEmpty() || journal != null;
+	}
+
+	/**
+	 * Grava em disco as alterações pendentes dos registros anteriores a uma posição. Os registros
+	 * que mantêm o seu tamanho são sobrescritos no arquivo e os demais são gravados no diário do
+	 * arquivo lateral. Após a gravação, esses registros não podem mais ser lidos ou alterados pelo
+	 * atualizador.
+	 * 
+	 * @param position Posição no arquivo até a qual (exclusiva) as alterações são gravadas
+	 * @throws DocumentIOException Se ocorrer um erro na gravação das alterações
+	 */
+	public void flush(long position) throws DocumentIOException {
+		checkState(channel != null, ERROR_UPDATER_CLOSED);
+		Iterator<Entry<Long, PendingRecord>> iterator = pendingRecords.headMap(position).entrySet().iterator();
+
+		if (!iterator.hasNext()) {
+			return;
+		}
+
+		try {
+			while (iterator.hasNext()) {
+				Entry<Long, PendingRecord> entry = iterator.next();
+				long start = entry.getKey();
+				PendingRecord pending = entry.getValue();
+				byte[] record = (encode(pending.fields) + readLineTerminator(start, pending.end)).getBytes(charset);
+
+				if (!pending.sidecar && record.length == pending.end - start) {
+					writeFully(channel, ByteBuffer.wrap(record), start);
+				} else {
+					getJournal().write(start, pending.end, record);
+				}
+
+				flushedOffset = start;
+				iterator.remove();
+			}
+
+			channel.force(false);
+
+			if (journal != null) {
+				journal.flush();
+			}
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_WRITING_CHANGES, e);
+		}
+	}
+
+	/**
+	 * Grava em disco todas as alterações pendentes.
+	 * 
+	 * @throws DocumentIOException Se ocorrer um erro na gravação das alterações
+	 * @see #flush(long)
+	 */
+	public void flush() throws DocumentIOException {
+		flush(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Recupera o diário do arquivo lateral, criando-o na primeira gravação.
+	 * 
+	 * @return Diário do arquivo lateral
+	 * @throws DocumentIOException Se o diário não puder ser criado
+	 */
+	private CsvSidecarFile.Writer getJournal() throws DocumentIOException {
+		if (journal == null) {
+			journal = new CsvSidecarFile.Writer(CsvSidecarFile.getJournalFile(file));
+		}
+
+		return journal;
+	}
+
+	/**
+	 * Grava as alterações pendentes, incorpora o diário ao arquivo lateral e fecha o atualizador.
+	 * 
+	 * @throws DocumentIOException Se ocorrer um erro na gravação das alterações
+	 */
+	public void commit() throws DocumentIOException {
+		checkState(channel != null, ERROR_UPDATER_CLOSED);
+
+		try {
+			flush();
+		} finally {
+			close();
+		}
+
+		CsvSidecarFile.mergeJournal(file);
+	}
+
+	/**
+	 * Escreve todo o conteúdo de um buffer em uma posição de um canal.
+	 * 
+	 * @param target Canal de destino
+	 * @param buffer Conteúdo a ser escrito
+	 * @param position Posição no canal
+	 * @throws IOException Se ocorrer um erro na escrita
+	 */
+	private static void writeFully(FileChannel target, ByteBuffer buffer, long position) throws IOException {
+		ByteBuffer source = buffer.duplicate();
+		long offset = position;
+
+		while (source.hasRemaining()) {
+			offset += target.write(source, offset);
+		}
+	}
+
+	/**
+	 * Lê um trecho do arquivo através de leituras posicionais.
+	 * 
+	 * @param start Posição inicial do trecho
+	 * @param end Posição final (exclusiva) do trecho
+	 * @return Bytes do trecho
+	 * @throws DocumentIOException Se ocorrer um erro na leitura
+	 */
+	private byte[] readBytes(long start, long end) throws DocumentIOException {
+		ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+
+		try {
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, start + buffer.position()) < 0) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		}
+
+		return buffer.array();
+	}
+
+	/**
+	 * Lê a quebra de linha ao final de um registro.
+	 * 
+	 * @param start Posição inicial do registro
+	 * @param end Posição final (exclusiva) do registro
+	 * @return Quebra de linha do registro, vazia se for o último registro sem quebra de linha
+	 * @throws DocumentIOException Se ocorrer um erro na leitura
+	 */
+	private String readLineTerminator(long start, long end) throws DocumentIOException {
+		byte[] bytes = readBytes(Math.max(start, end - 2), end);
+		int length = bytes.length;
+
+		if (length > 0 && bytes[length - 1] == LF) {
+			return length > 1 && bytes[length - 2] == CR ? CRLF : String.valueOf(LF);
+		} else if (length > 0 && bytes[length - 1] == CR) {
+			return String.valueOf(CR);
+		}
+
+		return EMPTY;
+	}
+
+	/**
+	 * Codifica os campos de um registro no formato CSV, delimitando por aspas os campos que
+	 * possuem o delimitador, aspas ou quebras de linha.
+	 * 
+	 * @param fields Campos do registro
+	 * @return Registro codificado, sem quebra de linha
+	 */
+	private String encode(String[] fields) {
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < fields.length; i++) {
+			if (i > 0) {
+				builder.append(delimiter);
+			}
+
+			String field = fields[i];
+
+			if (field == null) {
+				continue;
+			}
+
+			if (field.indexOf(delimiter) >= 0 || field.indexOf(QUOTE) >= 0 || field.indexOf(CR) >= 0 || field.indexOf(LF) >= 0) {
+				builder.append(QUOTE).append(field.replace(QUOTE_STRING, ESCAPED_QUOTE)).append(QUOTE);
+			} else {
+				builder.append(field);
+			}
+		}
+
+		return builder.toString();
+	}
+
+	/**
+	 * Fecha o atualizador e o canal do arquivo, descartando as alterações pendentes. As alterações
+	 * já gravadas no diário são mantidas e incorporadas ao arquivo lateral na próxima abertura.
+	 * 
+	 * @throws DocumentIOException Se ocorrer um erro no fechamento do canal ou do diário
+	 */
+	public void close() throws DocumentIOException {
+		if (channel == null) {
+			return;
+		}
+
+		try {
+			if (journal != null) {
+				journal.close();
+			}
+		} finally {
+			journal = null;
+			pendingRecords.clear();
+
+			try {
+				channel.close();
+			} catch (IOException e) {
+				throw new DocumentIOException(ERROR_CLOSING_DOCUMENT, e);
+			} finally {
+				channel = null;
+			}
+		}
+	}
+}
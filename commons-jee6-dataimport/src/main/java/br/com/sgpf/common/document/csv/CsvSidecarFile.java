@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+
+/**
+ * Arquivo lateral de um documento CSV, que guarda os registros alterados pela sincronização sem
+ * regravar o documento.<br>
+ * <br>
+ * Cada entrada guarda as posições de início e fim do registro original no documento e os bytes do
+ * novo registro, incluindo a quebra de linha. As entradas são mantidas em ordem crescente da
+ * posição de início, de forma que o arquivo lateral é aplicado sobre a leitura sequencial do
+ * documento sem a necessidade de índices em memória.<br>
+ * <br>
+ * Durante a sincronização, as novas entradas são gravadas em um diário, incorporado ao arquivo
+ * lateral ao fim da sincronização ou na próxima abertura do documento, caso a sincronização tenha
+ * sido interrompida. O documento pode ser regravado com o conteúdo do arquivo lateral através de
+ * {@link #apply(File)}.
+ * 
+ * @author Sergio Puntar
+ */
+public final class CsvSidecarFile {
+
+	/**
+	 * Sufixo do arquivo lateral, adicionado ao nome do documento.
+	 */
+	public static final String FILE_SUFFIX = ".sync";
+
+	/**
+	 * Sufixo do diário de sincronização, adicionado ao nome do documento.
+	 */
+	public static final String JOURNAL_SUFFIX = ".sync.journal";
+
+	private static final String TEMP_FILE_PREFIX = "csv-";
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private static final String ERROR_READING_FILE = "Ocorreu um erro na leitura do arquivo lateral [%s].";
+	private static final String ERROR_WRITING_FILE = "Ocorreu um erro na gravação do arquivo lateral [%s].";
+	private static final String ERROR_APPLYING_FILE = "Não foi possível aplicar o arquivo lateral ao documento [%s].";
+	private static final String ERROR_UNORDERED_ENTRY = "A entrada na posição [%s] não é posterior à última entrada gravada.";
+
+	private static final String ARG_NAME_FILE = "file";
+	private static final String ARG_NAME_CSV_FILE = "csvFile";
+	private static final String ARG_NAME_RECORD = "record";
+
+	private CsvSidecarFile() {
+		super();
+	}
+
+	/**
+	 * Recupera o arquivo lateral de um documento CSV.
+	 * 
+	 * @param csvFile Documento CSV
+	 * @return Arquivo lateral do documento, existente ou não
+	 */
+	public static File getFile(File csvFile) {
+		checkNotNull(csvFile, ERROR_NULL_ARGUMENT, ARG_NAME_CSV_FILE);
+		return new File(csvFile.getPath() + FILE_SUFFIX);
+	}
+
+	/**
+	 * Recupera o diário de sincronização de um documento CSV.
+	 * 
+	 * @param csvFile Documento CSV
+	 * @return Diário de sincronização do documento, existente ou não
+	 */
+	public static File getJournalFile(File csvFile) {
+		checkNotNull(csvFile, ERROR_NULL_ARGUMENT, ARG_NAME_CSV_FILE);
+		return new File(csvFile.getPath() + JOURNAL_SUFFIX);
+	}
+
+	/**
+	 * Entrada do arquivo lateral, com o novo conteúdo de um registro do documento.
+	 */
+	public static final class Entry {
+		private final long start;
+		private final long end;
+		private final byte[] record;
+
+		Entry(long start, long end, byte[] record) {
+			this.start = start;
+			this.end = end;
+			this.record = record;
+		}
+
+		/**
+		 * @return Posição inicial do registro original no documento
+		 */
+		public long getStart() {
+			return start;
+		}
+
+		/**
+		 * @return Posição final (exclusiva) do registro original no documento
+		 */
+		public long getEnd() {
+			return end;
+		}
+
+		/**
+		 * @return Bytes do novo registro, incluindo a quebra de linha
+		 */
+		public byte[] getRecord() {
+			return record.clone();
+		}
+
+		/**
+		 * Decodifica os campos do novo registro.
+		 * 
+		 * @param charset Charset do documento
+		 * @param delimiter Delimitador dos campos
+		 * @return Campos do registro, com null nos campos vazios
+		 * @throws DocumentFormatException Se o registro não estiver em um formato CSV válido
+		 */
+		public String[] getFields(Charset charset, char delimiter) throws DocumentFormatException {
+			return CsvRowUpdater.decode(record, charset, delimiter);
+		}
+	}
+
+	/**
+	 * Leitor sequencial das entradas de um arquivo lateral.
+	 */
+	public static final class Reader implements AutoCloseable {
+		private final File file;
+		private final DataInputStream input;
+		private Entry current;
+		private boolean finished;
+
+		/**
+		 * Abre um arquivo lateral para leitura.
+		 * 
+		 * @param file Arquivo lateral
+		 * @throws DocumentIOException Se o arquivo não puder ser aberto
+		 */
+		public Reader(File file) throws DocumentIOException {
+			this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+
+			try {
+				input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_READING_FILE, file.getAbsolutePath()), e);
+			}
+		}
+
+		/**
+		 * Lê a próxima entrada. Uma entrada incompleta no fim do arquivo, deixada por uma gravação
+		 * interrompida, é descartada.
+		 * 
+		 * @return Próxima entrada, null se não houver mais entradas
+		 * @throws DocumentIOException Se ocorrer um erro na leitura do arquivo
+		 */
+		public Entry next() throws DocumentIOException {
+			if (finished) {
+				return null;
+			}
+
+			try {
+				long start = input.readLong();
+				long end = input.readLong();
+				byte[] record = new byte[input.readInt()];
+				input.readFully(record);
+				current = new Entry(start, end, record);
+			} catch (EOFException e) {
+				finished = true;
+				current = null;
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_READING_FILE, file.getAbsolutePath()), e);
+			}
+
+			return current;
+		}
+
+		/**
+		 * Avança a leitura até a entrada de um registro. Como as entradas são ordenadas, as
+		 * entradas anteriores à posição são descartadas e só podem ser encontradas reabrindo o
+		 * arquivo.
+		 * 
+		 * @param start Posição inicial do registro no documento
+		 * @return Entrada do registro, null se o registro não possuir entrada
+		 * @throws DocumentIOException Se ocorrer um erro na leitura do arquivo
+		 */
+		public Entry find(long start) throws DocumentIOException {
+			if (current == null && !finished) {
+				next();
+			}
+
+			while (current != null && current.start < start) {
+				next();
+			}
+
+			return current != null && current.start == start ? current : null;
+		}
+
+		@Override
+		public void close() throws DocumentIOException {
+			try {
+				input.close();
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_READING_FILE, file.getAbsolutePath()), e);
+			}
+		}
+	}
+
+	/**
+	 * Escritor sequencial das entradas de um arquivo lateral. As entradas devem ser gravadas em
+	 * ordem crescente de posição.
+	 */
+	public static final class Writer implements AutoCloseable {
+		private final File file;
+		private final FileOutputStream fileOutput;
+		private final DataOutputStream output;
+		private long lastStart = -1;
+		private int entryCount;
+
+		/**
+		 * Cria um arquivo lateral para escrita, descartando o conteúdo existente.
+		 * 
+		 * @param file Arquivo lateral
+		 * @throws DocumentIOException Se o arquivo não puder ser criado
+		 */
+		public Writer(File file) throws DocumentIOException {
+			this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+
+			try {
+				fileOutput = new FileOutputStream(file);
+				output = new DataOutputStream(new BufferedOutputStream(fileOutput));
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_WRITING_FILE, file.getAbsolutePath()), e);
+			}
+		}
+
+		/**
+		 * Grava uma entrada.
+		 * 
+		 * @param start Posição inicial do registro original no documento
+		 * @param end Posição final (exclusiva) do registro original no documento
+		 * @param record Bytes do novo registro, incluindo a quebra de linha
+		 * @throws DocumentIOException Se ocorrer um erro na gravação do arquivo
+		 */
+		public void write(long start, long end, byte[] record) throws DocumentIOException {
+			checkArgument(start > lastStart, ERROR_UNORDERED_ENTRY, start);
+			checkNotNull(record, ERROR_NULL_ARGUMENT, ARG_NAME_RECORD);
+
+			try {
+				output.writeLong(start);
+				output.writeLong(end);
+				output.writeInt(record.length);
+				output.write(record);
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_WRITING_FILE, file.getAbsolutePath()), e);
+			}
+
+			lastStart = start;
+			entryCount++;
+		}
+
+		/**
+		 * Grava em disco as entradas escritas, de forma que sobrevivam a uma interrupção do
+		 * processo.
+		 * 
+		 * @throws DocumentIOException Se ocorrer um erro na gravação do arquivo
+		 */
+		public void flush() throws DocumentIOException {
+			try {
+				output.flush();
+				fileOutput.getFD().sync();
+			} catch (IOException e) {
+				throw new DocumentIOException(String.format(ERROR_WRITING_FILE, file.getAbsolutePath()), e);
+			}
+		}
+
+		/**
+		 * @return Quantidade de entradas gravadas
+		 */
+		public int getEntryCount() {
+			return entryCount;
+		}
+
+		@Override
+		public void close() throws DocumentIOException {
+			try {
+				flush();
+			} finally {
+				try {
+					output.close();
+				} catch (IOException e) {
+					throw new DocumentIOException(String.format(ERROR_WRITING_FILE, file.getAbsolutePath()), e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Incorpora o diário de sincronização de um documento ao seu arquivo lateral, removendo o
+	 * diário. As entradas do diário prevalecem sobre as do arquivo lateral para um mesmo registro.
+	 * A leitura e a gravação são sequenciais, proporcionais ao tamanho do arquivo lateral e não ao
+	 * do documento.
+	 * 
+	 * @param csvFile Documento CSV
+	 * @throws DocumentIOException Se ocorrer um erro na leitura ou gravação dos arquivos
+	 */
+	public static void mergeJournal(File csvFile) throws DocumentIOException {
+		File journalFile = getJournalFile(csvFile);
+
+		if (!journalFile.exists()) {
+			return;
+		}
+
+		File sidecarFile = getFile(csvFile);
+		File tempFile = createTempFile(csvFile);
+
+		try {
+			try (Reader journal = new Reader(journalFile);
+					Reader sidecar = sidecarFile.exists() ? new Reader(sidecarFile) : null;
+					Writer target = new Writer(tempFile)) {
+				merge(sidecar, journal, target);
+			}
+
+			Files.move(tempFile.toPath(), sidecarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.delete(journalFile.toPath());
+		} catch (IOException e) {
+			throw new DocumentIOException(String.format(ERROR_WRITING_FILE, sidecarFile.getAbsolutePath()), e);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Intercala as entradas do arquivo lateral e do diário, em ordem de posição.
+	 * 
+	 * @param sidecar Leitor do arquivo lateral, null se não existir
+	 * @param journal Leitor do diário
+	 * @param target Escritor do novo arquivo lateral
+	 * @throws DocumentIOException Se ocorrer um erro na leitura ou gravação dos arquivos
+	 */
+	private static void merge(Reader sidecar, Reader journal, Writer target) throws DocumentIOException {
+		Entry sidecarEntry = sidecar != null ? sidecar.next() : null;
+		Entry journalEntry = journal.next();
+
+		while (sidecarEntry != null || journalEntry != null) {
+			if (journalEntry == null || sidecarEntry != null && sidecarEntry.start < journalEntry.start) {
+				target.write(sidecarEntry.start, sidecarEntry.end, sidecarEntry.record);
+				sidecarEntry = sidecar.next();
+			} else {
+				if (sidecarEntry != null && sidecarEntry.start == journalEntry.start) {
+					sidecarEntry = sidecar.next();
+				}
+
+				target.write(journalEntry.start, journalEntry.end, journalEntry.record);
+				journalEntry = journal.next();
+			}
+		}
+	}
+
+	/**
+	 * Regrava um documento CSV com as entradas do seu arquivo lateral, incorporando antes o diário
+	 * de sincronização, e remove o arquivo lateral. Diferente da sincronização, o documento é
+	 * regravado por completo em um arquivo temporário que o substitui. Os trechos não alterados
+	 * são copiados pelo próprio sistema operacional através de
+	 * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}.
+	 * 
+	 * @param csvFile Documento CSV
+	 * @throws DocumentIOException Se ocorrer um erro na leitura ou gravação dos arquivos
+	 */
+	public static void apply(File csvFile) throws DocumentIOException {
+		mergeJournal(csvFile);
+		File sidecarFile = getFile(csvFile);
+
+		if (!sidecarFile.exists()) {
+			return;
+		}
+
+		File tempFile = createTempFile(csvFile);
+
+		try {
+			try (Reader sidecar = new Reader(sidecarFile);
+					FileChannel source = new FileInputStream(csvFile).getChannel();
+					FileChannel target = new RandomAccessFile(tempFile, "rw").getChannel()) {
+				long position = 0;
+
+				for (Entry entry = sidecar.next(); entry != null; entry = sidecar.next()) {
+					transferFully(source, position, entry.start, target);
+					ByteBuffer record = ByteBuffer.wrap(entry.record);
+
+					while (record.hasRemaining()) {
+						target.write(record);
+					}
+
+					position = entry.end;
+				}
+
+				transferFully(source, position, source.size(), target);
+				target.force(false);
+			}
+
+			Files.move(tempFile.toPath(), csvFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			Files.delete(sidecarFile.toPath());
+		} catch (IOException e) {
+			throw new DocumentIOException(String.format(ERROR_APPLYING_FILE, csvFile.getAbsolutePath()), e);
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Copia um trecho de um canal para o final de outro canal.
+	 * 
+	 * @param source Canal de origem
+	 * @param start Posição inicial do trecho
+	 * @param end Posição final (exclusiva) do trecho
+	 * @param target Canal de destino
+	 * @throws IOException Se ocorrer um erro na cópia
+	 */
+	private static void transferFully(FileChannel source, long start, long end, FileChannel target) throws IOException {
+		long position = start;
+
+		while (position < end) {
+			position += source.transferTo(position, end - position, target);
+		}
+	}
+
+	/**
+	 * Cria um arquivo temporário no diretório do documento, para que possa substituir outro
+	 * arquivo do mesmo diretório.
+	 * 
+	 * @param csvFile Documento CSV
+	 * @return Arquivo temporário
+	 * @throws DocumentIOException Se o arquivo não puder ser criado
+	 */
+	private static File createTempFile(File csvFile) throws DocumentIOException {
+		try {
+			return File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, csvFile.getAbsoluteFile().getParentFile());
+		} catch (IOException e) {
+			throw new DocumentIOException(String.format(ERROR_WRITING_FILE, csvFile.getAbsolutePath()), e);
+		}
+	}
+}
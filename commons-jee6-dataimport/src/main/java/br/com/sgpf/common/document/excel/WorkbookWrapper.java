@@ -11,6 +11,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 
@@ -142,6 +143,46 @@ public interface WorkbookWrapper extends Serializable {
 	 */
 	Float readFloatCell(Integer rowIndex, Integer cellIndex);
 
+	/**
+	 * Verifica se uma célula está vazia.<br>
+	 * Complementa os métodos de leitura de valores primitivos, que não distinguem uma célula vazia
+	 * de uma célula com valor zero.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex Índice da célula
+	 * @return True se a célula estiver vazia, False caso contrário
+	 */
+	boolean isBlankCell(int rowIndex, int cellIndex);
+
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex Índice da célula
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	double readDoubleValue(int rowIndex, int cellIndex);
+
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo do tipo long, sem a criação de
+	 * objetos.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex Índice da célula
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	long readLongValue(int rowIndex, int cellIndex);
+
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo do tipo int, sem a criação de
+	 * objetos.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex Índice da célula
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	int readIntValue(int rowIndex, int cellIndex);
+
 	/**
 	 * Escreve o conteúdo de uma celula do tipo Float.
 	 * 
@@ -314,6 +355,14 @@ public interface WorkbookWrapper extends Serializable {
 	 */
 	boolean writeNullValue(Integer rowIndex, Integer cellIndex);
 
+	/**
+	 * Recupera uma linha da planilha de trabalho a partir do seu índice.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @return Linha encontrada, null se a planilha não possuir uma linha com o índice
+	 */
+	Row getRow(Integer rowIndex);
+
 	/**
 	 * Recupera uma célula de uma linha a partir dos seus índices.
 	 * 
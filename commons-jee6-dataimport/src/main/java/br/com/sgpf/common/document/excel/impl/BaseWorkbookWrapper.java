@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.excel.impl;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+
+/**
+ * Implementação base dos Wrappers de documentos Excel, que concentra a leitura e escrita tipada
+ * das células.<br>
+ * As implementações concretas definem somente como o documento é aberto, fechado e como as linhas
+ * da planilha de trabalho são recuperadas.
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class BaseWorkbookWrapper implements WorkbookWrapper {
+	private static final long serialVersionUID = -2460316010526946213L;
+	
+	private static final String ERROR_NON_EXISTING_ROW = "A planilha não possui uma linha com o índice [%d].";
+	private static final String ERROR_NON_EXISTING_CELL = "A linha com o índice [%d] não possui uma célula com o índice [%d].";
+	private static final String ERROR_CHAR_FORMAT = "A célula [%d] da linha [%d] não possui conteúdo no formato Character.";
+	private static final String ERROR_YES_NO_FORMAT = "A célula [%d] da linha [%d] não possui conteúdo no formato Y/N.";
+	
+	private static final String ARG_NAME_ROW_INDEX = "rowIndex";
+	private static final String ARG_NAME_CELL_INDEX = "cellIndex";
+	
+	private static final String VALUE_STRING_Y = "Y";
+	private static final String VALUE_STRING_N = "N";
+	
+	private transient Row cachedRow;
+	private int cachedRowIndex;
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String readStringCell(Integer rowIndex, Integer cellIndex) {
+		Cell cell = getRowCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
+			return null;
+		}
+		
+		return cell.getStringCellValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeStringCell(Integer rowIndex, Integer cellIndex, String value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		String currVal = getWritableRowCell(rowIndex, cellIndex).getStringCellValue();
+		boolean change = !value.equals(currVal);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value);
+		}
+		
+		return change;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Character readCharCell(Integer rowIndex, Integer cellIndex) throws DocumentFormatException {
+		String stringValue = readStringCell(rowIndex, cellIndex);
+		
+		if (stringValue == null || stringValue.isEmpty()) {
+			return null;
+		} else if (stringValue.length() > 1) {
+			throw new DocumentFormatException(String.format(ERROR_CHAR_FORMAT, cellIndex, rowIndex));
+		}
+		
+		return stringValue.charAt(0);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeCharCell(Integer rowIndex, Integer cellIndex, Character value) {
+		return writeStringCell(rowIndex, cellIndex, value == null ? null : String.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Double readDoubleCell(Integer rowIndex, Integer cellIndex) {
+		Cell cell = getRowCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
+			return null;
+		}
+		
+		return cell.getNumericCellValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeDoubleCell(Integer rowIndex, Integer cellIndex, Double value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		Double currVal = getWritableRowCell(rowIndex, cellIndex).getNumericCellValue();
+		boolean change = !value.equals(currVal);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value);
+		}
+		
+		return change;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isBlankCell(int rowIndex, int cellIndex) {
+		return CellType.BLANK.equals(getCell(rowIndex, cellIndex).getCellTypeEnum());
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double readDoubleValue(int rowIndex, int cellIndex) {
+		Cell cell = getCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
+			return 0D;
+		}
+		
+		return cell.getNumericCellValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long readLongValue(int rowIndex, int cellIndex) {
+		return (long) readDoubleValue(rowIndex, cellIndex);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int readIntValue(int rowIndex, int cellIndex) {
+		return (int) readDoubleValue(rowIndex, cellIndex);
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Float readFloatCell(Integer rowIndex, Integer cellIndex) {
+		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
+		return doubleValue == null ? null : doubleValue.floatValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeFloatCell(Integer rowIndex, Integer cellIndex, Float value) {
+		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Long readLongCell(Integer rowIndex, Integer cellIndex) {
+		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
+		return doubleValue == null ? null : doubleValue.longValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeLongCell(Integer rowIndex, Integer cellIndex, Long value) {
+		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Integer readIntegerCell(Integer rowIndex, Integer cellIndex) {
+		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
+		return doubleValue == null ? null : doubleValue.intValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeIntegerCell(Integer rowIndex, Integer cellIndex, Integer value) {
+		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Short readShortCell(Integer rowIndex, Integer cellIndex) {
+		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
+		return doubleValue == null ? null : doubleValue.shortValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeShortCell(Integer rowIndex, Integer cellIndex, Short value) {
+		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Byte readByteCell(Integer rowIndex, Integer cellIndex) {
+		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
+		return doubleValue == null ? null : doubleValue.byteValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeByteCell(Integer rowIndex, Integer cellIndex, Byte value) {
+		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Boolean readBooleanCell(Integer rowIndex, Integer cellIndex) {
+		Cell cell = getRowCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
+			return null;
+		}
+		
+		return cell.getBooleanCellValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeBooleanCell(Integer rowIndex, Integer cellIndex,Boolean value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		Boolean currVal = getWritableRowCell(rowIndex, cellIndex).getBooleanCellValue();
+		boolean change = !value.equals(currVal);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value);
+		}
+		
+		return change;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Date readDateCell(Integer rowIndex, Integer cellIndex) {
+		Cell cell = getRowCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
+			return null;
+		}
+		
+		return cell.getDateCellValue();
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeDateCell(Integer rowIndex, Integer cellIndex, Date value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		Date currVal = getWritableRowCell(rowIndex, cellIndex).getDateCellValue();
+		boolean change = !value.equals(currVal);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value);
+		}
+		
+		return change;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Calendar readCalendarCell(Integer rowIndex, Integer cellIndex) {
+		Date date = readDateCell(rowIndex, cellIndex);
+		
+		if (date == null) {
+			return null;
+		}
+		
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTime(date);
+		
+		return calendar;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeCalendarCell(Integer rowIndex, Integer cellIndex, Calendar value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		Date dateVal = getWritableRowCell(rowIndex, cellIndex).getDateCellValue();
+		Calendar currVal = null;
+		
+		if (dateVal != null) {
+			currVal = Calendar.getInstance();
+			currVal.setTime(dateVal);
+		}
+		
+		boolean change = !value.equals(currVal);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value);
+		}
+		
+		return change;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Boolean readYesNoCell(Integer rowIndex, Integer cellIndex) throws DocumentFormatException {
+		String value = getRowCell(rowIndex, cellIndex).getStringCellValue();
+		
+		if (VALUE_STRING_Y.equalsIgnoreCase(value)) {
+			return true;
+		} else if (VALUE_STRING_N.equalsIgnoreCase(value)) {
+			return false;
+		} else if (value != null && !value.isEmpty()) {
+			throw new DocumentFormatException(String.format(ERROR_YES_NO_FORMAT, cellIndex, rowIndex));
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeYesNoCell(Integer rowIndex, Integer cellIndex, Boolean value) {
+		if (value == null) {
+			return writeNullValue(rowIndex, cellIndex);
+		}
+		
+		String currVal = getWritableRowCell(rowIndex, cellIndex).getStringCellValue();
+		boolean change = (!VALUE_STRING_Y.equals(currVal) && !VALUE_STRING_N.equals(currVal))
+				|| (VALUE_STRING_Y.equals(currVal) && !value)
+				|| (VALUE_STRING_N.equals(currVal) && value);
+		
+		if (change) {
+			getWritableRowCell(rowIndex, cellIndex).setCellValue(value ? VALUE_STRING_Y : VALUE_STRING_N);
+		}
+		
+		return change;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean writeNullValue(Integer rowIndex, Integer cellIndex) {
+		Cell cell = getWritableRowCell(rowIndex, cellIndex);
+		
+		if (CellType.BLANK.equals(cell.getCellTypeEnum())) {
+			return false;
+		}
+		
+		String value = null;
+		cell.setCellValue(value);
+		cell.setCellType(CellType.BLANK);
+		
+		return true;
+	}
+	
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Cell getRowCell(Integer rowIndex, Integer cellIndex) {
+		Row row = getRow(rowIndex);
+		checkNotNull(cellIndex, ERROR_NULL_ARGUMENT, ARG_NAME_CELL_INDEX);
+		checkArgument(row != null, ERROR_NON_EXISTING_ROW, rowIndex);
+		
+		Cell cell = row.getCell(cellIndex);
+		checkArgument(cell != null, ERROR_NON_EXISTING_CELL, rowIndex, cellIndex);
+		
+		return cell;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * A última linha recuperada é memorizada, de forma que a leitura e a escrita de várias
+	 * células da mesma linha recuperam a linha da planilha uma única vez.
+	 */
+	@Override
+	public Row getRow(Integer rowIndex) {
+		checkNotNull(rowIndex, ERROR_NULL_ARGUMENT, ARG_NAME_ROW_INDEX);
+		return getCachedRow(rowIndex);
+	}
+	
+	/**
+	 * Recupera uma linha da planilha de trabalho, reutilizando a última linha recuperada se
+	 * possuir o mesmo índice.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @return Linha encontrada, null se a planilha não possuir uma linha com o índice
+	 */
+	private Row getCachedRow(int rowIndex) {
+		if (cachedRow == null || cachedRowIndex != rowIndex) {
+			cachedRow = getSheetRow(rowIndex);
+			cachedRowIndex = rowIndex;
+		}
+		
+		return cachedRow;
+	}
+	
+	/**
+	 * Descarta a linha memorizada. Deve ser chamado pelas implementações sempre que a linha
+	 * memorizada possa deixar de ser válida, como na troca da planilha de trabalho, no fechamento
+	 * do documento ou no descarte de linhas da memória.
+	 */
+	protected void resetRowCache() {
+		cachedRow = null;
+	}
+	
+	/**
+	 * Recupera uma célula de uma linha a partir dos seus índices primitivos, sem a criação de
+	 * objetos.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex índice da célula
+	 * @return Célula encontrada
+	 */
+	private Cell getCell(int rowIndex, int cellIndex) {
+		Row row = getCachedRow(rowIndex);
+		checkArgument(row != null, ERROR_NON_EXISTING_ROW, rowIndex);
+		
+		Cell cell = row.getCell(cellIndex);
+		checkArgument(cell != null, ERROR_NON_EXISTING_CELL, rowIndex, cellIndex);
+		
+		return cell;
+	}
+	
+	/**
+	 * Recupera uma linha da planilha de trabalho a partir do seu índice primitivo. É utilizado
+	 * por {@link #getRow(Integer)} e pelos métodos de leitura de valores primitivos.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @return Linha encontrada, null se a planilha não possuir uma linha com o índice
+	 */
+	protected abstract Row getSheetRow(int rowIndex);
+	
+	/**
+	 * Recupera uma célula de uma linha para alteração do seu conteúdo.<br>
+	 * Por padrão é a mesma célula retornada por {@link #getRowCell(Integer, Integer)}, as
+	 * implementações que não permitem alteração do documento devem sobrescrever esse método.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param cellIndex índice da célula
+	 * @return Célula encontrada
+	 */
+	protected Cell getWritableRowCell(Integer rowIndex, Integer cellIndex) {
+		return getRowCell(rowIndex, cellIndex);
+	}
+}
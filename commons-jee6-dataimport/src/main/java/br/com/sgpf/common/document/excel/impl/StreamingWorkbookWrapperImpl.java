@@ -0,0 +1,833 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ *
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.excel.impl;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.InvalidOperationException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.xmlbeans.XmlException;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.xml.sax.SAXException;
+
+import br.com.sgpf.common.document.exception.DocumentException;
+import br.com.sgpf.common.document.exception.DocumentFileException;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+import br.com.sgpf.common.infra.exception.InfraestructureFatalException;
+
+/**
+ * Classe Wrapper para documentos Excel no formato OOXML (.xlsx) que lê a planilha de trabalho em
+ * modo streaming, sem carregar o documento inteiro em memória.<br>
+ * <br>
+ * As linhas são lidas sob demanda diretamente do XML da planilha, a partir das partes do pacote
+ * expostas pelo {@link XSSFReader}, e somente uma janela com as últimas linhas lidas é mantida em
+ * memória. Linhas que já saíram da janela não podem mais ser acessadas, portanto a leitura deve
+ * ser sequencial.<br>
+ * <br>
+ * Por padrão os documentos são somente leitura. Documentos baseados em arquivo podem ser abertos
+ * em modo de escrita, no qual as linhas que saem da janela são gravadas em um arquivo temporário
+ * pelo {@link SXSSFWorkbook}, de forma que somente as linhas da janela podem ser alteradas. Ao
+ * fechar o documento salvando as alterações, as linhas restantes e as demais planilhas são
+ * copiadas para um novo documento, que substitui o arquivo original. O novo documento mantém os
+ * valores e estilos das células, mas não as fórmulas (somente seus valores calculados), células
+ * mescladas, larguras de colunas e demais configurações das planilhas.<br>
+ * <br>
+ * Para documentos baseados em Input Stream o pacote precisa ser descompactado em memória,
+ * portanto documentos grandes devem ser lidos a partir do arquivo.
+ *
+ * @author Sergio Puntar
+ */
+public class StreamingWorkbookWrapperImpl extends BaseWorkbookWrapper {
+	private static final long serialVersionUID = -3395851236476414409L;
+
+	/**
+	 * Quantidade padrão de linhas mantidas em memória.
+	 */
+	public static final int DEFAULT_ROW_WINDOW_SIZE = 100;
+
+	/**
+	 * Quantidade mínima de linhas mantidas em memória, necessária para verificar a existência da
+	 * próxima linha sem descartar a linha corrente.
+	 */
+	public static final int MIN_ROW_WINDOW_SIZE = 2;
+
+	private static final String ERROR_FILE_NOT_FOUND = "Não foi possível encontrar o arquivo [%s].";
+	private static final String ERROR_NON_READABLE_FILE = "O arquivo [%s] não pode ser lido.";
+	private static final String ERROR_UNDEFINED_WORKING_SHEET = "Não há nenhuma planilha de trabalho definida.";
+	private static final String ERROR_OPENING_CLOSED_ONCE_INPUT_STREAM = "Não é possível reabrir um documento baseado em Input Stream que já foi fechado.";
+	private static final String ERROR_INVALID_DOCUMENT_FORMAT = "O documento possui um formato inválido.";
+	private static final String ERROR_READING_DOCUMENT = "Ocorreu um erro na leitura do documento.";
+	private static final String ERROR_NON_EXISTING_SHEET = "O documento não possui planilha com índice [%d].";
+	private static final String ERROR_CANNOT_SAVE_UNWRITABLE_DOCUMENT = "O documento não pode ser salvo pois não é gravável.";
+	private static final String ERROR_WRITING_CHANGES = "Não foi possível gravar as alterações no documento.";
+	private static final String ERROR_CLOSING_DOCUMENT = "Ocorreu um erro ao fechar o documento.";
+	private static final String ERROR_DOCUMENT_CLOSED = "O documento está fechado.";
+	private static final String ERROR_DOCUMENT_OPEN = "O documento está aberto.";
+	private static final String ERROR_READ_ONLY_DOCUMENT = "O documento foi aberto em modo streaming somente leitura e não pode ser alterado.";
+	private static final String ERROR_DISCARDED_ROW = "A linha com o índice [%d] já foi descartada da janela de linhas em memória.";
+	private static final String ERROR_CHANGING_WRITABLE_WORKING_SHEET = "Não é possível trocar a planilha de trabalho de um documento aberto para escrita em modo streaming.";
+	private static final String ERROR_ROW_WINDOW_SIZE = "A janela de linhas em memória deve possuir no mínimo [%d] linhas.";
+
+	private static final String ARG_NAME_FILE = "file";
+	private static final String ARG_NAME_IS = "is";
+	private static final String ARG_NAME_WORKING_SHEET_INDEX = "workingSheetIndex";
+
+	private static final String ELEMENT_ROW = "row";
+	private static final String ELEMENT_CELL = "c";
+	private static final String ELEMENT_VALUE = "v";
+	private static final String ELEMENT_TEXT = "t";
+	private static final String ATTRIBUTE_REFERENCE = "r";
+	private static final String ATTRIBUTE_TYPE = "t";
+	private static final String ATTRIBUTE_STYLE = "s";
+
+	private static final String CELL_TYPE_SHARED_STRING = "s";
+	private static final String CELL_TYPE_INLINE_STRING = "inlineStr";
+	private static final String CELL_TYPE_FORMULA_STRING = "str";
+	private static final String CELL_TYPE_BOOLEAN = "b";
+	private static final String CELL_TYPE_ERROR = "e";
+	private static final String VALUE_TRUE = "1";
+
+	private static final String TEMP_FILE_PREFIX = "streaming-workbook-";
+	private static final String TEMP_FILE_SUFFIX = ".xlsx";
+
+	private static final String TO_STRING_PATTERN_FILE = "File Based %s: \"%s\"";
+	private static final String TO_STRING_PATTERN_INPUT_STREAM = "In Memory Based %s";
+
+	private enum Type { FILE, INPUT_STREAM }
+
+	private File file;
+	private transient InputStream is;
+	private Type type;
+	private Integer workingSheetIndex;
+	private int rowWindowSize;
+	private boolean writeMode;
+	private Boolean closedOnce = false;
+
+	private transient OPCPackage opcPackage;
+	private transient XSSFReader reader;
+	private transient ReadOnlySharedStringsTable sharedStrings;
+	private transient StylesTable stylesTable;
+	private transient CTSheet[] sheetRefs;
+	private transient Map<Integer, CellStyle> cellStyles;
+	private transient InputStream sheetStream;
+	private transient XMLStreamReader sheetReader;
+	private transient SXSSFWorkbook workbook;
+	private transient SXSSFSheet sheet;
+	private int lastReadRowIndex;
+	private int lastDiscardedRowIndex;
+
+	private StreamingWorkbookWrapperImpl(Type type, Integer workingSheetIndex, int rowWindowSize) {
+		super();
+		checkArgument(rowWindowSize >= MIN_ROW_WINDOW_SIZE, ERROR_ROW_WINDOW_SIZE, MIN_ROW_WINDOW_SIZE);
+		this.type = type;
+		this.workingSheetIndex = workingSheetIndex;
+		this.rowWindowSize = rowWindowSize;
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um arquivo.
+	 *
+	 * @param file Arquivo Excel
+	 * @throws DocumentFileException Se o arquivo não existir ou for ilegivel
+	 */
+	public StreamingWorkbookWrapperImpl(File file) throws DocumentFileException {
+		this(file, null);
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um arquivo, já definindo uma
+	 * planilha de trabalho inicial.
+	 *
+	 * @param file Arquivo Excel
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 * @throws DocumentFileException Se o arquivo não existir ou for ilegivel
+	 */
+	public StreamingWorkbookWrapperImpl(File file, Integer workingSheetIndex) throws DocumentFileException {
+		this(file, workingSheetIndex, DEFAULT_ROW_WINDOW_SIZE);
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um arquivo, já definindo uma
+	 * planilha de trabalho inicial e a quantidade de linhas mantidas em memória.
+	 *
+	 * @param file Arquivo Excel
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 * @param rowWindowSize Quantidade de linhas mantidas em memória
+	 * @throws DocumentFileException Se o arquivo não existir ou for ilegivel
+	 */
+	public StreamingWorkbookWrapperImpl(File file, Integer workingSheetIndex, int rowWindowSize) throws DocumentFileException {
+		this(file, workingSheetIndex, rowWindowSize, false);
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um arquivo, já definindo uma
+	 * planilha de trabalho inicial, a quantidade de linhas mantidas em memória e se o documento
+	 * será aberto em modo de escrita.
+	 *
+	 * @param file Arquivo Excel
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 * @param rowWindowSize Quantidade de linhas mantidas em memória
+	 * @param writeMode Flag indicando se o documento será aberto em modo de escrita
+	 * @throws DocumentFileException Se o arquivo não existir ou for ilegivel
+	 */
+	public StreamingWorkbookWrapperImpl(File file, Integer workingSheetIndex, int rowWindowSize, boolean writeMode) throws DocumentFileException {
+		this(Type.FILE, workingSheetIndex, rowWindowSize);
+		this.writeMode = writeMode;
+		this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+
+		if (!file.exists()) {
+			throw new DocumentFileException(String.format(ERROR_FILE_NOT_FOUND, file.getAbsolutePath()));
+		} else if (!file.canRead()) {
+			throw new DocumentFileException(String.format(ERROR_NON_READABLE_FILE, file.getAbsolutePath()));
+		}
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um input stream de um Excel.
+	 *
+	 * @param is Input Stream com os dados do Excel
+	 */
+	public StreamingWorkbookWrapperImpl(InputStream is) {
+		this(is, null);
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um input stream de um Excel, já
+	 * definindo uma planilha de trabalho inicial.
+	 *
+	 * @param is Input Stream com os dados do Excel
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 */
+	public StreamingWorkbookWrapperImpl(InputStream is, Integer workingSheetIndex) {
+		this(is, workingSheetIndex, DEFAULT_ROW_WINDOW_SIZE);
+	}
+
+	/**
+	 * Cria um Workbook Wrapper em modo streaming a partir de um input stream de um Excel, já
+	 * definindo uma planilha de trabalho inicial e a quantidade de linhas mantidas em memória.
+	 *
+	 * @param is Input Stream com os dados do Excel
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 * @param rowWindowSize Quantidade de linhas mantidas em memória
+	 */
+	public StreamingWorkbookWrapperImpl(InputStream is, Integer workingSheetIndex, int rowWindowSize) {
+		this(Type.INPUT_STREAM, workingSheetIndex, rowWindowSize);
+		this.is = checkNotNull(is, ERROR_NULL_ARGUMENT, ARG_NAME_IS);
+	}
+
+	/**
+	 * Recupera a quantidade de linhas mantidas em memória.
+	 *
+	 * @return Quantidade de linhas da janela
+	 */
+	public int getRowWindowSize() {
+		return rowWindowSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isWritable() {
+		return writeMode && type == Type.FILE && file != null && file.canWrite();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open() throws DocumentException {
+		checkState(workbook == null, ERROR_DOCUMENT_OPEN);
+		checkState(workingSheetIndex != null, ERROR_UNDEFINED_WORKING_SHEET);
+		checkState(type != Type.INPUT_STREAM || !closedOnce, ERROR_OPENING_CLOSED_ONCE_INPUT_STREAM);
+
+		if (type.equals(Type.FILE) && !file.exists()) {
+			throw new DocumentFileException(String.format(ERROR_FILE_NOT_FOUND, file.getAbsolutePath()));
+		}
+
+		try {
+			openPackage();
+
+			if (writeMode) {
+				createSheets();
+			}
+
+			updateWorkingSheet(workingSheetIndex);
+		} catch (DocumentException e) {
+			releaseResources();
+			throw e;
+		}
+	}
+
+	/**
+	 * Abre o pacote OOXML do documento e carrega as partes compartilhadas por todas as planilhas.
+	 *
+	 * @throws DocumentException Se ocorrer um erro na leitura do documento
+	 */
+	private void openPackage() throws DocumentException {
+		try {
+			opcPackage = type.equals(Type.FILE) ? OPCPackage.open(file, PackageAccess.READ) : OPCPackage.open(is);
+			reader = new XSSFReader(opcPackage);
+			sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+			stylesTable = reader.getStylesTable();
+			cellStyles = new HashMap<>();
+			workbook = new SXSSFWorkbook(rowWindowSize);
+			readWorkbookProperties();
+		} catch (OpenXML4JException | SAXException | XmlException | UnsupportedFileFormatException | InvalidOperationException e) {
+			throw new DocumentException(ERROR_INVALID_DOCUMENT_FORMAT, e);
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		}
+	}
+
+	/**
+	 * Lê as referências das planilhas do documento e replica no Workbook em memória o sistema de
+	 * datas (1900 ou 1904) do documento, para que as datas das células sejam convertidas
+	 * corretamente.
+	 *
+	 * @throws IOException Se ocorrer um erro na leitura do documento
+	 * @throws OpenXML4JException Se o documento não possuir a parte do Workbook
+	 * @throws XmlException Se a parte do Workbook não for válida
+	 */
+	private void readWorkbookProperties() throws IOException, OpenXML4JException, XmlException {
+		try (InputStream workbookData = reader.getWorkbookData()) {
+			CTWorkbook ctWorkbook = WorkbookDocument.Factory.parse(workbookData).getWorkbook();
+			sheetRefs = ctWorkbook.getSheets().getSheetArray();
+
+			if (ctWorkbook.isSetWorkbookPr() && ctWorkbook.getWorkbookPr().getDate1904()) {
+				CTWorkbook target = workbook.getXSSFWorkbook().getCTWorkbook();
+				(target.isSetWorkbookPr() ? target.getWorkbookPr() : target.addNewWorkbookPr()).setDate1904(true);
+			}
+		}
+	}
+
+	/**
+	 * Cria no Workbook em memória uma planilha para cada planilha do documento, mantendo a ordem
+	 * original, para que possam ser gravadas ao salvar as alterações.
+	 */
+	private void createSheets() {
+		for (CTSheet sheetRef : sheetRefs) {
+			workbook.createSheet(sheetRef.getName());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Não é possível trocar a planilha de trabalho de um documento aberto em modo de escrita.
+	 */
+	@Override
+	public void setWorkingSheetId(Integer workingSheetIndex) throws DocumentException {
+		checkNotNull(workingSheetIndex, ERROR_NULL_ARGUMENT, ARG_NAME_WORKING_SHEET_INDEX);
+		checkState(!writeMode || workbook == null, ERROR_CHANGING_WRITABLE_WORKING_SHEET);
+
+		if (workbook != null) {
+			updateWorkingSheet(workingSheetIndex);
+		}
+
+		this.workingSheetIndex = workingSheetIndex;
+	}
+
+	/**
+	 * Posiciona a leitura no início da planilha com o índice passado, descartando as linhas
+	 * lidas da planilha de trabalho anterior.
+	 *
+	 * @param workingSheetIndex Índice da planilha de trabalho
+	 * @throws DocumentException Caso não exista uma planilha com o índice definido
+	 */
+	private void updateWorkingSheet(Integer workingSheetIndex) throws DocumentException {
+		if (workingSheetIndex < 0 || workingSheetIndex >= sheetRefs.length) {
+			throw new DocumentException(String.format(ERROR_NON_EXISTING_SHEET, workingSheetIndex));
+		}
+
+		CTSheet sheetRef = sheetRefs[workingSheetIndex];
+
+		try {
+			closeSheetReader();
+			sheetStream = reader.getSheet(sheetRef.getId());
+			sheetReader = createXMLInputFactory().createXMLStreamReader(sheetStream);
+
+			if (writeMode) {
+				sheet = workbook.getSheetAt(workingSheetIndex);
+			} else {
+				if (sheet != null) {
+					workbook.removeSheetAt(workbook.getSheetIndex(sheet));
+				}
+
+				sheet = workbook.createSheet(sheetRef.getName());
+			}
+
+			lastReadRowIndex = -1;
+			lastDiscardedRowIndex = -1;
+			resetRowCache();
+		} catch (OpenXML4JException | XMLStreamException e) {
+			throw new DocumentException(ERROR_INVALID_DOCUMENT_FORMAT, e);
+		} catch (IOException e) {
+			throw new DocumentIOException(ERROR_READING_DOCUMENT, e);
+		}
+	}
+
+	/**
+	 * Cria a fábrica de leitores do XML das planilhas, sem suporte a DTDs e entidades externas.
+	 *
+	 * @return Fábrica de leitores de XML
+	 */
+	private static XMLInputFactory createXMLInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		return factory;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close(Boolean save) throws DocumentFileException, DocumentIOException {
+		checkState(workbook != null, ERROR_DOCUMENT_CLOSED);
+		checkArgument(!save || isWritable(), ERROR_CANNOT_SAVE_UNWRITABLE_DOCUMENT);
+
+		try {
+			if (save) {
+				flush();
+			}
+		} finally {
+			is = null;
+			closedOnce = true;
+			releaseResources();
+		}
+	}
+
+	/**
+	 * Grava o documento com as alterações realizadas em um arquivo temporário, que em seguida
+	 * substitui o arquivo original.
+	 *
+	 * @throws DocumentFileException Se o arquivo do documento não puder ser substituído
+	 * @throws DocumentIOException Se houver um erro de escrita do documento
+	 */
+	private void flush() throws DocumentFileException, DocumentIOException {
+		File tempFile = null;
+
+		try {
+			copyRemainingRows();
+			tempFile = File.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX, file.getAbsoluteFile().getParentFile());
+
+			try (OutputStream os = new FileOutputStream(tempFile)) {
+				workbook.write(os);
+			}
+
+			// O pacote original precisa ser liberado antes de ser substituído
+			opcPackage.revert();
+			opcPackage = null;
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (FileNotFoundException e) {
+			throw new DocumentFileException(String.format(ERROR_FILE_NOT_FOUND, file.getAbsolutePath()), e);
+		} catch (OpenXML4JException | XMLStreamException | IOException e) {
+			throw new DocumentIOException(ERROR_WRITING_CHANGES, e);
+		} finally {
+			if (tempFile != null && tempFile.exists()) {
+				tempFile.delete();
+			}
+		}
+	}
+
+	/**
+	 * Copia para o Workbook em memória as linhas da planilha de trabalho que ainda não foram
+	 * lidas e todas as linhas das demais planilhas.
+	 *
+	 * @throws OpenXML4JException Se o documento não possuir a parte de alguma planilha
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML das planilhas
+	 * @throws IOException Se ocorrer um erro na leitura do documento
+	 */
+	private void copyRemainingRows() throws OpenXML4JException, XMLStreamException, IOException {
+		while (moveToNextRow(sheetReader)) {
+			readWorkingSheetRow();
+		}
+
+		closeSheetReader();
+
+		for (int index = 0; index < sheetRefs.length; index++) {
+			if (index != workingSheetIndex) {
+				copySheet(sheetRefs[index], workbook.getSheetAt(index));
+			}
+		}
+	}
+
+	/**
+	 * Copia todas as linhas de uma planilha do documento para uma planilha do Workbook em memória.
+	 *
+	 * @param sheetRef Referência da planilha no documento
+	 * @param target Planilha do Workbook em memória
+	 * @throws OpenXML4JException Se o documento não possuir a parte da planilha
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML da planilha
+	 * @throws IOException Se ocorrer um erro na leitura do documento
+	 */
+	private void copySheet(CTSheet sheetRef, SXSSFSheet target) throws OpenXML4JException, XMLStreamException, IOException {
+		try (InputStream stream = reader.getSheet(sheetRef.getId())) {
+			XMLStreamReader sheetData = createXMLInputFactory().createXMLStreamReader(stream);
+
+			try {
+				int rowIndex = -1;
+
+				while (moveToNextRow(sheetData)) {
+					rowIndex = readRow(sheetData, target, rowIndex);
+				}
+			} finally {
+				sheetData.close();
+			}
+		}
+	}
+
+	/**
+	 * Libera os recursos ocupados pela leitura do documento.
+	 *
+	 * @throws DocumentIOException Se ocorrer um erro ao liberar os recursos
+	 */
+	private void releaseResources() throws DocumentIOException {
+		try {
+			closeSheetReader();
+
+			if (workbook != null) {
+				workbook.dispose();
+				workbook.close();
+			}
+		} catch (IOException | XMLStreamException e) {
+			throw new DocumentIOException(ERROR_CLOSING_DOCUMENT, e);
+		} finally {
+			if (opcPackage != null) {
+				opcPackage.revert();
+			}
+
+			opcPackage = null;
+			reader = null;
+			sharedStrings = null;
+			stylesTable = null;
+			sheetRefs = null;
+			cellStyles = null;
+			workbook = null;
+			sheet = null;
+			resetRowCache();
+		}
+	}
+
+	/**
+	 * Fecha o leitor do XML da planilha de trabalho.
+	 *
+	 * @throws IOException Se ocorrer um erro ao fechar o stream da planilha
+	 * @throws XMLStreamException Se ocorrer um erro ao fechar o leitor do XML
+	 */
+	private void closeSheetReader() throws IOException, XMLStreamException {
+		try {
+			if (sheetReader != null) {
+				sheetReader.close();
+			}
+		} finally {
+			sheetReader = null;
+
+			if (sheetStream != null) {
+				sheetStream.close();
+				sheetStream = null;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * No modo streaming, o Workbook contém somente as linhas da janela em memória.
+	 */
+	@Override
+	public Workbook getWorkbook() {
+		checkState(workbook != null, ERROR_DOCUMENT_CLOSED);
+		return workbook;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * No modo streaming, a planilha contém somente as linhas da janela em memória.
+	 */
+	@Override
+	public Sheet getWorkingSheet() {
+		checkState(workbook != null, ERROR_DOCUMENT_CLOSED);
+		checkState(sheet != null, ERROR_UNDEFINED_WORKING_SHEET);
+		return sheet;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Avança a leitura da planilha até alcançar a linha, descartando da janela as
+	 * linhas mais antigas.
+	 *
+	 * @throws IllegalArgumentException Se a linha já tiver sido descartada da janela de linhas
+	 */
+	@Override
+	protected Row getSheetRow(int rowIndex) {
+		checkState(workbook != null, ERROR_DOCUMENT_CLOSED);
+		checkState(sheet != null, ERROR_UNDEFINED_WORKING_SHEET);
+		checkArgument(rowIndex > lastDiscardedRowIndex, ERROR_DISCARDED_ROW, rowIndex);
+
+		boolean hasMoreRows = true;
+
+		while (lastReadRowIndex < rowIndex && hasMoreRows) {
+			hasMoreRows = readNextRow();
+		}
+
+		return sheet.getRow(rowIndex);
+	}
+
+	/**
+	 * Lê a próxima linha do XML da planilha de trabalho para a janela de linhas em memória.
+	 *
+	 * @return True se uma linha foi lida, False se a planilha não possui mais linhas
+	 */
+	private boolean readNextRow() {
+		try {
+			if (moveToNextRow(sheetReader)) {
+				readWorkingSheetRow();
+				return true;
+			}
+		} catch (XMLStreamException e) {
+			throw new InfraestructureFatalException(ERROR_READING_DOCUMENT, e);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Lê a linha da planilha de trabalho em que o leitor do XML está posicionado. No modo somente
+	 * leitura as linhas mais antigas são descartadas, enquanto no modo de escrita elas são
+	 * gravadas em disco pelo {@link SXSSFWorkbook}.
+	 *
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML
+	 */
+	private void readWorkingSheetRow() throws XMLStreamException {
+		// A linha memorizada pode ser descartada ou gravada em disco
+		resetRowCache();
+		
+		if (!writeMode) {
+			discardRows();
+		}
+
+		lastReadRowIndex = readRow(sheetReader, sheet, lastReadRowIndex);
+
+		if (writeMode) {
+			lastDiscardedRowIndex = sheet.getLastFlushedRowNum();
+		}
+	}
+
+	/**
+	 * Avança o leitor do XML até o início da próxima linha da planilha.
+	 *
+	 * @param sheetData Leitor do XML da planilha
+	 * @return True se o leitor foi posicionado em uma linha, False se a planilha não possui mais
+	 * linhas
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML
+	 */
+	private static boolean moveToNextRow(XMLStreamReader sheetData) throws XMLStreamException {
+		while (sheetData.hasNext()) {
+			if (sheetData.next() == START_ELEMENT && ELEMENT_ROW.equals(sheetData.getLocalName())) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Lê a linha em que o leitor do XML está posicionado, criando-a na planilha do Workbook em
+	 * memória.
+	 *
+	 * @param sheetData Leitor do XML da planilha
+	 * @param target Planilha do Workbook em memória
+	 * @param previousRowIndex Índice da linha lida anteriormente
+	 * @return Índice da linha lida
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML
+	 */
+	private int readRow(XMLStreamReader sheetData, Sheet target, int previousRowIndex) throws XMLStreamException {
+		String reference = sheetData.getAttributeValue(null, ATTRIBUTE_REFERENCE);
+		int rowIndex = reference != null ? Integer.parseInt(reference) - 1 : previousRowIndex + 1;
+		Row row = target.createRow(rowIndex);
+		int cellIndex = -1;
+
+		while (sheetData.hasNext()) {
+			int event = sheetData.next();
+
+			if (event == START_ELEMENT && ELEMENT_CELL.equals(sheetData.getLocalName())) {
+				cellIndex = readCell(sheetData, row, cellIndex + 1);
+			} else if (event == END_ELEMENT && ELEMENT_ROW.equals(sheetData.getLocalName())) {
+				break;
+			}
+		}
+
+		return rowIndex;
+	}
+
+	/**
+	 * Lê a célula em que o leitor do XML está posicionado, criando-a na linha.
+	 *
+	 * @param sheetData Leitor do XML da planilha
+	 * @param row Linha da célula
+	 * @param defaultCellIndex Índice da célula caso ela não possua referência
+	 * @return Índice da célula lida
+	 * @throws XMLStreamException Se ocorrer um erro na leitura do XML
+	 */
+	private int readCell(XMLStreamReader sheetData, Row row, int defaultCellIndex) throws XMLStreamException {
+		String reference = sheetData.getAttributeValue(null, ATTRIBUTE_REFERENCE);
+		String cellType = sheetData.getAttributeValue(null, ATTRIBUTE_TYPE);
+		String styleIndex = sheetData.getAttributeValue(null, ATTRIBUTE_STYLE);
+		int cellIndex = reference != null ? new CellReference(reference).getCol() : defaultCellIndex;
+		String value = null;
+		StringBuilder inlineValue = null;
+
+		while (sheetData.hasNext()) {
+			int event = sheetData.next();
+
+			if (event == START_ELEMENT && ELEMENT_VALUE.equals(sheetData.getLocalName())) {
+				value = sheetData.getElementText();
+			} else if (event == START_ELEMENT && ELEMENT_TEXT.equals(sheetData.getLocalName())) {
+				inlineValue = inlineValue == null ? new StringBuilder() : inlineValue;
+				inlineValue.append(sheetData.getElementText());
+			} else if (event == END_ELEMENT && ELEMENT_CELL.equals(sheetData.getLocalName())) {
+				break;
+			}
+		}
+
+		Cell cell = row.createCell(cellIndex);
+
+		if (styleIndex != null) {
+			cell.setCellStyle(getCellStyle(Integer.parseInt(styleIndex)));
+		}
+
+		if (CELL_TYPE_INLINE_STRING.equals(cellType) && inlineValue != null) {
+			cell.setCellValue(inlineValue.toString());
+		} else if (value != null) {
+			setCellValue(cell, cellType, value);
+		}
+
+		return cellIndex;
+	}
+
+	/**
+	 * Define o valor de uma célula a partir do conteúdo lido do XML da planilha.
+	 *
+	 * @param cell Célula
+	 * @param cellType Tipo da célula no XML da planilha
+	 * @param value Conteúdo da célula no XML da planilha
+	 */
+	private void setCellValue(Cell cell, String cellType, String value) {
+		if (CELL_TYPE_SHARED_STRING.equals(cellType)) {
+			cell.setCellValue(sharedStrings.getEntryAt(Integer.parseInt(value)));
+		} else if (CELL_TYPE_FORMULA_STRING.equals(cellType)) {
+			cell.setCellValue(value);
+		} else if (CELL_TYPE_BOOLEAN.equals(cellType)) {
+			cell.setCellValue(VALUE_TRUE.equals(value));
+		} else if (CELL_TYPE_ERROR.equals(cellType)) {
+			cell.setCellErrorValue(FormulaError.forString(value).getCode());
+		} else {
+			cell.setCellValue(Double.parseDouble(value));
+		}
+	}
+
+	/**
+	 * Recupera o estilo do Workbook em memória equivalente a um estilo do documento.
+	 *
+	 * @param styleIndex Índice do estilo no documento
+	 * @return Estilo equivalente no Workbook em memória
+	 */
+	private CellStyle getCellStyle(Integer styleIndex) {
+		CellStyle cellStyle = cellStyles.get(styleIndex);
+
+		if (cellStyle == null) {
+			cellStyle = workbook.createCellStyle();
+			cellStyle.cloneStyleFrom(stylesTable.getStyleAt(styleIndex));
+			cellStyles.put(styleIndex, cellStyle);
+		}
+
+		return cellStyle;
+	}
+
+	/**
+	 * Descarta as linhas mais antigas da janela, abrindo espaço para uma nova linha.
+	 */
+	private void discardRows() {
+		Iterator<Row> it = sheet.rowIterator();
+
+		while (sheet.getPhysicalNumberOfRows() >= rowWindowSize && it.hasNext()) {
+			Row row = it.next();
+			lastDiscardedRowIndex = row.getRowNum();
+			it.remove();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Somente as linhas da janela de documentos abertos em modo de escrita podem ser alteradas.
+	 *
+	 * @throws UnsupportedOperationException Se o documento não tiver sido aberto em modo de escrita
+	 */
+	@Override
+	protected Cell getWritableRowCell(Integer rowIndex, Integer cellIndex) {
+		if (!writeMode) {
+			throw new UnsupportedOperationException(ERROR_READ_ONLY_DOCUMENT);
+		}
+
+		return super.getWritableRowCell(rowIndex, cellIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		if (file != null) {
+			return String.format(TO_STRING_PATTERN_FILE, getClass().getSimpleName(), file.getAbsolutePath());
+		}
+
+		return String.format(TO_STRING_PATTERN_INPUT_STREAM, getClass().getSimpleName());
+	}
+}
@@ -17,22 +17,16 @@ import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Calendar;
-import java.util.Date;
 
 import org.apache.poi.EncryptedDocumentException;
 import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 
-import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.document.exception.DocumentException;
 import br.com.sgpf.common.document.exception.DocumentFileException;
-import br.com.sgpf.common.document.exception.DocumentFormatException;
 import br.com.sgpf.common.document.exception.DocumentIOException;
 
 /**
@@ -41,7 +35,7 @@ import br.com.sgpf.common.document.exception.DocumentIOException;
  * 
  * @author Sergio Puntar
  */
-public class WorkbookWrapperImpl implements  WorkbookWrapper {
+public class WorkbookWrapperImpl extends BaseWorkbookWrapper {
 	private static final long serialVersionUID = 5664150354430952186L;
 	
 	private static final String ERROR_FILE_NOT_FOUND = "Não foi possível encontrar o arquivo [%s].";
@@ -56,21 +50,12 @@ public class WorkbookWrapperImpl implements  WorkbookWrapper {
 	private static final String ERROR_RELEASING_INPUT_STREAM = "Ocorreu um erro ao liberar o input stream do documento.";
 	private static final String ERROR_WRITING_CHANGES = "Não foi possível gravar as alterações no documento.";
 	private static final String ERROR_CLOSING_DOCUMENT = "Ocorreu um erro ao fechar o documento.";
-	private static final String ERROR_NON_EXISTING_ROW = "A planilha não possui uma linha com o índice [%d].";
-	private static final String ERROR_NON_EXISTING_CELL = "A linha com o índice [%d] não possui uma célula com o índice [%d].";
-	private static final String ERROR_CHAR_FORMAT = "A célula [%d] da linha [%d] não possui conteúdo no formato Character.";
-	private static final String ERROR_YES_NO_FORMAT = "A célula [%d] da linha [%d] não possui conteúdo no formato Y/N.";
 	private static final String ERROR_DOCUMENT_CLOSED = "O documento está fechado.";
 	private static final String ERROR_DOCUMENT_OPEN = "O documento está aberto.";
 	
 	private static final String ARG_NAME_FILE = "file";
 	private static final String ARG_NAME_IS = "is";
 	private static final String ARG_NAME_WORKING_SHEET_INDEX = "workingSheetIndex";
-	private static final String ARG_NAME_ROW_INDEX = "rowIndex";
-	private static final String ARG_NAME_CELL_INDEX = "cellIndex";
-	
-	private static final String VALUE_STRING_Y = "Y";
-	private static final String VALUE_STRING_N = "N";
 	
 	private static final String TO_STRING_PATTERN_FILE = "File Based %s: \"%s\"";
 	private static final String TO_STRING_PATTERN_INPUT_STREAM = "In Memory Based %s";
@@ -204,6 +189,7 @@ public class WorkbookWrapperImpl implements  WorkbookWrapper {
 	private void updateWorkingSheet(Integer workingSheetIndex) throws DocumentException {
 		try {
 			sheet = workbook.getSheetAt(workingSheetIndex);
+			resetRowCache();
 		} catch (IllegalArgumentException e) {
 			throw new DocumentException(String.format(ERROR_NON_EXISTING_SHEET, workingSheetIndex), e);
 		}
@@ -230,6 +216,7 @@ public class WorkbookWrapperImpl implements  WorkbookWrapper {
 			workbook = null;
 			sheet = null;
 			closedOnce = true;
+			resetRowCache();
 		}
 	}
 	
@@ -280,360 +267,11 @@ public class WorkbookWrapperImpl implements  WorkbookWrapper {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public String readStringCell(Integer rowIndex, Integer cellIndex) {
-		Cell cell = getRowCell(rowIndex, cellIndex);
-		
-		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
-			return null;
-		}
-		
-		return cell.getStringCellValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeStringCell(Integer rowIndex, Integer cellIndex, String value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		String currVal = getRowCell(rowIndex, cellIndex).getStringCellValue();
-		boolean change = !value.equals(currVal);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value);
-		}
-		
-		return change;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Character readCharCell(Integer rowIndex, Integer cellIndex) throws DocumentFormatException {
-		String stringValue = readStringCell(rowIndex, cellIndex);
-		
-		if (stringValue == null || stringValue.isEmpty()) {
-			return null;
-		} else if (stringValue.length() > 1) {
-			throw new DocumentFormatException(String.format(ERROR_CHAR_FORMAT, cellIndex, rowIndex));
-		}
-		
-		return stringValue.charAt(0);
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeCharCell(Integer rowIndex, Integer cellIndex, Character value) {
-		return writeStringCell(rowIndex, cellIndex, value == null ? null : String.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Double readDoubleCell(Integer rowIndex, Integer cellIndex) {
-		Cell cell = getRowCell(rowIndex, cellIndex);
-		
-		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
-			return null;
-		}
-		
-		return cell.getNumericCellValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeDoubleCell(Integer rowIndex, Integer cellIndex, Double value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		Double currVal = getRowCell(rowIndex, cellIndex).getNumericCellValue();
-		boolean change = !value.equals(currVal);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value);
-		}
-		
-		return change;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Float readFloatCell(Integer rowIndex, Integer cellIndex) {
-		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
-		return doubleValue == null ? null : doubleValue.floatValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeFloatCell(Integer rowIndex, Integer cellIndex, Float value) {
-		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Long readLongCell(Integer rowIndex, Integer cellIndex) {
-		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
-		return doubleValue == null ? null : doubleValue.longValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeLongCell(Integer rowIndex, Integer cellIndex, Long value) {
-		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Integer readIntegerCell(Integer rowIndex, Integer cellIndex) {
-		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
-		return doubleValue == null ? null : doubleValue.intValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeIntegerCell(Integer rowIndex, Integer cellIndex, Integer value) {
-		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Short readShortCell(Integer rowIndex, Integer cellIndex) {
-		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
-		return doubleValue == null ? null : doubleValue.shortValue();
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeShortCell(Integer rowIndex, Integer cellIndex, Short value) {
-		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Byte readByteCell(Integer rowIndex, Integer cellIndex) {
-		Double doubleValue = readDoubleCell(rowIndex, cellIndex);
-		return doubleValue == null ? null : doubleValue.byteValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeByteCell(Integer rowIndex, Integer cellIndex, Byte value) {
-		return writeDoubleCell(rowIndex, cellIndex, value == null ? null : Double.valueOf(value));
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Boolean readBooleanCell(Integer rowIndex, Integer cellIndex) {
-		Cell cell = getRowCell(rowIndex, cellIndex);
-		
-		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
-			return null;
-		}
-		
-		return cell.getBooleanCellValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeBooleanCell(Integer rowIndex, Integer cellIndex,Boolean value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		Boolean currVal = getRowCell(rowIndex, cellIndex).getBooleanCellValue();
-		boolean change = !value.equals(currVal);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value);
-		}
-		
-		return change;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Date readDateCell(Integer rowIndex, Integer cellIndex) {
-		Cell cell = getRowCell(rowIndex, cellIndex);
-		
-		if (CellType.BLANK.equals(cell.getCellTypeEnum())){
-			return null;
-		}
-		
-		return cell.getDateCellValue();
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeDateCell(Integer rowIndex, Integer cellIndex, Date value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		Date currVal = getRowCell(rowIndex, cellIndex).getDateCellValue();
-		boolean change = !value.equals(currVal);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value);
-		}
-		
-		return change;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Calendar readCalendarCell(Integer rowIndex, Integer cellIndex) {
-		Date date = readDateCell(rowIndex, cellIndex);
-		
-		if (date == null) {
-			return null;
-		}
-		
-		Calendar calendar = Calendar.getInstance();
-		calendar.setTime(date);
-		
-		return calendar;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeCalendarCell(Integer rowIndex, Integer cellIndex, Calendar value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		Date dateVal = getRowCell(rowIndex, cellIndex).getDateCellValue();
-		Calendar currVal = null;
-		
-		if (dateVal != null) {
-			currVal = Calendar.getInstance();
-			currVal.setTime(dateVal);
-		}
-		
-		boolean change = !value.equals(currVal);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value);
-		}
-		
-		return change;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Boolean readYesNoCell(Integer rowIndex, Integer cellIndex) throws DocumentFormatException {
-		String value = getRowCell(rowIndex, cellIndex).getStringCellValue();
-		
-		if (VALUE_STRING_Y.equalsIgnoreCase(value)) {
-			return true;
-		} else if (VALUE_STRING_N.equalsIgnoreCase(value)) {
-			return false;
-		} else if (value != null && !value.isEmpty()) {
-			throw new DocumentFormatException(String.format(ERROR_YES_NO_FORMAT, cellIndex, rowIndex));
-		}
-		
-		return null;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeYesNoCell(Integer rowIndex, Integer cellIndex, Boolean value) {
-		if (value == null) {
-			return writeNullValue(rowIndex, cellIndex);
-		}
-		
-		String currVal = getRowCell(rowIndex, cellIndex).getStringCellValue();
-		boolean change = (!VALUE_STRING_Y.equals(currVal) && !VALUE_STRING_N.equals(currVal))
-				|| (VALUE_STRING_Y.equals(currVal) && !value)
-				|| (VALUE_STRING_N.equals(currVal) && value);
-		
-		if (change) {
-			getRowCell(rowIndex, cellIndex).setCellValue(value ? VALUE_STRING_Y : VALUE_STRING_N);
-		}
-		
-		return change;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public boolean writeNullValue(Integer rowIndex, Integer cellIndex) {
-		Cell cell = getRowCell(rowIndex, cellIndex);
-		
-		if (CellType.BLANK.equals(cell.getCellTypeEnum())) {
-			return false;
-		}
-		
-		String value = null;
-		cell.setCellValue(value);
-		cell.setCellType(CellType.BLANK);
-		
-		return true;
-	}
-	
-	/**
-	 * {@inheritDoc}
-	 */
-	@Override
-	public Cell getRowCell(Integer rowIndex, Integer cellIndex) {
+	protected Row getSheetRow(int rowIndex) {
 		checkState(workbook != null, ERROR_DOCUMENT_CLOSED);
 		checkState(sheet != null, ERROR_UNDEFINED_WORKING_SHEET);
-		checkNotNull(rowIndex, ERROR_NULL_ARGUMENT, ARG_NAME_ROW_INDEX);
-		checkNotNull(cellIndex, ERROR_NULL_ARGUMENT, ARG_NAME_CELL_INDEX);
-		
-		Row row = sheet.getRow(rowIndex);
-		checkArgument(row != null, ERROR_NON_EXISTING_ROW, rowIndex);
-		
-		Cell cell = row.getCell(cellIndex);
-		checkArgument(cell != null, ERROR_NON_EXISTING_CELL, rowIndex, cellIndex);
 		
-		return cell;
+		return sheet.getRow(rowIndex);
 	}
 	
 	/**
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+
+import com.google.common.primitives.Ints;
+
+/**
+ * Classe que representa o ponto de retomada de uma importação de dados: o último item concluído,
+ * a sua posição na fonte de dados e o resumo dos resultados dos itens concluídos até ele.
+ * 
+ * @author Sergio Puntar
+ */
+public class DataImportCheckpoint implements Serializable {
+	private static final long serialVersionUID = -2841546734128095231L;
+
+	private static final String ARG_NAME_ITEM = "item";
+	
+	private static final String TO_STRING_PATTERN = "%s [lastItemId=%s, position=%d, itemCount=%d]";
+	
+	private Serializable lastItemId;
+	private long position;
+	private DataImportSummary summary = new DataImportSummary();
+	
+	/**
+	 * Registra a conclusão de um item, acumulando o seu resultado no resumo.
+	 * 
+	 * @param item Item concluído
+	 * @param position Posição da fonte de dados imediatamente após o item
+	 */
+	public void register(DataImportItem<?, ?> item, long position) {
+		checkNotNull(item, ERROR_NULL_ARGUMENT, ARG_NAME_ITEM);
+		
+		if (item.getId() != null) {
+			lastItemId = item.getId();
+		}
+		
+		summary.register(item);
+		this.position = position;
+	}
+
+	public Serializable getLastItemId() {
+		return lastItemId;
+	}
+
+	public long getPosition() {
+		return position;
+	}
+
+	/**
+	 * Recupera a quantidade de itens concluídos até o ponto de retomada.
+	 * 
+	 * @return Quantidade de itens concluídos
+	 */
+	public int getItemCount() {
+		return Ints.checkedCast(summary.getItemCount());
+	}
+
+	public DataImportSummary getSummary() {
+		return summary;
+	}
+	
+	@Override
+	public String toString() {
+		return String.format(TO_STRING_PATTERN, getClass().getSimpleName(), lastItemId, position, summary.getItemCount());
+	}
+}
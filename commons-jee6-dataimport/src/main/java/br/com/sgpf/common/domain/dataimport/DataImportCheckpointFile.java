@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+
+/**
+ * Arquivo local de persistência do {@link DataImportCheckpoint} de uma importação.<br>
+ * <br>
+ * Para não comprometer a vazão da importação, o ponto de retomada só é gravado periodicamente,
+ * quando um intervalo de itens ou de tempo é atingido desde a última gravação. A gravação é feita
+ * em um arquivo temporário que substitui o arquivo original atomicamente, de forma que uma falha
+ * durante a gravação preserva o ponto de retomada anterior.<br>
+ * Obs.: Não é thread-safe.
+ * 
+ * @author Sergio Puntar
+ */
+public class DataImportCheckpointFile implements Serializable {
+	private static final long serialVersionUID = 3367051468411920763L;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DataImportCheckpointFile.class);
+
+	/**
+	 * Intervalo padrão de itens entre as gravações.
+	 */
+	public static final int DEFAULT_ITEM_INTERVAL = 10000;
+
+	/**
+	 * Intervalo padrão de tempo entre as gravações, em milissegundos.
+	 */
+	public static final long DEFAULT_TIME_INTERVAL = 30000L;
+
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+	private static final String ERROR_INVALID_ITEM_INTERVAL = "O intervalo de itens deve ser maior que zero: [%s].";
+	private static final String ERROR_INVALID_TIME_INTERVAL = "O intervalo de tempo deve ser maior que zero: [%s].";
+	private static final String ERROR_READING_CHECKPOINT = "Ocorreu um erro na leitura do ponto de retomada do arquivo [%s].";
+	private static final String ERROR_WRITING_CHECKPOINT = "Ocorreu um erro na gravação do ponto de retomada no arquivo [%s].";
+	private static final String ERROR_DELETING_CHECKPOINT = "Ocorreu um erro na remoção do arquivo de ponto de retomada [%s].";
+
+	private static final String ARG_NAME_FILE = "file";
+	private static final String ARG_NAME_CHECKPOINT = "checkpoint";
+
+	private static final String TO_STRING_PATTERN = "%s [%s]";
+
+	private File file;
+	private int itemInterval;
+	private long timeInterval;
+	private transient int savedItemCount;
+	private transient long savedTime;
+
+	/**
+	 * Cria o arquivo de ponto de retomada com os intervalos padrão de gravação.
+	 * 
+	 * @param file Arquivo do ponto de retomada
+	 */
+	public DataImportCheckpointFile(File file) {
+		this(file, DEFAULT_ITEM_INTERVAL, DEFAULT_TIME_INTERVAL);
+	}
+
+	/**
+	 * Cria o arquivo de ponto de retomada.
+	 * 
+	 * @param file Arquivo do ponto de retomada
+	 * @param itemInterval Quantidade de itens concluídos entre as gravações
+	 * @param timeInterval Tempo entre as gravações, em milissegundos
+	 */
+	public DataImportCheckpointFile(File file, int itemInterval, long timeInterval) {
+		super();
+		checkArgument(itemInterval > 0, ERROR_INVALID_ITEM_INTERVAL, itemInterval);
+		checkArgument(timeInterval > 0, ERROR_INVALID_TIME_INTERVAL, timeInterval);
+		this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+		this.itemInterval = itemInterval;
+		this.timeInterval = timeInterval;
+	}
+
+	/**
+	 * Carrega o ponto de retomada gravado no arquivo.
+	 * 
+	 * @return Ponto de retomada, null se o arquivo não existir
+	 * @throws DataImportException Se ocorrer um erro na leitura do arquivo
+	 */
+	public DataImportCheckpoint load() throws DataImportException {
+		savedTime = System.currentTimeMillis();
+
+		if (!file.exists()) {
+			savedItemCount = 0;
+			return null;
+		}
+
+		try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			DataImportCheckpoint checkpoint = (DataImportCheckpoint) in.readObject();
+			savedItemCount = checkpoint.getItemCount();
+			return checkpoint;
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw new DataImportException(String.format(ERROR_READING_CHECKPOINT, file.getAbsolutePath()), e);
+		}
+	}
+
+	/**
+	 * Grava o ponto de retomada no arquivo, caso o intervalo de itens ou de tempo tenha sido
+	 * atingido desde a última gravação.
+	 * 
+	 * @param checkpoint Ponto de retomada
+	 * @return True se o ponto de retomada foi gravado, False caso contrário
+	 * @throws DataImportException Se ocorrer um erro na gravação do arquivo
+	 */
+	public boolean update(DataImportCheckpoint checkpoint) throws DataImportException {
+		if (!isUpdateDue(checkpoint)) {
+			return false;
+		}
+
+		save(checkpoint);
+		return true;
+	}
+
+	/**
+	 * Verifica se o intervalo de itens ou de tempo foi atingido desde a última gravação, ou seja,
+	 * se o ponto de retomada seria gravado por {@link #update(DataImportCheckpoint)}.
+	 * 
+	 * @param checkpoint Ponto de retomada
+	 * @return True se o ponto de retomada deve ser gravado, False caso contrário
+	 */
+	public boolean isUpdateDue(DataImportCheckpoint checkpoint) {
+		checkNotNull(checkpoint, ERROR_NULL_ARGUMENT, ARG_NAME_CHECKPOINT);
+		return checkpoint.getItemCount() - savedItemCount >= itemInterval || System.currentTimeMillis() - savedTime >= timeInterval;
+	}
+
+	/**
+	 * Grava o ponto de retomada no arquivo, substituindo o ponto de retomada anterior.
+	 * 
+	 * @param checkpoint Ponto de retomada
+	 * @throws DataImportException Se ocorrer um erro na gravação do arquivo
+	 */
+	public void save(DataImportCheckpoint checkpoint) throws DataImportException {
+		checkNotNull(checkpoint, ERROR_NULL_ARGUMENT, ARG_NAME_CHECKPOINT);
+		File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+
+		try {
+			try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeObject(checkpoint);
+			}
+
+			Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new DataImportException(String.format(ERROR_WRITING_CHECKPOINT, file.getAbsolutePath()), e);
+		}
+
+		savedItemCount = checkpoint.getItemCount();
+		savedTime = System.currentTimeMillis();
+		LOGGER.debug("Ponto de retomada gravado: {0}.", checkpoint);
+	}
+
+	/**
+	 * Remove o arquivo do ponto de retomada. Deve ser chamado ao fim da importação, para que uma
+	 * nova importação não seja retomada a partir dele.
+	 * 
+	 * @throws DataImportException Se ocorrer um erro na remoção do arquivo
+	 */
+	public void delete() throws DataImportException {
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException e) {
+			throw new DataImportException(String.format(ERROR_DELETING_CHECKPOINT, file.getAbsolutePath()), e);
+		}
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(TO_STRING_PATTERN, getClass().getSimpleName(), file.getAbsolutePath());
+	}
+}
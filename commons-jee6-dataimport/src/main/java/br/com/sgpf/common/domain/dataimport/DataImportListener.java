@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import java.io.Serializable;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+
+/**
+ * Interface dos receptores dos itens concluídos durante uma importação de dados.<br>
+ * Permite que os itens sejam consumidos à medida que são concluídos, sem que o importador precise
+ * mantê-los em memória até o fim da importação.
+ * 
+ * @param <I> Identificador o item de importação
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public interface DataImportListener<I extends Serializable, T extends Serializable> {
+	
+	/**
+	 * Recebe um item concluído, já processado e sincronizado com a origem, com o seu resultado.
+	 * Os itens são recebidos na ordem da origem, na thread que chamou o importador.
+	 * 
+	 * @param item Item concluído
+	 * @throws DataImportException Se ocorrer um erro no consumo do item, interrompendo a
+	 * importação
+	 */
+	public void itemImported(DataImportItem<I, T> item) throws DataImportException;
+}
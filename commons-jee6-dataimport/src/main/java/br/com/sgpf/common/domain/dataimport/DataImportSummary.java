@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import br.com.sgpf.common.domain.dataimport.DataImportResult.Status;
+
+/**
+ * Classe que representa o resumo de uma importação de dados, com os totais dos resultados dos
+ * itens importados e uma amostra limitada dos itens com erro, sem os itens em si.<br>
+ * <br>
+ * É thread-safe: os totais são mantidos em contadores distribuídos em faixas, cada uma ocupando
+ * sua própria linha de cache, de forma que threads diferentes atualizem faixas diferentes sem
+ * contenção. Os totais lidos durante a importação são aproximados, e exatos após o seu fim.
+ * 
+ * @author Sergio Puntar
+ */
+public class DataImportSummary implements Serializable {
+	private static final long serialVersionUID = -2960418227356093151L;
+
+	/**
+	 * Quantidade máxima padrão de amostras de erro mantidas.
+	 */
+	public static final int DEFAULT_MAX_ERROR_SAMPLES = 100;
+
+	private static final int ITEM_COUNTER = Status.values().length;
+	private static final int SYNCED_COUNTER = ITEM_COUNTER + 1;
+	
+	// Cada faixa ocupa 128 bytes, evitando o compartilhamento de linhas de cache entre as faixas
+	private static final int STRIPE_LENGTH = 16;
+	private static final int STRIPE_COUNT = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+	private static final String ERROR_INVALID_MAX_ERROR_SAMPLES = "A quantidade máxima de amostras de erro não pode ser negativa: [%s].";
+
+	private static final String ARG_NAME_ITEM = "item";
+	private static final String ARG_NAME_STATUS = "status";
+	
+	private static final String TO_STRING_PATTERN = "%s [itemCount=%d, syncedCount=%d, errorCount=%d]";
+	
+	private final AtomicLongArray counters = new AtomicLongArray(STRIPE_COUNT * STRIPE_LENGTH);
+	private final AtomicReferenceArray<ErrorSample> errorSamples;
+	private final AtomicInteger errorSampleCount = new AtomicInteger();
+	
+	/**
+	 * Cria um resumo que mantém até {@value #DEFAULT_MAX_ERROR_SAMPLES} amostras de erro.
+	 */
+	public DataImportSummary() {
+		this(DEFAULT_MAX_ERROR_SAMPLES);
+	}
+	
+	/**
+	 * Cria um resumo que mantém uma quantidade limitada de amostras de erro.
+	 * 
+	 * @param maxErrorSamples Quantidade máxima de amostras de erro, as primeiras encontradas
+	 */
+	public DataImportSummary(int maxErrorSamples) {
+		super();
+		checkArgument(maxErrorSamples >= 0, ERROR_INVALID_MAX_ERROR_SAMPLES, maxErrorSamples);
+		errorSamples = new AtomicReferenceArray<>(maxErrorSamples);
+	}
+	
+	/**
+	 * Acumula o resultado de um item importado.
+	 * 
+	 * @param item Item importado
+	 */
+	public void register(DataImportItem<?, ?> item) {
+		checkNotNull(item, ERROR_NULL_ARGUMENT, ARG_NAME_ITEM);
+		DataImportResult result = item.getResult();
+		// A quantidade de faixas vem dos contadores, que podem ter sido serializados em outra JVM
+		int stripeCount = counters.length() / STRIPE_LENGTH;
+		int stripe = (int) Thread.currentThread().getId() & (stripeCount - 1);
+		int offset = stripe * STRIPE_LENGTH;
+		
+		if (result.getStatus() != null) {
+			counters.incrementAndGet(offset + result.getStatus().ordinal());
+		}
+		
+		if (result.isSynced()) {
+			counters.incrementAndGet(offset + SYNCED_COUNTER);
+		}
+		
+		counters.incrementAndGet(offset + ITEM_COUNTER);
+		
+		if (result.getStatus() == Status.ERROR && errorSampleCount.get() < errorSamples.length()) {
+			int index = errorSampleCount.getAndIncrement();
+			
+			if (index < errorSamples.length()) {
+				errorSamples.set(index, new ErrorSample(item.getId(), result.getMessage(), result.getException()));
+			}
+		}
+	}
+	
+	/**
+	 * Soma o valor de um contador em todas as faixas.
+	 * 
+	 * @param counter Índice do contador na faixa
+	 * @return Valor total do contador
+	 */
+	private long sum(int counter) {
+		long sum = 0L;
+		
+		for (int i = counter; i < counters.length(); i += STRIPE_LENGTH) {
+			sum += counters.get(i);
+		}
+		
+		return sum;
+	}
+
+	public long getItemCount() {
+		return sum(ITEM_COUNTER);
+	}
+
+	public long getSyncedCount() {
+		return sum(SYNCED_COUNTER);
+	}
+	
+	/**
+	 * Recupera a quantidade de itens importados com um status de resultado.
+	 * 
+	 * @param status Status do resultado
+	 * @return Quantidade de itens com o status
+	 */
+	public long getCount(Status status) {
+		checkNotNull(status, ERROR_NULL_ARGUMENT, ARG_NAME_STATUS);
+		return sum(status.ordinal());
+	}
+	
+	/**
+	 * Recupera as amostras dos primeiros itens com erro, limitadas à quantidade máxima de amostras
+	 * do resumo. A quantidade total de erros é dada por {@link #getCount(Status)}.
+	 * 
+	 * @return Amostras de erro, na ordem em que foram registradas
+	 */
+	public List<ErrorSample> getErrorSamples() {
+		int count = Math.min(errorSampleCount.get(), errorSamples.length());
+		List<ErrorSample> samples = new ArrayList<>(count);
+		
+		for (int i = 0; i < count; i++) {
+			ErrorSample sample = errorSamples.get(i);
+			
+			// A posição pode ter sido reservada por outra thread e ainda não preenchida
+			if (sample != null) {
+				samples.add(sample);
+			}
+		}
+		
+		return Collections.unmodifiableList(samples);
+	}
+	
+	@Override
+	public String toString() {
+		return String.format(TO_STRING_PATTERN, getClass().getSimpleName(), getItemCount(), getSyncedCount(), getCount(Status.ERROR));
+	}
+	
+	/**
+	 * Amostra de um item importado com erro.<br>
+	 * A exceção não é serializada, somente a mensagem de erro.
+	 */
+	public static class ErrorSample implements Serializable {
+		private static final long serialVersionUID = -5387920374436185925L;
+		
+		private final Serializable itemId;
+		private final String message;
+		private final transient Exception exception;
+		
+		public ErrorSample(Serializable itemId, String message, Exception exception) {
+			super();
+			this.itemId = itemId;
+			this.message = message;
+			this.exception = exception;
+		}
+
+		public Serializable getItemId() {
+			return itemId;
+		}
+
+		public String getMessage() {
+			return message;
+		}
+
+		public Exception getException() {
+			return exception;
+		}
+	}
+}
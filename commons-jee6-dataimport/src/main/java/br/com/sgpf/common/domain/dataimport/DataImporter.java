@@ -8,6 +8,7 @@ package br.com.sgpf.common.domain.dataimport;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 
@@ -70,4 +71,128 @@ public interface DataImporter<I extends Serializable, T extends Serializable> ex
 	 * @throws DataImportException Se ocorrer um erro na importação dos dados
 	 */
 	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions) throws DataImportException;
+	
+	/**
+	 * Processa a importação de todos os itens encontrados na origem de dados, dividindo-os em
+	 * blocos cujos itens são processados em paralelo pelo executor.<br>
+	 * <br>
+	 * A leitura e a sincronização dos itens com a origem continuam sendo sequenciais, e a ordem
+	 * dos itens retornados é a mesma da origem. O tratamento das exceções segue o mesmo
+	 * comportamento de {@link #importData(ImportDataSource, boolean, boolean)}, porém, caso as
+	 * exceções não sejam suprimidas, os demais itens do bloco em que ocorreu o erro já terão sido
+	 * processados quando a exceção for arremessada.<br>
+	 * Obs.: O executor não é finalizado ao término da importação.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados com os dados do
+	 * destino.
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param executor Executor responsável pelo processamento dos itens
+	 * @param chunkSize Quantidade de itens de cada bloco, limitada à janela de itens de fontes
+	 * de dados {@link WindowedImportDataSource} quando os dados são sincronizados
+	 * @return Dados dos itens lidos do DataSource com seus respectivos resultados.
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados
+	 */
+	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, ExecutorService executor, int chunkSize) throws DataImportException;
+	
+	/**
+	 * Processa a importação de todos os itens encontrados na origem de dados em pipeline: enquanto
+	 * os itens são lidos da origem, os itens já lidos são processados em paralelo pelo executor e
+	 * os já processados são sincronizados com a origem.<br>
+	 * <br>
+	 * A quantidade de itens lidos e ainda não sincronizados é limitada pela capacidade da fila,
+	 * de forma que a leitura aguarda o processamento quando a fila está cheia. A ordem dos itens
+	 * retornados é a mesma da origem. O tratamento das exceções segue o mesmo comportamento de
+	 * {@link #importData(ImportDataSource, boolean, boolean)}, porém, caso as exceções não sejam
+	 * suprimidas, os itens que já estavam em processamento quando a exceção foi arremessada
+	 * ainda podem ser concluídos.<br>
+	 * Obs.: O executor não é finalizado ao término da importação.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados com os dados do
+	 * destino.
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param executor Executor responsável pelo processamento dos itens
+	 * @param queueCapacity Quantidade máxima de itens lidos e ainda não sincronizados, limitada
+	 * à janela de itens de fontes de dados {@link WindowedImportDataSource} quando os dados são
+	 * sincronizados
+	 * @return Dados dos itens lidos do DataSource com seus respectivos resultados.
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados
+	 */
+	public Collection<DataImportItem<I, T>> importDataPipelined(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, ExecutorService executor, int queueCapacity) throws DataImportException;
+	
+	/**
+	 * Processa a importação de todos os itens encontrados na origem de dados, registrando
+	 * periodicamente o ponto de retomada da importação no arquivo informado.<br>
+	 * <br>
+	 * Caso o arquivo já possua um ponto de retomada, gravado por uma importação interrompida, a
+	 * importação é retomada a partir do item seguinte ao último item registrado. Se a origem de
+	 * dados for uma {@link SeekableImportDataSource}, a leitura é posicionada diretamente nesse
+	 * item, caso contrário os itens anteriores são lidos e descartados. Os totais dos resultados
+	 * dos itens concluídos antes da interrupção são mantidos no ponto de retomada. Ao fim da
+	 * importação, o arquivo é removido.<br>
+	 * O tratamento das exceções segue o mesmo comportamento de
+	 * {@link #importData(ImportDataSource, boolean, boolean)}.<br>
+	 * <br>
+	 * Para que os itens anteriores ao ponto de retomada não percam a sua sincronização em caso de
+	 * interrupção, as alterações de sincronização são persistidas antes de cada gravação do ponto
+	 * de retomada. Por isso, a sincronização de uma origem de dados gravável só é permitida se ela
+	 * for uma {@link FlushableImportDataSource}.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados com os dados do
+	 * destino.
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param checkpointFile Arquivo do ponto de retomada da importação
+	 * @return Dados dos itens lidos do DataSource nesta execução com seus respectivos resultados.
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados ou na gravação do
+	 * ponto de retomada
+	 * @throws IllegalArgumentException Se a sincronização for ativada para uma origem de dados
+	 * gravável que não seja uma {@link FlushableImportDataSource}
+	 */
+	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportCheckpointFile checkpointFile) throws DataImportException;
+	
+	/**
+	 * Processa a importação de todos os itens encontrados na origem de dados, entregando cada item
+	 * ao receptor assim que ele é concluído, em vez de acumular os itens até o fim da importação.
+	 * Dessa forma, a memória ocupada pela importação não cresce com a quantidade de itens.<br>
+	 * <br>
+	 * O tratamento das exceções segue o mesmo comportamento de
+	 * {@link #importData(ImportDataSource, boolean, boolean)}.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados com os dados do
+	 * destino.
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param listener Receptor dos itens concluídos
+	 * @return Resumo dos resultados da importação
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados ou no consumo de um
+	 * item pelo receptor
+	 */
+	public DataImportSummary importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportListener<I, T> listener) throws DataImportException;
+	
+	/**
+	 * Processa a importação de todos os itens encontrados na origem de dados, entregando cada item
+	 * concluído ao receptor e registrando periodicamente o ponto de retomada da importação no
+	 * arquivo informado.<br>
+	 * <br>
+	 * Combina o comportamento de
+	 * {@link #importData(ImportDataSource, boolean, boolean, DataImportListener)} e
+	 * {@link #importData(ImportDataSource, boolean, boolean, DataImportCheckpointFile)}. Em uma
+	 * importação retomada, somente os itens concluídos nesta execução são entregues ao receptor,
+	 * porém o resumo retornado inclui os itens concluídos antes da interrupção.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados com os dados do
+	 * destino.
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param listener Receptor dos itens concluídos
+	 * @param checkpointFile Arquivo do ponto de retomada da importação
+	 * @return Resumo dos resultados da importação
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados, no consumo de um item
+	 * pelo receptor ou na gravação do ponto de retomada
+	 * @throws IllegalArgumentException Se a sincronização for ativada para uma origem de dados
+	 * gravável que não seja uma {@link FlushableImportDataSource}
+	 */
+	public DataImportSummary importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportListener<I, T> listener, DataImportCheckpointFile checkpointFile) throws DataImportException;
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import java.io.Serializable;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+
+/**
+ * Interface das fontes de dados de importação capazes de persistir as alterações de
+ * sincronização antes do seu fechamento. Somente essas fontes de dados podem ser sincronizadas
+ * em uma importação com ponto de retomada, já que o ponto de retomada só pode avançar depois que
+ * as alterações dos itens concluídos foram persistidas.
+ * 
+ * @param <I> Identificador o item de importação
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public interface FlushableImportDataSource<I extends Serializable, T extends Serializable> extends ImportDataSource<I, T> {
+	
+	/**
+	 * Persiste as alterações de sincronização pendentes, de forma que sejam mantidas mesmo que a
+	 * fonte de dados não seja fechada. Deve ser chamado somente quando todos os itens lidos já
+	 * foram sincronizados, pois a fonte de dados pode não aceitar a sincronização dos itens lidos
+	 * antes da persistência.
+	 * 
+	 * @throws DataImportException Se ocorrer um erro na escrita da fonte de dados.
+	 */
+	public void flush() throws DataImportException;
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import java.io.Serializable;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+
+/**
+ * Interface das fontes de dados de importação capazes de posicionar a leitura diretamente em um
+ * ponto da sequência de itens, sem a necessidade de ler os itens anteriores. Permite que uma
+ * importação interrompida seja retomada a partir do último {@link DataImportCheckpoint}.
+ * 
+ * @param <I> Identificador o item de importação
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public interface SeekableImportDataSource<I extends Serializable, T extends Serializable> extends ImportDataSource<I, T> {
+	
+	/**
+	 * Recupera a posição da fonte de dados imediatamente após o último item lido. O significado
+	 * do valor depende da implementação, devendo ser utilizado somente em
+	 * {@link #seek(long, int)}.
+	 * 
+	 * @return Posição após o último item lido
+	 */
+	public long getPosition();
+	
+	/**
+	 * Posiciona a leitura da fonte de dados, de forma que o próximo item lido seja o item seguinte
+	 * à posição. Deve ser chamado logo após a abertura da fonte de dados, antes da leitura do
+	 * primeiro item.
+	 * 
+	 * @param position Posição recuperada por {@link #getPosition()}
+	 * @param itemCount Quantidade de itens anteriores à posição, utilizada para manter a
+	 * numeração dos itens seguintes
+	 * @throws DataImportException Se ocorrer um erro no posicionamento da fonte de dados
+	 */
+	public void seek(long position, int itemCount) throws DataImportException;
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import java.io.Serializable;
+
+/**
+ * Interface das fontes de dados de importação que mantêm acessível somente uma janela com os
+ * últimos itens lidos, como as planilhas lidas em modo streaming. Itens que saíram da janela não
+ * podem mais ser sincronizados, portanto o importador deve limitar a quantidade de itens lidos e
+ * ainda não sincronizados ao tamanho da janela.
+ * 
+ * @param <I> Identificador o item de importação
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public interface WindowedImportDataSource<I extends Serializable, T extends Serializable> extends ImportDataSource<I, T> {
+	
+	/**
+	 * Recupera a quantidade máxima de itens lidos que podem aguardar a sincronização, enquanto a
+	 * fonte de dados verifica a existência do próximo item, sem que o mais antigo saia da janela.
+	 * 
+	 * @return Quantidade máxima de itens aguardando sincronização, ou {@link Integer#MAX_VALUE} se
+	 * a fonte de dados não possuir limite
+	 */
+	public int getItemWindowSize();
+}
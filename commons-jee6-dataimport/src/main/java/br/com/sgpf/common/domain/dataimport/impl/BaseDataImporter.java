@@ -7,20 +7,37 @@
 package br.com.sgpf.common.domain.dataimport.impl;
 
 import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Throwables.throwIfUnchecked;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.Futures;
+
+import br.com.sgpf.common.domain.dataimport.DataImportCheckpoint;
+import br.com.sgpf.common.domain.dataimport.DataImportCheckpointFile;
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportListener;
 import br.com.sgpf.common.domain.dataimport.DataImportResult.Status;
+import br.com.sgpf.common.domain.dataimport.DataImportSummary;
+import br.com.sgpf.common.domain.dataimport.FlushableImportDataSource;
 import br.com.sgpf.common.domain.dataimport.DataImporter;
 import br.com.sgpf.common.domain.dataimport.ImportDataSource;
+import br.com.sgpf.common.domain.dataimport.SeekableImportDataSource;
+import br.com.sgpf.common.domain.dataimport.WindowedImportDataSource;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 
 /**
@@ -38,11 +55,24 @@ public abstract class BaseDataImporter<I extends Serializable, T extends Seriali
 	
 	private static final String ERROR_READING_ITEM = "Ocorreu um erro ao ler um item para importação da origem.";
 	private static final String ERROR_SYNCHRONIZING_ITEM = "ocorreu um erro ao sincronizar um item importado com a origem.";
+	private static final String ERROR_PROCESSING_ITEM = "Ocorreu um erro ao processar um item importado.";
+	private static final String ERROR_INTERRUPTED_IMPORT = "A importação foi interrompida.";
+	private static final String ERROR_INVALID_CHUNK_SIZE = "O tamanho do bloco de itens deve ser maior que zero: [%s].";
+	private static final String ERROR_INVALID_QUEUE_CAPACITY = "A capacidade da fila de itens em processamento deve ser maior que zero: [%s].";
+	private static final String ERROR_UNFLUSHABLE_CHECKPOINT_SYNC = "A fonte de dados [%s] só persiste a sincronização no seu fechamento e não pode ser sincronizada em uma importação com ponto de retomada.";
 
 	private static final String ARG_NAME_DATA_SOURCE = "dataSource";
+	private static final String ARG_NAME_EXECUTOR = "executor";
+	private static final String ARG_NAME_CHECKPOINT_FILE = "checkpointFile";
+	private static final String ARG_NAME_LISTENER = "listener";
 	
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Os itens são lidos em blocos de {@link #getProcessingChunkSize()} itens, processados em
+	 * conjunto através de {@link #processItems(List, boolean)} e só então sincronizados com a
+	 * origem. Ao sincronizar uma {@link WindowedImportDataSource}, os blocos são limitados à
+	 * janela de itens da fonte de dados.
 	 */
 	@Override
 	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions) throws DataImportException {
@@ -50,62 +80,566 @@ public abstract class BaseDataImporter<I extends Serializable, T extends Seriali
 		
 		LOGGER.info("Iniciando importação a partir da fonte de dados [{0}].", dataSource);
 		List<DataImportItem<I, T>> itens = new ArrayList<>();
+		importSequentially(dataSource, sync, suppressExceptions, collectingListener(itens), null);
 		
-		dataSource.open();
+		return itens;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Os itens são processados da mesma forma que em
+	 * {@link #importData(ImportDataSource, boolean, boolean)}, porém somente o bloco de
+	 * processamento corrente (ver {@link #getProcessingChunkSize()}) é mantido em memória.
+	 */
+	@Override
+	public DataImportSummary importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportListener<I, T> listener) throws DataImportException {
+		checkNotNull(dataSource, ERROR_NULL_ARGUMENT, ARG_NAME_DATA_SOURCE);
+		checkNotNull(listener, ERROR_NULL_ARGUMENT, ARG_NAME_LISTENER);
 		
-		if (sync && !dataSource.isWritable()) {
-			LOGGER.warn("A sincronização com a origem foi ativada, porém os dados não serão sincronizados, pois a fonte de dados [{0}] não é gravável.", dataSource);
-		}
+		LOGGER.info("Iniciando importação a partir da fonte de dados [{0}].", dataSource);
+		return importSequentially(dataSource, sync, suppressExceptions, listener, null);
+	}
+	
+	/**
+	 * Realiza a importação sequencial dos itens, entregando cada item concluído ao receptor.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param listener Receptor dos itens concluídos
+	 * @param checkpointFile Arquivo do ponto de retomada, null se a importação não for retomável
+	 * @return Resumo da importação, incluindo os itens concluídos antes da retomada
+	 * @throws DataImportException Se ocorrer um erro na importação dos dados
+	 */
+	private DataImportSummary importSequentially(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportListener<I, T> listener, DataImportCheckpointFile checkpointFile) throws DataImportException {
+		List<DataImportItem<I, T>> chunk = new ArrayList<>();
+		
+		openDataSource(dataSource, sync);
 		
+		DataImportCheckpoint checkpoint = checkpointFile != null ? loadCheckpoint(dataSource, checkpointFile) : null;
+		DataImportSummary summary = checkpoint != null ? checkpoint.getSummary() : new DataImportSummary();
+		int chunkSize = fitItemWindow(dataSource, sync, getProcessingChunkSize());
 		int synced = 0;
 		
 		while (dataSource.hasNext()) {
-			DataImportItem<I, T> item;
+			chunk.add(readItem(dataSource, suppressExceptions));
 			
-			try {
-				item = dataSource.next();
-			} catch (DataImportException e) {
-				if (!suppressExceptions) {
-					throw e;
-				}
-				
-				LOGGER.warn("Ocorreu um erro na leitura de um item para importação. Supressão de exceções ativada, importação dos itens restantes proseguirá.", e);
-				itens.add(new DataImportItem<I, T>(ERROR_READING_ITEM, e));
-				
-				if (dataSource.hasNext()) {
-					continue;
+			if (chunk.size() < chunkSize && dataSource.hasNext()) {
+				continue;
+			}
+			
+			synced += importChunk(dataSource, chunk, sync, suppressExceptions);
+			long position = checkpoint != null ? getPosition(dataSource, checkpoint, chunk.size()) : 0L;
+			
+			for (DataImportItem<I, T> item : chunk) {
+				if (checkpoint != null) {
+					checkpoint.register(item, position);
 				} else {
-					break;
+					summary.register(item);
 				}
+				
+				listener.itemImported(item);
 			}
 			
-			processItem(item, suppressExceptions);
+			// O ponto de retomada só avança ao fim do bloco, quando todos os seus itens foram concluídos
+			// e as suas alterações de sincronização foram persistidas pela fonte de dados
+			if (checkpoint != null && checkpointFile.isUpdateDue(checkpoint)) {
+				flushDataSource(dataSource, sync);
+				checkpointFile.save(checkpoint);
+			}
 			
-			LOGGER.debug("Status final da importação do item '{0}': {1}.", item.getId(), item.getResult().getStatus());
+			chunk.clear();
+		}
+		
+		closeDataSource(dataSource, sync, summary.getItemCount(), synced);
+		
+		if (checkpointFile != null) {
+			checkpointFile.delete();
+		}
+		
+		return summary;
+	}
+	
+	/**
+	 * Cria um receptor que acumula os itens concluídos em uma lista.
+	 * 
+	 * @param itens Lista de itens concluídos
+	 * @return Receptor dos itens concluídos
+	 */
+	private DataImportListener<I, T> collectingListener(final List<DataImportItem<I, T>> itens) {
+		return new DataImportListener<I, T>() {
+			@Override
+			public void itemImported(DataImportItem<I, T> item) {
+				itens.add(item);
+			}
+		};
+	}
+	
+	/**
+	 * Processa um bloco de itens lidos na importação sequencial e sincroniza com a origem os itens
+	 * processados.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param chunk Bloco de itens lidos
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @return Quantidade de itens sincronizados com a origem
+	 * @throws DataImportException Se ocorrer um erro no processamento ou na sincronização dos
+	 * itens e as exceções não forem suprimidas
+	 */
+	private int importChunk(ImportDataSource<I, T> dataSource, List<DataImportItem<I, T>> chunk, boolean sync, boolean suppressExceptions) throws DataImportException {
+		processItems(chunk, suppressExceptions);
+		
+		int synced = 0;
+		
+		for (DataImportItem<I, T> item : chunk) {
+			synced = isReadItem(item) && syncItem(dataSource, item, sync, suppressExceptions) ? synced + 1 : synced;
+		}
+		
+		return synced;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Os itens de cada bloco são lidos e sincronizados na thread que chamou o método, na ordem da
+	 * origem, enquanto o processamento dos itens é distribuído entre as threads do executor. Por
+	 * isso, a implementação de {@link #processItem(DataImportItem, boolean)} deve ser thread-safe.
+	 */
+	@Override
+	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, ExecutorService executor, int chunkSize) throws DataImportException {
+		checkNotNull(dataSource, ERROR_NULL_ARGUMENT, ARG_NAME_DATA_SOURCE);
+		checkNotNull(executor, ERROR_NULL_ARGUMENT, ARG_NAME_EXECUTOR);
+		checkArgument(chunkSize > 0, ERROR_INVALID_CHUNK_SIZE, chunkSize);
+		
+		LOGGER.info("Iniciando importação paralela a partir da fonte de dados [{0}] em blocos de {1} itens.", dataSource, chunkSize);
+		List<DataImportItem<I, T>> itens = new ArrayList<>();
+		
+		openDataSource(dataSource, sync);
+		
+		int windowedChunkSize = fitItemWindow(dataSource, sync, chunkSize);
+		int synced = 0;
+		
+		while (dataSource.hasNext()) {
+			List<DataImportItem<I, T>> chunk = new ArrayList<>(windowedChunkSize);
 			
-			if (sync && item.dataChanged() && item.isSync() && dataSource.isWritable()) {
-				synced = syncData(dataSource, item, suppressExceptions) ? synced + 1 : synced;
-			} else if (sync && item.dataChanged() && item.isSync() && !dataSource.isWritable()) {
-				LOGGER.trace("Não foi possível sincronizar o item '{0}' pois a fonte de dados não é gravável.", item.getId());
+			while (chunk.size() < windowedChunkSize && dataSource.hasNext()) {
+				chunk.add(readItem(dataSource, suppressExceptions));
+			}
+			
+			processChunk(chunk, suppressExceptions, executor);
+			
+			for (DataImportItem<I, T> item : chunk) {
+				if (isReadItem(item)) {
+					synced = syncItem(dataSource, item, sync, suppressExceptions) ? synced + 1 : synced;
+				}
+			}
+			
+			itens.addAll(chunk);
+		}
+		
+		closeDataSource(dataSource, sync, itens.size(), synced);
+		
+		return itens;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * A leitura e a sincronização dos itens compartilham a thread que chamou o método, pois as
+	 * fontes de dados não são thread-safe, enquanto o processamento dos itens é distribuído entre
+	 * as threads do executor. Por isso, a implementação de
+	 * {@link #processItem(DataImportItem, boolean)} deve ser thread-safe.
+	 */
+	@Override
+	public Collection<DataImportItem<I, T>> importDataPipelined(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, ExecutorService executor, int queueCapacity) throws DataImportException {
+		checkNotNull(dataSource, ERROR_NULL_ARGUMENT, ARG_NAME_DATA_SOURCE);
+		checkNotNull(executor, ERROR_NULL_ARGUMENT, ARG_NAME_EXECUTOR);
+		checkArgument(queueCapacity > 0, ERROR_INVALID_QUEUE_CAPACITY, queueCapacity);
+		
+		LOGGER.info("Iniciando importação em pipeline a partir da fonte de dados [{0}] com até {1} itens em processamento.", dataSource, queueCapacity);
+		List<DataImportItem<I, T>> itens = new ArrayList<>();
+		Deque<Future<DataImportItem<I, T>>> pending = new ArrayDeque<>(queueCapacity);
+		
+		openDataSource(dataSource, sync);
+		
+		int windowedQueueCapacity = fitItemWindow(dataSource, sync, queueCapacity);
+		int synced = 0;
+		
+		try {
+			while (dataSource.hasNext()) {
+				pending.add(submitItem(readItem(dataSource, suppressExceptions), suppressExceptions, executor));
+				
+				// Sincroniza os itens já processados, aguardando o mais antigo se a fila estiver cheia
+				while (!pending.isEmpty() && (pending.size() >= windowedQueueCapacity || pending.peek().isDone())) {
+					DataImportItem<I, T> item = getProcessingResult(pending.poll());
+					synced = isReadItem(item) && syncItem(dataSource, item, sync, suppressExceptions) ? synced + 1 : synced;
+					itens.add(item);
+				}
 			}
 			
-			itens.add(item);
+			while (!pending.isEmpty()) {
+				DataImportItem<I, T> item = getProcessingResult(pending.poll());
+				synced = isReadItem(item) && syncItem(dataSource, item, sync, suppressExceptions) ? synced + 1 : synced;
+				itens.add(item);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataImportException(ERROR_INTERRUPTED_IMPORT, e);
+		} finally {
+			for (Future<DataImportItem<I, T>> future : pending) {
+				future.cancel(false);
+			}
+		}
+		
+		closeDataSource(dataSource, sync, itens.size(), synced);
+		
+		return itens;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * O ponto de retomada é atualizado após a sincronização de cada bloco de processamento (ver
+	 * {@link #getProcessingChunkSize()}), porém só é gravado no arquivo quando os intervalos de
+	 * gravação do arquivo são atingidos, logo após a persistência das alterações de sincronização
+	 * da fonte de dados.
+	 */
+	@Override
+	public Collection<DataImportItem<I, T>> importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportCheckpointFile checkpointFile) throws DataImportException {
+		List<DataImportItem<I, T>> itens = new ArrayList<>();
+		importData(dataSource, sync, suppressExceptions, collectingListener(itens), checkpointFile);
+		
+		return itens;
+	}
+	
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * O ponto de retomada é atualizado após a sincronização de cada bloco de processamento (ver
+	 * {@link #getProcessingChunkSize()}), porém só é gravado no arquivo quando os intervalos de
+	 * gravação do arquivo são atingidos, logo após a persistência das alterações de sincronização
+	 * da fonte de dados.
+	 */
+	@Override
+	public DataImportSummary importData(ImportDataSource<I, T> dataSource, boolean sync, boolean suppressExceptions, DataImportListener<I, T> listener, DataImportCheckpointFile checkpointFile) throws DataImportException {
+		checkNotNull(dataSource, ERROR_NULL_ARGUMENT, ARG_NAME_DATA_SOURCE);
+		checkNotNull(listener, ERROR_NULL_ARGUMENT, ARG_NAME_LISTENER);
+		checkNotNull(checkpointFile, ERROR_NULL_ARGUMENT, ARG_NAME_CHECKPOINT_FILE);
+		checkArgument(!sync || !dataSource.isWritable() || dataSource instanceof FlushableImportDataSource, ERROR_UNFLUSHABLE_CHECKPOINT_SYNC, dataSource);
+		
+		LOGGER.info("Iniciando importação a partir da fonte de dados [{0}] com ponto de retomada em [{1}].", dataSource, checkpointFile);
+		return importSequentially(dataSource, sync, suppressExceptions, listener, checkpointFile);
+	}
+	
+	/**
+	 * Persiste as alterações de sincronização pendentes na fonte de dados, antes da gravação do
+	 * ponto de retomada.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @throws DataImportException Se ocorrer um erro na escrita da fonte de dados
+	 * @see FlushableImportDataSource
+	 */
+	private void flushDataSource(ImportDataSource<I, T> dataSource, boolean sync) throws DataImportException {
+		if (sync && dataSource instanceof FlushableImportDataSource) {
+			((FlushableImportDataSource<I, T>) dataSource).flush();
 		}
+	}
+	
+	/**
+	 * Carrega o ponto de retomada do arquivo, posicionando a fonte de dados após o último item
+	 * registrado, caso exista.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param checkpointFile Arquivo do ponto de retomada
+	 * @return Ponto de retomada carregado ou um novo ponto de retomada, se o arquivo não existir
+	 * @throws DataImportException Se ocorrer um erro na leitura do arquivo ou no posicionamento da
+	 * fonte de dados
+	 */
+	private DataImportCheckpoint loadCheckpoint(ImportDataSource<I, T> dataSource, DataImportCheckpointFile checkpointFile) throws DataImportException {
+		DataImportCheckpoint checkpoint = checkpointFile.load();
 		
+		if (checkpoint == null) {
+			return new DataImportCheckpoint();
+		}
+		
+		seekDataSource(dataSource, checkpoint);
+		return checkpoint;
+	}
+	
+	/**
+	 * Posiciona a fonte de dados no item seguinte ao último item registrado no ponto de retomada.
+	 * Caso a fonte de dados não seja posicionável, os itens anteriores são lidos e descartados.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param checkpoint Ponto de retomada
+	 * @throws DataImportException Se ocorrer um erro no posicionamento da fonte de dados
+	 */
+	private void seekDataSource(ImportDataSource<I, T> dataSource, DataImportCheckpoint checkpoint) throws DataImportException {
+		LOGGER.info("Retomando importação após o item '{0}', {1} itens já concluídos.", checkpoint.getLastItemId(), checkpoint.getItemCount());
+		
+		if (dataSource instanceof SeekableImportDataSource) {
+			((SeekableImportDataSource<I, T>) dataSource).seek(checkpoint.getPosition(), checkpoint.getItemCount());
+			return;
+		}
+		
+		for (int i = 0; i < checkpoint.getItemCount() && dataSource.hasNext(); i++) {
+			try {
+				dataSource.next();
+			} catch (DataImportException e) {
+				// O erro de leitura do item já foi contabilizado antes da interrupção
+				LOGGER.trace("Erro de leitura ignorado no descarte de um item já concluído.", e);
+			}
+		}
+	}
+	
+	/**
+	 * Recupera a posição da fonte de dados após o último item lido. Se a fonte de dados não for
+	 * posicionável, a posição é a quantidade de itens lidos.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param checkpoint Ponto de retomada, ainda sem os últimos itens lidos
+	 * @param itemCount Quantidade de itens lidos ainda não registrados no ponto de retomada
+	 * @return Posição da fonte de dados
+	 */
+	private long getPosition(ImportDataSource<I, T> dataSource, DataImportCheckpoint checkpoint, int itemCount) {
+		if (dataSource instanceof SeekableImportDataSource) {
+			return ((SeekableImportDataSource<I, T>) dataSource).getPosition();
+		}
+		
+		return (long) checkpoint.getItemCount() + itemCount;
+	}
+	
+	/**
+	 * Submete o processamento de um item ao executor. Itens com erro de leitura não são
+	 * processados.
+	 * 
+	 * @param item Item de importação
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param executor Executor responsável pelo processamento dos itens
+	 * @return Resultado do processamento, que retorna o próprio item
+	 */
+	private Future<DataImportItem<I, T>> submitItem(final DataImportItem<I, T> item, final boolean suppressExceptions, ExecutorService executor) {
+		if (!isReadItem(item)) {
+			return Futures.immediateFuture(item);
+		}
+		
+		return executor.submit(new Callable<DataImportItem<I, T>>() {
+			@Override
+			public DataImportItem<I, T> call() throws DataImportException {
+				processItem(item, suppressExceptions);
+				return item;
+			}
+		});
+	}
+	
+	/**
+	 * Abre a fonte de dados para o início da importação.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @throws DataImportException Se ocorrer um erro na abertura da fonte de dados
+	 */
+	private void openDataSource(ImportDataSource<I, T> dataSource, boolean sync) throws DataImportException {
+		dataSource.open();
+		
+		if (sync && !dataSource.isWritable()) {
+			LOGGER.warn("A sincronização com a origem foi ativada, porém os dados não serão sincronizados, pois a fonte de dados [{0}] não é gravável.", dataSource);
+		}
+	}
+	
+	/**
+	 * Limita a quantidade de itens lidos e ainda não sincronizados à janela de itens da fonte de
+	 * dados, para que nenhum item saia da janela antes da sua sincronização.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @param itemCount Quantidade de itens aguardando sincronização solicitada
+	 * @return Quantidade de itens aguardando sincronização que cabe na janela da fonte de dados
+	 * @see WindowedImportDataSource
+	 */
+	private int fitItemWindow(ImportDataSource<I, T> dataSource, boolean sync, int itemCount) {
+		if (sync && dataSource instanceof WindowedImportDataSource) {
+			int windowSize = ((WindowedImportDataSource<I, T>) dataSource).getItemWindowSize();
+			
+			if (itemCount > windowSize) {
+				LOGGER.warn("A quantidade de itens aguardando sincronização foi reduzida de {0} para {1}, para caber na janela de itens da fonte de dados [{2}].", itemCount, windowSize, dataSource);
+				return windowSize;
+			}
+		}
+		
+		return itemCount;
+	}
+	
+	/**
+	 * Fecha a fonte de dados ao fim da importação.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @param itemCount Quantidade de itens importados
+	 * @param synced Quantidade de itens sincronizados com a origem
+	 * @throws DataImportException Se ocorrer um erro no fechamento da fonte de dados
+	 */
+	private void closeDataSource(ImportDataSource<I, T> dataSource, boolean sync, long itemCount, int synced) throws DataImportException {
 		LOGGER.info("Importação a partir da fonte de dados [{0}] finalizada.", dataSource);
-		LOGGER.info("Total de itens processados: {0}", itens.size());
+		LOGGER.info("Total de itens processados: {0}", itemCount);
 		
 		if (sync && !dataSource.isWritable()) {
 			LOGGER.info("Total de itens sincronizados com a origem: {0}", synced);
 		}
 		
 		dataSource.close();
+	}
+	
+	/**
+	 * Lê o próximo item da fonte de dados.<br>
+	 * Caso ocorra um erro de leitura e a supressão de exceções esteja ativada, é retornado um item
+	 * de erro, sem identificador.
+	 * 
+	 * @param dataSource Origem dos dados
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @return Item lido da fonte de dados
+	 * @throws DataImportException Se ocorrer um erro na leitura e as exceções não forem suprimidas
+	 */
+	private DataImportItem<I, T> readItem(ImportDataSource<I, T> dataSource, boolean suppressExceptions) throws DataImportException {
+		try {
+			return dataSource.next();
+		} catch (DataImportException e) {
+			if (!suppressExceptions) {
+				throw e;
+			}
+			
+			LOGGER.warn("Ocorreu um erro na leitura de um item para importação. Supressão de exceções ativada, importação dos itens restantes proseguirá.", e);
+			return new DataImportItem<I, T>(ERROR_READING_ITEM, e);
+		}
+	}
+	
+	/**
+	 * Verifica se o item foi lido com sucesso da fonte de dados.
+	 * 
+	 * @param item Item de importação
+	 * @return True se o item foi lido, False se é um item de erro de leitura
+	 */
+	protected boolean isReadItem(DataImportItem<I, T> item) {
+		return item.getId() != null;
+	}
+	
+	/**
+	 * Processa em paralelo os itens de um bloco, aguardando o fim do processamento de todos eles.
+	 * 
+	 * @param chunk Bloco de itens
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @param executor Executor responsável pelo processamento dos itens
+	 * @throws DataImportException Se ocorrer um erro no processamento de algum item do bloco, ou
+	 * se a thread for interrompida
+	 */
+	private void processChunk(List<DataImportItem<I, T>> chunk, final boolean suppressExceptions, ExecutorService executor) throws DataImportException {
+		List<Callable<Void>> tasks = new ArrayList<>(chunk.size());
 		
-		return itens;
+		for (final DataImportItem<I, T> item : chunk) {
+			if (isReadItem(item)) {
+				tasks.add(new Callable<Void>() {
+					@Override
+					public Void call() throws DataImportException {
+						processItem(item, suppressExceptions);
+						return null;
+					}
+				});
+			}
+		}
+		
+		try {
+			// Todos os itens do bloco são concluídos antes de propagar o primeiro erro, na ordem da origem
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				getProcessingResult(future);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DataImportException(ERROR_INTERRUPTED_IMPORT, e);
+		}
+	}
+	
+	/**
+	 * Recupera o resultado do processamento de um item, propagando a exceção lançada por ele.
+	 * 
+	 * @param future Resultado do processamento do item
+	 * @return Valor retornado pelo processamento do item
+	 * @throws DataImportException Se ocorreu um erro no processamento do item
+	 * @throws InterruptedException Se a thread for interrompida
+	 */
+	private <V> V getProcessingResult(Future<V> future) throws DataImportException, InterruptedException {
+		try {
+			return future.get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			
+			if (cause instanceof DataImportException) {
+				throw (DataImportException) cause;
+			}
+			
+			throwIfUnchecked(cause);
+			throw new DataImportException(ERROR_PROCESSING_ITEM, cause);
+		}
+	}
+
+	/**
+	 * Sincroniza um item processado com a origem, caso a sincronização esteja ativada para ele e a
+	 * fonte de dados seja gravável.
+	 * 
+	 * @param dataSource Data source de origem dos dados
+	 * @param item Item processado
+	 * @param sync Flag que indica se os dados da origem devem ser sincronizados
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @return True se o item foi sincronizado, False caso contrário
+	 * @throws DataImportException Se ocorre um erro durante a gravação dos dados na origem
+	 */
+	private boolean syncItem(ImportDataSource<I, T> dataSource, DataImportItem<I, T> item, boolean sync, boolean suppressExceptions) throws DataImportException {
+		LOGGER.debug("Status final da importação do item '{0}': {1}.", item.getId(), item.getResult().getStatus());
+		
+		if (sync && item.dataChanged() && item.isSync() && dataSource.isWritable()) {
+			return syncData(dataSource, item, suppressExceptions);
+		} else if (sync && item.dataChanged() && item.isSync() && !dataSource.isWritable()) {
+			LOGGER.trace("Não foi possível sincronizar o item '{0}' pois a fonte de dados não é gravável.", item.getId());
+		}
+		
+		return false;
 	}
 
 	/**
-	 * Realiza a importação dos dados de um item da origem no destino.
+	 * Recupera a quantidade de itens lidos que são processados em conjunto, através de
+	 * {@link #processItems(List, boolean)}, na importação sequencial. Por padrão, cada item é
+	 * processado e sincronizado individualmente.
+	 * 
+	 * @return Quantidade de itens de cada bloco de processamento
+	 */
+	protected int getProcessingChunkSize() {
+		return 1;
+	}
+	
+	/**
+	 * Realiza a importação no destino dos dados de um bloco de itens da importação sequencial,
+	 * antes da sincronização de qualquer um deles com a origem. Itens com erro de leitura não
+	 * devem ser processados.<br>
+	 * A implementação padrão processa cada item através de
+	 * {@link #processItem(DataImportItem, boolean)}.
+	 * 
+	 * @param items Bloco de itens lidos da origem, na ordem da origem
+	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
+	 * @throws DataImportException Se ocorre um erro durante a gravação dos dados no destino
+	 */
+	protected void processItems(List<DataImportItem<I, T>> items, boolean suppressExceptions) throws DataImportException {
+		for (DataImportItem<I, T> item : items) {
+			if (isReadItem(item)) {
+				processItem(item, suppressExceptions);
+			}
+		}
+	}
+	
+	/**
+	 * Realiza a importação dos dados de um item da origem no destino.<br>
+	 * Na importação paralela, esse método é chamado concorrentemente por várias threads.
 	 * 
 	 * @param item Item a ser importado no destino
 	 * @param suppressExceptions Flag que indica se as exceções devem ser suprimidas ou não
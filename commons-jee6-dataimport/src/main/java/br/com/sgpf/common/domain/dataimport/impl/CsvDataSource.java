@@ -0,0 +1,1563 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+
+import br.com.sgpf.common.document.csv.CsvReader;
+import br.com.sgpf.common.document.csv.CsvRowUpdater;
+import br.com.sgpf.common.document.csv.CsvSidecarFile;
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.FlushableImportDataSource;
+import br.com.sgpf.common.domain.dataimport.SeekableImportDataSource;
+import br.com.sgpf.common.domain.dataimport.WindowedImportDataSource;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceNoMoreItensException;
+import br.com.sgpf.common.infra.exception.InfraestructureFatalException;
+
+/**
+ * Implementação fonte de dados em documento CSV.<br>
+ * <br>
+ * A primeira linha do documento deve ser o cabeçalho com os nomes das colunas. O documento é lido
+ * em blocos através de um {@link CsvReader}, de forma que somente o registro corrente é mantido
+ * em memória e somente os campos efetivamente lidos são decodificados. Os valores de data devem
+ * estar no padrão definido por {@link #getDatePattern()}.<br>
+ * <br>
+ * Quando baseada em um arquivo gravável, a fonte de dados registra durante a leitura as posições
+ * em bytes das linhas da janela de sincronização, de tamanho {@link #getRowWindowSize()},
+ * permitindo que a sincronização altere somente as linhas modificadas através de um
+ * {@link CsvRowUpdater}. As alterações das linhas que saem da janela são gravadas em lotes: as
+ * linhas que mantêm o seu tamanho são sobrescritas no próprio arquivo e as demais são gravadas no
+ * {@link CsvSidecarFile arquivo lateral}, sem regravar o documento. A memória e a escrita da
+ * sincronização são, portanto, proporcionais à janela e às linhas alteradas, e não ao tamanho do
+ * documento. O arquivo lateral de um documento baseado em arquivo é aplicado na sua leitura.<br>
+ * <br>
+ * A posição da fonte de dados é a posição em bytes do fim da linha do último item lido. Quando
+ * baseada em um arquivo, a leitura é posicionada diretamente nela, sem a leitura das linhas
+ * anteriores.
+ * 
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class CsvDataSource<T extends Serializable> implements SeekableImportDataSource<Integer, T>, WindowedImportDataSource<Integer, T>, FlushableImportDataSource<Integer, T> {
+	private static final long serialVersionUID = 5107390287614317093L;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CsvDataSource.class);
+
+	/**
+	 * Charset padrão dos documentos.
+	 */
+	public static final String DEFAULT_CHARSET = "UTF-8";
+
+	/**
+	 * Delimitador padrão dos campos.
+	 */
+	public static final char DEFAULT_DELIMITER = ',';
+
+	/**
+	 * Tamanho padrão da janela de sincronização, em linhas.
+	 */
+	public static final int DEFAULT_ROW_WINDOW_SIZE = 1000;
+
+	private static final String DEFAULT_DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+	private static final String VALUE_STRING_Y = "Y";
+	private static final String VALUE_STRING_N = "N";
+	private static final String VALUE_STRING_TRUE = "TRUE";
+	private static final String VALUE_STRING_FALSE = "FALSE";
+
+	private static final String ERROR_FILE_NOT_FOUND = "Não foi possível encontrar o arquivo [%s].";
+	private static final String ERROR_NON_READABLE_FILE = "O arquivo [%s] não pode ser lido.";
+	private static final String ERROR_OPENING_CLOSED_ONCE_INPUT_STREAM = "Não é possível reabrir um documento baseado em Input Stream que já foi fechado.";
+	private static final String ERROR_DOCUMENT_OPEN = "O documento está aberto.";
+	private static final String ERROR_DOCUMENT_CLOSED = "O documento está fechado.";
+	private static final String ERROR_READING_DOCUMENT = "Ocorreu um erro na leitura do documento.";
+	private static final String ERROR_NO_HEADER = "O documento não possui um cabeçalho.";
+	private static final String ERROR_NO_MORE_ITENS = "O documento não possui mais itens.";
+	private static final String ERROR_NEXT_NEVER_CALLED = "Não existe elemento corrente porque o método next() não foi chamado desde que o Data Source foi aberto.";
+	private static final String ERROR_NON_EXISTING_COLUMN = "O documento não possui uma coluna com o nome [%s].";
+	private static final String ERROR_NON_EXISTING_COLUMN_INDEX = "O documento não possui uma coluna com o índice [%s].";
+	private static final String ERROR_FIELD_FORMAT = "O campo [%d] da linha [%d] não possui um valor do tipo [%s].";
+	private static final String ERROR_UNWRITABLE_DOCUMENT = "O documento não é gravável.";
+	private static final String ERROR_NON_READ_ROW = "A linha [%s] ainda não foi lida.";
+	private static final String ERROR_ROW_OUT_OF_WINDOW = "A linha [%s] saiu da janela de sincronização do documento.";
+	private static final String ERROR_SEEK_AFTER_READ = "O documento só pode ser posicionado antes da leitura do primeiro item.";
+	private static final String ERROR_INVALID_POSITION = "A posição [%s] não é válida.";
+
+	private static final String ARG_NAME_FILE = "file";
+	private static final String ARG_NAME_IS = "is";
+	private static final String ARG_NAME_CHARSET_NAME = "charsetName";
+	private static final String ARG_NAME_COLUMN_NAME = "columnName";
+	private static final String ARG_NAME_ROW_INDEX = "rowIndex";
+
+	private static final String TO_STRING_PATTERN_FILE = "%s based on File [%s]";
+	private static final String TO_STRING_PATTERN_INPUT_STREAM = "%s based on Input Stream";
+
+	private enum ImportActionHeader { INSERT, UPDATE, MERGE, REMOVE, FORCE, SYNC }
+
+	private File file;
+	private transient InputStream is;
+	private String charsetName;
+	private char delimiter;
+	private boolean closedOnce;
+
+	private transient CsvReader reader;
+	private transient CsvRowUpdater updater;
+	private transient DateFormat dateFormat;
+	private transient CsvSidecarFile.Reader sidecarReader;
+	private transient long[] rowOffsets;
+	private transient String[][] sidecarRows;
+	private transient int syncFloor;
+	private transient int flushedRow;
+	private transient int syncRowIndex;
+	private transient String[] syncRowFields;
+	private int currRow;
+	private int columnCount;
+	private boolean changed;
+	private BiMap<String, Integer> columnMap = HashBiMap.create();
+	private int[] actionColumns = new int[ImportActionHeader.values().length];
+
+	/**
+	 * Cria uma fonte de dados a partir do arquivo CSV, em UTF-8 e delimitado por vírgulas.
+	 * 
+	 * @param file Arquivo CSV
+	 * @throws DataSourceDocumentException Se o arquivo não existir ou for ilegível
+	 */
+	public CsvDataSource(File file) throws DataSourceDocumentException {
+		this(file, DEFAULT_CHARSET, DEFAULT_DELIMITER);
+	}
+
+	/**
+	 * Cria uma fonte de dados a partir do arquivo CSV.
+	 * 
+	 * @param file Arquivo CSV
+	 * @param charsetName Nome do charset do arquivo
+	 * @param delimiter Delimitador dos campos
+	 * @throws DataSourceDocumentException Se o arquivo não existir ou for ilegível
+	 */
+	public CsvDataSource(File file, String charsetName, char delimiter) throws DataSourceDocumentException {
+		this(charsetName, delimiter);
+		this.file = checkNotNull(file, ERROR_NULL_ARGUMENT, ARG_NAME_FILE);
+
+		if (!file.exists()) {
+			throw new DataSourceDocumentException(String.format(ERROR_FILE_NOT_FOUND, file.getAbsolutePath()));
+		} else if (!file.canRead()) {
+			throw new DataSourceDocumentException(String.format(ERROR_NON_READABLE_FILE, file.getAbsolutePath()));
+		}
+	}
+
+	/**
+	 * Cria uma fonte de dados a partir de um input stream CSV, em UTF-8 e delimitado por vírgulas.
+	 * 
+	 * @param is Input Stream com os dados do CSV
+	 */
+	public CsvDataSource(InputStream is) {
+		this(is, DEFAULT_CHARSET, DEFAULT_DELIMITER);
+	}
+
+	/**
+	 * Cria uma fonte de dados a partir de um input stream CSV.
+	 * 
+	 * @param is Input Stream com os dados do CSV
+	 * @param charsetName Nome do charset do documento
+	 * @param delimiter Delimitador dos campos
+	 */
+	public CsvDataSource(InputStream is, String charsetName, char delimiter) {
+		this(charsetName, delimiter);
+		this.is = checkNotNull(is, ERROR_NULL_ARGUMENT, ARG_NAME_IS);
+	}
+
+	private CsvDataSource(String charsetName, char delimiter) {
+		super();
+		checkNotNull(charsetName, ERROR_NULL_ARGUMENT, ARG_NAME_CHARSET_NAME);
+		Charset.forName(charsetName);
+		this.charsetName = charsetName;
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isWritable() {
+		return file != null && file.canWrite();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open() throws DataSourceDocumentException, DataSourceFormatException {
+		checkState(reader == null, ERROR_DOCUMENT_OPEN);
+		checkState(file != null || !closedOnce, ERROR_OPENING_CLOSED_ONCE_INPUT_STREAM);
+
+		ReadableByteChannel channel;
+
+		if (isWritable()) {
+			try {
+				updater = new CsvRowUpdater(file, Charset.forName(charsetName), delimiter);
+				channel = updater.getChannel();
+			} catch (DocumentIOException e) {
+				throw new DataSourceDocumentException(e.getMessage(), e);
+			}
+		} else if (file != null) {
+			try {
+				channel = new FileInputStream(file).getChannel();
+			} catch (FileNotFoundException e) {
+				throw new DataSourceDocumentException(String.format(ERROR_FILE_NOT_FOUND, file.getAbsolutePath()), e);
+			}
+		} else {
+			channel = Channels.newChannel(is);
+		}
+
+		if (file != null && CsvSidecarFile.getFile(file).exists()) {
+			try {
+				sidecarReader = new CsvSidecarFile.Reader(CsvSidecarFile.getFile(file));
+			} catch (DocumentIOException e) {
+				throw new DataSourceDocumentException(e.getMessage(), e);
+			}
+		}
+
+		reader = new CsvReader(channel, Charset.forName(charsetName), delimiter, CsvReader.DEFAULT_BUFFER_SIZE);
+		dateFormat = new SimpleDateFormat(getDatePattern());
+		reset();
+		mapColumns();
+		resolveColumns();
+	}
+
+	/**
+	 * Mapeia as colunas do documento a partir do seu cabeçalho.
+	 * 
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura do documento
+	 * @throws DataSourceFormatException Se o documento não possui um cabeçalho válido
+	 */
+	private void mapColumns() throws DataSourceDocumentException, DataSourceFormatException {
+		try {
+			if (!reader.nextRecord()) {
+				throw new DataSourceFormatException(ERROR_NO_HEADER);
+			}
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		} catch (DocumentFormatException e) {
+			throw new DataSourceFormatException(e.getMessage(), e);
+		}
+
+		currRow++;
+		recordRowOffsets();
+		columnCount = reader.getFieldCount();
+
+		for (int i = 0; i < columnCount; i++) {
+			String name = reader.getString(i);
+
+			if (name != null) {
+				columnMap.put(name.trim().toUpperCase(), i);
+			}
+		}
+
+		LOGGER.debug("Colunas mapeadas: {0}", columnMap);
+	}
+
+	/**
+	 * Resolve os índices das colunas utilizadas na leitura dos itens. É chamado na abertura da
+	 * fonte de dados, logo após o mapeamento do cabeçalho.<br>
+	 * Subclasses devem sobrescrever este método para resolver uma única vez, através de
+	 * {@link #resolveColumn(String)}, os índices das suas colunas, utilizando-os nos métodos de
+	 * leitura por índice de coluna. A implementação sobrescrita deve chamar a implementação da
+	 * superclasse.
+	 * 
+	 * @throws DataSourceFormatException Se o documento não possui alguma das colunas
+	 */
+	protected void resolveColumns() throws DataSourceFormatException {
+		for (ImportActionHeader header : ImportActionHeader.values()) {
+			actionColumns[header.ordinal()] = resolveColumn(header.name());
+		}
+	}
+
+	/**
+	 * Resolve o índice de uma coluna do documento na abertura da fonte de dados. Diferente de
+	 * {@link #getColumnIndex(String)}, a ausência da coluna é tratada como um erro de formato
+	 * da fonte de dados.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Índice da coluna
+	 * @throws DataSourceFormatException Se o documento não possui a coluna
+	 */
+	protected int resolveColumn(String columnName) throws DataSourceFormatException {
+		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
+		
+		if (!columnMap.containsKey(columnName)) {
+			throw new DataSourceFormatException(String.format(ERROR_NON_EXISTING_COLUMN, columnName));
+		}
+		
+		return columnMap.get(columnName);
+	}
+	
+	/**
+	 * Recupera o índice de uma coluna do documento dado seu nome.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Índice da coluna
+	 */
+	protected int getColumnIndex(String columnName) {
+		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
+		checkArgument(columnMap.containsKey(columnName), ERROR_NON_EXISTING_COLUMN, columnName);
+		return columnMap.get(columnName);
+	}
+	
+	/**
+	 * Recupera o nome de uma coluna do documento dado seu índice.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Nome da coluna
+	 */
+	protected String getColumnName(int column) {
+		checkArgument(columnMap.containsValue(column), ERROR_NON_EXISTING_COLUMN_INDEX, column);
+		return columnMap.inverse().get(column);
+	}
+
+	/**
+	 * Recupera o tamanho da janela de sincronização, em linhas. As alterações de uma linha só são
+	 * gravadas depois que ela sai da janela, portanto o tamanho limita a quantidade de linhas
+	 * alteradas mantidas em memória.
+	 * 
+	 * @return Tamanho da janela de sincronização, maior que zero
+	 */
+	protected int getRowWindowSize() {
+		return DEFAULT_ROW_WINDOW_SIZE;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Somente documentos graváveis possuem limite, pois as linhas que saem da janela de
+	 * sincronização não podem mais ser alteradas.
+	 */
+	@Override
+	public int getItemWindowSize() {
+		return isWritable() ? getRowWindowSize() : Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Recupera o padrão dos valores de data do documento, no formato de {@link SimpleDateFormat}.
+	 * 
+	 * @return Padrão dos valores de data
+	 */
+	protected String getDatePattern() {
+		return DEFAULT_DATE_PATTERN;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean hasNext() {
+		checkState(reader != null, ERROR_DOCUMENT_CLOSED);
+
+		try {
+			return reader.hasNextRecord();
+		} catch (DocumentIOException e) {
+			throw new InfraestructureFatalException(ERROR_READING_DOCUMENT, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DataImportItem<Integer, T> next() throws DataSourceNoMoreItensException, DataSourceFormatException {
+		if (!hasNext()) {
+			throw new DataSourceNoMoreItensException(ERROR_NO_MORE_ITENS);
+		}
+
+		currRow++;
+
+		try {
+			reader.nextRecord();
+		} catch (DocumentIOException e) {
+			throw new InfraestructureFatalException(ERROR_READING_DOCUMENT, e);
+		} catch (DocumentFormatException e) {
+			throw new DataSourceFormatException(e.getMessage(), e);
+		} finally {
+			recordRowOffsets();
+		}
+
+		readSidecarRow();
+		slideWindow();
+
+		return current();
+	}
+
+	/**
+	 * Registra as posições em bytes de início e fim da linha corrente no documento, utilizadas na
+	 * sincronização. Somente são registradas quando o documento é gravável, e somente as posições
+	 * das linhas da janela de sincronização são mantidas.
+	 */
+	private void recordRowOffsets() {
+		if (updater == null) {
+			return;
+		}
+
+		rowOffsets[getWindowSlot(currRow)] = reader.getRecordOffset();
+		rowOffsets[getWindowSlot(currRow + 1)] = reader.getNextRecordOffset();
+	}
+
+	/**
+	 * Recupera a posição de uma linha nos arrays circulares da janela de sincronização.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @return Posição da linha nos arrays da janela
+	 */
+	private int getWindowSlot(int rowIndex) {
+		return rowIndex % rowOffsets.length;
+	}
+
+	/**
+	 * Aplica à linha corrente a sua entrada no arquivo lateral, se existir, cujos campos passam a
+	 * prevalecer sobre o conteúdo lido do documento.
+	 * 
+	 * @throws DataSourceFormatException Se a entrada não estiver em um formato CSV válido
+	 */
+	private void readSidecarRow() throws DataSourceFormatException {
+		String[] fields = null;
+
+		if (sidecarReader != null) {
+			try {
+				CsvSidecarFile.Entry entry = sidecarReader.find(reader.getRecordOffset());
+				fields = entry != null ? entry.getFields(Charset.forName(charsetName), delimiter) : null;
+			} catch (DocumentIOException e) {
+				throw new InfraestructureFatalException(ERROR_READING_DOCUMENT, e);
+			} catch (DocumentFormatException e) {
+				throw new DataSourceFormatException(e.getMessage(), e);
+			}
+		}
+
+		if (updater != null) {
+			sidecarRows[getWindowSlot(currRow)] = fields;
+		}
+
+		if (fields != null) {
+			syncRowFields = Arrays.copyOf(fields, Math.max(fields.length, columnCount));
+			syncRowIndex = currRow;
+		}
+	}
+
+	/**
+	 * Avança a janela de sincronização até a linha corrente. Sempre que uma janela inteira de
+	 * linhas sai da janela, as suas alterações pendentes são gravadas em lote.
+	 */
+	private void slideWindow() {
+		if (updater == null) {
+			return;
+		}
+
+		syncFloor = Math.max(syncFloor, currRow - getRowWindowSize());
+
+		if (syncFloor - flushedRow >= getRowWindowSize()) {
+			try {
+				updater.flush(rowOffsets[getWindowSlot(syncFloor + 1)]);
+			} catch (DocumentIOException e) {
+				throw new InfraestructureFatalException(e.getMessage(), e);
+			}
+
+			flushedRow = syncFloor;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getPosition() {
+		checkState(reader != null, ERROR_DOCUMENT_CLOSED);
+		return reader.getNextRecordOffset();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Quando baseada em Input Stream, as linhas anteriores à posição são lidas e descartadas.
+	 */
+	@Override
+	public void seek(long position, int itemCount) throws DataSourceDocumentException {
+		checkState(reader != null, ERROR_DOCUMENT_CLOSED);
+		checkState(currRow == 0, ERROR_SEEK_AFTER_READ);
+		checkArgument(position >= reader.getNextRecordOffset() && itemCount >= 0, ERROR_INVALID_POSITION, position);
+
+		try {
+			if (file != null) {
+				reader.seek(position, itemCount);
+			} else {
+				skipRecords(position);
+			}
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		}
+
+		currRow = itemCount;
+
+		if (updater != null) {
+			// As linhas anteriores à posição não são sincronizadas, somente o fim da última é necessário
+			syncFloor = currRow;
+			flushedRow = currRow;
+			rowOffsets[getWindowSlot(currRow + 1)] = position;
+		}
+	}
+
+	/**
+	 * Descarta as linhas do documento até a posição informada.
+	 * 
+	 * @param position Posição em bytes do fim da última linha descartada
+	 * @throws DocumentIOException Se ocorrer um erro na leitura do documento
+	 */
+	private void skipRecords(long position) throws DocumentIOException {
+		while (reader.getNextRecordOffset() < position && reader.hasNextRecord()) {
+			try {
+				reader.nextRecord();
+			} catch (DocumentFormatException e) {
+				// O erro de formato da linha já foi tratado antes da interrupção
+				LOGGER.trace("Erro de formato ignorado no descarte de uma linha já lida.", e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DataImportItem<Integer, T> current() throws DataSourceFormatException {
+		checkState(currRow >= 1, ERROR_NEXT_NEVER_CALLED);
+
+		Boolean insert = readYesNoField(actionColumns[ImportActionHeader.INSERT.ordinal()]);
+		Boolean update = readYesNoField(actionColumns[ImportActionHeader.UPDATE.ordinal()]);
+		Boolean merge = readYesNoField(actionColumns[ImportActionHeader.MERGE.ordinal()]);
+		Boolean remove = readYesNoField(actionColumns[ImportActionHeader.REMOVE.ordinal()]);
+		Boolean force = readYesNoField(actionColumns[ImportActionHeader.FORCE.ordinal()]);
+		Boolean sync = readYesNoField(actionColumns[ImportActionHeader.SYNC.ordinal()]);
+		DataImportInstructions instructions = new DataImportInstructions(insert, update, merge, remove, force, sync);
+
+		return new DataImportItem<>(currRow, readCurrentItemData(), instructions);
+	}
+
+	/**
+	 * Lê os dados do item atual.
+	 * 
+	 * @return Dados do item atual
+	 * @throws DataSourceFormatException Se algum campo do item não estiver no formato esperado
+	 */
+	protected abstract T readCurrentItemData() throws DataSourceFormatException;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean sync(DataImportItem<Integer, T> item) throws DataImportException {
+		boolean rowChanged = syncRow(item.getId(), item.getData());
+		changed = changed || rowChanged;
+		return rowChanged;
+	}
+
+	/**
+	 * Sincroniza os dados de uma linha do documento.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param data Dados da linha
+	 * @return True se houve uma mudança real nos dados do documento, False caso contrário.
+	 * @throws DataImportException Se ocorrer um erro na leitura ou escrita da linha
+	 */
+	protected abstract boolean syncRow(Integer rowIndex, T data) throws DataImportException;
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * As alterações pendentes de todas as linhas lidas são gravadas, que passam a ficar fora da
+	 * janela de sincronização.
+	 */
+	@Override
+	public void flush() throws DataSourceDocumentException {
+		checkState(reader != null, ERROR_DOCUMENT_CLOSED);
+
+		if (updater == null) {
+			return;
+		}
+
+		try {
+			updater.flush();
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		}
+
+		syncFloor = currRow;
+		flushedRow = currRow;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void close() throws DataImportException {
+		if (reader == null) {
+			return;
+		}
+
+		try {
+			if (sidecarReader != null) {
+				// O arquivo lateral precisa ser liberado antes de ser substituído
+				sidecarReader.close();
+				sidecarReader = null;
+			}
+
+			if (changed && updater.hasChanges()) {
+				updater.commit();
+			}
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		} finally {
+			releaseResources();
+		}
+	}
+
+	/**
+	 * Libera os recursos ocupados pela leitura e escrita do documento.
+	 * 
+	 * @throws DataSourceDocumentException Se ocorrer um erro no fechamento do documento
+	 */
+	private void releaseResources() throws DataSourceDocumentException {
+		try {
+			reader.close();
+
+			if (sidecarReader != null) {
+				sidecarReader.close();
+			}
+
+			if (updater != null) {
+				updater.close();
+			}
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		} finally {
+			reader = null;
+			sidecarReader = null;
+			updater = null;
+			rowOffsets = null;
+			sidecarRows = null;
+			syncRowFields = null;
+			closedOnce = true;
+		}
+	}
+
+	/**
+	 * Reseta as variáveis auxiliares.
+	 */
+	private void reset() {
+		changed = false;
+		currRow = -1;
+		syncFloor = 0;
+		flushedRow = 0;
+		columnMap.clear();
+		rowOffsets = updater != null ? new long[getRowWindowSize() + 1] : null;
+		sidecarRows = updater != null ? new String[getRowWindowSize() + 1][] : null;
+		syncRowFields = null;
+	}
+
+	/**
+	 * Cria a exceção de erro de formato de um campo da linha corrente.
+	 * 
+	 * @param column Índice da coluna
+	 * @param type Tipo esperado do campo
+	 * @param cause Causa do erro
+	 * @return Exceção de erro de formato
+	 */
+	private DataSourceFormatException formatException(int column, Class<?> type, Throwable cause) {
+		return new DataSourceFormatException(String.format(ERROR_FIELD_FORMAT, column, currRow, type.getSimpleName()), cause);
+	}
+
+	/**
+	 * Verifica se um campo da linha corrente está vazio.
+	 * 
+	 * @param column Índice da coluna
+	 * @return True se o campo estiver vazio, False caso contrário
+	 */
+	protected boolean isEmptyField(int column) {
+		return isCurrentRowSynced() ? getFieldValue(column) == null : reader.isEmpty(column);
+	}
+
+	/**
+	 * Verifica se a linha corrente possui alterações de sincronização, que devem prevalecer sobre o
+	 * conteúdo lido do documento.
+	 * 
+	 * @return True se a linha corrente foi alterada pela sincronização, False caso contrário
+	 */
+	private boolean isCurrentRowSynced() {
+		return syncRowFields != null && syncRowIndex == currRow;
+	}
+
+	/**
+	 * Recupera o conteúdo de um campo da linha corrente, considerando as alterações de
+	 * sincronização.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 */
+	private String getFieldValue(int column) {
+		if (isCurrentRowSynced()) {
+			return column < syncRowFields.length ? syncRowFields[column] : null;
+		}
+
+		return reader.getString(column);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo String.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 */
+	protected String readStringField(String columnName) {
+		return readStringField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo String.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 */
+	protected String readStringField(int column) {
+		return getFieldValue(column);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Character.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Character
+	 */
+	protected Character readCharField(String columnName) throws DataSourceFormatException {
+		return readCharField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Character.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Character
+	 */
+	protected Character readCharField(int column) throws DataSourceFormatException {
+		String value = getFieldValue(column);
+
+		if (value == null) {
+			return null;
+		} else if (value.length() != 1) {
+			throw formatException(column, Character.class, null);
+		}
+
+		return value.charAt(0);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Double.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Double
+	 */
+	protected Double readDoubleField(String columnName) throws DataSourceFormatException {
+		return readDoubleField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Double.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Double
+	 */
+	protected Double readDoubleField(int column) throws DataSourceFormatException {
+		return isEmptyField(column) ? null : readDoubleValue(column);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Float.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Float
+	 */
+	protected Float readFloatField(String columnName) throws DataSourceFormatException {
+		return readFloatField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Float.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Float
+	 */
+	protected Float readFloatField(int column) throws DataSourceFormatException {
+		String value = getFieldValue(column);
+
+		try {
+			return value == null ? null : Float.valueOf(value.trim());
+		} catch (NumberFormatException e) {
+			throw formatException(column, Float.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Long.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Long
+	 */
+	protected Long readLongField(String columnName) throws DataSourceFormatException {
+		return readLongField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Long.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Long
+	 */
+	protected Long readLongField(int column) throws DataSourceFormatException {
+		return isEmptyField(column) ? null : readLongValue(column);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Integer.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Integer
+	 */
+	protected Integer readIntegerField(String columnName) throws DataSourceFormatException {
+		return readIntegerField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Integer.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Integer
+	 */
+	protected Integer readIntegerField(int column) throws DataSourceFormatException {
+		return isEmptyField(column) ? null : readIntValue(column);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Short.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Short
+	 */
+	protected Short readShortField(String columnName) throws DataSourceFormatException {
+		return readShortField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Short.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Short
+	 */
+	protected Short readShortField(int column) throws DataSourceFormatException {
+		if (isEmptyField(column)) {
+			return null;
+		}
+
+		long value = readLongValue(column);
+
+		if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+			throw formatException(column, Short.class, null);
+		}
+
+		return (short) value;
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Byte.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Byte
+	 */
+	protected Byte readByteField(String columnName) throws DataSourceFormatException {
+		return readByteField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Byte.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Byte
+	 */
+	protected Byte readByteField(int column) throws DataSourceFormatException {
+		if (isEmptyField(column)) {
+			return null;
+		}
+
+		long value = readLongValue(column);
+
+		if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
+			throw formatException(column, Byte.class, null);
+		}
+
+		return (byte) value;
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Boolean, representado por TRUE ou FALSE.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Boolean
+	 */
+	protected Boolean readBooleanField(String columnName) throws DataSourceFormatException {
+		return readBooleanField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Boolean, representado por TRUE ou FALSE.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Boolean
+	 */
+	protected Boolean readBooleanField(int column) throws DataSourceFormatException {
+		return readFlagField(column, VALUE_STRING_TRUE, VALUE_STRING_FALSE, Boolean.class);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Date.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Date
+	 */
+	protected Date readDateField(String columnName) throws DataSourceFormatException {
+		return readDateField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Date.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Date
+	 */
+	protected Date readDateField(int column) throws DataSourceFormatException {
+		String value = getFieldValue(column);
+
+		try {
+			return value == null ? null : dateFormat.parse(value.trim());
+		} catch (ParseException e) {
+			throw formatException(column, Date.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Calendar.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Date
+	 */
+	protected Calendar readCalendarField(String columnName) throws DataSourceFormatException {
+		return readCalendarField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Calendar.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Date
+	 */
+	protected Calendar readCalendarField(int column) throws DataSourceFormatException {
+		Date value = readDateField(column);
+
+		if (value == null) {
+			return null;
+		}
+
+		Calendar calendar = Calendar.getInstance();
+		calendar.setTime(value);
+		return calendar;
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Flag Y/N.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Flag Y/N
+	 */
+	protected Boolean readYesNoField(String columnName) throws DataSourceFormatException {
+		return readYesNoField(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo Flag Y/N.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui conteúdo no formato Flag Y/N
+	 */
+	protected Boolean readYesNoField(int column) throws DataSourceFormatException {
+		return readFlagField(column, VALUE_STRING_Y, VALUE_STRING_N, Boolean.class);
+	}
+
+	/**
+	 * Lê o conteúdo de um campo do tipo flag, comparando-o sem diferenciar maiúsculas e minúsculas
+	 * com os valores verdadeiro e falso.
+	 * 
+	 * @param column Índice da coluna
+	 * @param trueValue Representação do valor verdadeiro
+	 * @param falseValue Representação do valor falso
+	 * @param type Tipo do campo, utilizado na mensagem de erro
+	 * @return Conteúdo do campo, null se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui nenhum dos dois valores
+	 */
+	private Boolean readFlagField(int column, String trueValue, String falseValue, Class<?> type) throws DataSourceFormatException {
+		String value = getFieldValue(column);
+
+		if (value == null) {
+			return null;
+		} else if (trueValue.equalsIgnoreCase(value.trim())) {
+			return true;
+		} else if (falseValue.equalsIgnoreCase(value.trim())) {
+			return false;
+		}
+
+		throw formatException(column, type, null);
+	}
+
+	/**
+	 * Lê o conteúdo numérico de um campo como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, zero se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui um número inteiro
+	 */
+	protected long readLongValue(int column) throws DataSourceFormatException {
+		if (isCurrentRowSynced()) {
+			String value = getFieldValue(column);
+
+			try {
+				return value == null ? 0L : Long.parseLong(value.trim());
+			} catch (NumberFormatException e) {
+				throw formatException(column, Long.class, e);
+			}
+		}
+
+		try {
+			return reader.getLong(column);
+		} catch (DocumentFormatException e) {
+			throw new DataSourceFormatException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo numérico de um campo como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, zero se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui um número inteiro no intervalo de int
+	 */
+	protected int readIntValue(int column) throws DataSourceFormatException {
+		long value = readLongValue(column);
+
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+			throw formatException(column, Integer.class, null);
+		}
+
+		return (int) value;
+	}
+
+	/**
+	 * Lê o conteúdo numérico de um campo como um valor primitivo.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo do campo, zero se o campo estiver vazio
+	 * @throws DataSourceFormatException Se o campo não possui um número
+	 */
+	protected double readDoubleValue(int column) throws DataSourceFormatException {
+		String value = getFieldValue(column);
+
+		try {
+			return value == null ? 0D : Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			throw formatException(column, Double.class, e);
+		}
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo String.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeStringField(Integer rowIndex, String columnName, String value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeStringField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo String.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeStringField(Integer rowIndex, int column, String value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Character.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeCharField(Integer rowIndex, String columnName, Character value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeCharField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Character.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeCharField(Integer rowIndex, int column, Character value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Double.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeDoubleField(Integer rowIndex, String columnName, Double value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeDoubleField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Double.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeDoubleField(Integer rowIndex, int column, Double value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Float.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeFloatField(Integer rowIndex, String columnName, Float value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeFloatField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Float.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeFloatField(Integer rowIndex, int column, Float value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Long.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeLongField(Integer rowIndex, String columnName, Long value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeLongField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Long.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeLongField(Integer rowIndex, int column, Long value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Integer.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeIntegerField(Integer rowIndex, String columnName, Integer value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeIntegerField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Integer.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeIntegerField(Integer rowIndex, int column, Integer value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Short.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeShortField(Integer rowIndex, String columnName, Short value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeShortField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Short.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeShortField(Integer rowIndex, int column, Short value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Byte.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeByteField(Integer rowIndex, String columnName, Byte value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeByteField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Byte.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeByteField(Integer rowIndex, int column, Byte value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : String.valueOf(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Boolean.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeBooleanField(Integer rowIndex, String columnName, Boolean value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeBooleanField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Boolean.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeBooleanField(Integer rowIndex, int column, Boolean value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : value ? VALUE_STRING_TRUE : VALUE_STRING_FALSE);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Date.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeDateField(Integer rowIndex, String columnName, Date value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeDateField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Date.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeDateField(Integer rowIndex, int column, Date value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : dateFormat.format(value));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Calendar.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeCalendarField(Integer rowIndex, String columnName, Calendar value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeCalendarField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Calendar.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeCalendarField(Integer rowIndex, int column, Calendar value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : dateFormat.format(value.getTime()));
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Flag Y/N.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeYesNoField(Integer rowIndex, String columnName, Boolean value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeYesNoField(rowIndex, getColumnIndex(columnName), value);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo do tipo Flag Y/N.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeYesNoField(Integer rowIndex, int column, Boolean value) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, value == null ? null : value ? VALUE_STRING_Y : VALUE_STRING_N);
+	}
+
+	/**
+	 * Limpa o conteúdo de um campo.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeNullValue(Integer rowIndex, String columnName) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeNullValue(rowIndex, getColumnIndex(columnName));
+	}
+
+	/**
+	 * Limpa o conteúdo de um campo.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	protected boolean writeNullValue(Integer rowIndex, int column) throws DataSourceDocumentException, DataSourceFormatException {
+		return writeField(rowIndex, column, null);
+	}
+
+	/**
+	 * Escreve o conteúdo de um campo de uma linha já lida do documento. A linha alterada é mantida
+	 * em memória e registrada no {@link CsvRowUpdater}, que só a grava no fechamento da fonte de
+	 * dados.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo do campo, null ou vazio para limpar o campo
+	 * @return Flag indicando se houve mudança real no conteúdo do campo.
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	private boolean writeField(Integer rowIndex, int column, String value) throws DataSourceDocumentException, DataSourceFormatException {
+		checkState(updater != null, ERROR_UNWRITABLE_DOCUMENT);
+		checkNotNull(rowIndex, ERROR_NULL_ARGUMENT, ARG_NAME_ROW_INDEX);
+		checkArgument(rowIndex >= 1 && rowIndex <= currRow, ERROR_NON_READ_ROW, rowIndex);
+		checkArgument(rowIndex > syncFloor, ERROR_ROW_OUT_OF_WINDOW, rowIndex);
+
+		String[] fields = getSyncRowFields(rowIndex);
+		String newValue = value == null || value.isEmpty() ? null : value;
+
+		if (Objects.equals(fields[column], newValue)) {
+			return false;
+		}
+
+		fields[column] = newValue;
+		int slot = getWindowSlot(rowIndex);
+		updater.updateRecord(rowOffsets[slot], rowOffsets[getWindowSlot(rowIndex + 1)], fields, sidecarRows[slot] != null);
+		return true;
+	}
+
+	/**
+	 * Recupera os campos de uma linha para sincronização. Os campos da última linha sincronizada
+	 * são mantidos em memória, de forma que a escrita de vários campos de uma mesma linha lê a
+	 * linha do documento uma única vez.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @return Campos da linha, com ao menos a quantidade de colunas do cabeçalho
+	 * @throws DataSourceDocumentException Se ocorrer um erro na leitura da linha
+	 * @throws DataSourceFormatException Se a linha não estiver em um formato CSV válido
+	 */
+	private String[] getSyncRowFields(int rowIndex) throws DataSourceDocumentException, DataSourceFormatException {
+		if (syncRowFields != null && syncRowIndex == rowIndex) {
+			return syncRowFields;
+		}
+
+		try {
+			int slot = getWindowSlot(rowIndex);
+			String[] fields = updater.readRecord(rowOffsets[slot], rowOffsets[getWindowSlot(rowIndex + 1)], sidecarRows[slot]);
+			syncRowFields = fields.length < columnCount ? Arrays.copyOf(fields, columnCount) : fields;
+			syncRowIndex = rowIndex;
+			return syncRowFields;
+		} catch (DocumentIOException e) {
+			throw new DataSourceDocumentException(e.getMessage(), e);
+		} catch (DocumentFormatException e) {
+			throw new DataSourceFormatException(e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return file != null ? String.format(TO_STRING_PATTERN_FILE, getClass().getSimpleName(), file.getAbsolutePath())
+				: String.format(TO_STRING_PATTERN_INPUT_STREAM, getClass().getSimpleName());
+	}
+}
@@ -0,0 +1,759 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import static br.com.sgpf.common.infra.resources.Constants.ERROR_NULL_ARGUMENT;
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.FlushableImportDataSource;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceNoMoreItensException;
+import br.com.sgpf.common.infra.exception.InfraestructureFatalException;
+
+/**
+ * Implementação fonte de dados sobre o {@link ResultSet} de uma consulta JDBC, para importações a
+ * partir de tabelas de staging de outro banco de dados.<br>
+ * <br>
+ * A consulta é executada com um {@link ResultSet} somente leitura e de avanço único, cujas linhas
+ * são trazidas do banco em blocos do tamanho de busca configurado. Somente a linha corrente é
+ * mantida em memória. A consulta deve retornar a coluna chave, que identifica os itens, e as
+ * colunas das instruções de importação (INSERT, UPDATE, MERGE, REMOVE, FORCE e SYNC) com os
+ * valores Y ou N.<br>
+ * <br>
+ * Se um comando de atualização for informado, a fonte de dados é gravável e a sincronização dos
+ * itens é feita através desse comando, cujos parâmetros são preenchidos por
+ * {@link #bindSyncParameters(PreparedStatement, Serializable, Serializable)}. Os comandos são
+ * agrupados e executados em lotes em uma conexão própria, separada da conexão da consulta.
+ * 
+ * @param <I> Tipo da chave dos itens
+ * @param <T> Tipo do dado
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class JdbcDataSource<I extends Serializable, T extends Serializable> implements FlushableImportDataSource<I, T> {
+	private static final long serialVersionUID = 2871459902138875630L;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(JdbcDataSource.class);
+
+	/**
+	 * Tamanho padrão do bloco de linhas trazido do banco a cada busca.
+	 */
+	public static final int DEFAULT_FETCH_SIZE = 500;
+
+	/**
+	 * Tamanho padrão dos lotes de atualização.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private static final String VALUE_STRING_Y = "Y";
+	private static final String VALUE_STRING_N = "N";
+
+	private static final String ERROR_DATA_SOURCE_OPEN = "A fonte de dados está aberta.";
+	private static final String ERROR_DATA_SOURCE_CLOSED = "A fonte de dados está fechada.";
+	private static final String ERROR_UNWRITABLE_DATA_SOURCE = "A fonte de dados não é gravável.";
+	private static final String ERROR_EXECUTING_QUERY = "Ocorreu um erro na execução da consulta.";
+	private static final String ERROR_READING_RESULT = "Ocorreu um erro na leitura do resultado da consulta.";
+	private static final String ERROR_EXECUTING_UPDATE = "Ocorreu um erro na execução das atualizações.";
+	private static final String ERROR_CLOSING_DATA_SOURCE = "Ocorreu um erro ao fechar a fonte de dados.";
+	private static final String ERROR_NO_MORE_ITENS = "O resultado da consulta não possui mais itens.";
+	private static final String ERROR_NEXT_NEVER_CALLED = "Não existe elemento corrente porque o método next() não foi chamado desde que o Data Source foi aberto.";
+	private static final String ERROR_NON_EXISTING_COLUMN = "O resultado da consulta não possui uma coluna com o nome [%s].";
+	private static final String ERROR_COLUMN_FORMAT = "A coluna [%d] da linha [%d] não possui um valor do tipo [%s].";
+	private static final String ERROR_INVALID_FETCH_SIZE = "O tamanho de busca deve ser positivo: [%s].";
+	private static final String ERROR_INVALID_BATCH_SIZE = "O tamanho do lote deve ser positivo: [%s].";
+
+	private static final String ARG_NAME_DATA_SOURCE = "dataSource";
+	private static final String ARG_NAME_QUERY = "query";
+	private static final String ARG_NAME_KEY_COLUMN = "keyColumn";
+	private static final String ARG_NAME_KEY_CLASS = "keyClass";
+	private static final String ARG_NAME_COLUMN_NAME = "columnName";
+	private static final String ARG_NAME_ITEM = "item";
+
+	private static final String TO_STRING_PATTERN = "%s based on Query [%s]";
+
+	private enum ImportActionHeader { INSERT, UPDATE, MERGE, REMOVE, FORCE, SYNC }
+
+	private transient DataSource dataSource;
+	private final String query;
+	private final String keyColumn;
+	private final Class<I> keyClass;
+	private final String updateStatement;
+	private int fetchSize = DEFAULT_FETCH_SIZE;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private transient Connection connection;
+	private transient PreparedStatement statement;
+	private transient ResultSet resultSet;
+	private transient Connection syncConnection;
+	private transient PreparedStatement syncStatement;
+	private transient DataImportItem<I, T> currentItem;
+	private transient DataSourceFormatException currentError;
+	private int currRow;
+	private boolean lookahead;
+	private boolean hasNextRow;
+	private int pendingUpdates;
+	private Map<String, Integer> columnMap = new HashMap<>();
+	private int keyColumnIndex;
+	private int[] actionColumns = new int[ImportActionHeader.values().length];
+
+	/**
+	 * Cria uma fonte de dados somente leitura a partir de uma consulta.
+	 * 
+	 * @param dataSource Data Source JDBC do banco de dados
+	 * @param query Consulta dos itens
+	 * @param keyColumn Nome da coluna chave dos itens
+	 * @param keyClass Tipo da chave dos itens
+	 */
+	public JdbcDataSource(DataSource dataSource, String query, String keyColumn, Class<I> keyClass) {
+		this(dataSource, query, keyColumn, keyClass, null);
+	}
+
+	/**
+	 * Cria uma fonte de dados gravável a partir de uma consulta e de um comando de atualização.
+	 * 
+	 * @param dataSource Data Source JDBC do banco de dados
+	 * @param query Consulta dos itens
+	 * @param keyColumn Nome da coluna chave dos itens
+	 * @param keyClass Tipo da chave dos itens
+	 * @param updateStatement Comando de atualização utilizado na sincronização dos itens, null
+	 * para uma fonte de dados somente leitura
+	 */
+	public JdbcDataSource(DataSource dataSource, String query, String keyColumn, Class<I> keyClass, String updateStatement) {
+		super();
+		this.dataSource = checkNotNull(dataSource, ERROR_NULL_ARGUMENT, ARG_NAME_DATA_SOURCE);
+		this.query = checkNotNull(query, ERROR_NULL_ARGUMENT, ARG_NAME_QUERY);
+		this.keyColumn = checkNotNull(keyColumn, ERROR_NULL_ARGUMENT, ARG_NAME_KEY_COLUMN).toUpperCase();
+		this.keyClass = checkNotNull(keyClass, ERROR_NULL_ARGUMENT, ARG_NAME_KEY_CLASS);
+		this.updateStatement = updateStatement;
+	}
+
+	/**
+	 * Define o tamanho do bloco de linhas trazido do banco a cada busca. Deve ser definido antes
+	 * da abertura da fonte de dados.
+	 * 
+	 * @param fetchSize Tamanho do bloco de linhas
+	 */
+	public void setFetchSize(int fetchSize) {
+		checkArgument(fetchSize > 0, ERROR_INVALID_FETCH_SIZE, fetchSize);
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Define a quantidade de atualizações agrupadas em cada lote de sincronização.
+	 * 
+	 * @param batchSize Tamanho do lote
+	 */
+	public void setBatchSize(int batchSize) {
+		checkArgument(batchSize > 0, ERROR_INVALID_BATCH_SIZE, batchSize);
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isWritable() {
+		return updateStatement != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void open() throws DataSourceDocumentException, DataSourceFormatException {
+		checkState(resultSet == null, ERROR_DATA_SOURCE_OPEN);
+		reset();
+
+		try {
+			connection = dataSource.getConnection();
+			statement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			statement.setFetchSize(fetchSize);
+			resultSet = statement.executeQuery();
+		} catch (SQLException e) {
+			releaseResources();
+			throw new DataSourceDocumentException(ERROR_EXECUTING_QUERY, e);
+		}
+
+		try {
+			mapColumns();
+			resolveColumns();
+		} catch (SQLException e) {
+			releaseResources();
+			throw new DataSourceFormatException(ERROR_READING_RESULT, e);
+		} catch (DataSourceFormatException e) {
+			releaseResources();
+			throw e;
+		}
+	}
+
+	/**
+	 * Mapeia as colunas do resultado da consulta a partir dos seus metadados.
+	 * 
+	 * @throws SQLException Se ocorrer um erro na leitura dos metadados
+	 */
+	private void mapColumns() throws SQLException {
+		ResultSetMetaData metaData = resultSet.getMetaData();
+
+		for (int column = 1; column <= metaData.getColumnCount(); column++) {
+			columnMap.put(metaData.getColumnLabel(column).toUpperCase(), column);
+		}
+
+		LOGGER.debug("Colunas mapeadas: {0}", columnMap);
+	}
+
+	/**
+	 * Resolve os índices das colunas utilizadas na leitura dos itens. É chamado na abertura da
+	 * fonte de dados, logo após o mapeamento das colunas.<br>
+	 * Subclasses devem sobrescrever este método para resolver uma única vez, através de
+	 * {@link #resolveColumn(String)}, os índices das suas colunas, utilizando-os nos métodos de
+	 * leitura por índice de coluna. A implementação sobrescrita deve chamar a implementação da
+	 * superclasse.
+	 * 
+	 * @throws DataSourceFormatException Se o resultado da consulta não possui alguma das colunas
+	 */
+	protected void resolveColumns() throws DataSourceFormatException {
+		keyColumnIndex = resolveColumn(keyColumn);
+
+		for (ImportActionHeader header : ImportActionHeader.values()) {
+			actionColumns[header.ordinal()] = resolveColumn(header.name());
+		}
+	}
+
+	/**
+	 * Resolve o índice de uma coluna do resultado da consulta na abertura da fonte de dados.
+	 * Diferente de {@link #getColumnIndex(String)}, a ausência da coluna é tratada como um erro
+	 * de formato da fonte de dados.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Índice da coluna, iniciando em 1
+	 * @throws DataSourceFormatException Se o resultado da consulta não possui a coluna
+	 */
+	protected int resolveColumn(String columnName) throws DataSourceFormatException {
+		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
+
+		if (!columnMap.containsKey(columnName)) {
+			throw new DataSourceFormatException(String.format(ERROR_NON_EXISTING_COLUMN, columnName));
+		}
+
+		return columnMap.get(columnName);
+	}
+
+	/**
+	 * Recupera o índice de uma coluna do resultado da consulta dado seu nome.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Índice da coluna, iniciando em 1
+	 */
+	protected int getColumnIndex(String columnName) {
+		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
+		checkArgument(columnMap.containsKey(columnName), ERROR_NON_EXISTING_COLUMN, columnName);
+		return columnMap.get(columnName);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Como o {@link ResultSet} só avança, a verificação já posiciona o cursor na próxima linha.
+	 * Por isso os dados do item corrente são lidos no momento da chamada de {@link #next()}.
+	 */
+	@Override
+	public boolean hasNext() {
+		checkState(resultSet != null, ERROR_DATA_SOURCE_CLOSED);
+
+		if (!lookahead) {
+			try {
+				hasNextRow = resultSet.next();
+			} catch (SQLException e) {
+				throw new InfraestructureFatalException(ERROR_READING_RESULT, e);
+			}
+
+			lookahead = true;
+		}
+
+		return hasNextRow;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public DataImportItem<I, T> next() throws DataSourceNoMoreItensException, DataSourceFormatException {
+		if (!hasNext()) {
+			throw new DataSourceNoMoreItensException(ERROR_NO_MORE_ITENS);
+		}
+
+		lookahead = false;
+		currRow++;
+		currentItem = null;
+		currentError = null;
+
+		try {
+			currentItem = readCurrentItem();
+		} catch (DataSourceFormatException e) {
+			currentError = e;
+			throw e;
+		}
+
+		return currentItem;
+	}
+
+	/**
+	 * Lê o item da linha em que o cursor está posicionado.
+	 * 
+	 * @return Item lido
+	 * @throws DataSourceFormatException Se alguma coluna do item não estiver no formato esperado
+	 */
+	private DataImportItem<I, T> readCurrentItem() throws DataSourceFormatException {
+		I key;
+
+		try {
+			key = resultSet.getObject(keyColumnIndex, keyClass);
+		} catch (SQLException e) {
+			throw formatException(keyColumnIndex, keyClass, e);
+		}
+
+		Boolean insert = readYesNoColumn(actionColumns[ImportActionHeader.INSERT.ordinal()]);
+		Boolean update = readYesNoColumn(actionColumns[ImportActionHeader.UPDATE.ordinal()]);
+		Boolean merge = readYesNoColumn(actionColumns[ImportActionHeader.MERGE.ordinal()]);
+		Boolean remove = readYesNoColumn(actionColumns[ImportActionHeader.REMOVE.ordinal()]);
+		Boolean force = readYesNoColumn(actionColumns[ImportActionHeader.FORCE.ordinal()]);
+		Boolean sync = readYesNoColumn(actionColumns[ImportActionHeader.SYNC.ordinal()]);
+		DataImportInstructions instructions = new DataImportInstructions(insert, update, merge, remove, force, sync);
+
+		return new DataImportItem<>(key, readCurrentItemData(), instructions);
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Retorna o item lido na última chamada de {@link #next()}.
+	 */
+	@Override
+	public DataImportItem<I, T> current() throws DataSourceFormatException {
+		checkState(currRow >= 1, ERROR_NEXT_NEVER_CALLED);
+
+		if (currentError != null) {
+			throw currentError;
+		}
+
+		return currentItem;
+	}
+
+	/**
+	 * Lê os dados do item atual.
+	 * 
+	 * @return Dados do item atual
+	 * @throws DataSourceFormatException Se alguma coluna do item não estiver no formato esperado
+	 */
+	protected abstract T readCurrentItemData() throws DataSourceFormatException;
+
+	/**
+	 * {@inheritDoc}<br>
+	 * A atualização é adicionada ao lote corrente, que é executado ao atingir o tamanho de lote
+	 * configurado ou no fechamento da fonte de dados. Por isso sempre retorna True.
+	 */
+	@Override
+	public boolean sync(DataImportItem<I, T> item) throws DataImportException {
+		checkState(isWritable(), ERROR_UNWRITABLE_DATA_SOURCE);
+		checkState(resultSet != null, ERROR_DATA_SOURCE_CLOSED);
+		checkNotNull(item, ERROR_NULL_ARGUMENT, ARG_NAME_ITEM);
+
+		try {
+			if (syncStatement == null) {
+				syncConnection = dataSource.getConnection();
+				syncStatement = syncConnection.prepareStatement(updateStatement);
+			}
+
+			bindSyncParameters(syncStatement, item.getId(), item.getData());
+			syncStatement.addBatch();
+		} catch (SQLException e) {
+			throw new DataSourceDocumentException(ERROR_EXECUTING_UPDATE, e);
+		}
+
+		if (++pendingUpdates >= batchSize) {
+			executeBatch();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Preenche os parâmetros do comando de atualização com os dados de um item.
+	 * 
+	 * @param statement Comando de atualização
+	 * @param key Chave do item
+	 * @param data Dados do item
+	 * @throws SQLException Se ocorrer um erro no preenchimento dos parâmetros
+	 */
+	protected abstract void bindSyncParameters(PreparedStatement statement, I key, T data) throws SQLException;
+
+	/**
+	 * Executa o lote de atualizações pendentes.
+	 * 
+	 * @throws DataSourceDocumentException Se ocorrer um erro na execução do lote
+	 */
+	private void executeBatch() throws DataSourceDocumentException {
+		if (pendingUpdates == 0) {
+			return;
+		}
+
+		try {
+			syncStatement.executeBatch();
+			pendingUpdates = 0;
+		} catch (SQLException e) {
+			throw new DataSourceDocumentException(ERROR_EXECUTING_UPDATE, e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * Executa o lote de atualizações pendentes.
+	 */
+	@Override
+	public void flush() throws DataSourceDocumentException {
+		checkState(resultSet != null, ERROR_DATA_SOURCE_CLOSED);
+		executeBatch();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * As atualizações pendentes são executadas antes da liberação dos recursos.
+	 */
+	@Override
+	public void close() throws DataImportException {
+		if (resultSet == null) {
+			return;
+		}
+
+		try {
+			executeBatch();
+		} finally {
+			releaseResources();
+		}
+	}
+
+	/**
+	 * Libera os recursos JDBC ocupados pela fonte de dados.
+	 * 
+	 * @throws DataSourceDocumentException Se ocorrer um erro na liberação dos recursos
+	 */
+	private void releaseResources() throws DataSourceDocumentException {
+		SQLException error = null;
+		AutoCloseable[] resources = { syncStatement, syncConnection, resultSet, statement, connection };
+
+		for (AutoCloseable resource : resources) {
+			try {
+				if (resource != null) {
+					resource.close();
+				}
+			} catch (Exception e) {
+				error = error == null ? new SQLException(ERROR_CLOSING_DATA_SOURCE, e) : error;
+			}
+		}
+
+		syncStatement = null;
+		syncConnection = null;
+		resultSet = null;
+		statement = null;
+		connection = null;
+		currentItem = null;
+		currentError = null;
+
+		if (error != null) {
+			throw new DataSourceDocumentException(ERROR_CLOSING_DATA_SOURCE, error);
+		}
+	}
+
+	/**
+	 * Reseta as variáveis auxiliares.
+	 */
+	private void reset() {
+		currRow = 0;
+		lookahead = false;
+		hasNextRow = false;
+		pendingUpdates = 0;
+		columnMap.clear();
+	}
+
+	/**
+	 * Cria a exceção de erro de formato de uma coluna da linha corrente.
+	 * 
+	 * @param column Índice da coluna
+	 * @param type Tipo esperado da coluna
+	 * @param cause Causa do erro
+	 * @return Exceção de erro de formato
+	 */
+	private DataSourceFormatException formatException(int column, Class<?> type, Throwable cause) {
+		return new DataSourceFormatException(String.format(ERROR_COLUMN_FORMAT, column, currRow, type.getSimpleName()), cause);
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo String.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como String
+	 */
+	protected String readStringColumn(String columnName) throws DataSourceFormatException {
+		return readStringColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo String.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como String
+	 */
+	protected String readStringColumn(int column) throws DataSourceFormatException {
+		try {
+			return resultSet.getString(column);
+		} catch (SQLException e) {
+			throw formatException(column, String.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Double.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Double
+	 */
+	protected Double readDoubleColumn(String columnName) throws DataSourceFormatException {
+		return readDoubleColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Double.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Double
+	 */
+	protected Double readDoubleColumn(int column) throws DataSourceFormatException {
+		double value = readDoubleValue(column);
+		return wasNull(column) ? null : value;
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Long.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Long
+	 */
+	protected Long readLongColumn(String columnName) throws DataSourceFormatException {
+		return readLongColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Long.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Long
+	 */
+	protected Long readLongColumn(int column) throws DataSourceFormatException {
+		long value = readLongValue(column);
+		return wasNull(column) ? null : value;
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Integer.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Integer
+	 */
+	protected Integer readIntegerColumn(String columnName) throws DataSourceFormatException {
+		return readIntegerColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Integer.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Integer
+	 */
+	protected Integer readIntegerColumn(int column) throws DataSourceFormatException {
+		int value = readIntValue(column);
+		return wasNull(column) ? null : value;
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Boolean.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Boolean
+	 */
+	protected Boolean readBooleanColumn(String columnName) throws DataSourceFormatException {
+		return readBooleanColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Boolean.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Boolean
+	 */
+	protected Boolean readBooleanColumn(int column) throws DataSourceFormatException {
+		try {
+			boolean value = resultSet.getBoolean(column);
+			return resultSet.wasNull() ? null : value;
+		} catch (SQLException e) {
+			throw formatException(column, Boolean.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Date, a partir de um timestamp.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Date
+	 */
+	protected Date readDateColumn(String columnName) throws DataSourceFormatException {
+		return readDateColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Date, a partir de um timestamp.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como Date
+	 */
+	protected Date readDateColumn(int column) throws DataSourceFormatException {
+		try {
+			Timestamp value = resultSet.getTimestamp(column);
+			return value == null ? null : new Date(value.getTime());
+		} catch (SQLException e) {
+			throw formatException(column, Date.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Flag Y/N.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula ou vazia
+	 * @throws DataSourceFormatException Se a coluna não possuir conteúdo no formato Flag Y/N
+	 */
+	protected Boolean readYesNoColumn(String columnName) throws DataSourceFormatException {
+		return readYesNoColumn(getColumnIndex(columnName));
+	}
+
+	/**
+	 * Lê o conteúdo de uma coluna do tipo Flag Y/N.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, null se a coluna for nula ou vazia
+	 * @throws DataSourceFormatException Se a coluna não possuir conteúdo no formato Flag Y/N
+	 */
+	protected Boolean readYesNoColumn(int column) throws DataSourceFormatException {
+		String value = readStringColumn(column);
+
+		if (VALUE_STRING_Y.equalsIgnoreCase(value)) {
+			return true;
+		} else if (VALUE_STRING_N.equalsIgnoreCase(value)) {
+			return false;
+		} else if (value != null && !value.isEmpty()) {
+			throw formatException(column, Boolean.class, null);
+		}
+
+		return null;
+	}
+
+	/**
+	 * Lê o conteúdo numérico de uma coluna como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, zero se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como long
+	 */
+	protected long readLongValue(int column) throws DataSourceFormatException {
+		try {
+			return resultSet.getLong(column);
+		} catch (SQLException e) {
+			throw formatException(column, Long.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo numérico de uma coluna como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, zero se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como int
+	 */
+	protected int readIntValue(int column) throws DataSourceFormatException {
+		try {
+			return resultSet.getInt(column);
+		} catch (SQLException e) {
+			throw formatException(column, Integer.class, e);
+		}
+	}
+
+	/**
+	 * Lê o conteúdo numérico de uma coluna como um valor primitivo, sem a criação de objetos.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da coluna, zero se a coluna for nula
+	 * @throws DataSourceFormatException Se a coluna não puder ser lida como double
+	 */
+	protected double readDoubleValue(int column) throws DataSourceFormatException {
+		try {
+			return resultSet.getDouble(column);
+		} catch (SQLException e) {
+			throw formatException(column, Double.class, e);
+		}
+	}
+
+	/**
+	 * Verifica se o último valor primitivo lido era nulo.
+	 * 
+	 * @param column Índice da coluna lida
+	 * @return True se o valor lido era nulo, False caso contrário
+	 * @throws DataSourceFormatException Se não for possível verificar o valor lido
+	 */
+	protected boolean wasNull(int column) throws DataSourceFormatException {
+		try {
+			return resultSet.wasNull();
+		} catch (SQLException e) {
+			throw formatException(column, Object.class, e);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format(TO_STRING_PATTERN, getClass().getSimpleName(), query);
+	}
+}
@@ -16,16 +16,18 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+
 import br.com.sgpf.common.document.excel.WorkbookWrapper;
+import br.com.sgpf.common.document.excel.impl.StreamingWorkbookWrapperImpl;
 import br.com.sgpf.common.document.excel.impl.WorkbookWrapperImpl;
 import br.com.sgpf.common.document.exception.DocumentException;
 import br.com.sgpf.common.document.exception.DocumentFileException;
@@ -33,7 +35,8 @@ import br.com.sgpf.common.document.exception.DocumentFormatException;
 import br.com.sgpf.common.document.exception.DocumentIOException;
 import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
-import br.com.sgpf.common.domain.dataimport.ImportDataSource;
+import br.com.sgpf.common.domain.dataimport.SeekableImportDataSource;
+import br.com.sgpf.common.domain.dataimport.WindowedImportDataSource;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
@@ -47,7 +50,7 @@ import br.com.sgpf.common.domain.dataimport.exception.DataSourceNoMoreItensExcep
  * 
  * @author Sergio Puntar
  */
-public abstract class SimpleSheetDataSource<T extends Serializable> implements ImportDataSource<Integer, T> {
+public abstract class SimpleSheetDataSource<T extends Serializable> implements SeekableImportDataSource<Integer, T>, WindowedImportDataSource<Integer, T> {
 	private static final long serialVersionUID = -7387063988593887736L;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(SimpleSheetDataSource.class);
@@ -56,10 +59,14 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	private static final String ERROR_NO_MORE_ITENS = "A planilha não possui mais itens.";
 	private static final String ERROR_NEXT_NEVER_CALLED = "Não existe elemento corrente porque o método next() não foi chamado desde que o Data Source foi aberto.";
 	private static final String ERROR_NON_EXISTING_COLUMN = "A planilha não possui uma coluna com o nome [%s].";
+	private static final String ERROR_NON_EXISTING_COLUMN_INDEX = "A planilha não possui uma coluna com o índice [%s].";
+	private static final String ERROR_SEEK_AFTER_READ = "A planilha só pode ser posicionada antes da leitura do primeiro item.";
+	private static final String ERROR_INVALID_POSITION = "A posição [%s] não é válida.";
 	
 	private static final String ARG_NAME_FILE = "file";
 	private static final String ARG_NAME_IS = "is";
 	private static final String ARG_NAME_SHEET_ID = "is";
+	private static final String ARG_NAME_WORKBOOK = "workbook";
 	private static final String ARG_NAME_COLUMN_NAME = "columnName";
 	
 	private static final String TO_STRING_PATTERN = "%s based on Document [%s]";
@@ -70,7 +77,8 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	private WorkbookWrapper workbook;
 	private int currRow;
 	private boolean changed;
-	private Map<String, Integer> columnMap = new HashMap<>();
+	private BiMap<String, Integer> columnMap = HashBiMap.create();
+	private int[] actionColumns = new int[ImportActionHeader.values().length];
 	
 	/**
 	 * Cria uma fonte de dados a partir do arquivo da planilha.
@@ -105,6 +113,18 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 		workbook = new WorkbookWrapperImpl(is, sheetId);
 	}
 
+	/**
+	 * Cria uma fonte de dados a partir de um Workbook Wrapper já configurado com a planilha de
+	 * trabalho, permitindo utilizar outras implementações de leitura do documento, como a leitura
+	 * em modo streaming de {@link StreamingWorkbookWrapperImpl}.
+	 * 
+	 * @param workbook Wrapper do documento da planilha
+	 */
+	public SimpleSheetDataSource(WorkbookWrapper workbook) {
+		super();
+		this.workbook = checkNotNull(workbook, ERROR_NULL_ARGUMENT, ARG_NAME_WORKBOOK);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -126,6 +146,7 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 		
 		reset();
 		mapColumns();
+		resolveColumns();
 	}
 
 	/**
@@ -134,7 +155,7 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @throws DataSourceFormatException Se a planilha não possui um cabeçalho 
 	 */
 	private void mapColumns() throws DataSourceFormatException {
-		Row row = workbook.getWorkingSheet().getRow(++currRow);
+		Row row = workbook.getRow(++currRow);
 		
 		if (row == null) {
 			throw new DataSourceFormatException(ERROR_NO_HEADER);
@@ -150,24 +171,71 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 		LOGGER.debug("Colunas mapeadas: {0}", columnMap);
 	}
 	
+	/**
+	 * Resolve os índices das colunas utilizadas na leitura e escrita dos itens. É chamado na
+	 * abertura da fonte de dados, logo após o mapeamento do cabeçalho.<br>
+	 * Subclasses devem sobrescrever este método para resolver uma única vez, através de
+	 * {@link #resolveColumn(String)}, os índices das suas colunas, utilizando-os nos métodos de
+	 * leitura e escrita por índice de coluna. Dessa forma, o nome da coluna não precisa ser
+	 * resolvido a cada célula lida ou escrita. A implementação sobrescrita deve chamar a
+	 * implementação da superclasse.
+	 * 
+	 * @throws DataSourceFormatException Se a planilha não possui alguma das colunas
+	 */
+	protected void resolveColumns() throws DataSourceFormatException {
+		for (ImportActionHeader header : ImportActionHeader.values()) {
+			actionColumns[header.ordinal()] = resolveColumn(header.name());
+		}
+	}
+	
+	/**
+	 * Resolve o índice de uma coluna da planilha na abertura da fonte de dados. Diferente de
+	 * {@link #getColumnIndex(String)}, a ausência da coluna é tratada como um erro de formato
+	 * da fonte de dados.
+	 * 
+	 * @param columnName Nome da coluna
+	 * @return Índice da coluna
+	 * @throws DataSourceFormatException Se a planilha não possui a coluna
+	 */
+	protected int resolveColumn(String columnName) throws DataSourceFormatException {
+		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
+		
+		if (!columnMap.containsKey(columnName)) {
+			throw new DataSourceFormatException(String.format(ERROR_NON_EXISTING_COLUMN, columnName));
+		}
+		
+		return columnMap.get(columnName);
+	}
+	
 	/**
 	 * Recupera o índice de uma coluna da planilha dado seu nome.
 	 * 
 	 * @param columnName Nome da coluna
 	 * @return Índice da coluna
 	 */
-	private Integer getColumnIndex(String columnName) {
+	protected int getColumnIndex(String columnName) {
 		checkNotNull(columnName, ERROR_NULL_ARGUMENT, ARG_NAME_COLUMN_NAME);
 		checkArgument(columnMap.containsKey(columnName), ERROR_NON_EXISTING_COLUMN, columnName);
 		return columnMap.get(columnName);
 	}
+	
+	/**
+	 * Recupera o nome de uma coluna da planilha dado seu índice.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Nome da coluna
+	 */
+	protected String getColumnName(int column) {
+		checkArgument(columnMap.containsValue(column), ERROR_NON_EXISTING_COLUMN_INDEX, column);
+		return columnMap.inverse().get(column);
+	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public boolean hasNext() {
-		return workbook.getWorkingSheet().getRow(currRow + 1) != null;
+		return workbook.getRow(currRow + 1) != null;
 	}
 
 	/**
@@ -184,6 +252,42 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 		return current();
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * A posição corresponde ao índice da linha do último item lido.
+	 */
+	@Override
+	public long getPosition() {
+		return currRow;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void seek(long position, int itemCount) {
+		checkState(currRow == 0, ERROR_SEEK_AFTER_READ);
+		checkArgument(position >= 0 && position <= Integer.MAX_VALUE, ERROR_INVALID_POSITION, position);
+		currRow = (int) position;
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Somente planilhas lidas em modo streaming e abertas para escrita possuem limite, pois as
+	 * linhas que saem da janela em memória não podem mais ser alteradas. Uma das linhas da janela
+	 * é reservada para o cabeçalho ou para a verificação do próximo item.
+	 */
+	@Override
+	public int getItemWindowSize() {
+		if (workbook instanceof StreamingWorkbookWrapperImpl && workbook.isWritable()) {
+			return ((StreamingWorkbookWrapperImpl) workbook).getRowWindowSize() - 1;
+		}
+		
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -191,12 +295,12 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	public DataImportItem<Integer, T> current() throws DataSourceFormatException {
 		checkState(currRow >= 1, ERROR_NEXT_NEVER_CALLED);
 		
-		Boolean insert = readYesNoCell(ImportActionHeader.INSERT.name());
-		Boolean update = readYesNoCell(ImportActionHeader.UPDATE.name());
-		Boolean merge = readYesNoCell(ImportActionHeader.MERGE.name());
-		Boolean remove = readYesNoCell(ImportActionHeader.REMOVE.name());
-		Boolean force = readYesNoCell(ImportActionHeader.FORCE.name());
-		Boolean sync = readYesNoCell(ImportActionHeader.SYNC.name());
+		Boolean insert = readYesNoCell(actionColumns[ImportActionHeader.INSERT.ordinal()]);
+		Boolean update = readYesNoCell(actionColumns[ImportActionHeader.UPDATE.ordinal()]);
+		Boolean merge = readYesNoCell(actionColumns[ImportActionHeader.MERGE.ordinal()]);
+		Boolean remove = readYesNoCell(actionColumns[ImportActionHeader.REMOVE.ordinal()]);
+		Boolean force = readYesNoCell(actionColumns[ImportActionHeader.FORCE.ordinal()]);
+		Boolean sync = readYesNoCell(actionColumns[ImportActionHeader.SYNC.ordinal()]);
 		DataImportInstructions instructions = new DataImportInstructions(insert, update, merge, remove, force, sync);
 		
 		return new DataImportItem<>(currRow, readCurrentItemData(), instructions);
@@ -256,7 +360,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected String readStringCell(String columnName) {
-		return workbook.readStringCell(currRow, getColumnIndex(columnName));
+		return readStringCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo String.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected String readStringCell(int column) {
+		return workbook.readStringCell(currRow, column);
 	}
 	
 	/**
@@ -268,7 +382,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeStringCell(Integer rowIndex, String columnName, String value) {
-		return workbook.writeStringCell(rowIndex, getColumnIndex(columnName), value);
+		return writeStringCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo String.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeStringCell(Integer rowIndex, int column, String value) {
+		return workbook.writeStringCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -279,8 +405,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @throws DataSourceFormatException Se a célula não possui conteúdo no formado Character
 	 */
 	protected Character readCharCell(String columnName) throws DataSourceFormatException {
+		return readCharCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Character.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 * @throws DataSourceFormatException Se a célula não possui conteúdo no formado Character
+	 */
+	protected Character readCharCell(int column) throws DataSourceFormatException {
 		try {
-			return workbook.readCharCell(currRow, getColumnIndex(columnName));
+			return workbook.readCharCell(currRow, column);
 		} catch (DocumentFormatException e) {
 			throw new DataSourceFormatException(e.getMessage(), e);
 		}
@@ -295,7 +432,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeCharCell(Integer rowIndex, String columnName, Character value) {
-		return workbook.writeCharCell(rowIndex, getColumnIndex(columnName), value);
+		return writeCharCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Character.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @return value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeCharCell(Integer rowIndex, int column, Character value) {
+		return workbook.writeCharCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -305,7 +454,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Double readDoubleCell(String columnName) {
-		return workbook.readDoubleCell(currRow, getColumnIndex(columnName));
+		return readDoubleCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Double.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Double readDoubleCell(int column) {
+		return workbook.readDoubleCell(currRow, column);
 	}
 	
 	/**
@@ -317,7 +476,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeDoubleCell(Integer rowIndex, String columnName, Double value) {
-		return workbook.writeDoubleCell(rowIndex, getColumnIndex(columnName), value);
+		return writeDoubleCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Double.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeDoubleCell(Integer rowIndex, int column, Double value) {
+		return workbook.writeDoubleCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -327,7 +498,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Float readFloatCell(String columnName) {
-		return workbook.readFloatCell(currRow, getColumnIndex(columnName));
+		return readFloatCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Float.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Float readFloatCell(int column) {
+		return workbook.readFloatCell(currRow, column);
 	}
 	
 	/**
@@ -339,7 +520,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeFloatCell(Integer rowIndex, String columnName, Float value) {
-		return workbook.writeFloatCell(rowIndex, getColumnIndex(columnName), value);
+		return writeFloatCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Float.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeFloatCell(Integer rowIndex, int column, Float value) {
+		return workbook.writeFloatCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -349,7 +542,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Long readLongCell(String columnName) {
-		return workbook.readLongCell(currRow, getColumnIndex(columnName));
+		return readLongCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Long.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Long readLongCell(int column) {
+		return workbook.readLongCell(currRow, column);
 	}
 	
 	/**
@@ -361,7 +564,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeLongCell(Integer rowIndex, String columnName, Long value) {
-		return workbook.writeLongCell(rowIndex, getColumnIndex(columnName), value);
+		return writeLongCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Long.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeLongCell(Integer rowIndex, int column, Long value) {
+		return workbook.writeLongCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -371,7 +586,57 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Integer readIntegerCell(String columnName) {
-		return workbook.readIntegerCell(currRow, getColumnIndex(columnName));
+		return readIntegerCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Integer.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Integer readIntegerCell(int column) {
+		return workbook.readIntegerCell(currRow, column);
+	}
+	
+	/**
+	 * Verifica se a célula da linha atual está vazia.
+	 * 
+	 * @param column Índice da coluna
+	 * @return True se a célula estiver vazia, False caso contrário
+	 */
+	protected boolean isBlankCell(int column) {
+		return workbook.isBlankCell(currRow, column);
+	}
+	
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	protected double readDoubleValue(int column) {
+		return workbook.readDoubleValue(currRow, column);
+	}
+	
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo do tipo long.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	protected long readLongValue(int column) {
+		return workbook.readLongValue(currRow, column);
+	}
+	
+	/**
+	 * Lê o conteúdo numérico de uma celula como um valor primitivo do tipo int.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, zero se a célula estiver vazia
+	 */
+	protected int readIntValue(int column) {
+		return workbook.readIntValue(currRow, column);
 	}
 	
 	/**
@@ -383,7 +648,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeIntegerCell(Integer rowIndex, String columnName, Integer value) {
-		return workbook.writeIntegerCell(rowIndex, getColumnIndex(columnName), value);
+		return writeIntegerCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Integer.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeIntegerCell(Integer rowIndex, int column, Integer value) {
+		return workbook.writeIntegerCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -393,7 +670,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Short readShortCell(String columnName) {
-		return workbook.readShortCell(currRow, getColumnIndex(columnName));
+		return readShortCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Short.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Short readShortCell(int column) {
+		return workbook.readShortCell(currRow, column);
 	}
 
 	/**
@@ -405,7 +692,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeShortCell(Integer rowIndex, String columnName, Short value) {
-		return workbook.writeShortCell(rowIndex, getColumnIndex(columnName), value);
+		return writeShortCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Short.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeShortCell(Integer rowIndex, int column, Short value) {
+		return workbook.writeShortCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -415,7 +714,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Byte readByteCell(String columnName) {
-		return workbook.readByteCell(currRow, getColumnIndex(columnName));
+		return readByteCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Byte.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Byte readByteCell(int column) {
+		return workbook.readByteCell(currRow, column);
 	}
 	
 	/**
@@ -427,7 +736,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeByteCell(Integer rowIndex, String columnName, Byte value) {
-		return workbook.writeByteCell(rowIndex, getColumnIndex(columnName), value);
+		return writeByteCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Byte.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeByteCell(Integer rowIndex, int column, Byte value) {
+		return workbook.writeByteCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -437,7 +758,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Boolean readBooleanCell(String columnName) {
-		return workbook.readBooleanCell(currRow, getColumnIndex(columnName));
+		return readBooleanCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Boolean.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Boolean readBooleanCell(int column) {
+		return workbook.readBooleanCell(currRow, column);
 	}
 	
 	/**
@@ -449,7 +780,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeBooleanCell(Integer rowIndex, String columnName,Boolean value) {
-		return workbook.writeBooleanCell(rowIndex, getColumnIndex(columnName), value);
+		return writeBooleanCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Boolean.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeBooleanCell(Integer rowIndex, int column,Boolean value) {
+		return workbook.writeBooleanCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -459,7 +802,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Date readDateCell(String columnName) {
-		return workbook.readDateCell(currRow, getColumnIndex(columnName));
+		return readDateCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Date.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Date readDateCell(int column) {
+		return workbook.readDateCell(currRow, column);
 	}
 	
 	/**
@@ -471,7 +824,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeDateCell(Integer rowIndex, String columnName, Date value) {
-		return workbook.writeDateCell(rowIndex, getColumnIndex(columnName), value);
+		return writeDateCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * escreve o conteúdo de uma celula do tipo Date.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeDateCell(Integer rowIndex, int column, Date value) {
+		return workbook.writeDateCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -481,7 +846,17 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Conteúdo da célula, null se a célula estiver vazia
 	 */
 	protected Calendar readCalendarCell(String columnName) {
-		return workbook.readCalendarCell(currRow, getColumnIndex(columnName));
+		return readCalendarCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Calendar.
+	 * 
+	 * @param column Índice da coluna
+	 * @return Conteúdo da célula, null se a célula estiver vazia
+	 */
+	protected Calendar readCalendarCell(int column) {
+		return workbook.readCalendarCell(currRow, column);
 	}
 	
 	/**
@@ -493,7 +868,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeCalendarCell(Integer rowIndex, String columnName, Calendar value) {
-		return workbook.writeCalendarCell(rowIndex, getColumnIndex(columnName), value);
+		return writeCalendarCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Calendar.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value Conteúdo da célula
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeCalendarCell(Integer rowIndex, int column, Calendar value) {
+		return workbook.writeCalendarCell(rowIndex, column, value);
 	}
 
 	/**
@@ -504,8 +891,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @throws DataSourceFormatException Se a célula não possui conteúdo no formato Y/N
 	 */
 	protected Boolean readYesNoCell(String columnName) throws DataSourceFormatException {
+		return readYesNoCell(getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Lê o conteúdo de uma celula do tipo Flag Y/N.
+	 * 
+	 * @param column Índice da coluna
+	 * @return True se o conteúdo for 'Y', False se o conteúdo for 'N' e null se for indefinido
+	 * @throws DataSourceFormatException Se a célula não possui conteúdo no formato Y/N
+	 */
+	protected Boolean readYesNoCell(int column) throws DataSourceFormatException {
 		try {
-			return workbook.readYesNoCell(currRow, getColumnIndex(columnName));
+			return workbook.readYesNoCell(currRow, column);
 		} catch (DocumentFormatException e) {
 			throw new DataSourceFormatException(e.getMessage(), e);
 		}
@@ -520,7 +918,19 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeYesNoCell(Integer rowIndex, String columnName, Boolean value) {
-		return workbook.writeYesNoCell(rowIndex, getColumnIndex(columnName), value);
+		return writeYesNoCell(rowIndex, getColumnIndex(columnName), value);
+	}
+	
+	/**
+	 * Escreve o conteúdo de uma celula do tipo Flag Y/N.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @param value True para o conteúdo 'Y', False para o conteúdo 'N'
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeYesNoCell(Integer rowIndex, int column, Boolean value) {
+		return workbook.writeYesNoCell(rowIndex, column, value);
 	}
 	
 	/**
@@ -531,7 +941,18 @@ public abstract class SimpleSheetDataSource<T extends Serializable> implements I
 	 * @return Flag indicando se houve mudança real no conteúdo da célula.
 	 */
 	protected boolean writeNullValue(Integer rowIndex, String columnName) {
-		return workbook.writeNullValue(rowIndex, getColumnIndex(columnName));
+		return writeNullValue(rowIndex, getColumnIndex(columnName));
+	}
+	
+	/**
+	 * Escreve o conteúdo nulo de uma celula.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna
+	 * @return Flag indicando se houve mudança real no conteúdo da célula.
+	 */
+	protected boolean writeNullValue(Integer rowIndex, int column) {
+		return workbook.writeNullValue(rowIndex, column);
 	}
 
 	/**
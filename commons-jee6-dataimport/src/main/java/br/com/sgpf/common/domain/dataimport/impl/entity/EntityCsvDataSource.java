@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Serializable;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.dataimport.impl.CsvDataSource;
+import br.com.sgpf.common.domain.entity.Entity;
+
+/**
+ * Implementação base para todas as entidades de uma fonte de dados baseada em documento CSV.
+ *
+ * @param <E> Tipo da entidade
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class EntityCsvDataSource<I extends Serializable, E extends Entity<I>> extends CsvDataSource<E> {
+	private static final long serialVersionUID = -2950671358392436021L;
+	
+	private enum EntityMetadataHeader { ID, CREATION_DATE, UPDATE_DATE, VERSION }
+	
+	private int idColumn;
+	private int creationDateColumn;
+	private int updateDateColumn;
+	private int versionColumn;
+
+	public EntityCsvDataSource(File file) throws DataSourceDocumentException {
+		super(file);
+	}
+
+	public EntityCsvDataSource(File file, String charsetName, char delimiter) throws DataSourceDocumentException {
+		super(file, charsetName, delimiter);
+	}
+
+	public EntityCsvDataSource(InputStream is) {
+		super(is);
+	}
+
+	public EntityCsvDataSource(InputStream is, String charsetName, char delimiter) {
+		super(is, charsetName, delimiter);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void resolveColumns() throws DataSourceFormatException {
+		super.resolveColumns();
+		idColumn = resolveColumn(EntityMetadataHeader.ID.name());
+		creationDateColumn = resolveColumn(EntityMetadataHeader.CREATION_DATE.name());
+		updateDateColumn = resolveColumn(EntityMetadataHeader.UPDATE_DATE.name());
+		versionColumn = resolveColumn(EntityMetadataHeader.VERSION.name());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected E readCurrentItemData() throws DataSourceFormatException {
+		E entity = createEntityInstance();
+		entity.setId(readEntityId(idColumn));
+		entity.setCreationDate(readDateField(creationDateColumn));
+		entity.setUpdateDate(readDateField(updateDateColumn));
+		entity.setVersion(readLongField(versionColumn));
+		
+		return entity;
+	}
+	
+	/**
+	 * Cria uma nova instância vazia da entidade. 
+	 */
+	protected abstract E createEntityInstance();
+	
+	/**
+	 * Lê o identificador da entidade no documento.
+	 * 
+	 * @param columnName Nome da coluna onde está o identificador.
+	 * @return Identificador da entidade
+	 * @throws DataSourceFormatException Se o identificador não estiver no formato esperado
+	 */
+	protected abstract I readEntityId(String columnName) throws DataSourceFormatException;
+	
+	/**
+	 * Lê o identificador da entidade no documento a partir do índice da coluna resolvido na
+	 * abertura da fonte de dados. Por padrão delega para {@link #readEntityId(String)}.
+	 * 
+	 * @param column Índice da coluna onde está o identificador.
+	 * @return Identificador da entidade
+	 * @throws DataSourceFormatException Se o identificador não estiver no formato esperado
+	 */
+	protected I readEntityId(int column) throws DataSourceFormatException {
+		return readEntityId(getColumnName(column));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean syncRow(Integer rowIndex, E data) throws DataImportException {
+		boolean idChanged = writeEntityId(rowIndex, idColumn, data.getId());
+		boolean creationDateChanged = writeDateField(rowIndex, creationDateColumn, data.getCreationDate());
+		boolean updateDateChanged = writeDateField(rowIndex, updateDateColumn, data.getUpdateDate());
+		boolean versionChanged = writeLongField(rowIndex, versionColumn, data.getVersion());
+		boolean itemChanged = writeItemData(rowIndex, data);
+		
+		return idChanged || creationDateChanged || updateDateChanged || versionChanged || itemChanged;
+	}
+	
+	/**
+	 * Escreve o identificador da entidade em uma linha do documento.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param columnName Nome da coluna onde está o identificador.
+	 * @param id Identificador da entidade
+	 * @return Flag indicando se houve mudança real no conteúdo do documento
+	 * @throws DataImportException Se ocorrer um erro na escrita da linha
+	 */
+	protected abstract boolean writeEntityId(Integer rowIndex, String columnName, I id) throws DataImportException;
+	
+	/**
+	 * Escreve o identificador da entidade em uma linha do documento a partir do índice da coluna
+	 * resolvido na abertura da fonte de dados. Por padrão delega para
+	 * {@link #writeEntityId(Integer, String, Serializable)}.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna onde está o identificador.
+	 * @param id Identificador da entidade
+	 * @return Flag indicando se houve mudança real no conteúdo do documento
+	 * @throws DataImportException Se ocorrer um erro na escrita da linha
+	 */
+	protected boolean writeEntityId(Integer rowIndex, int column, I id) throws DataImportException {
+		return writeEntityId(rowIndex, getColumnName(column), id);
+	}
+	
+	/**
+	 * Escreve os dados de uma entidade em uma linha do documento.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param data Dados da entidade
+	 * @return Flag indicando se houve mudança real no conteúdo do documento
+	 * @throws DataImportException Se ocorrer um erro na escrita da linha
+	 */
+	protected abstract boolean writeItemData(Integer rowIndex, E data) throws DataImportException;
+}
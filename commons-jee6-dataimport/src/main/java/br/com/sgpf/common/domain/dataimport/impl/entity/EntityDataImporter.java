@@ -6,18 +6,48 @@
  */
 package br.com.sgpf.common.domain.dataimport.impl.entity;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import javax.transaction.HeuristicMixedException;
+import javax.transaction.HeuristicRollbackException;
+import javax.transaction.NotSupportedException;
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.SystemException;
+import javax.transaction.UserTransaction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportResult;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 import br.com.sgpf.common.domain.dataimport.impl.BaseDataImporter;
 import br.com.sgpf.common.domain.entity.Entity;
 import br.com.sgpf.common.domain.repository.Repository;
 
 /**
+ * Importador de dados de entidades.<br>
+ * <br>
+ * Quando criado com uma {@link UserTransaction}, a importação sequencial é realizada em blocos
+ * transacionais: uma transação é confirmada a cada {@link #getCommitInterval()} itens ou quando
+ * o bloco atinge a duração de {@link #getCommitTimeInterval()} milissegundos, o que ocorrer
+ * primeiro, limitando o tempo de retenção dos locks e o volume de alterações pendentes no banco
+ * de dados. Caso um bloco falhe, a sua transação é desfeita e somente os itens daquele bloco são
+ * reprocessados, cada um em uma transação própria, de forma que o erro seja atribuído somente ao
+ * item que o causou. Antes do reprocessamento, o identificador, a versão e as datas das entidades
+ * e o resultado dos itens são restaurados aos valores anteriores ao bloco. Nas importações paralelas, cada item é processado em uma transação própria
+ * na thread que o processa.<br>
+ * Sem uma {@link UserTransaction}, os itens são processados na transação que envolve a
+ * importação, se houver.
  * 
  * @author Sergio Puntar
- *
+ * 
  * @param <I> Identificador do item de importação
  * @param <E> Tipo de entidade importada
  * @param <T> Identificador da entidade importada
@@ -25,18 +55,278 @@ import br.com.sgpf.common.domain.repository.Repository;
 public class EntityDataImporter<I extends Serializable, E extends Entity<T>, T extends Serializable> extends BaseDataImporter<I, E> {
 	private static final long serialVersionUID = 5448744052089563944L;
 	
+	private static final Logger LOGGER = LoggerFactory.getLogger(EntityDataImporter.class);
+	
+	/**
+	 * Quantidade padrão de itens confirmados em cada transação.
+	 */
+	public static final int DEFAULT_COMMIT_INTERVAL = 100;
+	
+	/**
+	 * Duração máxima padrão de cada transação, em milissegundos.
+	 */
+	public static final long DEFAULT_COMMIT_TIME_INTERVAL = 5000L;
+	
+	private static final String ERROR_PROCESSING_ITEM = "Ocorreu um erro ao processar um item importado.";
+	private static final String ERROR_BEGINNING_TRANSACTION = "Não foi possível iniciar a transação de importação.";
+	private static final String ERROR_INVALID_COMMIT_INTERVAL = "O intervalo de itens entre as confirmações deve ser maior que zero: [%s].";
+	private static final String ERROR_INVALID_COMMIT_TIME_INTERVAL = "O intervalo de tempo entre as confirmações deve ser maior que zero: [%s].";
+	
 	private Repository<E, T> entityRepository;
+	private transient UserTransaction transaction;
+	private int commitInterval = DEFAULT_COMMIT_INTERVAL;
+	private long commitTimeInterval = DEFAULT_COMMIT_TIME_INTERVAL;
 
+	/**
+	 * Cria um importador que processa os itens na transação que envolve a importação.
+	 * 
+	 * @param entityRepository Repositório das entidades importadas
+	 */
 	public EntityDataImporter(Repository<E, T> entityRepository) {
+		this(entityRepository, null);
+	}
+
+	/**
+	 * Cria um importador que processa os itens em blocos transacionais.
+	 * 
+	 * @param entityRepository Repositório das entidades importadas
+	 * @param transaction Transação utilizada na demarcação dos blocos, null para processar os
+	 * itens na transação que envolve a importação
+	 */
+	public EntityDataImporter(Repository<E, T> entityRepository, UserTransaction transaction) {
 		super();
 		this.entityRepository = entityRepository;
+		this.transaction = transaction;
+	}
+
+	public Repository<E, T> getEntityRepository() {
+		return entityRepository;
+	}
+
+	public int getCommitInterval() {
+		return commitInterval;
+	}
+
+	/**
+	 * Define a quantidade máxima de itens confirmados em cada transação.
+	 * 
+	 * @param commitInterval Quantidade de itens
+	 */
+	public void setCommitInterval(int commitInterval) {
+		checkArgument(commitInterval > 0, ERROR_INVALID_COMMIT_INTERVAL, commitInterval);
+		this.commitInterval = commitInterval;
+	}
+
+	public long getCommitTimeInterval() {
+		return commitTimeInterval;
+	}
+
+	/**
+	 * Define a duração máxima de cada transação. Ao atingi-la, a transação é confirmada após o item
+	 * em processamento, mesmo que o bloco não tenha atingido a quantidade de itens.
+	 * 
+	 * @param commitTimeInterval Duração em milissegundos
+	 */
+	public void setCommitTimeInterval(long commitTimeInterval) {
+		checkArgument(commitTimeInterval > 0, ERROR_INVALID_COMMIT_TIME_INTERVAL, commitTimeInterval);
+		this.commitTimeInterval = commitTimeInterval;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
+	protected int getProcessingChunkSize() {
+		return transaction != null ? commitInterval : super.getProcessingChunkSize();
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Os itens do bloco são processados em transações que duram até
+	 * {@link #getCommitTimeInterval()} milissegundos. Se uma delas falhar, os seus itens são
+	 * reprocessados individualmente através de {@link #processItem(DataImportItem, boolean)}, após
+	 * a restauração do estado que os itens e as suas entidades possuíam antes da transação.
+	 */
+	@Override
+	protected void processItems(List<DataImportItem<I, E>> items, boolean suppressExceptions) throws DataImportException {
+		if (transaction == null) {
+			super.processItems(items, suppressExceptions);
+			return;
+		}
+		
+		int start = 0;
+		List<ItemState> states = new ArrayList<>();
+		
+		while (start < items.size()) {
+			int end = start;
+			long startTime = System.currentTimeMillis();
+			states.clear();
+			beginTransaction();
+			
+			try {
+				while (end < items.size() && (end == start || System.currentTimeMillis() - startTime < commitTimeInterval)) {
+					DataImportItem<I, E> item = items.get(end++);
+					
+					if (isReadItem(item)) {
+						states.add(new ItemState(item));
+						importItem(item);
+					}
+				}
+				
+				transaction.commit();
+			} catch (DataImportException | RuntimeException | RollbackException | HeuristicMixedException | HeuristicRollbackException | SystemException e) {
+				LOGGER.warn("Ocorreu um erro no bloco de {0} itens, que serão reprocessados individualmente.", end - start, e);
+				rollbackTransaction();
+				
+				for (ItemState state : states) {
+					state.restore();
+				}
+				
+				for (DataImportItem<I, E> item : items.subList(start, end)) {
+					if (isReadItem(item)) {
+						processItem(item, suppressExceptions);
+					}
+				}
+			}
+			
+			start = end;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}<br>
+	 * <br>
+	 * Quando o importador possui uma {@link UserTransaction}, o item é processado em uma transação
+	 * própria.
+	 */
+	@Override
 	protected void processItem(DataImportItem<I, E> item, boolean suppressExceptions) throws DataImportException {
+		try {
+			if (transaction == null) {
+				importItem(item);
+			} else {
+				importItemInTransaction(item);
+			}
+		} catch (DataImportException e) {
+			if (!suppressExceptions) {
+				throw e;
+			}
+			
+			LOGGER.warn("Ocorreu um erro ao processar o item {0}.", item.getId(), e);
+			item.getResult().setStatus(DataImportResult.Status.ERROR);
+			item.getResult().setMessage(ERROR_PROCESSING_ITEM);
+			item.getResult().setException(e);
+		}
+	}
+
+	/**
+	 * Importa um item em uma transação própria, desfazendo a transação em caso de erro.
+	 * 
+	 * @param item Item a ser importado no destino
+	 * @throws DataImportException Se ocorre um erro durante a gravação dos dados no destino ou na
+	 * confirmação da transação
+	 */
+	private void importItemInTransaction(DataImportItem<I, E> item) throws DataImportException {
+		beginTransaction();
+		
+		try {
+			importItem(item);
+			transaction.commit();
+		} catch (DataImportException e) {
+			rollbackTransaction();
+			throw e;
+		} catch (RuntimeException | RollbackException | HeuristicMixedException | HeuristicRollbackException | SystemException e) {
+			rollbackTransaction();
+			throw new DataImportException(ERROR_PROCESSING_ITEM, e);
+		}
+	}
+
+	/**
+	 * Realiza a conciliação dos dados de um item com o destino, gravando-os no repositório de
+	 * entidades de acordo com as instruções de importação do item e definindo o status do seu
+	 * resultado.<br>
+	 * É executado dentro da transação do bloco ou do item, quando o importador possui uma
+	 * {@link UserTransaction}. Se a transação do bloco for desfeita, é executado novamente para o
+	 * mesmo item, com o identificador, a versão e as datas da entidade e o resultado do item
+	 * restaurados; as demais alterações realizadas nos dados do item não são desfeitas, portanto a
+	 * implementação deve ser idempotente em relação a elas. A implementação padrão não realiza
+	 * nenhuma gravação.
+	 * 
+	 * @param item Item a ser importado no destino
+	 * @throws DataImportException Se ocorre um erro durante a gravação dos dados no destino
+	 */
+	protected void importItem(DataImportItem<I, E> item) throws DataImportException {
+		
+	}
+
+	/**
+	 * Inicia uma nova transação.
+	 * 
+	 * @throws DataImportException Se não for possível iniciar a transação
+	 */
+	private void beginTransaction() throws DataImportException {
+		try {
+			transaction.begin();
+		} catch (NotSupportedException | SystemException e) {
+			throw new DataImportException(ERROR_BEGINNING_TRANSACTION, e);
+		}
+	}
+
+	/**
+	 * Desfaz a transação corrente, caso ela ainda esteja ativa. Erros ao desfazer a transação são
+	 * somente registrados, para não ocultar o erro que a originou.
+	 */
+	private void rollbackTransaction() {
+		try {
+			if (transaction.getStatus() != Status.STATUS_NO_TRANSACTION) {
+				transaction.rollback();
+			}
+		} catch (SystemException | RuntimeException e) {
+			LOGGER.warn("Ocorreu um erro ao desfazer a transação de importação.", e);
+		}
+	}
+	
+	/**
+	 * Estado de um item e da sua entidade que é alterado pela gravação no repositório e não é
+	 * desfeito junto com a transação: o identificador, a versão e as datas da entidade e o
+	 * resultado do item.
+	 */
+	private final class ItemState {
+		private final DataImportItem<I, E> item;
+		private final T id;
+		private final Long version;
+		private final Date creationDate;
+		private final Date updateDate;
+		private final DataImportResult.Status status;
+		private final boolean synced;
+		private final String message;
+		private final Exception exception;
+		
+		ItemState(DataImportItem<I, E> item) {
+			this.item = item;
+			this.id = item.getData().getId();
+			this.version = item.getData().getVersion();
+			this.creationDate = item.getData().getCreationDate();
+			this.updateDate = item.getData().getUpdateDate();
+			this.status = item.getResult().getStatus();
+			this.synced = item.getResult().isSynced();
+			this.message = item.getResult().getMessage();
+			this.exception = item.getResult().getException();
+		}
 		
+		/**
+		 * Restaura o estado do item e da sua entidade.
+		 */
+		void restore() {
+			item.getData().setId(id);
+			item.getData().setVersion(version);
+			item.getData().setCreationDate(creationDate);
+			item.getData().setUpdateDate(updateDate);
+			item.getResult().setStatus(status);
+			item.getResult().setSynced(synced);
+			item.getResult().setMessage(message);
+			item.getResult().setException(exception);
+		}
 	}
 }
@@ -10,7 +10,9 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.Serializable;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
 import br.com.sgpf.common.domain.dataimport.impl.SimpleSheetDataSource;
 import br.com.sgpf.common.domain.entity.Entity;
 
@@ -25,6 +27,11 @@ public abstract class EntitySimpleSheetDataSource<I extends Serializable, E exte
 	private static final long serialVersionUID = 1711265271350804677L;
 	
 	private enum EntityMetadataHeader { ID, CREATION_DATE, UPDATE_DATE, VERSION }
+	
+	private int idColumn;
+	private int creationDateColumn;
+	private int updateDateColumn;
+	private int versionColumn;
 
 	public EntitySimpleSheetDataSource(File file, int sheetId) throws DataSourceDocumentException {
 		super(file, sheetId);
@@ -34,16 +41,32 @@ public abstract class EntitySimpleSheetDataSource<I extends Serializable, E exte
 		super(is, sheetId);
 	}
 
+	public EntitySimpleSheetDataSource(WorkbookWrapper workbook) {
+		super(workbook);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void resolveColumns() throws DataSourceFormatException {
+		super.resolveColumns();
+		idColumn = resolveColumn(EntityMetadataHeader.ID.name());
+		creationDateColumn = resolveColumn(EntityMetadataHeader.CREATION_DATE.name());
+		updateDateColumn = resolveColumn(EntityMetadataHeader.UPDATE_DATE.name());
+		versionColumn = resolveColumn(EntityMetadataHeader.VERSION.name());
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	protected E readCurrentItemData() {
 		E entity = createEntityInstance();
-		entity.setId(readEntityId(EntityMetadataHeader.ID.name()));
-		entity.setCreationDate(readDateCell(EntityMetadataHeader.CREATION_DATE.name()));
-		entity.setUpdateDate(readDateCell(EntityMetadataHeader.UPDATE_DATE.name()));
-		entity.setVersion(readLongCell(EntityMetadataHeader.VERSION.name()));
+		entity.setId(readEntityId(idColumn));
+		entity.setCreationDate(readDateCell(creationDateColumn));
+		entity.setUpdateDate(readDateCell(updateDateColumn));
+		entity.setVersion(readLongCell(versionColumn));
 		
 		return entity;
 	}
@@ -60,16 +83,27 @@ public abstract class EntitySimpleSheetDataSource<I extends Serializable, E exte
 	 * @return Identificador da entidade
 	 */
 	protected abstract I readEntityId(String columnName);
+	
+	/**
+	 * Lê o identificador da entidade na planilha a partir do índice da coluna resolvido na
+	 * abertura da fonte de dados. Por padrão delega para {@link #readEntityId(String)}.
+	 * 
+	 * @param column Índice da coluna onde está o identificador.
+	 * @return Identificador da entidade
+	 */
+	protected I readEntityId(int column) {
+		return readEntityId(getColumnName(column));
+	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	protected boolean syncRow(Integer rowIndex, E data) {
-		boolean idChanged = writeEntityId(rowIndex, EntityMetadataHeader.ID.name(), data.getId());
-		boolean creationDateChanged = writeDateCell(rowIndex, EntityMetadataHeader.CREATION_DATE.name(), data.getCreationDate());
-		boolean updateDateChanged = writeDateCell(rowIndex, EntityMetadataHeader.UPDATE_DATE.name(), data.getUpdateDate());
-		boolean versionChanged = writeLongCell(rowIndex, EntityMetadataHeader.VERSION.name(), data.getVersion());
+		boolean idChanged = writeEntityId(rowIndex, idColumn, data.getId());
+		boolean creationDateChanged = writeDateCell(rowIndex, creationDateColumn, data.getCreationDate());
+		boolean updateDateChanged = writeDateCell(rowIndex, updateDateColumn, data.getUpdateDate());
+		boolean versionChanged = writeLongCell(rowIndex, versionColumn, data.getVersion());
 		boolean itemChanged = writeItemData(rowIndex, data);
 		
 		return idChanged || creationDateChanged || updateDateChanged || versionChanged || itemChanged;
@@ -85,6 +119,20 @@ public abstract class EntitySimpleSheetDataSource<I extends Serializable, E exte
 	 */
 	protected abstract boolean writeEntityId(Integer rowIndex, String columnName, I id);
 	
+	/**
+	 * Escreve o identificador da entidade em uma linha da planilha a partir do índice da coluna
+	 * resolvido na abertura da fonte de dados. Por padrão delega para
+	 * {@link #writeEntityId(Integer, String, Serializable)}.
+	 * 
+	 * @param rowIndex Índice da linha
+	 * @param column Índice da coluna onde está o identificador.
+	 * @param id Identificador da entidade
+	 * @return Flag indicando se houve mudança real no conteúdo da planilha
+	 */
+	protected boolean writeEntityId(Integer rowIndex, int column, I id) {
+		return writeEntityId(rowIndex, getColumnName(column), id);
+	}
+	
 	/**
 	 * Escreve os dados de uma entidade em uma linha da planilha.
 	 * 
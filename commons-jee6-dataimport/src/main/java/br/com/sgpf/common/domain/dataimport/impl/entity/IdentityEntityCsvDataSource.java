@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import java.io.File;
+import java.io.InputStream;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.entity.AbstractIdentityEntity;
+
+/**
+ * Implementação base para todas as entidades identidade de uma fonte de dados baseada em documento CSV.
+ *
+ * @param <E> Tipo da entidade
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class IdentityEntityCsvDataSource<E extends AbstractIdentityEntity> extends EntityCsvDataSource<Long, E> {
+	private static final long serialVersionUID = 3314729018856392011L;
+	
+	public IdentityEntityCsvDataSource(File file) throws DataSourceDocumentException {
+		super(file);
+	}
+
+	public IdentityEntityCsvDataSource(File file, String charsetName, char delimiter) throws DataSourceDocumentException {
+		super(file, charsetName, delimiter);
+	}
+
+	public IdentityEntityCsvDataSource(InputStream is) {
+		super(is);
+	}
+
+	public IdentityEntityCsvDataSource(InputStream is, String charsetName, char delimiter) {
+		super(is, charsetName, delimiter);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Long readEntityId(String columnName) throws DataSourceFormatException {
+		return readLongField(columnName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Long readEntityId(int column) throws DataSourceFormatException {
+		return readLongField(column);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, String columnName, Long id) throws DataImportException {
+		return writeLongField(rowIndex, columnName, id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, int column, Long id) throws DataImportException {
+		return writeLongField(rowIndex, column, id);
+	}
+}
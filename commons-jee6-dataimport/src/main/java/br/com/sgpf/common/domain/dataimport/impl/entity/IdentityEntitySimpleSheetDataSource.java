@@ -9,6 +9,7 @@ package br.com.sgpf.common.domain.dataimport.impl.entity;
 import java.io.File;
 import java.io.InputStream;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
 import br.com.sgpf.common.domain.entity.AbstractIdentityEntity;
 
@@ -30,6 +31,10 @@ public abstract class IdentityEntitySimpleSheetDataSource<E extends AbstractIden
 		super(is, sheetId);
 	}
 
+	public IdentityEntitySimpleSheetDataSource(WorkbookWrapper workbook) {
+		super(workbook);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -38,6 +43,14 @@ public abstract class IdentityEntitySimpleSheetDataSource<E extends AbstractIden
 		return readLongCell(columnName);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Long readEntityId(int column) {
+		return readLongCell(column);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -45,4 +58,12 @@ public abstract class IdentityEntitySimpleSheetDataSource<E extends AbstractIden
 	protected boolean writeEntityId(Integer rowIndex, String columnName, Long id) {
 		return writeLongCell(rowIndex, columnName, id);
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, int column, Long id) {
+		return writeLongCell(rowIndex, column, id);
+	}
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import java.io.File;
+import java.io.InputStream;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.entity.AbstractUUIDEntity;
+
+/**
+ * Implementação base para todas as entidades UUID de uma fonte de dados baseada em documento CSV.
+ *
+ * @param <E> Tipo da entidade
+ * 
+ * @author Sergio Puntar
+ */
+public abstract class UUIDEntityCsvDataSource<E extends AbstractUUIDEntity> extends EntityCsvDataSource<String, E> {
+	private static final long serialVersionUID = -6413790562210483557L;
+	
+	public UUIDEntityCsvDataSource(File file) throws DataSourceDocumentException {
+		super(file);
+	}
+
+	public UUIDEntityCsvDataSource(File file, String charsetName, char delimiter) throws DataSourceDocumentException {
+		super(file, charsetName, delimiter);
+	}
+
+	public UUIDEntityCsvDataSource(InputStream is) {
+		super(is);
+	}
+
+	public UUIDEntityCsvDataSource(InputStream is, String charsetName, char delimiter) {
+		super(is, charsetName, delimiter);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String readEntityId(String columnName) {
+		return readStringField(columnName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String readEntityId(int column) {
+		return readStringField(column);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, String columnName, String id) throws DataImportException {
+		return writeStringField(rowIndex, columnName, id);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, int column, String id) throws DataImportException {
+		return writeStringField(rowIndex, column, id);
+	}
+}
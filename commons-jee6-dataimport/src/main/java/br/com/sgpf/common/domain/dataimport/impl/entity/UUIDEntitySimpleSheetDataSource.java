@@ -9,6 +9,7 @@ package br.com.sgpf.common.domain.dataimport.impl.entity;
 import java.io.File;
 import java.io.InputStream;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
 import br.com.sgpf.common.domain.entity.AbstractUUIDEntity;
 
@@ -30,6 +31,10 @@ public abstract class UUIDEntitySimpleSheetDataSource<E extends AbstractUUIDEnti
 		super(is, sheetId);
 	}
 
+	public UUIDEntitySimpleSheetDataSource(WorkbookWrapper workbook) {
+		super(workbook);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -38,6 +43,14 @@ public abstract class UUIDEntitySimpleSheetDataSource<E extends AbstractUUIDEnti
 		return readStringCell(columnName);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String readEntityId(int column) {
+		return readStringCell(column);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -45,4 +58,12 @@ public abstract class UUIDEntitySimpleSheetDataSource<E extends AbstractUUIDEnti
 	protected boolean writeEntityId(Integer rowIndex, String columnName, String id) {
 		return writeStringCell(rowIndex, columnName, id);
 	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean writeEntityId(Integer rowIndex, int column, String id) {
+		return writeStringCell(rowIndex, column, id);
+	}
 }
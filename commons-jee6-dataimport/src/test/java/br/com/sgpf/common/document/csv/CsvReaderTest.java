@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.document.exception.DocumentException;
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+
+public class CsvReaderTest {
+	
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final char DELIMITER = ',';
+	private static final int SMALL_BUFFER_SIZE = 16;
+	
+	private static CsvReader createReader(String content, int bufferSize) {
+		return new CsvReader(Channels.newChannel(new ByteArrayInputStream(content.getBytes(CHARSET))), CHARSET, DELIMITER, bufferSize);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullChannelConstructorTest() {
+		new CsvReader(null, CHARSET, DELIMITER, CsvReader.DEFAULT_BUFFER_SIZE);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidDelimiterConstructorTest() {
+		new CsvReader(Channels.newChannel(new ByteArrayInputStream(new byte[0])), CHARSET, '"', CsvReader.DEFAULT_BUFFER_SIZE);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidBufferSizeConstructorTest() {
+		createReader("", 1);
+	}
+	
+	@Test
+	public void emptyDocumentTest() throws DocumentException {
+		CsvReader reader = createReader("", SMALL_BUFFER_SIZE);
+		
+		assertFalse(reader.hasNextRecord());
+		assertFalse(reader.nextRecord());
+		
+		reader.close();
+	}
+	
+	@Test
+	public void hasNextRecordRefillTest() throws DocumentException {
+		CsvReader reader = createReader("h1,h2\nxxxxx,yyy\nzz,ww\n", SMALL_BUFFER_SIZE);
+		
+		assertTrue(reader.nextRecord());
+		assertTrue(reader.nextRecord());
+		assertEquals("xxxxx", reader.getString(0));
+		assertTrue(reader.hasNextRecord());
+		assertEquals("xxxxx", reader.getString(0));
+		assertEquals("yyy", reader.getString(1));
+		assertTrue(reader.nextRecord());
+		assertEquals("zz", reader.getString(0));
+		assertEquals("ww", reader.getString(1));
+		
+		reader.close();
+	}
+	
+	@Test
+	public void readRecordsTest() throws DocumentException {
+		CsvReader reader = createReader("a,b,c\r\n1,,3\n4,5,6", SMALL_BUFFER_SIZE);
+		
+		assertTrue(reader.nextRecord());
+		assertEquals(3, reader.getFieldCount());
+		assertEquals("a", reader.getString(0));
+		assertEquals("c", reader.getString(2));
+		assertEquals(0L, reader.getRecordOffset());
+		
+		assertTrue(reader.nextRecord());
+		assertEquals(1L, reader.getLong(0));
+		assertTrue(reader.isEmpty(1));
+		assertNull(reader.getString(1));
+		assertEquals(3L, reader.getLong(2));
+		assertEquals(7L, reader.getRecordOffset());
+		
+		assertTrue(reader.hasNextRecord());
+		// A verificação do próximo registro não altera o registro corrente
+		assertEquals(3L, reader.getLong(2));
+		
+		assertTrue(reader.nextRecord());
+		assertEquals("6", reader.getString(2));
+		assertEquals(12L, reader.getRecordOffset());
+		assertEquals(2, reader.getRecordNumber());
+		
+		assertFalse(reader.hasNextRecord());
+		assertFalse(reader.nextRecord());
+		
+		reader.close();
+	}
+	
+	@Test
+	public void seekTest() throws DocumentException, IOException {
+		File file = tempFolder.newFile();
+		Files.write(file.toPath(), "a,b\r\n1,2\r\n\"3\r\n\",4\n5,6".getBytes(CHARSET));
+		
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			CsvReader reader = new CsvReader(raf.getChannel(), CHARSET, DELIMITER, SMALL_BUFFER_SIZE);
+			reader.nextRecord();
+			reader.nextRecord();
+			
+			reader.seek(10L, 1);
+			
+			assertEquals(0, reader.getFieldCount());
+			assertTrue(reader.nextRecord());
+			assertEquals("3\r\n", reader.getString(0));
+			assertEquals(10L, reader.getRecordOffset());
+			assertEquals(2, reader.getRecordNumber());
+			assertTrue(reader.nextRecord());
+			assertEquals(6L, reader.getLong(1));
+			assertFalse(reader.nextRecord());
+			
+			reader.close();
+		}
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void seekNonSeekableChannelTest() throws DocumentException {
+		createReader("a", SMALL_BUFFER_SIZE).seek(0L, 0);
+	}
+	
+	@Test
+	public void readQuotedFieldsTest() throws DocumentException {
+		CsvReader reader = createReader("\"a, \"\"b\"\"\r\nc\",\"\",d\r\n", SMALL_BUFFER_SIZE);
+		
+		assertTrue(reader.nextRecord());
+		assertEquals(3, reader.getFieldCount());
+		assertEquals("a, \"b\"\r\nc", reader.getString(0));
+		assertNull(reader.getString(1));
+		assertEquals("d", reader.getString(2));
+		assertFalse(reader.nextRecord());
+		
+		reader.close();
+	}
+	
+	@Test
+	public void readRecordLargerThanBufferTest() throws DocumentException {
+		StringBuilder builder = new StringBuilder();
+		
+		for (int i = 0; i < 100; i++) {
+			builder.append(i).append(DELIMITER);
+		}
+		
+		CsvReader reader = createReader(builder.append("ç\n1").toString(), SMALL_BUFFER_SIZE);
+		
+		assertTrue(reader.nextRecord());
+		assertEquals(101, reader.getFieldCount());
+		assertEquals(99L, reader.getLong(99));
+		assertEquals("ç", reader.getString(100));
+		
+		assertTrue(reader.nextRecord());
+		assertEquals(1L, reader.getLong(0));
+		
+		reader.close();
+	}
+	
+	@Test
+	public void readLongValuesTest() throws DocumentException {
+		CsvReader reader = createReader("-9223372036854775808,9223372036854775807,+1,", SMALL_BUFFER_SIZE);
+		reader.nextRecord();
+		
+		assertEquals(Long.MIN_VALUE, reader.getLong(0));
+		assertEquals(Long.MAX_VALUE, reader.getLong(1));
+		assertEquals(1L, reader.getLong(2));
+		assertEquals(0L, reader.getLong(3));
+		
+		reader.close();
+	}
+	
+	@Test(expected = DocumentFormatException.class)
+	public void readLongOverflowTest() throws DocumentException {
+		CsvReader reader = createReader("9223372036854775808", SMALL_BUFFER_SIZE);
+		reader.nextRecord();
+		reader.getLong(0);
+	}
+	
+	@Test(expected = DocumentFormatException.class)
+	public void readInvalidLongTest() throws DocumentException {
+		CsvReader reader = createReader("1a", SMALL_BUFFER_SIZE);
+		reader.nextRecord();
+		reader.getLong(0);
+	}
+	
+	@Test(expected = DocumentFormatException.class)
+	public void unterminatedQuoteTest() throws DocumentException {
+		CsvReader reader = createReader("\"abc\n", SMALL_BUFFER_SIZE);
+		reader.nextRecord();
+	}
+	
+	@Test
+	public void unexpectedCharacterAfterQuoteTest() throws DocumentException {
+		CsvReader reader = createReader("\"a\"b,c\n1", SMALL_BUFFER_SIZE);
+		
+		try {
+			reader.nextRecord();
+		} catch (DocumentFormatException e) {
+			// A leitura prossegue a partir do registro seguinte
+			assertTrue(reader.nextRecord());
+			assertEquals(1L, reader.getLong(0));
+			assertEquals(1, reader.getRecordNumber());
+			reader.close();
+			return;
+		}
+		
+		throw new AssertionError();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void closedReaderTest() throws DocumentException {
+		CsvReader reader = createReader("a", SMALL_BUFFER_SIZE);
+		reader.close();
+		reader.hasNextRecord();
+	}
+}
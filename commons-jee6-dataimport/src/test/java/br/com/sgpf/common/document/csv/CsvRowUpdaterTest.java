@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.document.exception.DocumentException;
+
+public class CsvRowUpdaterTest {
+	
+	@Rule
+	public final TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final char DELIMITER = ',';
+	private static final String CONTENT = "ID,NAME\r\n1,a\r\n2,b\n3,c";
+	
+	private File createFile(String content) throws IOException {
+		File file = tempFolder.newFile();
+		Files.write(file.toPath(), content.getBytes(CHARSET));
+		return file;
+	}
+	
+	private String readFile(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), CHARSET);
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullFileConstructorTest() throws DocumentException {
+		new CsvRowUpdater(null, CHARSET, DELIMITER);
+	}
+	
+	@Test
+	public void readRecordTest() throws DocumentException, IOException {
+		CsvRowUpdater updater = new CsvRowUpdater(createFile(CONTENT), CHARSET, DELIMITER);
+		
+		assertArrayEquals(new String[] {"2", "b"}, updater.readRecord(14, 18));
+		
+		updater.updateRecord(14, 18, new String[] {"2", null});
+		
+		assertArrayEquals(new String[] {"2", null}, updater.readRecord(14, 18));
+		
+		updater.close();
+	}
+	
+	@Test
+	public void commitSameLengthTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		CsvRowUpdater updater = new CsvRowUpdater(file, CHARSET, DELIMITER);
+		
+		assertFalse(updater.hasChanges());
+		
+		updater.updateRecord(9, 14, new String[] {"5", "x"});
+		updater.updateRecord(18, 21, new String[] {"6", "y"});
+		
+		assertTrue(updater.hasChanges());
+		
+		updater.commit();
+		
+		assertEquals("ID,NAME\r\n5,x\r\n2,b\n6,y", readFile(file));
+	}
+	
+	@Test
+	public void commitDifferentLengthTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		CsvRowUpdater updater = new CsvRowUpdater(file, CHARSET, DELIMITER);
+		
+		updater.updateRecord(14, 18, new String[] {"20", "b, \"c\""});
+		updater.updateRecord(18, 21, new String[] {"30", null});
+		updater.commit();
+		
+		// O registro que muda de tamanho é gravado no arquivo lateral, sem regravar o arquivo
+		assertEquals("ID,NAME\r\n1,a\r\n2,b\n30,", readFile(file));
+		assertTrue(CsvSidecarFile.getFile(file).exists());
+		assertFalse(CsvSidecarFile.getJournalFile(file).exists());
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals("ID,NAME\r\n1,a\r\n20,\"b, \"\"c\"\"\"\n30,", readFile(file));
+		assertFalse(CsvSidecarFile.getFile(file).exists());
+	}
+	
+	@Test
+	public void flushTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		CsvRowUpdater updater = new CsvRowUpdater(file, CHARSET, DELIMITER);
+		
+		updater.updateRecord(9, 14, new String[] {"5", "x"});
+		updater.updateRecord(14, 18, new String[] {"20", "b"});
+		updater.updateRecord(18, 21, new String[] {"6", "y"});
+		updater.flush(18);
+		
+		// Somente os registros anteriores à posição são gravados
+		assertEquals("ID,NAME\r\n5,x\r\n2,b\n3,c", readFile(file));
+		assertTrue(CsvSidecarFile.getJournalFile(file).exists());
+		assertArrayEquals(new String[] {"6", "y"}, updater.readRecord(18, 21));
+		
+		updater.commit();
+		
+		assertEquals("ID,NAME\r\n5,x\r\n2,b\n6,y", readFile(file));
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals("ID,NAME\r\n5,x\r\n20,b\n6,y", readFile(file));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void updateFlushedRecordTest() throws DocumentException, IOException {
+		CsvRowUpdater updater = new CsvRowUpdater(createFile(CONTENT), CHARSET, DELIMITER);
+		updater.updateRecord(14, 18, new String[] {"20", "b"});
+		updater.flush();
+		updater.updateRecord(9, 14, new String[] {"5", "x"});
+	}
+	
+	@Test
+	public void sidecarRecordTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		CsvRowUpdater updater = new CsvRowUpdater(file, CHARSET, DELIMITER);
+		
+		assertArrayEquals(new String[] {"20", "b"}, updater.readRecord(14, 18, new String[] {"20", "b"}));
+		
+		// O registro com entrada no arquivo lateral não é sobrescrito, mesmo mantendo o tamanho
+		updater.updateRecord(14, 18, new String[] {"7", "b"}, true);
+		updater.commit();
+		
+		assertEquals(CONTENT, readFile(file));
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals("ID,NAME\r\n1,a\r\n7,b\n3,c", readFile(file));
+	}
+	
+	@Test
+	public void interruptedSyncTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		CsvRowUpdater updater = new CsvRowUpdater(file, CHARSET, DELIMITER);
+		
+		updater.updateRecord(14, 18, new String[] {"20", "b"});
+		updater.flush();
+		updater.updateRecord(18, 21, new String[] {"30", "c"});
+		
+		// A interrupção descarta somente as alterações ainda não gravadas
+		updater.close();
+		
+		assertTrue(CsvSidecarFile.getJournalFile(file).exists());
+		
+		new CsvRowUpdater(file, CHARSET, DELIMITER).close();
+		
+		assertFalse(CsvSidecarFile.getJournalFile(file).exists());
+		assertTrue(CsvSidecarFile.getFile(file).exists());
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals("ID,NAME\r\n1,a\r\n20,b\n3,c", readFile(file));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void closedUpdaterTest() throws DocumentException, IOException {
+		CsvRowUpdater updater = new CsvRowUpdater(createFile(CONTENT), CHARSET, DELIMITER);
+		updater.close();
+		updater.updateRecord(9, 14, new String[] {"5", "x"});
+	}
+}
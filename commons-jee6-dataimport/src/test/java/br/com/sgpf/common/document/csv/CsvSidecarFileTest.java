@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.csv;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.document.exception.DocumentException;
+
+public class CsvSidecarFileTest {
+	
+	@Rule
+	public final TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	private static final Charset CHARSET = Charset.forName("UTF-8");
+	private static final String CONTENT = "ID,NAME\r\n1,a\r\n2,b\n3,c";
+	
+	private File createFile(String content) throws IOException {
+		File file = tempFolder.newFile();
+		Files.write(file.toPath(), content.getBytes(CHARSET));
+		return file;
+	}
+	
+	private static void writeEntries(File file, Object... entries) throws DocumentException {
+		try (CsvSidecarFile.Writer writer = new CsvSidecarFile.Writer(file)) {
+			for (int i = 0; i < entries.length; i += 3) {
+				writer.write((Long) entries[i], (Long) entries[i + 1], ((String) entries[i + 2]).getBytes(CHARSET));
+			}
+		}
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullFileGetFileTest() {
+		CsvSidecarFile.getFile(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void unorderedEntryTest() throws DocumentException, IOException {
+		try (CsvSidecarFile.Writer writer = new CsvSidecarFile.Writer(tempFolder.newFile())) {
+			writer.write(14L, 18L, new byte[0]);
+			writer.write(9L, 14L, new byte[0]);
+		}
+	}
+	
+	@Test
+	public void findTest() throws DocumentException, IOException {
+		File file = tempFolder.newFile();
+		writeEntries(file, 9L, 14L, "5,x\r\n", 18L, 21L, "6,y");
+		
+		try (CsvSidecarFile.Reader reader = new CsvSidecarFile.Reader(file)) {
+			assertNull(reader.find(0));
+			assertArrayEquals(new String[] {"5", "x"}, reader.find(9).getFields(CHARSET, ','));
+			assertNull(reader.find(14));
+			assertEquals(21L, reader.find(18).getEnd());
+			assertNull(reader.find(21));
+		}
+	}
+	
+	@Test
+	public void truncatedEntryTest() throws DocumentException, IOException {
+		File file = tempFolder.newFile();
+		writeEntries(file, 9L, 14L, "5,x\r\n", 18L, 21L, "6,y");
+		
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+			raf.setLength(raf.length() - 1);
+		}
+		
+		try (CsvSidecarFile.Reader reader = new CsvSidecarFile.Reader(file)) {
+			assertEquals(9L, reader.next().getStart());
+			assertNull(reader.next());
+		}
+	}
+	
+	@Test
+	public void mergeJournalTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		writeEntries(CsvSidecarFile.getFile(file), 9L, 14L, "5,x\r\n", 18L, 21L, "6,y");
+		writeEntries(CsvSidecarFile.getJournalFile(file), 14L, 18L, "20,b\n", 18L, 21L, "30,c");
+		
+		CsvSidecarFile.mergeJournal(file);
+		
+		assertFalse(CsvSidecarFile.getJournalFile(file).exists());
+		
+		// A entrada do diário prevalece sobre a do arquivo lateral
+		CsvSidecarFile.apply(file);
+		
+		assertEquals("ID,NAME\r\n5,x\r\n20,b\n30,c", new String(Files.readAllBytes(file.toPath()), CHARSET));
+		assertFalse(CsvSidecarFile.getFile(file).exists());
+	}
+	
+	@Test
+	public void applyWithoutSidecarTest() throws DocumentException, IOException {
+		File file = createFile(CONTENT);
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals(CONTENT, new String(Files.readAllBytes(file.toPath()), CHARSET));
+	}
+}
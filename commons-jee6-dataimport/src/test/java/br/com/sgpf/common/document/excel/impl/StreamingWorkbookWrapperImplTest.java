@@ -0,0 +1,522 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ *
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.document.excel.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.document.exception.DocumentException;
+import br.com.sgpf.common.document.exception.DocumentFileException;
+import br.com.sgpf.common.document.exception.DocumentFormatException;
+
+public class StreamingWorkbookWrapperImplTest {
+
+	@ClassRule
+	public static final TemporaryFolder TEMP_FOLDER = new TemporaryFolder();
+
+	private static final File XLS_WORKBOOK_FILE = new File("src/test/resources/br/com/sgpf/common/document/excel/WorkbookWrapperTest.xls");
+	private static final File TEXT_FILE = new File("src/test/resources/br/com/sgpf/common/document/excel/TextFile.txt");
+	private static final File INVALID_FILE = new File("src/test/resources/br/com/sgpf/common/document/excel/invalid.xlsx");
+	private static File WORKBOOK_FILE;
+	private static File LARGE_WORKBOOK_FILE;
+
+	private static final int SHEET_FIRST_INDEX = 0;
+	private static final int SHEET_SECOND_INDEX = 1;
+	private static final int SHEET_INVALID_INDEX = 99;
+
+	private static final String SHEET_FIRST_NAME = "PRIMEIRA";
+	private static final String SHEET_SECOND_NAME = "SEGUNDA";
+
+	private static final int ROW_WINDOW_SIZE = 10;
+	private static final int LARGE_WORKBOOK_ROWS = 1000;
+
+	private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
+
+	private static final String STRING_VALUE = "String";
+	private static final Character CHAR_VALUE = Character.valueOf('C');
+	private static final Double DOUBLE_VALUE = Double.valueOf(1.5);
+	private static final Float FLOAT_VALUE = Float.valueOf(1.5F);
+	private static final Long LONG_VALUE = Long.valueOf(1L);
+	private static final Integer INTEGER_VALUE = Integer.valueOf(1);
+	private static final Short SHORT_VALUE = Short.valueOf("1");
+	private static final Byte BYTE_VALUE = Byte.valueOf("1");
+	private static final Calendar CALENDAR_VALUE = Calendar.getInstance();
+
+	@BeforeClass
+	public static void beforeClass() throws ParseException, IOException {
+		CALENDAR_VALUE.setTime(DATE_FORMAT.parse("01/01/2017"));
+		WORKBOOK_FILE = convertToXlsx(XLS_WORKBOOK_FILE, TEMP_FOLDER.newFile("WorkbookWrapperTest.xlsx"));
+		LARGE_WORKBOOK_FILE = createLargeWorkbook(TEMP_FOLDER.newFile("LargeWorkbookWrapperTest.xlsx"));
+	}
+
+	/**
+	 * Converte a planilha de teste do formato .xls para o formato .xlsx, preservando os valores e
+	 * formatos das células.
+	 */
+	private static File convertToXlsx(File source, File target) throws IOException {
+		try (InputStream is = new FileInputStream(source);
+				Workbook sourceWorkbook = new HSSFWorkbook(is);
+				Workbook targetWorkbook = new XSSFWorkbook();
+				OutputStream os = new FileOutputStream(target)) {
+			for (Sheet sourceSheet : sourceWorkbook) {
+				Sheet targetSheet = targetWorkbook.createSheet(sourceSheet.getSheetName());
+
+				for (Row sourceRow : sourceSheet) {
+					Row targetRow = targetSheet.createRow(sourceRow.getRowNum());
+
+					for (Cell sourceCell : sourceRow) {
+						Cell targetCell = targetRow.createCell(sourceCell.getColumnIndex());
+						CellStyle style = targetWorkbook.createCellStyle();
+						style.setDataFormat(targetWorkbook.createDataFormat().getFormat(sourceCell.getCellStyle().getDataFormatString()));
+						targetCell.setCellStyle(style);
+
+						switch (sourceCell.getCellTypeEnum()) {
+						case STRING:
+							targetCell.setCellValue(sourceCell.getStringCellValue());
+							break;
+						case NUMERIC:
+							targetCell.setCellValue(sourceCell.getNumericCellValue());
+							break;
+						case BOOLEAN:
+							targetCell.setCellValue(sourceCell.getBooleanCellValue());
+							break;
+						default:
+							break;
+						}
+					}
+				}
+			}
+
+			targetWorkbook.write(os);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Cria uma planilha com uma quantidade de linhas muito maior que a janela de leitura.
+	 */
+	private static File createLargeWorkbook(File target) throws IOException {
+		try (Workbook workbook = new XSSFWorkbook(); OutputStream os = new FileOutputStream(target)) {
+			Sheet sheet = workbook.createSheet(SHEET_FIRST_NAME);
+
+			for (int i = 0; i < LARGE_WORKBOOK_ROWS; i++) {
+				Row row = sheet.createRow(i);
+				row.createCell(0).setCellValue(i);
+				row.createCell(1).setCellValue(STRING_VALUE + i);
+			}
+
+			workbook.write(os);
+		}
+
+		return target;
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullInputStreamConstructorTest() {
+		InputStream is = null;
+		new StreamingWorkbookWrapperImpl(is, SHEET_FIRST_INDEX);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullFileConstructorTest() throws DocumentFileException {
+		File file = null;
+		new StreamingWorkbookWrapperImpl(file, SHEET_FIRST_INDEX);
+	}
+
+	@Test(expected = DocumentFileException.class)
+	public void invalidFileConstructorTest() throws DocumentFileException {
+		new StreamingWorkbookWrapperImpl(INVALID_FILE, SHEET_FIRST_INDEX);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidRowWindowSizeConstructorTest() throws DocumentFileException {
+		new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX, StreamingWorkbookWrapperImpl.MIN_ROW_WINDOW_SIZE - 1);
+	}
+
+	@Test
+	public void isWriteableTest() throws DocumentFileException, FileNotFoundException {
+		assertFalse(new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX).isWritable());
+		assertFalse(new StreamingWorkbookWrapperImpl(new FileInputStream(WORKBOOK_FILE), SHEET_FIRST_INDEX).isWritable());
+		assertTrue(new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true).isWritable());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void openAlreadyOpenWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		try {
+			workbook.open();
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void openWorkbookWithUndefinedSheetIndexTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE);
+		workbook.open();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void openClosedOnceInputStreamWorkbookTest() throws DocumentException, FileNotFoundException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(new FileInputStream(WORKBOOK_FILE), SHEET_FIRST_INDEX);
+		workbook.open();
+		workbook.close(false);
+		workbook.open();
+	}
+
+	@Test
+	public void openClosedOnceFileWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		workbook.close(false);
+		workbook.open();
+		workbook.close(false);
+	}
+
+	@Test(expected = DocumentException.class)
+	public void openWorkbookFromXlsFileTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(XLS_WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+	}
+
+	@Test(expected = DocumentException.class)
+	public void openWorkbookFromTextFileTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(TEXT_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+	}
+
+	@Test(expected = DocumentException.class)
+	public void openWorkbookFromWithInvalidSheetIndexTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_INVALID_INDEX);
+		workbook.open();
+	}
+
+	@Test
+	public void openWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		assertEquals(SHEET_FIRST_NAME, workbook.getWorkingSheet().getSheetName());
+		assertNotNull(workbook.getWorkbook());
+		workbook.close(false);
+	}
+
+	@Test
+	public void setWorkingSheetIdClosedWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.setWorkingSheetId(SHEET_SECOND_INDEX);
+		workbook.open();
+		assertEquals(SHEET_SECOND_NAME, workbook.getWorkingSheet().getSheetName());
+		workbook.close(false);
+	}
+
+	@Test
+	public void setValidWorkingSheetIdOpenWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		assertEquals(STRING_VALUE, workbook.readStringCell(1, 0));
+		workbook.setWorkingSheetId(SHEET_SECOND_INDEX);
+		assertEquals(SHEET_SECOND_NAME, workbook.getWorkingSheet().getSheetName());
+		workbook.close(false);
+	}
+
+	@Test(expected = DocumentException.class)
+	public void setInvalidWorkingSheetIdOpenWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		try {
+			workbook.setWorkingSheetId(SHEET_INVALID_INDEX);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void closeUnopenedWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.close(false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void closeSavingWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		try {
+			workbook.close(true);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void getRowFromClosedWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.getRow(0);
+	}
+
+	@Test
+	public void getNonExistingRowTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		assertNull(workbook.getRow(99));
+		workbook.close(false);
+	}
+
+	@Test
+	public void readValuesTest() throws DocumentException, FileNotFoundException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(new FileInputStream(WORKBOOK_FILE), SHEET_FIRST_INDEX);
+		workbook.open();
+
+		// Pulo para a primeira linha de dados que possui conteúdo válido
+		assertEquals(STRING_VALUE, workbook.readStringCell(1, 0));
+		assertEquals(CHAR_VALUE, workbook.readCharCell(1, 1));
+		assertEquals(DOUBLE_VALUE, workbook.readDoubleCell(1, 2));
+		assertEquals(FLOAT_VALUE, workbook.readFloatCell(1, 3));
+		assertEquals(LONG_VALUE, workbook.readLongCell(1, 4));
+		assertEquals(INTEGER_VALUE, workbook.readIntegerCell(1, 5));
+		assertEquals(SHORT_VALUE, workbook.readShortCell(1, 6));
+		assertEquals(BYTE_VALUE, workbook.readByteCell(1, 7));
+		assertTrue(workbook.readBooleanCell(1, 8));
+		assertEquals(CALENDAR_VALUE.getTime(), workbook.readDateCell(1, 9));
+		assertEquals(CALENDAR_VALUE, workbook.readCalendarCell(1, 10));
+		assertTrue(workbook.readYesNoCell(1, 11));
+		assertFalse(workbook.readYesNoCell(1, 12));
+
+		// Pulo para a segunda linha de dados que é toda nula
+		assertNull(workbook.readStringCell(2, 0));
+		assertNull(workbook.readCharCell(2, 1));
+		assertNull(workbook.readDoubleCell(2, 2));
+		assertNull(workbook.readFloatCell(2, 3));
+		assertNull(workbook.readLongCell(2, 4));
+		assertNull(workbook.readIntegerCell(2, 5));
+		assertNull(workbook.readShortCell(2, 6));
+		assertNull(workbook.readByteCell(2, 7));
+		assertNull(workbook.readBooleanCell(2, 8));
+		assertNull(workbook.readDateCell(2, 9));
+		assertNull(workbook.readCalendarCell(2, 10));
+		assertNull(workbook.readYesNoCell(2, 11));
+		assertNull(workbook.readYesNoCell(2, 12));
+
+		workbook.close(false);
+	}
+
+	@Test
+	public void readPrimitiveValuesTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+
+		assertFalse(workbook.isBlankCell(1, 2));
+		assertEquals(DOUBLE_VALUE.doubleValue(), workbook.readDoubleValue(1, 2), 0D);
+		assertEquals(LONG_VALUE.longValue(), workbook.readLongValue(1, 4));
+		assertEquals(INTEGER_VALUE.intValue(), workbook.readIntValue(1, 5));
+
+		assertTrue(workbook.isBlankCell(2, 2));
+		assertEquals(0D, workbook.readDoubleValue(2, 2), 0D);
+		assertEquals(0L, workbook.readLongValue(2, 4));
+		assertEquals(0, workbook.readIntValue(2, 5));
+
+		workbook.close(false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void readPrimitiveValueNonExistingRowTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+
+		try {
+			workbook.readLongValue(99, 0);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = DocumentFormatException.class)
+	public void readInvalidCharValueTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		try {
+			workbook.readCharCell(1, 0);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test
+	public void readSequentialRowsTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(LARGE_WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE);
+		workbook.open();
+
+		for (int i = 0; i < LARGE_WORKBOOK_ROWS; i++) {
+			assertEquals(Integer.valueOf(i), workbook.readIntegerCell(i, 0));
+			assertEquals(STRING_VALUE + i, workbook.readStringCell(i, 1));
+			assertTrue(workbook.getWorkingSheet().getPhysicalNumberOfRows() <= ROW_WINDOW_SIZE);
+		}
+
+		assertNull(workbook.getRow(LARGE_WORKBOOK_ROWS));
+		workbook.close(false);
+	}
+
+	@Test
+	public void readRowInsideWindowTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(LARGE_WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE);
+		workbook.open();
+		assertEquals(Integer.valueOf(ROW_WINDOW_SIZE - 1), workbook.readIntegerCell(ROW_WINDOW_SIZE - 1, 0));
+		assertEquals(Integer.valueOf(0), workbook.readIntegerCell(0, 0));
+		workbook.close(false);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void readDiscardedRowTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(LARGE_WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE);
+		workbook.open();
+		try {
+			workbook.readIntegerCell(ROW_WINDOW_SIZE, 0);
+			workbook.readIntegerCell(0, 0);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void writeValueTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		try {
+			workbook.writeStringCell(1, 0, STRING_VALUE);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void setWorkingSheetIdOpenWritableWorkbookTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true);
+		workbook.open();
+		try {
+			workbook.setWorkingSheetId(SHEET_SECOND_INDEX);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void writeDiscardedRowTest() throws DocumentException {
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(LARGE_WORKBOOK_FILE, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true);
+		workbook.open();
+		try {
+			workbook.readIntegerCell(ROW_WINDOW_SIZE * 2, 0);
+			workbook.writeIntegerCell(0, 0, INTEGER_VALUE);
+		} finally {
+			workbook.close(false);
+		}
+	}
+
+	@Test
+	public void closeWithoutSavingWritableWorkbookTest() throws DocumentException, IOException {
+		File file = copyToTempFile(WORKBOOK_FILE);
+		long before = file.lastModified();
+
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(file, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true);
+		workbook.open();
+		assertTrue(workbook.writeStringCell(2, 0, STRING_VALUE));
+		workbook.close(false);
+
+		assertEquals(before, file.lastModified());
+		workbook.open();
+		assertNull(workbook.readStringCell(2, 0));
+		workbook.close(false);
+	}
+
+	@Test
+	public void writeValuesTest() throws DocumentException, IOException {
+		File file = copyToTempFile(WORKBOOK_FILE);
+
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(file, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true);
+		workbook.open();
+		assertTrue(workbook.writeStringCell(2, 0, STRING_VALUE));
+		assertTrue(workbook.writeLongCell(2, 4, LONG_VALUE));
+		assertTrue(workbook.writeDateCell(2, 9, CALENDAR_VALUE.getTime()));
+		assertTrue(workbook.writeYesNoCell(2, 11, Boolean.TRUE));
+		assertTrue(workbook.writeNullValue(1, 0));
+		workbook.close(true);
+
+		workbook.open();
+		assertNull(workbook.readStringCell(1, 0));
+		assertEquals(CHAR_VALUE, workbook.readCharCell(1, 1));
+		assertEquals(STRING_VALUE, workbook.readStringCell(2, 0));
+		assertEquals(LONG_VALUE, workbook.readLongCell(2, 4));
+		assertEquals(CALENDAR_VALUE.getTime(), workbook.readDateCell(2, 9));
+		assertTrue(workbook.readYesNoCell(2, 11));
+		assertNull(workbook.readYesNoCell(2, 12));
+		workbook.close(false);
+
+		WorkbookWrapperImpl savedWorkbook = new WorkbookWrapperImpl(file, SHEET_SECOND_INDEX);
+		savedWorkbook.open();
+		assertEquals(SHEET_SECOND_NAME, savedWorkbook.getWorkingSheet().getSheetName());
+		assertEquals(SHEET_FIRST_NAME, savedWorkbook.getWorkbook().getSheetName(SHEET_FIRST_INDEX));
+		savedWorkbook.close(false);
+	}
+
+	@Test
+	public void writeSequentialRowsTest() throws DocumentException, IOException {
+		File file = copyToTempFile(LARGE_WORKBOOK_FILE);
+
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(file, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE, true);
+		workbook.open();
+
+		for (int i = 0; i < LARGE_WORKBOOK_ROWS / 2; i++) {
+			workbook.writeIntegerCell(i, 0, i * 2);
+		}
+
+		workbook.close(true);
+
+		workbook = new StreamingWorkbookWrapperImpl(file, SHEET_FIRST_INDEX, ROW_WINDOW_SIZE);
+		workbook.open();
+
+		for (int i = 0; i < LARGE_WORKBOOK_ROWS; i++) {
+			assertEquals(Integer.valueOf(i < LARGE_WORKBOOK_ROWS / 2 ? i * 2 : i), workbook.readIntegerCell(i, 0));
+			assertEquals(STRING_VALUE + i, workbook.readStringCell(i, 1));
+		}
+
+		workbook.close(false);
+	}
+
+	private static File copyToTempFile(File source) throws IOException {
+		File target = TEMP_FOLDER.newFile();
+		Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return target;
+	}
+}
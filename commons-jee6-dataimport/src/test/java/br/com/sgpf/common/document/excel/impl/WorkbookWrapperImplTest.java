@@ -15,6 +15,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -383,6 +385,53 @@ public class WorkbookWrapperImplTest {
 		workbook.close(false);
 	}
 	
+	@Test
+	public void readPrimitiveValuesTest() throws DocumentException {
+		WorkbookWrapperImpl workbook = new WorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		
+		assertFalse(workbook.isBlankCell(1, 2));
+		assertEquals(DOUBLE_VALUE.doubleValue(), workbook.readDoubleValue(1, 2), 0D);
+		assertEquals(LONG_VALUE.longValue(), workbook.readLongValue(1, 4));
+		assertEquals(INTEGER_VALUE.intValue(), workbook.readIntValue(1, 5));
+		
+		assertTrue(workbook.isBlankCell(2, 2));
+		assertEquals(0D, workbook.readDoubleValue(2, 2), 0D);
+		assertEquals(0L, workbook.readLongValue(2, 4));
+		assertEquals(0, workbook.readIntValue(2, 5));
+		
+		workbook.close(false);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void readPrimitiveValueNonExistingRowTest() throws DocumentException {
+		WorkbookWrapperImpl workbook = new WorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
+		workbook.open();
+		
+		try {
+			workbook.readLongValue(99, 0);
+		} finally {
+			workbook.close(false);
+		}
+	}
+	
+	@Test
+	public void rowCacheTest() throws DocumentException {
+		WorkbookWrapperImpl workbook = spy(new WorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX));
+		workbook.open();
+		
+		workbook.readStringCell(1, 0);
+		workbook.readCharCell(1, 1);
+		workbook.readLongValue(1, 4);
+		verify(workbook, times(1)).getSheetRow(1);
+		
+		workbook.readStringCell(2, 0);
+		workbook.readStringCell(1, 0);
+		verify(workbook, times(2)).getSheetRow(1);
+		
+		workbook.close(false);
+	}
+	
 	@Test
 	public void writeValuesTest() throws DocumentException {
 		WorkbookWrapperImpl workbook = new WorkbookWrapperImpl(WORKBOOK_FILE, SHEET_FIRST_INDEX);
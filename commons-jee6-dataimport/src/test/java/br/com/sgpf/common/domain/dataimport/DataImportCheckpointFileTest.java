@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.domain.dataimport.DataImportResult.Status;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class DataImportCheckpointFileTest {
+	
+	private static final int ITEM_INTERVAL = 2;
+	private static final long TIME_INTERVAL = 60000L;
+	
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	private File file;
+	private DataImportCheckpointFile checkpointFile;
+	
+	@Before
+	public void before() {
+		file = new File(tempFolder.getRoot(), "import.checkpoint");
+		checkpointFile = new DataImportCheckpointFile(file, ITEM_INTERVAL, TIME_INTERVAL);
+	}
+	
+	private static DataImportItem<Integer, SimpleDataElement> createItem(int id, Status status, boolean synced) {
+		DataImportItem<Integer, SimpleDataElement> item = new DataImportItem<>(id, new SimpleDataElement((long) id), new DataImportInstructions(false, false, true, false, false, true));
+		item.getResult().setStatus(status);
+		item.getResult().setSynced(synced);
+		return item;
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullFileConstructorTest() {
+		new DataImportCheckpointFile(null);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidItemIntervalConstructorTest() {
+		new DataImportCheckpointFile(file, 0, TIME_INTERVAL);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidTimeIntervalConstructorTest() {
+		new DataImportCheckpointFile(file, ITEM_INTERVAL, 0L);
+	}
+	
+	@Test
+	public void loadNonExistingFileTest() throws DataImportException {
+		assertNull(checkpointFile.load());
+	}
+	
+	@Test
+	public void saveLoadTest() throws DataImportException {
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpoint.register(createItem(1, Status.INSERTED, true), 10L);
+		checkpoint.register(new DataImportItem<Integer, SimpleDataElement>("Erro", new Exception()), 20L);
+		checkpoint.register(createItem(3, Status.INSERTED, false), 30L);
+		
+		checkpointFile.save(checkpoint);
+		DataImportCheckpoint loaded = checkpointFile.load();
+		
+		assertEquals(30L, loaded.getPosition());
+		assertEquals(3, loaded.getItemCount());
+		assertEquals(Integer.valueOf(3), loaded.getLastItemId());
+		assertEquals(2L, loaded.getSummary().getCount(Status.INSERTED));
+		assertEquals(1L, loaded.getSummary().getCount(Status.ERROR));
+		assertEquals(0L, loaded.getSummary().getCount(Status.UPDATED));
+		assertEquals(1L, loaded.getSummary().getSyncedCount());
+		assertFalse(new File(file.getPath() + ".tmp").exists());
+	}
+	
+	@Test
+	public void updateTest() throws DataImportException {
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpointFile.load();
+		
+		checkpoint.register(createItem(1, Status.INSERTED, false), 1L);
+		assertFalse(checkpointFile.update(checkpoint));
+		assertFalse(file.exists());
+		
+		checkpoint.register(createItem(2, Status.UPDATED, false), 2L);
+		assertTrue(checkpointFile.update(checkpoint));
+		assertEquals(2, checkpointFile.load().getItemCount());
+		
+		checkpoint.register(createItem(3, Status.UPDATED, false), 3L);
+		assertFalse(checkpointFile.update(checkpoint));
+		assertEquals(2, checkpointFile.load().getItemCount());
+	}
+	
+	@Test
+	public void isUpdateDueTest() throws DataImportException {
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpointFile.load();
+		
+		checkpoint.register(createItem(1, Status.INSERTED, false), 1L);
+		assertFalse(checkpointFile.isUpdateDue(checkpoint));
+		
+		checkpoint.register(createItem(2, Status.UPDATED, false), 2L);
+		assertTrue(checkpointFile.isUpdateDue(checkpoint));
+		assertFalse(file.exists());
+	}
+	
+	@Test(expected = DataImportException.class)
+	public void loadInvalidFileTest() throws DataImportException, IOException {
+		Files.write(file.toPath(), new byte[] { 1, 2, 3 });
+		checkpointFile.load();
+	}
+	
+	@Test
+	public void deleteTest() throws DataImportException {
+		checkpointFile.save(new DataImportCheckpoint());
+		assertTrue(file.exists());
+		
+		checkpointFile.delete();
+		assertFalse(file.exists());
+		
+		// Remover um arquivo inexistente não gera erro
+		checkpointFile.delete();
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.junit.Test;
+
+import br.com.sgpf.common.domain.dataimport.DataImportResult.Status;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class DataImportSummaryTest {
+	
+	private static final int STRIPE_LENGTH = 16;
+	
+	@Test(expected = NullPointerException.class)
+	public void registerNullItemTest() {
+		new DataImportSummary().register(null);
+	}
+	
+	@Test
+	public void registerTest() {
+		DataImportSummary summary = new DataImportSummary();
+		DataImportItem<Integer, SimpleDataElement> item = new DataImportItem<>(1, new SimpleDataElement(1L), new DataImportInstructions(false, false, true, false, false, true));
+		item.getResult().setStatus(Status.UPDATED);
+		item.getResult().setSynced(true);
+		
+		summary.register(item);
+		summary.register(new DataImportItem<Integer, SimpleDataElement>(2, new SimpleDataElement(2L), new DataImportInstructions(false, false, false, false, false, false)));
+		summary.register(new DataImportItem<Integer, SimpleDataElement>("Erro", new Exception()));
+		
+		assertEquals(3L, summary.getItemCount());
+		assertEquals(1L, summary.getSyncedCount());
+		assertEquals(1L, summary.getCount(Status.UPDATED));
+		assertEquals(1L, summary.getCount(Status.ERROR));
+		assertEquals(0L, summary.getCount(Status.INSERTED));
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void negativeMaxErrorSamplesTest() {
+		new DataImportSummary(-1);
+	}
+	
+	@Test
+	public void errorSamplesTest() {
+		DataImportSummary summary = new DataImportSummary(2);
+		Exception exception = new Exception();
+		
+		for (int i = 0; i < 5; i++) {
+			DataImportItem<Integer, SimpleDataElement> item = new DataImportItem<>(i, new SimpleDataElement((long) i), new DataImportInstructions(false, false, false, false, false, false));
+			item.getResult().setStatus(Status.ERROR);
+			item.getResult().setMessage("Erro " + i);
+			item.getResult().setException(exception);
+			summary.register(item);
+		}
+		
+		List<DataImportSummary.ErrorSample> samples = summary.getErrorSamples();
+		assertEquals(5L, summary.getCount(Status.ERROR));
+		assertEquals(2, samples.size());
+		assertEquals(0, samples.get(0).getItemId());
+		assertEquals("Erro 0", samples.get(0).getMessage());
+		assertEquals(exception, samples.get(0).getException());
+		assertEquals(1, samples.get(1).getItemId());
+		assertTrue(new DataImportSummary(0).getErrorSamples().isEmpty());
+	}
+	
+	@Test
+	public void concurrentRegisterTest() throws Exception {
+		final DataImportSummary summary = new DataImportSummary(10);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		
+		for (int t = 0; t < 4; t++) {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					for (int i = 0; i < 1000; i++) {
+						summary.register(new DataImportItem<Integer, SimpleDataElement>("Erro", null));
+					}
+				}
+			});
+		}
+		
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(4000L, summary.getItemCount());
+		assertEquals(4000L, summary.getCount(Status.ERROR));
+		assertEquals(10, summary.getErrorSamples().size());
+	}
+	
+	@Test
+	public void serializationTest() throws Exception {
+		DataImportSummary summary = new DataImportSummary();
+		summary.register(new DataImportItem<Integer, SimpleDataElement>("Erro", new Exception()));
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(summary);
+		}
+		
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			DataImportSummary copy = (DataImportSummary) in.readObject();
+			assertEquals(1L, copy.getItemCount());
+			assertEquals(1L, copy.getCount(Status.ERROR));
+			assertEquals("Erro", copy.getErrorSamples().get(0).getMessage());
+			assertNull(copy.getErrorSamples().get(0).getException());
+		}
+	}
+	
+	@Test
+	public void fewerStripesSerializationTest() throws Exception {
+		DataImportSummary summary = new DataImportSummary();
+		
+		// Simula um resumo serializado em uma JVM com uma única faixa de contadores
+		Field countersField = DataImportSummary.class.getDeclaredField("counters");
+		countersField.setAccessible(true);
+		AtomicLongArray counters = new AtomicLongArray(STRIPE_LENGTH);
+		counters.set(Status.ERROR.ordinal(), 1L);
+		counters.set(Status.values().length, 1L);
+		countersField.set(summary, counters);
+		
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(summary);
+		}
+		
+		final DataImportSummary copy;
+		
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (DataImportSummary) in.readObject();
+		}
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		
+		for (int t = 0; t < 8; t++) {
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					copy.register(new DataImportItem<Integer, SimpleDataElement>("Erro", null));
+				}
+			});
+		}
+		
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(9L, copy.getItemCount());
+		assertEquals(9L, copy.getCount(Status.ERROR));
+	}
+}
@@ -9,16 +9,29 @@ package br.com.sgpf.common.domain.dataimport.impl;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -26,16 +39,30 @@ import org.mockito.stubbing.Answer;
 
 import com.google.common.collect.Lists;
 
+import br.com.sgpf.common.domain.dataimport.DataImportCheckpoint;
+import br.com.sgpf.common.domain.dataimport.DataImportCheckpointFile;
 import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportListener;
 import br.com.sgpf.common.domain.dataimport.DataImportResult;
+import br.com.sgpf.common.domain.dataimport.DataImportSummary;
+import br.com.sgpf.common.domain.dataimport.FlushableImportDataSource;
 import br.com.sgpf.common.domain.dataimport.ImportDataSource;
+import br.com.sgpf.common.domain.dataimport.SeekableImportDataSource;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 import br.com.sgpf.common.domain.vo.SimpleDataElement;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BaseDataImporterTest {
 	
+	private static final int THREAD_POOL_SIZE = 2;
+	private static final int CHUNK_SIZE = 3;
+	private static final int QUEUE_CAPACITY = 2;
+	private static final long TIME_INTERVAL = 60000L;
+	
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
+	
 	private BaseDataImporter<Integer, SimpleDataElement> baseDataImporter =  new BaseDataImporterImpl();
 	
 	@Mock
@@ -202,4 +229,350 @@ public class BaseDataImporterTest {
 	public void dataSourceSyncErrorWithSuppression() throws DataImportException {
 		
 	}
+	
+	/**
+	 * Testa a importação com receptor de itens passando um receptor nulo.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void listenerImportDataNullListenerTest() throws DataImportException {
+		DataImportListener<Integer, SimpleDataElement> listener = null;
+		baseDataImporter.importData(dataSource, false, false, listener);
+	}
+	
+	/**
+	 * Teste padrão da importação com receptor de itens, que recebe os itens na ordem da origem e
+	 * retorna somente o resumo da importação.
+	 */
+	@Test
+	public void listenerImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		when(dataSource.isWritable()).thenReturn(true);
+		final List<DataImportItem<Integer, SimpleDataElement>> importedItens = new ArrayList<>();
+		
+		DataImportSummary summary = baseDataImporter.importData(dataSource, true, false, new DataImportListener<Integer, SimpleDataElement>() {
+				@Override
+				public void itemImported(DataImportItem<Integer, SimpleDataElement> item) {
+					importedItens.add(item);
+				}
+			});
+		
+		assertEquals(itemList, importedItens);
+		assertEquals(4L, summary.getItemCount());
+		assertEquals(2L, summary.getCount(DataImportResult.Status.INSERTED));
+		assertEquals(1L, summary.getCount(DataImportResult.Status.ERROR));
+		assertEquals(1L, summary.getCount(DataImportResult.Status.OVERRIDDEN));
+		assertEquals(2L, summary.getSyncedCount());
+		verify(dataSource).open();
+		verify(dataSource).close();
+	}
+	
+	/**
+	 * Testa um erro no consumo de um item pelo receptor, que interrompe a importação.
+	 */
+	@Test(expected = DataImportException.class)
+	public void listenerErrorImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		
+		baseDataImporter.importData(dataSource, false, false, new DataImportListener<Integer, SimpleDataElement>() {
+				@Override
+				public void itemImported(DataImportItem<Integer, SimpleDataElement> item) throws DataImportException {
+					throw new DataImportException("Listener Error");
+				}
+			});
+	}
+	
+	/**
+	 * Testa a importação com ponto de retomada passando um arquivo de ponto de retomada nulo.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void checkpointImportDataNullCheckpointFileTest() throws DataImportException {
+		DataImportCheckpointFile checkpointFile = null;
+		baseDataImporter.importData(dataSource, false, false, checkpointFile);
+	}
+	
+	/**
+	 * Teste padrão da importação com ponto de retomada, que remove o arquivo ao fim da importação.
+	 */
+	@Test
+	public void checkpointImportDataTest() throws DataImportException, IOException {
+		mockRegularDataSourceBehaviour();
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		
+		Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = baseDataImporter.importData(dataSource, false, false, checkpointFile);
+		
+		assertEquals(itemList, importedItens);
+		assertFalse(checkpointFile.getFile().exists());
+		verify(dataSource).open();
+		verify(dataSource).close();
+	}
+	
+	/**
+	 * Testa a retomada de uma importação interrompida a partir de um DataSource não posicionável,
+	 * cujos itens já concluídos são descartados.
+	 */
+	@Test
+	public void checkpointResumeImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpoint.register(itemList.get(0), 1L);
+		checkpoint.register(itemList.get(1), 2L);
+		checkpointFile.save(checkpoint);
+		
+		Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = baseDataImporter.importData(dataSource, false, false, checkpointFile);
+		
+		assertEquals(itemList.subList(2, 4), Lists.newArrayList(importedItens));
+		assertFalse(checkpointFile.getFile().exists());
+	}
+	
+	/**
+	 * Testa a retomada de uma importação com receptor de itens, cujo resumo inclui os itens
+	 * concluídos antes da interrupção.
+	 */
+	@Test
+	public void checkpointResumeListenerImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpoint.register(itemList.get(0), 1L);
+		checkpointFile.save(checkpoint);
+		final List<DataImportItem<Integer, SimpleDataElement>> importedItens = new ArrayList<>();
+		
+		DataImportSummary summary = baseDataImporter.importData(dataSource, false, false, new DataImportListener<Integer, SimpleDataElement>() {
+				@Override
+				public void itemImported(DataImportItem<Integer, SimpleDataElement> item) {
+					importedItens.add(item);
+				}
+			}, checkpointFile);
+		
+		assertEquals(itemList.subList(1, 4), importedItens);
+		assertEquals(4L, summary.getItemCount());
+		assertEquals(2L, summary.getCount(DataImportResult.Status.INSERTED));
+	}
+	
+	/**
+	 * Testa a retomada de uma importação interrompida a partir de um DataSource posicionável.
+	 */
+	@Test
+	public void checkpointResumeSeekableImportDataTest() throws DataImportException {
+		@SuppressWarnings("unchecked")
+		SeekableImportDataSource<Integer, SimpleDataElement> seekableDataSource = mock(SeekableImportDataSource.class);
+		final DataImportItem<Integer, SimpleDataElement> item = new DataImportItem<Integer, SimpleDataElement>(5, new SimpleDataElement(5L), new DataImportInstructions(false, false, true, false, false, false));
+		item.getResult().setStatus(DataImportResult.Status.INSERTED);
+		when(seekableDataSource.hasNext()).thenReturn(true, false);
+		when(seekableDataSource.next()).thenReturn(item);
+		when(seekableDataSource.getPosition()).thenReturn(500L);
+		
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		DataImportCheckpoint checkpoint = new DataImportCheckpoint();
+		checkpoint.register(item, 400L);
+		checkpointFile.save(checkpoint);
+		
+		Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = baseDataImporter.importData(seekableDataSource, false, false, checkpointFile);
+		
+		assertEquals(Lists.newArrayList(item), Lists.newArrayList(importedItens));
+		verify(seekableDataSource).seek(400L, 1);
+	}
+	
+	/**
+	 * Testa a sincronização em uma importação com ponto de retomada usando um DataSource que só
+	 * persiste as alterações no seu fechamento.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void checkpointSyncUnflushableImportDataTest() throws DataImportException {
+		when(dataSource.isWritable()).thenReturn(true);
+		baseDataImporter.importData(dataSource, true, false, new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint")));
+	}
+	
+	/**
+	 * Testa a persistência das alterações de sincronização antes da gravação do ponto de retomada.
+	 */
+	@Test
+	public void checkpointSyncFlushImportDataTest() throws DataImportException {
+		@SuppressWarnings("unchecked")
+		FlushableImportDataSource<Integer, SimpleDataElement> flushableDataSource = mock(FlushableImportDataSource.class);
+		DataImportItem<Integer, SimpleDataElement> item = new DataImportItem<Integer, SimpleDataElement>(1, new SimpleDataElement(1L), new DataImportInstructions(false, false, true, false, false, true));
+		item.getResult().setStatus(DataImportResult.Status.INSERTED);
+		when(flushableDataSource.isWritable()).thenReturn(true);
+		when(flushableDataSource.hasNext()).thenReturn(true, false);
+		when(flushableDataSource.next()).thenReturn(item);
+		when(flushableDataSource.sync(item)).thenReturn(true);
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		
+		baseDataImporter.importData(flushableDataSource, true, false, checkpointFile);
+		
+		InOrder inOrder = inOrder(flushableDataSource);
+		inOrder.verify(flushableDataSource).sync(item);
+		inOrder.verify(flushableDataSource).flush();
+		inOrder.verify(flushableDataSource).close();
+	}
+	
+	/**
+	 * Testa a retomada de uma importação sincronizada que foi interrompida sem o fechamento do
+	 * DataSource. Os itens concluídos antes do ponto de retomada devem manter os ids sincronizados.
+	 */
+	@Test
+	public void checkpointSyncResumeImportDataTest() throws DataImportException, IOException {
+		File csvFile = tempFolder.newFile("import.csv");
+		Files.write(csvFile.toPath(), "ID,INSERT,UPDATE,MERGE,REMOVE,FORCE,SYNC\n,N,N,Y,N,N,Y\n,N,N,Y,N,N,Y\n,N,N,Y,N,N,Y\n".getBytes(StandardCharsets.UTF_8));
+		DataImportCheckpointFile checkpointFile = new DataImportCheckpointFile(new File(tempFolder.getRoot(), "import.checkpoint"), 1, TIME_INTERVAL);
+		
+		try {
+			new IdAssigningDataImporter(3).importData(new CsvDataSourceImpl(csvFile), true, false, checkpointFile);
+		} catch (DataImportException e) {
+			// A importação é interrompida no terceiro item, sem o fechamento da fonte de dados
+			assertTrue(checkpointFile.getFile().exists());
+		}
+		
+		Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = new IdAssigningDataImporter(0).importData(new CsvDataSourceImpl(csvFile), true, false, checkpointFile);
+		
+		assertEquals(1, importedItens.size());
+		
+		CsvDataSourceImpl csvDataSource = new CsvDataSourceImpl(csvFile);
+		csvDataSource.open();
+		
+		for (long i = 1; i <= 3; i++) {
+			assertEquals(new SimpleDataElement(i * 10), csvDataSource.next().getData());
+		}
+		
+		csvDataSource.close();
+	}
+	
+	/**
+	 * Importador que atribui a cada item um id derivado da sua linha, interrompendo a importação
+	 * em um item específico.
+	 */
+	private static class IdAssigningDataImporter extends BaseDataImporterImpl {
+		private static final long serialVersionUID = 1L;
+		
+		private final int interruptionItemId;
+		
+		public IdAssigningDataImporter(int interruptionItemId) {
+			this.interruptionItemId = interruptionItemId;
+		}
+		
+		@Override
+		protected void processItem(DataImportItem<Integer, SimpleDataElement> item, boolean suppressExceptions) throws DataImportException {
+			if (item.getId() == interruptionItemId) {
+				throw new DataImportException("Interrupção da importação");
+			}
+			
+			item.getData().setId(item.getId() * 10L);
+			item.getResult().setStatus(DataImportResult.Status.INSERTED);
+		}
+	}
+	
+	/**
+	 * Teste padrão da importação paralela com sincronização usando um DataSource gravável.
+	 */
+	@Test
+	public void parallelImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		when(dataSource.isWritable()).thenReturn(true);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+		
+		try {
+			Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = baseDataImporter.importData(dataSource, true, false, executor, CHUNK_SIZE);
+			
+			assertEquals(itemList, Lists.newArrayList(importedItens));
+			assertTrue(itemList.get(0).getResult().isSynced());
+			assertFalse(itemList.get(1).getResult().isSynced());
+			assertFalse(itemList.get(2).getResult().isSynced());
+			assertTrue(itemList.get(3).getResult().isSynced());
+			verify(dataSource).open();
+			verify(dataSource).close();
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Testa a importação paralela com um tamanho de bloco inválido.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void parallelImportDataInvalidChunkSizeTest() throws DataImportException {
+		baseDataImporter.importData(dataSource, false, false, Executors.newSingleThreadExecutor(), 0);
+	}
+	
+	/**
+	 * Testa a importação paralela sem executor.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void parallelImportDataNullExecutorTest() throws DataImportException {
+		baseDataImporter.importData(dataSource, false, false, null, CHUNK_SIZE);
+	}
+	
+	/**
+	 * Testa um erro de importação durante o processamento paralelo sem supressão de exceções.
+	 */
+	@Test(expected = DataImportException.class)
+	public void parallelProcessErrorWithoutSuppression() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		BaseDataImporter<Integer, SimpleDataElement> localDataImporter = spy(baseDataImporter);
+		doThrow(new DataImportException("Data Write Error")).when(localDataImporter).processItem(itemList.get(1), false);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+		
+		try {
+			localDataImporter.importData(dataSource, false, false, executor, CHUNK_SIZE);
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Teste padrão da importação em pipeline com sincronização usando um DataSource gravável.
+	 */
+	@Test
+	public void pipelinedImportDataTest() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		when(dataSource.isWritable()).thenReturn(true);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+		
+		try {
+			Collection<DataImportItem<Integer, SimpleDataElement>> importedItens = baseDataImporter.importDataPipelined(dataSource, true, false, executor, QUEUE_CAPACITY);
+			
+			assertEquals(itemList, Lists.newArrayList(importedItens));
+			assertTrue(itemList.get(0).getResult().isSynced());
+			assertFalse(itemList.get(1).getResult().isSynced());
+			assertFalse(itemList.get(2).getResult().isSynced());
+			assertTrue(itemList.get(3).getResult().isSynced());
+			verify(dataSource).open();
+			verify(dataSource).close();
+		} finally {
+			executor.shutdown();
+		}
+	}
+	
+	/**
+	 * Testa a importação em pipeline com uma capacidade de fila inválida.
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	public void pipelinedImportDataInvalidQueueCapacityTest() throws DataImportException {
+		baseDataImporter.importDataPipelined(dataSource, false, false, Executors.newSingleThreadExecutor(), 0);
+	}
+	
+	/**
+	 * Testa a importação em pipeline sem executor.
+	 */
+	@Test(expected = NullPointerException.class)
+	public void pipelinedImportDataNullExecutorTest() throws DataImportException {
+		baseDataImporter.importDataPipelined(dataSource, false, false, null, QUEUE_CAPACITY);
+	}
+	
+	/**
+	 * Testa um erro de importação durante o processamento em pipeline sem supressão de exceções.
+	 */
+	@Test(expected = DataImportException.class)
+	public void pipelinedProcessErrorWithoutSuppression() throws DataImportException {
+		mockRegularDataSourceBehaviour();
+		BaseDataImporter<Integer, SimpleDataElement> localDataImporter = spy(baseDataImporter);
+		doThrow(new DataImportException("Data Write Error")).when(localDataImporter).processItem(itemList.get(1), false);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+		
+		try {
+			localDataImporter.importDataPipelined(dataSource, false, false, executor, QUEUE_CAPACITY);
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
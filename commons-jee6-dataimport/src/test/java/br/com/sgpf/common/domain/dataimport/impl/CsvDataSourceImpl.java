@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import java.io.File;
+import java.io.InputStream;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class CsvDataSourceImpl extends CsvDataSource<SimpleDataElement> {
+	private static final long serialVersionUID = 1L;
+	
+	private int idColumn;
+
+	public CsvDataSourceImpl(File file) throws DataSourceDocumentException {
+		super(file);
+	}
+
+	public CsvDataSourceImpl(InputStream is) {
+		super(is);
+	}
+
+	@Override
+	protected void resolveColumns() throws DataSourceFormatException {
+		super.resolveColumns();
+		idColumn = resolveColumn("ID");
+	}
+
+	@Override
+	protected SimpleDataElement readCurrentItemData() throws DataSourceFormatException {
+		return new SimpleDataElement(readLongField(idColumn));
+	}
+
+	@Override
+	protected boolean syncRow(Integer rowIndex, SimpleDataElement data) throws DataImportException {
+		return writeLongField(rowIndex, idColumn, data.getId());
+	}
+}
@@ -0,0 +1,596 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceNoMoreItensException;
+import br.com.sgpf.common.document.csv.CsvReader;
+import br.com.sgpf.common.document.csv.CsvSidecarFile;
+import br.com.sgpf.common.document.exception.DocumentIOException;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class CsvDataSourceTest {
+	
+	@ClassRule
+	public static final TemporaryFolder TEMP_FOLDER = new TemporaryFolder();
+	
+	private static final File TEST_CSV_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/CsvDataSourceTest.csv");
+	private static final File TEST_CSV_FILE_EMPTY = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/CsvDataSourceTest-empty.csv");
+	private static final File TEST_CSV_FILE_NO_ACTIONS = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/CsvDataSourceTest-noactions.csv");
+	private static final File TEST_CSV_FILE_UNREADABLE = spy(TEST_CSV_FILE);
+	private static final File INVALID_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/invalid.csv");
+	
+	private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
+	
+	private static enum TestColumns { ID, STRING, CHAR, DOUBLE, FLOAT, LONG, INTEGER, SHORT, BYTE, BOOLEAN, DATE, CALENDAR, YES, NO, INVALID }
+	
+	private static final String STRING_VALUE = "String";
+	private static final String QUOTED_STRING_VALUE = "Quoted, \"String\"\r\nMulti Line";
+	private static final Character CHAR_VALUE = Character.valueOf('C');
+	private static final Double DOUBLE_VALUE = Double.valueOf(1.5);
+	private static final Float FLOAT_VALUE = Float.valueOf(1.5F);
+	private static final Long LONG_VALUE = Long.valueOf(1L);
+	private static final Integer INTEGER_VALUE = Integer.valueOf(1);
+	private static final Short SHORT_VALUE = Short.valueOf("1");
+	private static final Byte BYTE_VALUE = Byte.valueOf("1");
+	private static final Calendar CALENDAR_VALUE = Calendar.getInstance();
+	
+	@BeforeClass
+	public static void beforeClass() throws ParseException {
+		CALENDAR_VALUE.setTime(DATE_FORMAT.parse("01/01/2017"));
+		when(TEST_CSV_FILE_UNREADABLE.canRead()).thenReturn(false);
+	}
+	
+	private static CsvDataSource<SimpleDataElement> openDataSource(int rowsToSkip) throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(TEST_CSV_FILE);
+		csvDataSource.open();
+		
+		for (int i = 0; i < rowsToSkip; i++) {
+			csvDataSource.next();
+		}
+		
+		return csvDataSource;
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullFileConstructorTest() throws DataSourceDocumentException {
+		File file = null;
+		new CsvDataSourceImpl(file);
+	}
+	
+	@Test(expected = DataSourceDocumentException.class)
+	public void invalidFileConstructorTest() throws DataSourceDocumentException {
+		new CsvDataSourceImpl(INVALID_FILE);
+	}
+	
+	@Test(expected = DataSourceDocumentException.class)
+	public void unreadableFileConstructorTest() throws DataSourceDocumentException {
+		new CsvDataSourceImpl(TEST_CSV_FILE_UNREADABLE);
+	}
+	
+	@Test
+	public void fileIsWritableTest() throws DataSourceDocumentException {
+		assertTrue(new CsvDataSourceImpl(TEST_CSV_FILE).isWritable());
+	}
+	
+	@Test
+	public void inputStreamIsWritableTest() throws FileNotFoundException {
+		assertFalse(new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE)).isWritable());
+	}
+	
+	@Test
+	public void syncSameLengthTest() throws DataImportException, IOException {
+		File file = copyTestFile();
+		long length = file.length();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		item.getData().setId(5L);
+		
+		assertTrue(csvDataSource.sync(item));
+		assertEquals(new SimpleDataElement(5L), csvDataSource.current().getData());
+		
+		csvDataSource.close();
+		
+		// A linha alterada é sobrescrita no próprio arquivo, que mantém o seu tamanho
+		assertEquals(length, file.length());
+		assertEquals(readTestFile().replace("\r\n0,String", "\r\n5,String"), readFile(file));
+	}
+	
+	@Test
+	public void syncDifferentLengthTest() throws DataImportException, DocumentIOException, IOException {
+		File file = copyTestFile();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		
+		DataImportItem<Integer, SimpleDataElement> firstItem = csvDataSource.next();
+		DataImportItem<Integer, SimpleDataElement> lastItem = csvDataSource.next();
+		lastItem = csvDataSource.next();
+		
+		// Sincroniza uma linha anterior à linha corrente e a linha com campo entre aspas
+		firstItem.getData().setId(100L);
+		lastItem.getData().setId(200L);
+		
+		assertTrue(csvDataSource.sync(firstItem));
+		assertTrue(csvDataSource.sync(lastItem));
+		
+		csvDataSource.close();
+		
+		// As linhas que mudam de tamanho são gravadas no arquivo lateral, aplicado na leitura
+		assertEquals(readTestFile(), readFile(file));
+		assertTrue(CsvSidecarFile.getFile(file).exists());
+		
+		csvDataSource.open();
+		
+		assertEquals(new SimpleDataElement(100L), csvDataSource.next().getData());
+		csvDataSource.next();
+		assertEquals(new SimpleDataElement(200L), csvDataSource.next().getData());
+		assertEquals(QUOTED_STRING_VALUE, csvDataSource.readStringField(TestColumns.STRING.name()));
+		
+		csvDataSource.close();
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals(readTestFile().replace("\r\n0,String", "\r\n100,String").replace("\r\n2,\"Quoted", "\r\n200,\"Quoted"), readFile(file));
+	}
+	
+	@Test
+	public void resyncSidecarRowTest() throws DataImportException, DocumentIOException, IOException {
+		File file = copyTestFile();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		item.getData().setId(100L);
+		csvDataSource.sync(item);
+		csvDataSource.close();
+		
+		csvDataSource.open();
+		item = csvDataSource.next();
+		item.getData().setId(300L);
+		
+		// A nova alteração substitui a entrada do arquivo lateral, mesmo mantendo o tamanho
+		assertTrue(csvDataSource.sync(item));
+		
+		csvDataSource.close();
+		
+		assertEquals(readTestFile(), readFile(file));
+		
+		CsvSidecarFile.apply(file);
+		
+		assertEquals(readTestFile().replace("\r\n0,String", "\r\n300,String"), readFile(file));
+	}
+	
+	@Test
+	public void syncWindowFlushTest() throws DataImportException, IOException {
+		File file = createWindowTestFile(6);
+		CsvDataSource<SimpleDataElement> csvDataSource = new WindowedCsvDataSourceImpl(file);
+		csvDataSource.open();
+		
+		for (long i = 1; i <= 6; i++) {
+			DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+			item.getData().setId(i * 10);
+			csvDataSource.sync(item);
+		}
+		
+		// As linhas que saíram da janela já foram gravadas antes do fechamento
+		assertTrue(CsvSidecarFile.getJournalFile(file).exists());
+		
+		csvDataSource.close();
+		
+		assertFalse(CsvSidecarFile.getJournalFile(file).exists());
+		
+		csvDataSource.open();
+		
+		for (long i = 1; i <= 6; i++) {
+			assertEquals(new SimpleDataElement(i * 10), csvDataSource.next().getData());
+		}
+		
+		csvDataSource.close();
+	}
+	
+	@Test
+	public void flushTest() throws DataImportException, IOException {
+		File file = copyTestFile();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		item.getData().setId(5L);
+		csvDataSource.sync(item);
+		
+		// A alteração é gravada sem o fechamento da fonte de dados
+		csvDataSource.flush();
+		
+		assertEquals(readTestFile().replace("\r\n0,String", "\r\n5,String"), readFile(file));
+		
+		csvDataSource.close();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void syncFlushedRowTest() throws DataImportException, IOException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(copyTestFile());
+		csvDataSource.open();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		csvDataSource.flush();
+		
+		// As linhas lidas antes da gravação não podem mais ser sincronizadas
+		item.getData().setId(5L);
+		csvDataSource.sync(item);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void syncOutOfWindowTest() throws DataImportException, IOException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new WindowedCsvDataSourceImpl(createWindowTestFile(3));
+		csvDataSource.open();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		csvDataSource.next();
+		csvDataSource.next();
+		item.getData().setId(10L);
+		csvDataSource.sync(item);
+	}
+	
+	@Test
+	public void getItemWindowSizeTest() throws DataSourceDocumentException, FileNotFoundException {
+		assertEquals(CsvDataSource.DEFAULT_ROW_WINDOW_SIZE, new CsvDataSourceImpl(TEST_CSV_FILE).getItemWindowSize());
+		assertEquals(Integer.MAX_VALUE, new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE)).getItemWindowSize());
+	}
+	
+	@Test
+	public void syncUnchangedTest() throws DataImportException, IOException {
+		File file = copyTestFile();
+		long lastModified = file.lastModified();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		
+		assertFalse(csvDataSource.sync(csvDataSource.next()));
+		
+		csvDataSource.close();
+		
+		assertEquals(lastModified, file.lastModified());
+		assertEquals(readTestFile(), readFile(file));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void syncUnwritableTest() throws DataImportException, FileNotFoundException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE));
+		csvDataSource.open();
+		csvDataSource.sync(csvDataSource.next());
+	}
+	
+	@Test
+	public void seekTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(1);
+		long position = csvDataSource.getPosition();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		csvDataSource.close();
+		
+		csvDataSource.open();
+		csvDataSource.seek(position, 1);
+		
+		assertEquals(item, csvDataSource.next());
+		assertEquals(Integer.valueOf(3), csvDataSource.next().getId());
+		assertFalse(csvDataSource.hasNext());
+		
+		csvDataSource.close();
+	}
+	
+	@Test
+	public void seekInputStreamTest() throws DataImportException, FileNotFoundException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(2);
+		long position = csvDataSource.getPosition();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		csvDataSource.close();
+		
+		csvDataSource = new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE));
+		csvDataSource.open();
+		csvDataSource.seek(position, 2);
+		
+		assertEquals(item, csvDataSource.next());
+		assertEquals(QUOTED_STRING_VALUE, csvDataSource.readStringField(TestColumns.STRING.name()));
+		
+		csvDataSource.close();
+	}
+	
+	@Test
+	public void seekSyncTest() throws DataImportException, DocumentIOException, IOException {
+		File file = copyTestFile();
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(file);
+		csvDataSource.open();
+		csvDataSource.next();
+		long position = csvDataSource.getPosition();
+		csvDataSource.close();
+		
+		csvDataSource.open();
+		csvDataSource.seek(position, 1);
+		
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		item.getData().setId(300L);
+		
+		assertTrue(csvDataSource.sync(item));
+		
+		csvDataSource.close();
+		CsvSidecarFile.apply(file);
+		
+		assertEquals(readTestFile().replace("\r\n1,,", "\r\n300,,"), readFile(file));
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void seekAfterNextTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(1);
+		csvDataSource.seek(csvDataSource.getPosition(), 1);
+	}
+	
+	private static File copyTestFile() throws IOException {
+		File target = TEMP_FOLDER.newFile();
+		Files.copy(TEST_CSV_FILE.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return target;
+	}
+	
+	private static File createWindowTestFile(int rows) throws IOException {
+		StringBuilder content = new StringBuilder("ID,INSERT,UPDATE,MERGE,REMOVE,FORCE,SYNC\n");
+		
+		for (int i = 0; i < rows; i++) {
+			content.append(",N,N,N,N,N,Y\n");
+		}
+		
+		File file = TEMP_FOLDER.newFile();
+		Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+	
+	private static class WindowedCsvDataSourceImpl extends CsvDataSourceImpl {
+		private static final long serialVersionUID = 1L;
+		
+		public WindowedCsvDataSourceImpl(File file) throws DataSourceDocumentException {
+			super(file);
+		}
+		
+		@Override
+		protected int getRowWindowSize() {
+			return 2;
+		}
+	}
+	
+	private static String readTestFile() throws IOException {
+		return readFile(TEST_CSV_FILE);
+	}
+	
+	private static String readFile(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void emptyDocumentOpenTest() throws DataImportException {
+		new CsvDataSourceImpl(TEST_CSV_FILE_EMPTY).open();
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void missingActionColumnsOpenTest() throws DataImportException {
+		new CsvDataSourceImpl(TEST_CSV_FILE_NO_ACTIONS).open();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void openAlreadyOpenDataSourceTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(TEST_CSV_FILE);
+		csvDataSource.open();
+		csvDataSource.open();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void reopenInputStreamDataSourceTest() throws DataImportException, FileNotFoundException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE));
+		csvDataSource.open();
+		csvDataSource.close();
+		csvDataSource.open();
+	}
+	
+	@Test
+	public void reopenFileDataSourceTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(3);
+		assertFalse(csvDataSource.hasNext());
+		csvDataSource.close();
+		
+		csvDataSource.open();
+		assertTrue(csvDataSource.hasNext());
+		csvDataSource.close();
+	}
+	
+	@Test
+	public void hasNextBufferRefillCurrentTest() throws DataImportException {
+		// Registros de 32 bytes terminam exatamente no fim do bloco de leitura, forçando o
+		// hasNext a ler o próximo bloco enquanto o registro corrente ainda está em uso
+		StringBuilder content = new StringBuilder("ID,INSERT,UPDATE,MERGE,REMOVE,FORCE,SYNC\n");
+		int rows = 3 * CsvReader.DEFAULT_BUFFER_SIZE / 32;
+		
+		for (int i = 0; i < rows; i++) {
+			content.append(String.format("%019d,N,N,N,N,N,N\n", i));
+		}
+		
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(new ByteArrayInputStream(content.toString().getBytes(StandardCharsets.UTF_8)));
+		csvDataSource.open();
+		
+		for (long i = 0; i < rows; i++) {
+			csvDataSource.next();
+			assertEquals(i == rows - 1, !csvDataSource.hasNext());
+			assertEquals(Long.valueOf(i), csvDataSource.current().getData().getId());
+		}
+		
+		csvDataSource.close();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void closedDataSourceHasNextTest() throws DataImportException {
+		new CsvDataSourceImpl(TEST_CSV_FILE).hasNext();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void nextNeverCalledDataSourceCurrentTest() throws DataImportException {
+		openDataSource(0).current();
+	}
+	
+	@Test
+	public void nextTest() throws DataImportException, FileNotFoundException {
+		CsvDataSource<SimpleDataElement> csvDataSource = new CsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE));
+		csvDataSource.open();
+		DataImportItem<Integer, SimpleDataElement> item = csvDataSource.next();
+		
+		assertEquals(Integer.valueOf(1), item.getId());
+		assertEquals(new SimpleDataElement(0L), item.getData());
+		assertFalse(item.isInsert());
+		assertFalse(item.isUpdate());
+		assertTrue(item.isMerge());
+		assertFalse(item.isRemove());
+		assertFalse(item.isForce());
+		assertTrue(item.isSync());
+		assertEquals(item.getData(), csvDataSource.current().getData());
+		
+		item = csvDataSource.next();
+		
+		assertEquals(Integer.valueOf(2), item.getId());
+		assertEquals(new SimpleDataElement(1L), item.getData());
+		assertTrue(item.isUpdate());
+		assertTrue(item.isForce());
+		
+		csvDataSource.next();
+		
+		assertFalse(csvDataSource.hasNext());
+		
+		csvDataSource.close();
+	}
+	
+	@Test(expected = DataSourceNoMoreItensException.class)
+	public void noMoreItensNextTest() throws DataImportException {
+		openDataSource(4);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void readInvalidColumnTest() throws DataImportException {
+		openDataSource(1).readStringField("NON_EXISTING");
+	}
+	
+	@Test
+	public void readValuesTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(1);
+		
+		assertEquals(STRING_VALUE, csvDataSource.readStringField(TestColumns.STRING.name()));
+		assertEquals(CHAR_VALUE, csvDataSource.readCharField(TestColumns.CHAR.name()));
+		assertEquals(DOUBLE_VALUE, csvDataSource.readDoubleField(TestColumns.DOUBLE.name()));
+		assertEquals(FLOAT_VALUE, csvDataSource.readFloatField(TestColumns.FLOAT.name()));
+		assertEquals(LONG_VALUE, csvDataSource.readLongField(TestColumns.LONG.name()));
+		assertEquals(INTEGER_VALUE, csvDataSource.readIntegerField(TestColumns.INTEGER.name()));
+		assertEquals(SHORT_VALUE, csvDataSource.readShortField(TestColumns.SHORT.name()));
+		assertEquals(BYTE_VALUE, csvDataSource.readByteField(TestColumns.BYTE.name()));
+		assertTrue(csvDataSource.readBooleanField(TestColumns.BOOLEAN.name()));
+		assertEquals(CALENDAR_VALUE.getTime(), csvDataSource.readDateField(TestColumns.DATE.name()));
+		assertEquals(CALENDAR_VALUE, csvDataSource.readCalendarField(TestColumns.CALENDAR.name()));
+		assertTrue(csvDataSource.readYesNoField(TestColumns.YES.name()));
+		assertFalse(csvDataSource.readYesNoField(TestColumns.NO.name()));
+		
+		// Pulo para a segunda linha de dados que é toda nula
+		csvDataSource.next();
+		
+		assertNull(csvDataSource.readStringField(TestColumns.STRING.name()));
+		assertNull(csvDataSource.readCharField(TestColumns.CHAR.name()));
+		assertNull(csvDataSource.readDoubleField(TestColumns.DOUBLE.name()));
+		assertNull(csvDataSource.readFloatField(TestColumns.FLOAT.name()));
+		assertNull(csvDataSource.readLongField(TestColumns.LONG.name()));
+		assertNull(csvDataSource.readIntegerField(TestColumns.INTEGER.name()));
+		assertNull(csvDataSource.readShortField(TestColumns.SHORT.name()));
+		assertNull(csvDataSource.readByteField(TestColumns.BYTE.name()));
+		assertNull(csvDataSource.readBooleanField(TestColumns.BOOLEAN.name()));
+		assertNull(csvDataSource.readDateField(TestColumns.DATE.name()));
+		assertNull(csvDataSource.readCalendarField(TestColumns.CALENDAR.name()));
+		assertNull(csvDataSource.readYesNoField(TestColumns.YES.name()));
+		
+		// Pulo para a terceira linha de dados que possui um campo entre aspas com quebra de linha
+		csvDataSource.next();
+		
+		assertEquals(QUOTED_STRING_VALUE, csvDataSource.readStringField(TestColumns.STRING.name()));
+		
+		csvDataSource.close();
+	}
+	
+	@Test
+	public void readPrimitiveValuesTest() throws DataImportException {
+		CsvDataSource<SimpleDataElement> csvDataSource = openDataSource(1);
+		int column = csvDataSource.getColumnIndex(TestColumns.LONG.name());
+		
+		assertFalse(csvDataSource.isEmptyField(column));
+		assertEquals(1L, csvDataSource.readLongValue(column));
+		assertEquals(1, csvDataSource.readIntValue(column));
+		assertEquals(1.5, csvDataSource.readDoubleValue(csvDataSource.getColumnIndex(TestColumns.DOUBLE.name())), 0);
+		
+		csvDataSource.next();
+		
+		assertTrue(csvDataSource.isEmptyField(column));
+		assertEquals(0L, csvDataSource.readLongValue(column));
+		
+		csvDataSource.close();
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidCharFormatTest() throws DataImportException {
+		openDataSource(3).readCharField(TestColumns.CHAR.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidDoubleFormatTest() throws DataImportException {
+		openDataSource(3).readDoubleField(TestColumns.DOUBLE.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidLongFormatTest() throws DataImportException {
+		openDataSource(3).readLongField(TestColumns.LONG.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readOutOfRangeIntegerTest() throws DataImportException {
+		openDataSource(3).readIntegerField(TestColumns.INTEGER.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidBooleanFormatTest() throws DataImportException {
+		openDataSource(3).readBooleanField(TestColumns.BOOLEAN.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidDateFormatTest() throws DataImportException {
+		openDataSource(3).readDateField(TestColumns.DATE.name());
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void readInvalidYesNoFormatTest() throws DataImportException {
+		openDataSource(3).readYesNoField(TestColumns.YES.name());
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class JdbcDataSourceImpl extends JdbcDataSource<Long, SimpleDataElement> {
+	private static final long serialVersionUID = 1L;
+	
+	private int valueColumn;
+
+	public JdbcDataSourceImpl(DataSource dataSource, String query) {
+		super(dataSource, query, "KEY", Long.class);
+	}
+
+	public JdbcDataSourceImpl(DataSource dataSource, String query, String updateStatement) {
+		super(dataSource, query, "KEY", Long.class, updateStatement);
+	}
+
+	@Override
+	protected void resolveColumns() throws DataSourceFormatException {
+		super.resolveColumns();
+		valueColumn = resolveColumn("VALUE");
+	}
+
+	@Override
+	protected SimpleDataElement readCurrentItemData() throws DataSourceFormatException {
+		return new SimpleDataElement(readLongColumn(valueColumn));
+	}
+
+	@Override
+	protected void bindSyncParameters(PreparedStatement statement, Long key, SimpleDataElement data) throws SQLException {
+		statement.setLong(1, data.getId());
+		statement.setLong(2, key);
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceNoMoreItensException;
+import br.com.sgpf.common.domain.vo.SimpleDataElement;
+
+public class JdbcDataSourceTest {
+	
+	private static final String URL = "jdbc:h2:mem:JdbcDataSourceTest;DB_CLOSE_DELAY=-1";
+	private static final String QUERY = "select * from STAGING order by KEY";
+	private static final String UPDATE = "update STAGING set VALUE = ? where KEY = ?";
+	private static final int ROWS = 5;
+	private static final int BATCH_SIZE = 2;
+	
+	private JdbcDataSource h2DataSource;
+	private Connection keepAliveConnection;
+	
+	@Before
+	public void before() throws SQLException {
+		h2DataSource = new JdbcDataSource();
+		h2DataSource.setURL(URL);
+		keepAliveConnection = h2DataSource.getConnection();
+		
+		try (Statement statement = keepAliveConnection.createStatement()) {
+			statement.execute("create table STAGING (KEY bigint primary key, VALUE bigint, \"INSERT\" char(1), \"UPDATE\" char(1), "
+					+ "\"MERGE\" char(1), \"REMOVE\" char(1), \"FORCE\" char(1), \"SYNC\" char(1))");
+			
+			for (int i = 1; i <= ROWS; i++) {
+				statement.execute(String.format("insert into STAGING values (%d, %d, 'N', 'N', 'Y', 'N', 'N', 'Y')", i, i * 10));
+			}
+			
+			statement.execute("insert into STAGING values (99, null, 'X', null, null, null, null, null)");
+		}
+	}
+	
+	@After
+	public void after() throws SQLException {
+		try (Statement statement = keepAliveConnection.createStatement()) {
+			statement.execute("drop table STAGING");
+		}
+		
+		keepAliveConnection.close();
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void nullDataSourceConstructorTest() {
+		new JdbcDataSourceImpl(null, QUERY);
+	}
+	
+	@Test
+	public void isWritableTest() {
+		assertFalse(new JdbcDataSourceImpl(h2DataSource, QUERY).isWritable());
+		assertTrue(new JdbcDataSourceImpl(h2DataSource, QUERY, UPDATE).isWritable());
+	}
+	
+	@Test(expected = DataSourceDocumentException.class)
+	public void invalidQueryOpenTest() throws DataImportException {
+		new JdbcDataSourceImpl(h2DataSource, "select * from NON_EXISTING").open();
+	}
+	
+	@Test(expected = DataSourceFormatException.class)
+	public void missingActionColumnsOpenTest() throws DataImportException {
+		new JdbcDataSourceImpl(h2DataSource, "select KEY, VALUE from STAGING").open();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void closedDataSourceHasNextTest() {
+		new JdbcDataSourceImpl(h2DataSource, QUERY).hasNext();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void nextNeverCalledCurrentTest() throws DataImportException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY);
+		jdbcDataSource.open();
+		jdbcDataSource.current();
+	}
+	
+	@Test
+	public void nextTest() throws DataImportException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY);
+		jdbcDataSource.setFetchSize(2);
+		jdbcDataSource.open();
+		
+		for (long i = 1; i <= ROWS; i++) {
+			assertTrue(jdbcDataSource.hasNext());
+			// Verificações repetidas não avançam o cursor
+			assertTrue(jdbcDataSource.hasNext());
+			
+			DataImportItem<Long, SimpleDataElement> item = jdbcDataSource.next();
+			
+			assertEquals(Long.valueOf(i), item.getId());
+			assertEquals(new SimpleDataElement(i * 10), item.getData());
+			assertFalse(item.isInsert());
+			assertFalse(item.isUpdate());
+			assertTrue(item.isMerge());
+			assertFalse(item.isRemove());
+			assertFalse(item.isForce());
+			assertTrue(item.isSync());
+			assertEquals(item, jdbcDataSource.current());
+		}
+		
+		jdbcDataSource.close();
+	}
+	
+	@Test
+	public void invalidRowNextTest() throws DataImportException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY);
+		jdbcDataSource.open();
+		
+		for (int i = 0; i < ROWS; i++) {
+			jdbcDataSource.next();
+		}
+		
+		try {
+			jdbcDataSource.next();
+			throw new AssertionError();
+		} catch (DataSourceFormatException e) {
+			// A sequência de itens progride mesmo com o erro de leitura
+			assertFalse(jdbcDataSource.hasNext());
+		}
+		
+		try {
+			jdbcDataSource.next();
+			throw new AssertionError();
+		} catch (DataSourceNoMoreItensException e) {
+			jdbcDataSource.close();
+		}
+	}
+	
+	@Test
+	public void readNullValuesTest() throws DataImportException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, "select * from STAGING where KEY = 99");
+		jdbcDataSource.open();
+		jdbcDataSource.hasNext();
+		
+		assertNull(jdbcDataSource.readLongColumn("VALUE"));
+		assertEquals(0L, jdbcDataSource.readLongValue(jdbcDataSource.getColumnIndex("VALUE")));
+		assertNull(jdbcDataSource.readStringColumn("UPDATE"));
+		assertNull(jdbcDataSource.readYesNoColumn("UPDATE"));
+		
+		jdbcDataSource.close();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void syncUnwritableTest() throws DataImportException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY);
+		jdbcDataSource.open();
+		jdbcDataSource.sync(jdbcDataSource.next());
+	}
+	
+	@Test
+	public void syncTest() throws DataImportException, SQLException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY, UPDATE);
+		jdbcDataSource.setBatchSize(BATCH_SIZE);
+		jdbcDataSource.open();
+		
+		for (int i = 0; i < 3; i++) {
+			DataImportItem<Long, SimpleDataElement> item = jdbcDataSource.next();
+			item.getData().setId(item.getId() * 100);
+			
+			assertTrue(jdbcDataSource.sync(item));
+		}
+		
+		// O primeiro lote já foi executado e o segundo só é executado no fechamento
+		assertEquals(100L, readValue(1));
+		assertEquals(200L, readValue(2));
+		assertEquals(30L, readValue(3));
+		
+		jdbcDataSource.close();
+		
+		assertEquals(300L, readValue(3));
+		assertEquals(40L, readValue(4));
+	}
+	
+	@Test
+	public void flushTest() throws DataImportException, SQLException {
+		JdbcDataSourceImpl jdbcDataSource = new JdbcDataSourceImpl(h2DataSource, QUERY, UPDATE);
+		jdbcDataSource.setBatchSize(BATCH_SIZE);
+		jdbcDataSource.open();
+		
+		DataImportItem<Long, SimpleDataElement> item = jdbcDataSource.next();
+		item.getData().setId(100L);
+		jdbcDataSource.sync(item);
+		
+		// O lote incompleto é executado sem o fechamento da fonte de dados
+		jdbcDataSource.flush();
+		
+		assertEquals(100L, readValue(1));
+		
+		jdbcDataSource.close();
+	}
+	
+	private long readValue(long key) throws SQLException {
+		try (Statement statement = keepAliveConnection.createStatement();
+				ResultSet resultSet = statement.executeQuery("select VALUE from STAGING where KEY = " + key)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+	}
+}
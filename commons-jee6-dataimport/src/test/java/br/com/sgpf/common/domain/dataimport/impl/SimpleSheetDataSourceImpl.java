@@ -9,13 +9,16 @@ package br.com.sgpf.common.domain.dataimport.impl;
 import java.io.File;
 import java.io.InputStream;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
 import br.com.sgpf.common.domain.vo.SimpleDataElement;
 
 public class SimpleSheetDataSourceImpl extends SimpleSheetDataSource<SimpleDataElement> {
 	private static final long serialVersionUID = 1L;
 	
 	private boolean changedRow = false;
+	private int idColumn;
 
 	public SimpleSheetDataSourceImpl(File file, int sheetId) throws DataSourceDocumentException {
 		super(file, sheetId);
@@ -25,13 +28,23 @@ public class SimpleSheetDataSourceImpl extends SimpleSheetDataSource<SimpleDataE
 		super(is, sheetId);
 	}
 
+	public SimpleSheetDataSourceImpl(WorkbookWrapper workbook) {
+		super(workbook);
+	}
+
 	public void setChangedRow(boolean changedRow) {
 		this.changedRow = changedRow;
 	}
 
+	@Override
+	protected void resolveColumns() throws DataSourceFormatException {
+		super.resolveColumns();
+		idColumn = resolveColumn("ID");
+	}
+
 	@Override
 	protected SimpleDataElement readCurrentItemData() {
-		return new SimpleDataElement(readLongCell("ID"));
+		return new SimpleDataElement(readLongCell(idColumn));
 	}
 
 	@Override
@@ -25,6 +25,9 @@ import java.util.Calendar;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
+import br.com.sgpf.common.document.excel.impl.WorkbookWrapperImpl;
+import br.com.sgpf.common.document.exception.DocumentFileException;
 import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
@@ -81,6 +84,12 @@ public class SimpleSheetDataSourceTest {
 		new SimpleSheetDataSourceImpl(file, SHEET_INDEX);
 	}
 	
+	@Test(expected = NullPointerException.class)
+	public void nullWorkbookConstructorTest() {
+		WorkbookWrapper workbook = null;
+		new SimpleSheetDataSourceImpl(workbook);
+	}
+	
 	@Test(expected = DataSourceDocumentException.class)
 	public void invalidFileConstructorTest() throws DataSourceDocumentException {
 		new SimpleSheetDataSourceImpl(INVALID_FILE, SHEET_INDEX);
@@ -153,6 +162,16 @@ public class SimpleSheetDataSourceTest {
 		simpleSheetDataSource.close();
 	}
 	
+	@Test
+	public void openWorkbookDataSourceTest() throws DataImportException, DocumentFileException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(new WorkbookWrapperImpl(TEST_SHEET_FILE, SHEET_INDEX));
+		simpleSheetDataSource.open();
+		
+		assertTrue(simpleSheetDataSource.hasNext());
+		
+		simpleSheetDataSource.close();
+	}
+	
 	@Test(expected = IllegalStateException.class)
 	public void closedDataSourceHasNextTest() throws DataImportException {
 		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
@@ -223,6 +242,31 @@ public class SimpleSheetDataSourceTest {
 		simpleSheetDataSource.current();
 	}
 	
+	@Test
+	public void seekTest() throws DataImportException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
+		simpleSheetDataSource.open();
+		simpleSheetDataSource.next();
+		long position = simpleSheetDataSource.getPosition();
+		DataImportItem<Integer, SimpleDataElement> item = simpleSheetDataSource.next();
+		simpleSheetDataSource.close();
+		
+		simpleSheetDataSource.open();
+		simpleSheetDataSource.seek(position, 1);
+		
+		assertEquals(item, simpleSheetDataSource.next());
+		
+		simpleSheetDataSource.close();
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void seekAfterNextTest() throws DataImportException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
+		simpleSheetDataSource.open();
+		simpleSheetDataSource.next();
+		simpleSheetDataSource.seek(1, 1);
+	}
+	
 	@Test
 	public void notEmptyDataSourceCurrentTest() throws DataImportException {
 		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
@@ -318,6 +362,51 @@ public class SimpleSheetDataSourceTest {
 		simpleSheetDataSource.close();
 	}
 	
+	@Test
+	public void readResolvedColumnValuesTest() throws DataImportException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
+		simpleSheetDataSource.open();
+		
+		int stringColumn = simpleSheetDataSource.getColumnIndex(TestColumns.STRING.name());
+		int longColumn = simpleSheetDataSource.getColumnIndex(TestColumns.LONG.name());
+		int yesColumn = simpleSheetDataSource.getColumnIndex(TestColumns.YES.name());
+		
+		// Pulo para a primeira linha de dados que possui conteúdo válido
+		simpleSheetDataSource.next();
+		
+		assertEquals(STRING_VALUE, simpleSheetDataSource.readStringCell(stringColumn));
+		assertEquals(LONG_VALUE, simpleSheetDataSource.readLongCell(longColumn));
+		assertTrue(simpleSheetDataSource.readYesNoCell(yesColumn));
+		
+		// Pulo para a segunda linha de dados que é toda nula
+		simpleSheetDataSource.next();
+		
+		assertNull(simpleSheetDataSource.readStringCell(stringColumn));
+		assertNull(simpleSheetDataSource.readLongCell(longColumn));
+		assertNull(simpleSheetDataSource.readYesNoCell(yesColumn));
+		
+		simpleSheetDataSource.close();
+	}
+	
+	@Test
+	public void getColumnNameTest() throws DataImportException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
+		simpleSheetDataSource.open();
+		
+		int stringColumn = simpleSheetDataSource.getColumnIndex(TestColumns.STRING.name());
+		assertEquals(TestColumns.STRING.name(), simpleSheetDataSource.getColumnName(stringColumn));
+		
+		simpleSheetDataSource.close();
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void getColumnNameNonExistingTest() throws DataImportException {
+		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
+		simpleSheetDataSource.open();
+		
+		simpleSheetDataSource.getColumnName(Integer.MAX_VALUE);
+	}
+	
 	@Test(expected = NullPointerException.class)
 	public void writeNullRowTest() throws DataImportException {
 		SimpleSheetDataSource<SimpleDataElement> simpleSheetDataSource = new SimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX);
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import javax.transaction.UserTransaction;
+
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportResult.Status;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
+import br.com.sgpf.common.domain.repository.Repository;
+
+public class EntityDataImporterImpl extends EntityDataImporter<Integer, AbstractIdentityEntityImpl, Long> {
+	private static final long serialVersionUID = 1L;
+
+	public EntityDataImporterImpl(Repository<AbstractIdentityEntityImpl, Long> entityRepository, UserTransaction transaction) {
+		super(entityRepository, transaction);
+	}
+
+	@Override
+	protected void importItem(DataImportItem<Integer, AbstractIdentityEntityImpl> item) throws DataImportException {
+		getEntityRepository().persist(item.getData());
+		item.getResult().setStatus(Status.INSERTED);
+	}
+}
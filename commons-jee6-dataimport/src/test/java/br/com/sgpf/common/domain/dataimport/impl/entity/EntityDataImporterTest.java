@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.transaction.RollbackException;
+import javax.transaction.Status;
+import javax.transaction.UserTransaction;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import br.com.sgpf.common.domain.dataimport.DataImportInstructions;
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportResult;
+import br.com.sgpf.common.domain.dataimport.ImportDataSource;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
+import br.com.sgpf.common.domain.repository.Repository;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityDataImporterTest {
+	
+	private static final int ITEM_COUNT = 5;
+	private static final int COMMIT_INTERVAL = 2;
+	
+	@Mock
+	private Repository<AbstractIdentityEntityImpl, Long> repository;
+	
+	@Mock
+	private UserTransaction transaction;
+	
+	@Mock
+	private ImportDataSource<Integer, AbstractIdentityEntityImpl> dataSource;
+	
+	private List<DataImportItem<Integer, AbstractIdentityEntityImpl>> itemList;
+	
+	@Before
+	public void mockDataSourceBehaviour() throws Exception {
+		itemList = new ArrayList<>();
+		
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			itemList.add(new DataImportItem<Integer, AbstractIdentityEntityImpl>(i, new AbstractIdentityEntityImpl(Long.valueOf(i), null, null, null), new DataImportInstructions(true, false, false, false, false, false)));
+		}
+		
+		final Iterator<DataImportItem<Integer, AbstractIdentityEntityImpl>> itemIterator = itemList.iterator();
+		
+		when(dataSource.hasNext()).then(new Answer<Boolean>() {
+				@Override
+				public Boolean answer(InvocationOnMock invocation) throws Throwable {
+					return itemIterator.hasNext();
+				}
+			});
+		
+		when(dataSource.next()).then(new Answer<DataImportItem<Integer, AbstractIdentityEntityImpl>>() {
+				@Override
+				public DataImportItem<Integer, AbstractIdentityEntityImpl> answer(InvocationOnMock invocation) throws Throwable {
+					return itemIterator.next();
+				}
+			});
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCommitIntervalTest() {
+		new EntityDataImporterImpl(repository, transaction).setCommitInterval(0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidCommitTimeIntervalTest() {
+		new EntityDataImporterImpl(repository, transaction).setCommitTimeInterval(0L);
+	}
+	
+	/**
+	 * Sem transação, os itens são processados na transação que envolve a importação.
+	 */
+	@Test
+	public void noTransactionImportDataTest() throws Exception {
+		new EntityDataImporterImpl(repository, null).importData(dataSource, false, false);
+		
+		for (DataImportItem<Integer, AbstractIdentityEntityImpl> item : itemList) {
+			verify(repository).persist(item.getData());
+			assertEquals(DataImportResult.Status.INSERTED, item.getResult().getStatus());
+		}
+	}
+	
+	/**
+	 * Os itens são confirmados em blocos de acordo com o intervalo de itens.
+	 */
+	@Test
+	public void chunkedImportDataTest() throws Exception {
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, transaction);
+		importer.setCommitInterval(COMMIT_INTERVAL);
+		importer.importData(dataSource, false, false);
+		
+		verify(transaction, times(3)).begin();
+		verify(transaction, times(3)).commit();
+		verify(transaction, never()).rollback();
+		
+		for (DataImportItem<Integer, AbstractIdentityEntityImpl> item : itemList) {
+			verify(repository).persist(item.getData());
+		}
+	}
+	
+	/**
+	 * Os itens são confirmados antes de completar o bloco quando o intervalo de tempo é atingido.
+	 */
+	@Test
+	public void timeIntervalImportDataTest() throws Exception {
+		doAnswer(new Answer<Void>() {
+				@Override
+				public Void answer(InvocationOnMock invocation) throws Throwable {
+					Thread.sleep(5L);
+					return null;
+				}
+			}).when(repository).persist(itemList.get(0).getData());
+		
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, transaction);
+		importer.setCommitInterval(ITEM_COUNT);
+		importer.setCommitTimeInterval(1L);
+		importer.importData(dataSource, false, false);
+		
+		// O primeiro item esgota o intervalo de tempo da primeira transação
+		verify(transaction, atLeast(2)).commit();
+		verify(transaction, never()).rollback();
+	}
+	
+	/**
+	 * Um erro no bloco faz com que somente os seus itens sejam reprocessados individualmente.
+	 */
+	@Test
+	public void chunkFailureWithSuppressionTest() throws Exception {
+		when(transaction.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+		doThrow(new IllegalStateException("Write Error")).when(repository).persist(itemList.get(3).getData());
+		
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, transaction);
+		importer.setCommitInterval(COMMIT_INTERVAL);
+		importer.importData(dataSource, false, true);
+		
+		// Blocos [0, 1] e [4] confirmados, bloco [2, 3] desfeito e reprocessado item a item
+		verify(transaction, times(5)).begin();
+		verify(transaction, times(3)).commit();
+		verify(transaction, times(2)).rollback();
+		verify(repository).persist(itemList.get(0).getData());
+		verify(repository, times(2)).persist(itemList.get(2).getData());
+		verify(repository, times(2)).persist(itemList.get(3).getData());
+		assertEquals(DataImportResult.Status.INSERTED, itemList.get(2).getResult().getStatus());
+		assertEquals(DataImportResult.Status.ERROR, itemList.get(3).getResult().getStatus());
+		assertEquals(DataImportResult.Status.INSERTED, itemList.get(4).getResult().getStatus());
+	}
+	
+	/**
+	 * Sem supressão de exceções, o erro do item reprocessado interrompe a importação.
+	 */
+	@Test(expected = DataImportException.class)
+	public void chunkFailureWithoutSuppressionTest() throws Exception {
+		when(transaction.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+		doThrow(new IllegalStateException("Write Error")).when(repository).persist(itemList.get(1).getData());
+		
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, transaction);
+		importer.setCommitInterval(COMMIT_INTERVAL);
+		importer.importData(dataSource, false, false);
+	}
+	
+	/**
+	 * O identificador atribuído pela gravação de um bloco desfeito é restaurado antes do
+	 * reprocessamento, permitindo que o item seja gravado novamente.
+	 */
+	@Test
+	public void chunkFailureRestoreStateTest() throws Exception {
+		for (int i = 0; i < ITEM_COUNT; i++) {
+			itemList.set(i, new DataImportItem<Integer, AbstractIdentityEntityImpl>(i, new AbstractIdentityEntityImpl(), new DataImportInstructions(true, false, false, false, false, false)));
+		}
+		
+		final long[] nextId = {100L};
+		
+		doAnswer(new Answer<Void>() {
+				@Override
+				public Void answer(InvocationOnMock invocation) throws Throwable {
+					AbstractIdentityEntityImpl entity = invocation.getArgument(0);
+					
+					// Assim como no JPA, uma entidade que já possui identificador não pode ser persistida
+					if (entity.getId() != null) {
+						throw new IllegalStateException("Detached entity passed to persist");
+					}
+					
+					entity.setId(nextId[0]++);
+					entity.setVersion(0L);
+					return null;
+				}
+			}).when(repository).persist(any(AbstractIdentityEntityImpl.class));
+		
+		when(transaction.getStatus()).thenReturn(Status.STATUS_ACTIVE);
+		doThrow(new RollbackException()).doNothing().when(transaction).commit();
+		
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, transaction);
+		importer.setCommitInterval(COMMIT_INTERVAL);
+		importer.importData(dataSource, false, true);
+		
+		// Bloco [0, 1] desfeito na confirmação e reprocessado item a item
+		verify(repository, times(2)).persist(itemList.get(0).getData());
+		verify(repository, times(2)).persist(itemList.get(1).getData());
+		assertEquals(Long.valueOf(102L), itemList.get(0).getData().getId());
+		assertEquals(Long.valueOf(103L), itemList.get(1).getData().getId());
+		
+		for (DataImportItem<Integer, AbstractIdentityEntityImpl> item : itemList) {
+			assertEquals(DataImportResult.Status.INSERTED, item.getResult().getStatus());
+			assertEquals(Long.valueOf(0L), item.getData().getVersion());
+		}
+	}
+}
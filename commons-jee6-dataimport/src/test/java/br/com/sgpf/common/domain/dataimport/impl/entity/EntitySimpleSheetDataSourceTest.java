@@ -20,10 +20,12 @@ import org.junit.Test;
 
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.dataimport.exception.DataSourceFormatException;
 import br.com.sgpf.common.domain.entity.AbstractEntityImpl;
 
 public class EntitySimpleSheetDataSourceTest {
 	private static final File TEST_SHEET_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/EntitySimpleSheetDataSourceTest.xls");
+	private static final File TEST_SHEET_FILE_NO_METADATA = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/SimpleSheetDataSourceTest.xls");
 	
 	private static final int SHEET_INDEX = 0;
 	
@@ -45,6 +47,11 @@ public class EntitySimpleSheetDataSourceTest {
 		entitySimpleSheetDataSource.close();
 	}
 	
+	@Test(expected = DataSourceFormatException.class)
+	public void missingMetadataColumnsOpenTest() throws DataImportException {
+		new EntitySimpleSheetDataSourceImpl(TEST_SHEET_FILE_NO_METADATA, SHEET_INDEX).open();
+	}
+	
 	@Test
 	public void readCurrentItemDataTest() throws DataImportException, ParseException {
 		EntitySimpleSheetDataSourceImpl entitySimpleSheetDataSource = spy(new EntitySimpleSheetDataSourceImpl(TEST_SHEET_FILE, SHEET_INDEX));
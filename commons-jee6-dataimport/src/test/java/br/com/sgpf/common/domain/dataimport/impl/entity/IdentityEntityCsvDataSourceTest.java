@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
+
+public class IdentityEntityCsvDataSourceTest {
+	@Rule
+	public final TemporaryFolder tempFolder = new TemporaryFolder();
+	
+	private static final File TEST_CSV_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/IdentityEntityCsvDataSourceTest.csv");
+	
+	private static final int ID_COLUMN_INDEX = 0;
+	
+	@Test
+	public void fileConstructorTest() throws DataImportException {
+		IdentityEntityCsvDataSourceImpl entityCsvDataSource = new IdentityEntityCsvDataSourceImpl(TEST_CSV_FILE);
+		entityCsvDataSource.open();
+		entityCsvDataSource.close();
+	}
+	
+	@Test
+	public void readEntityTest() throws DataImportException, FileNotFoundException, ParseException {
+		IdentityEntityCsvDataSourceImpl entityCsvDataSource = spy(new IdentityEntityCsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE)));
+		entityCsvDataSource.open();
+		
+		DataImportItem<Integer, AbstractIdentityEntityImpl> importItem = entityCsvDataSource.next();
+		
+		assertEquals(Long.valueOf(0L), importItem.getData().getId());
+		assertEquals(new SimpleDateFormat("dd/MM/yyyy").parse("01/01/2017"), importItem.getData().getCreationDate());
+		assertEquals(new SimpleDateFormat("dd/MM/yyyy").parse("01/01/2017"), importItem.getData().getUpdateDate());
+		assertEquals(Long.valueOf(0L), importItem.getData().getVersion());
+		verify(entityCsvDataSource).readEntityId(ID_COLUMN_INDEX);
+		verify(entityCsvDataSource, never()).readEntityId(anyString());
+		
+		entityCsvDataSource.close();
+	}
+	
+	@Test
+	public void writeEntityIdTest() throws DataImportException, IOException {
+		File file = tempFolder.newFile();
+		Files.copy(TEST_CSV_FILE.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		IdentityEntityCsvDataSourceImpl entityCsvDataSource = spy(new IdentityEntityCsvDataSourceImpl(file));
+		entityCsvDataSource.open();
+		
+		DataImportItem<Integer, AbstractIdentityEntityImpl> importItem = entityCsvDataSource.next();
+		importItem.getData().setId(1L);
+		
+		entityCsvDataSource.sync(importItem);
+		DataImportItem<Integer, AbstractIdentityEntityImpl> updatedImportItem = entityCsvDataSource.current();
+		
+		assertEquals(Long.valueOf(1), updatedImportItem.getData().getId());
+		verify(entityCsvDataSource).writeEntityId(1, ID_COLUMN_INDEX, 1L);
+		
+		entityCsvDataSource.close();
+		entityCsvDataSource.open();
+		
+		assertEquals(Long.valueOf(1), entityCsvDataSource.next().getData().getId());
+		
+		entityCsvDataSource.close();
+	}
+}
@@ -9,6 +9,7 @@ package br.com.sgpf.common.domain.dataimport.impl.entity;
 import java.io.File;
 import java.io.InputStream;
 
+import br.com.sgpf.common.document.excel.WorkbookWrapper;
 import br.com.sgpf.common.domain.dataimport.exception.DataSourceDocumentException;
 import br.com.sgpf.common.domain.dataimport.impl.entity.IdentityEntitySimpleSheetDataSource;
 import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
@@ -24,6 +25,10 @@ public class IdentityEntitySimpleSheetDataSourceImpl extends IdentityEntitySimpl
 		super(is, sheetId);
 	}
 
+	public IdentityEntitySimpleSheetDataSourceImpl(WorkbookWrapper workbook) {
+		super(workbook);
+	}
+
 	@Override
 	protected AbstractIdentityEntityImpl createEntityInstance() {
 		return new AbstractIdentityEntityImpl();
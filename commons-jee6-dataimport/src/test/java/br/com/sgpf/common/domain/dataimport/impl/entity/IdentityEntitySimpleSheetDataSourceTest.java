@@ -7,25 +7,58 @@
 package br.com.sgpf.common.domain.dataimport.impl.entity;
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
 
+import javax.transaction.UserTransaction;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
+import br.com.sgpf.common.document.excel.impl.StreamingWorkbookWrapperImpl;
+import br.com.sgpf.common.document.exception.DocumentFileException;
 import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.DataImportResult;
 import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
 import br.com.sgpf.common.domain.entity.AbstractIdentityEntityImpl;
+import br.com.sgpf.common.domain.repository.Repository;
 
 public class IdentityEntitySimpleSheetDataSourceTest {
 	private static final File TEST_SHEET_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/IdentityEntitySimpleSheetDataSourceTest.xls");
 	
 	private static final int SHEET_INDEX = 0;
 	
-	private static enum TestColumns { ID };
+	private static final int ID_COLUMN_INDEX = 0;
+	
+	private static final int STREAMING_ITEM_COUNT = 3 * EntityDataImporter.DEFAULT_COMMIT_INTERVAL;
+	private static final String[] STREAMING_HEADER = { "ID", "CREATION_DATE", "UPDATE_DATE", "VERSION", "INSERT", "UPDATE", "MERGE", "REMOVE", "FORCE", "SYNC" };
+	private static final int STREAMING_VERSION_COLUMN_INDEX = 3;
+	private static final int STREAMING_INSERT_COLUMN_INDEX = 4;
+	private static final int STREAMING_SYNC_COLUMN_INDEX = 9;
+	
+	@Rule
+	public TemporaryFolder tempFolder = new TemporaryFolder();
 	
 	@Test
 	public void fileConstructorTest() throws DataImportException {
@@ -49,7 +82,8 @@ public class IdentityEntitySimpleSheetDataSourceTest {
 		DataImportItem<Integer, AbstractIdentityEntityImpl> importItem = entitySimpleSheetDataSource.next();
 		
 		assertEquals(Long.valueOf(0L), importItem.getData().getId());
-		verify(entitySimpleSheetDataSource).readEntityId(TestColumns.ID.name());
+		verify(entitySimpleSheetDataSource).readEntityId(ID_COLUMN_INDEX);
+		verify(entitySimpleSheetDataSource, never()).readEntityId(anyString());
 		
 		entitySimpleSheetDataSource.close();
 	}
@@ -68,7 +102,7 @@ public class IdentityEntitySimpleSheetDataSourceTest {
 		DataImportItem<Integer, AbstractIdentityEntityImpl> updatedImportItem = entitySimpleSheetDataSource.current();
 		
 		assertEquals(Long.valueOf(1), updatedImportItem.getData().getId());
-		verify(entitySimpleSheetDataSource).writeEntityId(1, TestColumns.ID.name(), 1L);
+		verify(entitySimpleSheetDataSource).writeEntityId(1, ID_COLUMN_INDEX, 1L);
 		
 		// Desfaz as alterações
 		updatedImportItem.getData().setId(0L);
@@ -76,4 +110,93 @@ public class IdentityEntitySimpleSheetDataSourceTest {
 		
 		entitySimpleSheetDataSource.close();
 	}
+	
+	/**
+	 * Com a janela de linhas padrão da planilha em modo streaming e o intervalo de confirmação
+	 * padrão, os itens são sincronizados antes que suas linhas saiam da janela.
+	 */
+	@Test
+	public void streamingWindowImportDataTest() throws DataImportException, DocumentFileException, IOException {
+		importStreamingSheet(EntityDataImporter.DEFAULT_COMMIT_INTERVAL);
+	}
+	
+	/**
+	 * Um intervalo de confirmação maior que a janela de linhas da planilha em modo streaming é
+	 * reduzido à janela, para que os itens sejam sincronizados antes que suas linhas saiam dela.
+	 */
+	@Test
+	public void streamingWindowLargeCommitIntervalImportDataTest() throws DataImportException, DocumentFileException, IOException {
+		importStreamingSheet(2 * StreamingWorkbookWrapperImpl.DEFAULT_ROW_WINDOW_SIZE);
+	}
+	
+	/**
+	 * Importa e sincroniza uma planilha em modo streaming com a janela de linhas padrão,
+	 * verificando se os identificadores de todos os itens foram gravados.
+	 */
+	private void importStreamingSheet(int commitInterval) throws DataImportException, DocumentFileException, IOException {
+		File file = createStreamingSheet(tempFolder.newFile("IdentityEntitySimpleSheetDataSourceTest.xlsx"));
+		
+		@SuppressWarnings("unchecked")
+		Repository<AbstractIdentityEntityImpl, Long> repository = mock(Repository.class);
+		
+		doAnswer(new Answer<Void>() {
+				@Override
+				public Void answer(InvocationOnMock invocation) throws Throwable {
+					AbstractIdentityEntityImpl entity = invocation.getArgument(0);
+					entity.setId(entity.getVersion());
+					return null;
+				}
+			}).when(repository).persist(any(AbstractIdentityEntityImpl.class));
+		
+		EntityDataImporterImpl importer = new EntityDataImporterImpl(repository, mock(UserTransaction.class));
+		importer.setCommitInterval(commitInterval);
+		
+		StreamingWorkbookWrapperImpl workbook = new StreamingWorkbookWrapperImpl(file, SHEET_INDEX, StreamingWorkbookWrapperImpl.DEFAULT_ROW_WINDOW_SIZE, true);
+		Collection<DataImportItem<Integer, AbstractIdentityEntityImpl>> items = importer.importData(new IdentityEntitySimpleSheetDataSourceImpl(workbook), true, true);
+		
+		assertEquals(STREAMING_ITEM_COUNT, items.size());
+		
+		for (DataImportItem<Integer, AbstractIdentityEntityImpl> item : items) {
+			assertEquals(DataImportResult.Status.INSERTED, item.getResult().getStatus());
+		}
+		
+		try (InputStream is = new FileInputStream(file); Workbook savedWorkbook = new XSSFWorkbook(is)) {
+			Sheet sheet = savedWorkbook.getSheetAt(SHEET_INDEX);
+			
+			for (int i = 1; i <= STREAMING_ITEM_COUNT; i++) {
+				assertEquals(i, (long) sheet.getRow(i).getCell(ID_COLUMN_INDEX).getNumericCellValue());
+			}
+		}
+	}
+	
+	/**
+	 * Cria uma planilha em que os itens devem ser inseridos e sincronizados, recebendo como
+	 * identificador a sua versão, que corresponde ao índice da linha.
+	 */
+	private static File createStreamingSheet(File target) throws IOException {
+		try (Workbook workbook = new XSSFWorkbook(); OutputStream os = new FileOutputStream(target)) {
+			Sheet sheet = workbook.createSheet();
+			Row header = sheet.createRow(0);
+			
+			for (int i = 0; i < STREAMING_HEADER.length; i++) {
+				header.createCell(i).setCellValue(STREAMING_HEADER[i]);
+			}
+			
+			for (int i = 1; i <= STREAMING_ITEM_COUNT; i++) {
+				Row row = sheet.createRow(i);
+				
+				for (int j = 0; j < STREAMING_HEADER.length; j++) {
+					row.createCell(j);
+				}
+				
+				row.getCell(STREAMING_VERSION_COLUMN_INDEX).setCellValue(i);
+				row.getCell(STREAMING_INSERT_COLUMN_INDEX).setCellValue("Y");
+				row.getCell(STREAMING_SYNC_COLUMN_INDEX).setCellValue("Y");
+			}
+			
+			workbook.write(os);
+		}
+		
+		return target;
+	}
 }
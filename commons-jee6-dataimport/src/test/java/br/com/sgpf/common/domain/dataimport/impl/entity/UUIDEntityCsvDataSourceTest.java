@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2017 Sergio Gonçalves Puntar Filho
+ * 
+ * This program is made available under the terms of the MIT License.
+ * See the LICENSE file for details.
+ */
+package br.com.sgpf.common.domain.dataimport.impl.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+
+import org.junit.Test;
+
+import br.com.sgpf.common.domain.dataimport.DataImportItem;
+import br.com.sgpf.common.domain.dataimport.exception.DataImportException;
+import br.com.sgpf.common.domain.entity.AbstractUUIDEntityImpl;
+
+public class UUIDEntityCsvDataSourceTest {
+	private static final File TEST_CSV_FILE = new File("src/test/resources/br/com/sgpf/common/domain/dataimport/impl/UUIDEntityCsvDataSourceTest.csv");
+	
+	private static final int ID_COLUMN_INDEX = 0;
+	
+	private static final String ID_VALUE = "8A6BC1E4-4E0F-4E8D-9E2B-5C1D8A2F0B3C";
+	
+	@Test
+	public void fileConstructorTest() throws DataImportException {
+		UUIDEntityCsvDataSourceImpl entityCsvDataSource = new UUIDEntityCsvDataSourceImpl(TEST_CSV_FILE);
+		entityCsvDataSource.open();
+		entityCsvDataSource.close();
+	}
+	
+	@Test
+	public void readEntityIdTest() throws DataImportException, FileNotFoundException {
+		UUIDEntityCsvDataSourceImpl entityCsvDataSource = spy(new UUIDEntityCsvDataSourceImpl(new FileInputStream(TEST_CSV_FILE)));
+		entityCsvDataSource.open();
+		
+		DataImportItem<Integer, AbstractUUIDEntityImpl> importItem = entityCsvDataSource.next();
+		
+		assertEquals(ID_VALUE, importItem.getData().getId());
+		verify(entityCsvDataSource).readEntityId(ID_COLUMN_INDEX);
+		
+		entityCsvDataSource.close();
+	}
+}
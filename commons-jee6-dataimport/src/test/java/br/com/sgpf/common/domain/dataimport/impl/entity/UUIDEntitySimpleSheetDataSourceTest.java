@@ -26,7 +26,7 @@ public class UUIDEntitySimpleSheetDataSourceTest {
 	
 	private static final int SHEET_INDEX = 0;
 	
-	private static enum TestColumns { ID };
+	private static final int ID_COLUMN_INDEX = 0;
 	
 	private static final String ID_VALUE = "C7E2F819-3383-4399-B8ED-707F59C96929";
 	
@@ -52,7 +52,7 @@ public class UUIDEntitySimpleSheetDataSourceTest {
 		DataImportItem<Integer, AbstractUUIDEntityImpl> importItem = entitySimpleSheetDataSource.next();
 		
 		assertEquals(ID_VALUE, importItem.getData().getId());
-		verify(entitySimpleSheetDataSource).readEntityId(TestColumns.ID.name());
+		verify(entitySimpleSheetDataSource).readEntityId(ID_COLUMN_INDEX);
 		
 		entitySimpleSheetDataSource.close();
 	}
@@ -73,7 +73,7 @@ public class UUIDEntitySimpleSheetDataSourceTest {
 		DataImportItem<Integer, AbstractUUIDEntityImpl> updatedImportItem = entitySimpleSheetDataSource.current();
 		
 		assertEquals(newId, updatedImportItem.getData().getId());
-		verify(entitySimpleSheetDataSource).writeEntityId(1, TestColumns.ID.name(), newId);
+		verify(entitySimpleSheetDataSource).writeEntityId(1, ID_COLUMN_INDEX, newId);
 		
 		// Desfaz as alterações
 		updatedImportItem.getData().setId(ID_VALUE);
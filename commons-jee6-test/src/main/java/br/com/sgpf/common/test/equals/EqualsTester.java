@@ -75,6 +75,20 @@ public class EqualsTester<T> {
 		equalsVerifier.withOnlyTheseFields(withFields);
 	}	
 	
+	/**
+	 * Configura o testador para entidades que só são iguais a si mesmas enquanto não possuem
+	 * identificador. A igualdade passa a ser verificada apenas com o identificador atribuído,
+	 * cabendo ao teste da entidade verificar o comportamento sem identificador.
+	 * 
+	 * @param idField Nome do campo identificador da entidade
+	 * @return O próprio testador de igualdade
+	 */
+	public EqualsTester<T> forVersionedEntity(String idField) {
+		equalsVerifier.suppress(Warning.IDENTICAL_COPY_FOR_VERSIONED_ENTITY).
+				withNonnullFields(idField);
+		return this;
+	}
+	
 	/**
 	 * Executa a validação de igqualdade.
 	 */